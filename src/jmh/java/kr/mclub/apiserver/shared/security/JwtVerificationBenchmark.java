@@ -0,0 +1,106 @@
+package kr.mclub.apiserver.shared.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.mclub.apiserver.shared.config.JwtSigningProperties;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 필터 검증 경로 벤치마크
+ * Compares the former per-claim parsing in JwtAuthenticationFilter with single verification
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    @Param({"ES256", "EdDSA"})
+    public String algorithm;
+
+    private JwtKeyRing keyRing;
+    private JwtTokenProvider provider;
+    private JwtTokenProvider cachingProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setAlgorithm(algorithm);
+        // 키 미설정: 벤치마크용 임시 키
+        keyRing = new JwtKeyRing(properties, true, Clock.systemUTC());
+
+        // max-size 0 = 캐시 비활성화 (순수 검증 비용 측정)
+        provider = newProvider(new VerifiedTokenCache(0, 1, new SimpleMeterRegistry()));
+        cachingProvider = newProvider(new VerifiedTokenCache(10_000, 16, new SimpleMeterRegistry()));
+
+        accessToken = provider.createAccessToken(1L, "bench@mclub.kr", "REGULAR");
+    }
+
+    /**
+     * 기존 경로: validateToken + getTokenType + getUserId + getGradeCode (매번 파서 생성)
+     * Former path: four full parses with a freshly built parser each time
+     */
+    @Benchmark
+    public void legacyFourParses(Blackhole bh) {
+        bh.consume(parseLegacy(accessToken));
+        bh.consume(parseLegacy(accessToken).get("type", String.class));
+        bh.consume(Long.parseLong(parseLegacy(accessToken).getSubject()));
+        bh.consume(parseLegacy(accessToken).get("grade", String.class));
+    }
+
+    /**
+     * 현재 경로: 재사용 파서로 한 번만 검증
+     * Current path: one verification with the shared parser
+     */
+    @Benchmark
+    public void singleVerify(Blackhole bh) {
+        VerifiedToken verified = provider.verify(accessToken).orElseThrow();
+        bh.consume(verified.tokenType());
+        bh.consume(verified.userId());
+        bh.consume(verified.gradeCode());
+    }
+
+    /**
+     * 캐시 경로: 같은 토큰 반복 요청 (서명 검증 생략)
+     * Cached path: repeated token served from VerifiedTokenCache
+     */
+    @Benchmark
+    public void cachedVerify(Blackhole bh) {
+        VerifiedToken verified = cachingProvider.verify(accessToken).orElseThrow();
+        bh.consume(verified.tokenType());
+        bh.consume(verified.userId());
+        bh.consume(verified.gradeCode());
+    }
+
+    private Claims parseLegacy(String token) {
+        return Jwts.parser()
+                .keyLocator(keyRing)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private JwtTokenProvider newProvider(VerifiedTokenCache cache) {
+        JwtTokenProvider target = new JwtTokenProvider(cache, new TokenEpochRegistry(), keyRing);
+        setField(target, "accessTokenValidityMs", 900_000L);
+        setField(target, "refreshTokenValidityMs", 604_800_000L);
+        target.init();
+        return target;
+    }
+
+    private static void setField(JwtTokenProvider target, String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtTokenProvider.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,325 @@
+package kr.mclub.apiserver.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 인증 API 부하 생성기
+ * Open-model load generator for sign-in, token refresh and OAuth login
+ *
+ * <p>요청은 설정한 초당 요청 수로 고정 간격 발행하며, 지연 시간은 실제 전송 시각이 아니라 예정 발행 시각부터
+ * 측정합니다. 서버가 느려져도 부하를 줄이지 않으므로 대기열 지연이 백분위수에 그대로 반영됩니다
+ * (coordinated omission 보정).</p>
+ *
+ * <pre>
+ * ./gradlew loadTestStub                     # 1) Provider 스텁 실행, 출력된 인자로 API 서버 실행
+ * ./gradlew loadTest -PloadTestArgs="--base-url=http://localhost:8080 --rate=200 --duration=60 \
+ *     --mix=signin:50,refresh:30,oauth:20"   # 2) 부하 발생
+ * </pre>
+ *
+ * <p>Options: {@code base-url}, {@code rate} (req/s), {@code duration}/{@code warmup} (s), {@code users}
+ * (sign-in/refresh 계정 수), {@code mix}, {@code oauth-providers}, {@code oauth-identities},
+ * {@code max-in-flight}, {@code run-id}</p>
+ */
+public final class AuthLoadGenerator {
+
+    private static final String AUTH_PATH = "/api/v1/auth";
+    private static final String PASSWORD = "LoadTest1!";
+    private static final Pattern REFRESH_TOKEN = Pattern.compile("\"refreshToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String runId;
+    private final String[] oauthProviders;
+    private final int oauthIdentities;
+
+    private final List<Session> sessions = new ArrayList<>();
+    private final Queue<Session> idleSessions = new ConcurrentLinkedQueue<>();
+
+    private final LatencyRecorder signIn = new LatencyRecorder("signin");
+    private final LatencyRecorder refresh = new LatencyRecorder("refresh");
+    private final LatencyRecorder oauth = new LatencyRecorder("oauth");
+
+    private AuthLoadGenerator(String baseUrl, String runId, String[] oauthProviders, int oauthIdentities) {
+        this.baseUrl = baseUrl;
+        this.runId = runId;
+        this.oauthProviders = oauthProviders;
+        this.oauthIdentities = oauthIdentities;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        AuthLoadGenerator generator = new AuthLoadGenerator(
+                options.get("base-url", "http://localhost:8080"),
+                options.get("run-id", Long.toString(System.currentTimeMillis(), 36)),
+                options.get("oauth-providers", "naver,google,apple").split(","),
+                options.getInt("oauth-identities", 1000));
+
+        Mix mix = Mix.parse(options.get("mix", "signin:50,refresh:30,oauth:20"));
+        int users = mix.signIn + mix.refresh > 0 ? options.getInt("users", 100) : 0;
+
+        generator.prepareSessions(users);
+        generator.run(
+                options.getDouble("rate", 50),
+                options.getInt("warmup", 10),
+                options.getInt("duration", 60),
+                options.getInt("max-in-flight", 2000),
+                mix);
+    }
+
+    /**
+     * 측정 전 계정 생성 및 refresh token 확보 (측정에 포함하지 않음)
+     */
+    private void prepareSessions(int users) throws InterruptedException {
+        if (users == 0) {
+            return;
+        }
+        System.out.printf("Preparing %d accounts (run-id=%s)...%n", users, runId);
+
+        Semaphore concurrency = new Semaphore(16);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                String email = "loadtest-" + runId + "-" + i + "@loadtest.local";
+                concurrency.acquire();
+                executor.execute(() -> {
+                    try {
+                        Session session = new Session(email);
+                        HttpResponse<String> response = post("/signup", "{\"email\":\"" + email
+                                + "\",\"password\":\"" + PASSWORD + "\",\"realName\":\"부하테스트\"}");
+                        if (response.statusCode() != 200) {
+                            // 같은 run-id로 재실행한 경우 기존 계정으로 로그인
+                            response = post("/signin", signInBody(email));
+                        }
+                        if (session.update(response)) {
+                            synchronized (sessions) {
+                                sessions.add(session);
+                            }
+                            idleSessions.add(session);
+                        } else {
+                            System.err.printf("Account setup failed: %s status=%d%n", email, response.statusCode());
+                        }
+                    } catch (Exception e) {
+                        System.err.printf("Account setup failed: %s %s%n", email, e);
+                    } finally {
+                        concurrency.release();
+                    }
+                });
+            }
+        }
+
+        if (sessions.isEmpty()) {
+            throw new IllegalStateException("No accounts could be prepared against " + baseUrl);
+        }
+        System.out.printf("Prepared %d accounts%n", sessions.size());
+    }
+
+    private void run(double rate, int warmupSeconds, int durationSeconds, int maxInFlight, Mix mix) {
+        long intervalNanos = (long) (1_000_000_000L / rate);
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        System.out.printf("Running %.1f req/s for %ds (+%ds warm-up), mix=%s%n",
+                rate, durationSeconds, warmupSeconds, mix);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                boolean measured = intended >= measureFrom;
+                Scenario scenario = mix.pick();
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        recorderFor(scenario).skip();
+                    }
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        execute(scenario, intended, measured);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        double measuredSeconds = durationSeconds;
+        System.out.println();
+        System.out.println("=== Auth load test: " + baseUrl + " ===");
+        System.out.println(signIn.report(measuredSeconds));
+        System.out.println(refresh.report(measuredSeconds));
+        System.out.println(oauth.report(measuredSeconds));
+    }
+
+    private void execute(Scenario scenario, long intended, boolean measured) {
+        LatencyRecorder recorder = recorderFor(scenario);
+        Session session = null;
+        if (scenario == Scenario.REFRESH) {
+            // refresh token은 회전되므로 세션 하나에 동시에 한 요청만 사용
+            session = idleSessions.poll();
+            if (session == null) {
+                if (measured) {
+                    recorder.skip();
+                }
+                return;
+            }
+        }
+
+        try {
+            HttpResponse<String> response = switch (scenario) {
+                case SIGN_IN -> post("/signin", signInBody(randomSession().email));
+                case REFRESH -> post("/refresh", "{\"refreshToken\":\"" + session.refreshToken + "\"}");
+                case OAUTH -> oauthLogin();
+            };
+            long latency = System.nanoTime() - intended;
+
+            if (measured) {
+                if (response.statusCode() / 100 == 2) {
+                    recorder.success(latency);
+                } else {
+                    recorder.error("HTTP " + response.statusCode());
+                }
+            }
+            if (session != null && !session.update(response)) {
+                // 토큰이 무효화된 세션은 다시 로그인하여 복구 (측정 제외)
+                session.update(post("/signin", signInBody(session.email)));
+            }
+        } catch (Exception e) {
+            if (measured) {
+                recorder.error(e.getClass().getSimpleName());
+            }
+        } finally {
+            if (session != null) {
+                idleSessions.add(session);
+            }
+        }
+    }
+
+    private HttpResponse<String> oauthLogin() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String provider = oauthProviders[random.nextInt(oauthProviders.length)].trim();
+        String code = "user-" + random.nextInt(oauthIdentities);
+        return post("/oauth/" + provider, "{\"provider\":\"" + provider.toUpperCase() + "\",\"code\":\"" + code
+                + "\",\"redirectUri\":\"http://localhost/loadtest/callback\"}");
+    }
+
+    private HttpResponse<String> post(String path, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + AUTH_PATH + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Session randomSession() {
+        return sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+    }
+
+    private LatencyRecorder recorderFor(Scenario scenario) {
+        return switch (scenario) {
+            case SIGN_IN -> signIn;
+            case REFRESH -> refresh;
+            case OAUTH -> oauth;
+        };
+    }
+
+    private static String signInBody(String email) {
+        return "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}";
+    }
+
+    private enum Scenario { SIGN_IN, REFRESH, OAUTH }
+
+    /**
+     * 로그인 계정 + 최신 refresh token
+     */
+    private static final class Session {
+
+        private final String email;
+        private volatile String refreshToken;
+
+        private Session(String email) {
+            this.email = email;
+        }
+
+        private boolean update(HttpResponse<String> response) {
+            if (response.statusCode() != 200) {
+                return false;
+            }
+            Matcher matcher = REFRESH_TOKEN.matcher(response.body());
+            if (!matcher.find()) {
+                return false;
+            }
+            refreshToken = matcher.group(1);
+            return true;
+        }
+    }
+
+    /**
+     * 시나리오 비율 (가중치 기반 무작위 배분)
+     */
+    private record Mix(int signIn, int refresh, int oauth) {
+
+        static Mix parse(String spec) {
+            int signIn = 0;
+            int refresh = 0;
+            int oauth = 0;
+            for (String part : spec.split(",")) {
+                String[] kv = part.trim().split(":");
+                int weight = Integer.parseInt(kv[1].trim());
+                switch (kv[0].trim()) {
+                    case "signin" -> signIn = weight;
+                    case "refresh" -> refresh = weight;
+                    case "oauth" -> oauth = weight;
+                    default -> throw new IllegalArgumentException("Unknown scenario: " + kv[0]);
+                }
+            }
+            if (signIn + refresh + oauth <= 0) {
+                throw new IllegalArgumentException("Empty mix: " + spec);
+            }
+            return new Mix(signIn, refresh, oauth);
+        }
+
+        Scenario pick() {
+            int slot = ThreadLocalRandom.current().nextInt(signIn + refresh + oauth);
+            if (slot < signIn) {
+                return Scenario.SIGN_IN;
+            }
+            return slot < signIn + refresh ? Scenario.REFRESH : Scenario.OAUTH;
+        }
+
+        @Override
+        public String toString() {
+            return "signin:" + signIn + ",refresh:" + refresh + ",oauth:" + oauth;
+        }
+    }
+}
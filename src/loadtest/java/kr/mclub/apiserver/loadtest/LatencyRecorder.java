@@ -0,0 +1,80 @@
+package kr.mclub.apiserver.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오별 지연 시간/오류 기록
+ * Per-scenario latency samples and error counts
+ *
+ * <p>측정 구간의 모든 샘플을 보관한 뒤 정렬하여 백분위수를 계산합니다 (수십만 건 수준의 실행을 가정).</p>
+ */
+final class LatencyRecorder {
+
+    private final String name;
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder skipped = new LongAdder();
+
+    private long[] samples = new long[1 << 14];
+    private int size;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    synchronized void success(long latencyNanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = latencyNanos;
+    }
+
+    void error(String reason) {
+        errors.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 요청을 보내지 못한 경우 (사용 가능한 세션 없음, 동시 요청 한도 초과)
+     */
+    void skip() {
+        skipped.increment();
+    }
+
+    String report(double measuredSeconds) {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(samples, size);
+        }
+        Arrays.sort(sorted);
+
+        long errorCount = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        long total = sorted.length + errorCount;
+        StringBuilder out = new StringBuilder(String.format(
+                "%-8s requests=%d ok=%d errors=%d (%.2f%%) skipped=%d throughput=%.1f/s",
+                name, total, sorted.length, errorCount, total == 0 ? 0.0 : 100.0 * errorCount / total,
+                skipped.sum(), total / measuredSeconds));
+        if (sorted.length > 0) {
+            out.append(String.format("%n         p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms",
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                    millis(percentile(sorted, 0.999)), millis(sorted[sorted.length - 1])));
+        }
+        if (errorCount > 0) {
+            Map<String, Long> byReason = new TreeMap<>();
+            errors.forEach((reason, count) -> byReason.put(reason, count.sum()));
+            out.append(String.format("%n         errors by reason: %s", byReason));
+        }
+        return out.toString();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,232 @@
+package kr.mclub.apiserver.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.jsonwebtoken.Jwts;
+
+/**
+ * 부하 테스트용 OAuth Provider 스텁 (Google, Naver, Apple)
+ * Embedded stand-in for the provider endpoints configured in {@code OAuth2Properties}
+ *
+ * <p>Provider별로 token / userinfo / jwks 엔드포인트를 제공합니다. authorization code가 곧 사용자 식별자이므로
+ * 같은 code로 로그인하면 같은 계정으로 처리됩니다. Google과 Apple은 ES256으로 서명한 id_token을 함께 반환하여
+ * 서버의 로컬 id_token 검증 경로를 그대로 사용합니다. 실제 Provider 왕복 시간은 {@code --latency-ms}로 흉내 냅니다.</p>
+ *
+ * <pre>
+ * ./gradlew loadTestStub -PstubArgs="--port=18089 --latency-ms=80"
+ * </pre>
+ *
+ * <p>시작 시 API 서버에 넘길 {@code oauth2.provider.*} 재정의 인자를 출력합니다.</p>
+ */
+public final class StubOAuthProviderServer {
+
+    private static final String KEY_ID = "loadtest-stub-1";
+
+    private final HttpServer server;
+    private final KeyPair signingKeys = Jwts.SIG.ES256.keyPair().build();
+    private final Map<String, String> clientIds = new HashMap<>();
+    private final int latencyMs;
+    private final String baseUrl;
+
+    public StubOAuthProviderServer(int port, int latencyMs, String googleClientId, String appleClientId)
+            throws IOException {
+        this.latencyMs = latencyMs;
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.baseUrl = "http://localhost:" + server.getAddress().getPort();
+        clientIds.put("google", googleClientId);
+        clientIds.put("apple", appleClientId);
+
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        for (String provider : new String[]{"google", "naver", "apple"}) {
+            server.createContext("/" + provider + "/token", exchange -> handle(exchange, () -> token(provider, exchange)));
+            server.createContext("/" + provider + "/userinfo", exchange -> handle(exchange, () -> userInfo(provider, exchange)));
+            server.createContext("/" + provider + "/jwks", exchange -> handle(exchange, this::jwks));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        StubOAuthProviderServer stub = new StubOAuthProviderServer(
+                options.getInt("port", 18089),
+                options.getInt("latency-ms", 50),
+                options.get("google-client-id", "loadtest-google"),
+                options.get("apple-client-id", "loadtest-apple"));
+        stub.start();
+
+        System.out.println("Stub OAuth providers listening on " + stub.baseUrl);
+        System.out.println("Start the API server with:");
+        System.out.println(String.join(" \\\n  ", stub.serverOverrides()));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * API 서버 실행 인자: Provider 엔드포인트를 스텁으로 돌리고, 단일 IP 부하에 맞게 로그인 스로틀을 완화
+     * Command-line overrides pointing the API server at this stub
+     */
+    public String[] serverOverrides() {
+        return new String[]{
+                "--oauth2.provider.google.client-id=" + clientIds.get("google"),
+                "--oauth2.provider.google.token-uri=" + baseUrl + "/google/token",
+                "--oauth2.provider.google.user-info-uri=" + baseUrl + "/google/userinfo",
+                "--oauth2.provider.google.jwks-uri=" + baseUrl + "/google/jwks",
+                "--oauth2.provider.google.issuers=" + baseUrl + "/google",
+                "--oauth2.provider.naver.token-uri=" + baseUrl + "/naver/token",
+                "--oauth2.provider.naver.user-info-uri=" + baseUrl + "/naver/userinfo",
+                "--oauth2.provider.apple.client-id=" + clientIds.get("apple"),
+                "--oauth2.provider.apple.token-uri=" + baseUrl + "/apple/token",
+                "--oauth2.provider.apple.jwks-uri=" + baseUrl + "/apple/jwks",
+                "--oauth2.provider.apple.issuers=" + baseUrl + "/apple",
+                "--security.login-throttle.ip.burst=1000000",
+                "--security.login-throttle.ip.refill-per-minute=1000000",
+                "--security.login-throttle.email.burst=10000",
+                "--security.login-throttle.email.refill-per-minute=10000"
+        };
+    }
+
+    private String token(String provider, HttpExchange exchange) throws IOException {
+        String code = formParams(exchange.getRequestBody()).get("code");
+        if (code == null || code.isBlank()) {
+            exchange.sendResponseHeaders(400, -1);
+            return null;
+        }
+
+        StringBuilder json = new StringBuilder()
+                .append("{\"access_token\":\"stub.").append(provider).append('.').append(code).append('"')
+                .append(",\"refresh_token\":\"stub-refresh.").append(code).append('"')
+                .append(",\"expires_in\":3600,\"token_type\":\"Bearer\"");
+        if (clientIds.containsKey(provider)) {
+            json.append(",\"id_token\":\"").append(idToken(provider, code)).append('"');
+        }
+        return json.append('}').toString();
+    }
+
+    private String userInfo(String provider, HttpExchange exchange) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String prefix = "Bearer stub." + provider + ".";
+        if (authorization == null || !authorization.startsWith(prefix)) {
+            exchange.sendResponseHeaders(401, -1);
+            return null;
+        }
+
+        String code = authorization.substring(prefix.length());
+        String subject = provider + "-" + code;
+        String email = subject + "@loadtest.local";
+        if ("naver".equals(provider)) {
+            return "{\"resultcode\":\"00\",\"message\":\"success\",\"response\":{\"id\":\"" + subject
+                    + "\",\"email\":\"" + email + "\",\"name\":\"부하테스트\"}}";
+        }
+        return "{\"sub\":\"" + subject + "\",\"email\":\"" + email + "\",\"name\":\"Load Test\"}";
+    }
+
+    private String jwks() {
+        ECPublicKey publicKey = (ECPublicKey) signingKeys.getPublic();
+        return "{\"keys\":[{\"kty\":\"EC\",\"crv\":\"P-256\",\"use\":\"sig\",\"alg\":\"ES256\""
+                + ",\"kid\":\"" + KEY_ID + "\""
+                + ",\"x\":\"" + coordinate(publicKey.getW().getAffineX()) + "\""
+                + ",\"y\":\"" + coordinate(publicKey.getW().getAffineY()) + "\"}]}";
+    }
+
+    private String idToken(String provider, String code) {
+        Instant now = Instant.now();
+        String subject = provider + "-" + code;
+        return Jwts.builder()
+                .header().keyId(KEY_ID).and()
+                .issuer(baseUrl + "/" + provider)
+                .audience().add(clientIds.get(provider)).and()
+                .subject(subject)
+                .claim("email", subject + "@loadtest.local")
+                .claim("name", "Load Test")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(600)))
+                .signWith(signingKeys.getPrivate(), Jwts.SIG.ES256)
+                .compact();
+    }
+
+    private void handle(HttpExchange exchange, StubResponse response) throws IOException {
+        try (exchange) {
+            simulateLatency();
+            String body = response.body();
+            if (body == null) {
+                return;
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("Cache-Control", "public, max-age=3600");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+
+    private void simulateLatency() {
+        if (latencyMs <= 0) {
+            return;
+        }
+        // ±20% 지터
+        int jitter = Math.max(1, latencyMs / 5);
+        try {
+            Thread.sleep(latencyMs - jitter + ThreadLocalRandom.current().nextInt(2 * jitter + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> formParams(InputStream in) throws IOException {
+        Map<String, String> params = new HashMap<>();
+        String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        for (String pair : body.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    /**
+     * JWK 좌표 (32바이트 고정 길이, base64url)
+     */
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        if (bytes.length > 32) {
+            bytes = Arrays.copyOfRange(bytes, bytes.length - 32, bytes.length);
+        }
+        System.arraycopy(bytes, 0, fixed, 32 - bytes.length, bytes.length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    @FunctionalInterface
+    private interface StubResponse {
+        String body() throws IOException;
+    }
+}
@@ -2,6 +2,9 @@ package kr.mclub.apiserver.membership.api;
 
 import java.util.List;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,6 +22,7 @@ import kr.mclub.apiserver.membership.domain.ApplicationStatus;
 import kr.mclub.apiserver.membership.service.MembershipApplicationService;
 import kr.mclub.apiserver.shared.security.CurrentUser;
 import kr.mclub.apiserver.shared.util.ApiResponse;
+import kr.mclub.apiserver.shared.util.CursorPageResponse;
 
 /**
  * 정회원 신청 Controller / Membership Application Controller
@@ -106,6 +110,25 @@ public class MembershipApplicationController {
         return ApiResponse.success(responses);
     }
 
+    /**
+     * 상태별 신청서 목록 페이지 조회 (관리자) / Get a page of applications by status (admin)
+     * GET /api/v1/membership/applications?status=PENDING&size=50&cursor=...
+     *
+     * @param status 신청 상태
+     * @param cursor 직전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (1~100)
+     * @return 신청서 페이지 (최신순)
+     */
+    @GetMapping(params = "size")
+    public ApiResponse<CursorPageResponse<MembershipApplicationResponse>> getApplicationsByStatusPage(
+            @RequestParam ApplicationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam @Min(1) @Max(100) int size) {
+        log.info("상태별 신청서 목록 페이지 조회: status={}, size={}", status, size);
+
+        return ApiResponse.success(applicationService.getApplicationsByStatus(status, cursor, size));
+    }
+
     /**
      * 신청서 승인 (관리자) / Approve application (admin)
      *
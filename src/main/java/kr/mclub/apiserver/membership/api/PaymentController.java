@@ -3,6 +3,11 @@ package kr.mclub.apiserver.membership.api;
 import java.math.BigDecimal;
 import java.util.List;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -10,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,9 +23,12 @@ import lombok.extern.slf4j.Slf4j;
 import kr.mclub.apiserver.membership.api.dto.PaymentRecordRequest;
 import kr.mclub.apiserver.membership.api.dto.PaymentRecordResponse;
 import kr.mclub.apiserver.membership.domain.PaymentStatus;
+import kr.mclub.apiserver.membership.service.PaymentExportService;
 import kr.mclub.apiserver.membership.service.PaymentService;
 import kr.mclub.apiserver.shared.security.CurrentUser;
 import kr.mclub.apiserver.shared.util.ApiResponse;
+import kr.mclub.apiserver.shared.util.CursorPageResponse;
+import kr.mclub.apiserver.shared.util.ExportFormat;
 
 /**
  * 결제 Controller / Payment Controller
@@ -36,6 +45,7 @@ import kr.mclub.apiserver.shared.util.ApiResponse;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentExportService paymentExportService;
 
     /**
      * 결제 기록 등록 / Register payment record
@@ -71,6 +81,25 @@ public class PaymentController {
         return ApiResponse.success(responses);
     }
 
+    /**
+     * 내 결제 기록 페이지 조회 / Get a page of my payment records
+     * GET /api/v1/membership/payments/me?size=20&cursor=...
+     *
+     * @param userId 사용자 ID (인증된 사용자)
+     * @param cursor 직전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (1~100)
+     * @return 결제 기록 페이지 (최신순)
+     */
+    @GetMapping(value = "/me", params = "size")
+    public ApiResponse<CursorPageResponse<PaymentRecordResponse>> getMyPaymentsPage(
+            @CurrentUser Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam @Min(1) @Max(100) int size) {
+        log.info("내 결제 기록 페이지 조회: userId={}, size={}", userId, size);
+
+        return ApiResponse.success(paymentService.getPaymentsByUserId(userId, cursor, size));
+    }
+
     /**
      * 결제 ID로 조회 / Get payment by ID
      *
@@ -122,6 +151,47 @@ public class PaymentController {
         return ApiResponse.success(responses);
     }
 
+    /**
+     * 상태별 결제 목록 페이지 조회 (관리자) / Get a page of payments by status (admin)
+     * GET /api/v1/membership/payments?status=PENDING&size=50&cursor=...
+     *
+     * @param status 결제 상태
+     * @param cursor 직전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (1~100)
+     * @return 결제 기록 페이지 (최신순)
+     */
+    @GetMapping(params = "size")
+    public ApiResponse<CursorPageResponse<PaymentRecordResponse>> getPaymentsByStatusPage(
+            @RequestParam PaymentStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam @Min(1) @Max(100) int size) {
+        log.info("상태별 결제 목록 페이지 조회: status={}, size={}", status, size);
+
+        return ApiResponse.success(paymentService.getPaymentsByStatus(status, cursor, size));
+    }
+
+    /**
+     * 결제 기록 내보내기 (관리자) / Export payment records as a file download (admin)
+     * GET /api/v1/membership/payments/export?format=CSV|NDJSON&status=CONFIRMED&targetYear=2026
+     *
+     * <p>목록을 메모리에 만들지 않고 DB 커서에서 응답으로 바로 스트리밍합니다.</p>
+     *
+     * @param format 파일 형식 (기본 CSV)
+     * @param status 결제 상태 (생략하면 전체)
+     * @param targetYear 대상 년도 (생략하면 전체)
+     * @return 다운로드 응답
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('DIRECTOR')")
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) Integer targetYear) {
+        log.info("결제 기록 내보내기: format={}, status={}, targetYear={}", format, status, targetYear);
+
+        return format.attachment("payments", paymentExportService.export(format, status, targetYear));
+    }
+
     /**
      * 대기 중인 결제 목록 조회 (관리자) / Get pending payments (admin)
      *
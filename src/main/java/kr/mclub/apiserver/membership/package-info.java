@@ -8,6 +8,7 @@
  *   <li>정회원 가입 신청 및 서류 제출</li>
  *   <li>OCR 기반 서류 자동 검증</li>
  *   <li>입금 확인 및 결제 관리</li>
+ *   <li>결제 기록 내보내기 (CSV/NDJSON 스트리밍)</li>
  *   <li>연회비 자동 갱신 및 이월 처리</li>
  *   <li>차량 관리 (등록, 매각, 유예기간)</li>
  *   <li>이사 파트 관리</li>
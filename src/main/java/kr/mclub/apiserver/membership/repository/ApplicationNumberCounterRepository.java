@@ -0,0 +1,42 @@
+package kr.mclub.apiserver.membership.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일자별 신청 번호 카운터 Repository / Daily application number counter repository
+ *
+ * <p>{@code INSERT ... ON CONFLICT DO UPDATE ... RETURNING} 한 문장으로 증가와 조회를 처리하므로
+ * 마지막 번호를 읽고 파싱하는 경합 구간이 없습니다. 행 잠금은 호출한 트랜잭션이 끝날 때 풀리므로
+ * 짧은 별도 트랜잭션에서 호출해야 합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicationNumberCounterRepository {
+
+    private static final String RESERVE_SQL = """
+            INSERT INTO application_number_counters (issue_date, last_value)
+            VALUES (?, ?)
+            ON CONFLICT (issue_date)
+            DO UPDATE SET last_value = application_number_counters.last_value + EXCLUDED.last_value
+            RETURNING last_value
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 해당 일자의 순번 블록 예약 / Reserve {@code count} sequence numbers for the given day
+     *
+     * @param issueDate 신청 일자
+     * @param count 예약할 순번 수
+     * @return 예약한 블록의 마지막 순번 (블록은 {@code last - count + 1 .. last})
+     */
+    public int reserve(LocalDate issueDate, int count) {
+        return jdbcTemplate.queryForObject(RESERVE_SQL, Integer.class, Date.valueOf(issueDate), count);
+    }
+}
@@ -1,8 +1,10 @@
 package kr.mclub.apiserver.membership.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -41,6 +43,30 @@ public interface MembershipApplicationRepository extends JpaRepository<Membershi
      */
     List<MembershipApplication> findByStatusOrderByCreatedAtDesc(ApplicationStatus status);
 
+    /**
+     * 상태별 신청서 첫 페이지 (커서 페이지네이션)
+     * First page of applications by status, newest first
+     */
+    @Query("SELECT ma FROM MembershipApplication ma " +
+           "WHERE ma.status = :status " +
+           "ORDER BY ma.createdAt DESC, ma.id DESC")
+    List<MembershipApplication> findPageByStatus(@Param("status") ApplicationStatus status, Limit limit);
+
+    /**
+     * 상태별 신청서 다음 페이지 (직전 페이지 마지막 행 이후)
+     * Next page of applications by status, seeking past (createdAt, id)
+     */
+    @Query("SELECT ma FROM MembershipApplication ma " +
+           "WHERE ma.status = :status " +
+           "AND (ma.createdAt < :createdAt OR (ma.createdAt = :createdAt AND ma.id < :id)) " +
+           "ORDER BY ma.createdAt DESC, ma.id DESC")
+    List<MembershipApplication> findPageByStatusAfter(
+            @Param("status") ApplicationStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
     /**
      * 차대번호 중복 확인 / Check VIN number duplication
      */
@@ -69,17 +95,6 @@ public interface MembershipApplicationRepository extends JpaRepository<Membershi
      */
     Optional<MembershipApplication> findByUserIdAndStatus(Long userId, ApplicationStatus status);
 
-    /**
-     * 날짜 접두사로 최신 신청 번호 조회 / Find latest application number by date prefix
-     *
-     * @param datePrefix 날짜 접두사 (예: "APP-20251230")
-     * @return 최신 신청 번호 (Optional)
-     */
-    @Query("SELECT ma.applicationNumber FROM MembershipApplication ma " +
-           "WHERE ma.applicationNumber LIKE CONCAT(:datePrefix, '%') " +
-           "ORDER BY ma.applicationNumber DESC LIMIT 1")
-    Optional<String> findLatestApplicationNumberByDatePrefix(@Param("datePrefix") String datePrefix);
-
     /**
      * 기간별 신청서 개수 조회 / Count applications by date range
      */
@@ -0,0 +1,63 @@
+package kr.mclub.apiserver.membership.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import kr.mclub.apiserver.membership.domain.PaymentStatus;
+
+/**
+ * 결제 내보내기 Repository / Payment export repository
+ *
+ * <p>{@code payment_records}를 forward-only 커서로 {@code fetchSize}행씩 읽어 행 단위로 넘깁니다.
+ * PostgreSQL 드라이버는 자동 커밋이 꺼져 있을 때만 커서로 읽으므로 트랜잭션 안에서 호출해야 합니다.</p>
+ */
+@Repository
+public class PaymentExportRepository {
+
+    private static final String SELECT_PAYMENTS = """
+            SELECT p.id, p.user_id, u.member_number, u.real_name, p.application_id, p.payment_type,
+                   p.target_year, p.amount, p.depositor_name, p.deposit_date, p.status, p.auto_confirmed,
+                   p.confirmed_by, p.confirmed_at, p.bank_transaction_id, p.cancelled_at,
+                   p.cancellation_reason, p.refunded_at, p.refund_amount, p.created_at
+            FROM payment_records p
+            JOIN users u ON u.id = p.user_id
+            WHERE (CAST(? AS VARCHAR) IS NULL OR p.status = ?)
+              AND (CAST(? AS INTEGER) IS NULL OR p.target_year = ?)
+            ORDER BY p.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public PaymentExportRepository(JdbcTemplate jdbcTemplate,
+                                   @Value("${export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 결제 기록 순회 (ID 순, 행 단위 스트리밍) / Stream payment rows without materializing the result
+     *
+     * @param status 결제 상태 (null이면 전체)
+     * @param targetYear 대상 년도 (null이면 전체)
+     */
+    public void forEachPayment(PaymentStatus status, Integer targetYear, RowCallbackHandler handler) {
+        String statusName = status == null ? null : status.name();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_PAYMENTS,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setObject(1, statusName, Types.VARCHAR);
+            ps.setObject(2, statusName, Types.VARCHAR);
+            ps.setObject(3, targetYear, Types.INTEGER);
+            ps.setObject(4, targetYear, Types.INTEGER);
+            return ps;
+        }, handler);
+    }
+}
@@ -1,8 +1,10 @@
 package kr.mclub.apiserver.membership.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -55,6 +57,54 @@ public interface PaymentRecordRepository extends JpaRepository<PaymentRecord, Lo
      */
     List<PaymentRecord> findByStatusOrderByCreatedAtDesc(PaymentStatus status);
 
+    /**
+     * 상태별 결제 기록 첫 페이지 (커서 페이지네이션)
+     * First page of payments by status, newest first
+     */
+    @Query("SELECT pr FROM PaymentRecord pr " +
+           "WHERE pr.status = :status " +
+           "ORDER BY pr.createdAt DESC, pr.id DESC")
+    List<PaymentRecord> findPageByStatus(@Param("status") PaymentStatus status, Limit limit);
+
+    /**
+     * 상태별 결제 기록 다음 페이지 (직전 페이지 마지막 행 이후)
+     * Next page of payments by status, seeking past (createdAt, id)
+     */
+    @Query("SELECT pr FROM PaymentRecord pr " +
+           "WHERE pr.status = :status " +
+           "AND (pr.createdAt < :createdAt OR (pr.createdAt = :createdAt AND pr.id < :id)) " +
+           "ORDER BY pr.createdAt DESC, pr.id DESC")
+    List<PaymentRecord> findPageByStatusAfter(
+            @Param("status") PaymentStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    /**
+     * 사용자별 결제 기록 첫 페이지 (커서 페이지네이션)
+     * First page of a user's payments, newest first
+     */
+    @Query("SELECT pr FROM PaymentRecord pr " +
+           "WHERE pr.userId = :userId " +
+           "ORDER BY pr.createdAt DESC, pr.id DESC")
+    List<PaymentRecord> findPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 사용자별 결제 기록 다음 페이지 (직전 페이지 마지막 행 이후)
+     * Next page of a user's payments, seeking past (createdAt, id)
+     */
+    @Query("SELECT pr FROM PaymentRecord pr " +
+           "WHERE pr.userId = :userId " +
+           "AND (pr.createdAt < :createdAt OR (pr.createdAt = :createdAt AND pr.id < :id)) " +
+           "ORDER BY pr.createdAt DESC, pr.id DESC")
+    List<PaymentRecord> findPageByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
     /**
      * 신청서, 결제 유형, 상태로 결제 조회 / Find payment by application, type and status
      */
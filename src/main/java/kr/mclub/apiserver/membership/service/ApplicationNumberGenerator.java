@@ -0,0 +1,118 @@
+package kr.mclub.apiserver.membership.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.membership.repository.ApplicationNumberCounterRepository;
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+/**
+ * 정회원 신청 번호 생성기 / Application number generator
+ *
+ * <p>신청 번호는 {@code APP-yyyyMMdd-nnnnn} 형식이며 순번은 일자별로 1부터 시작합니다.
+ * 순번은 일자별 카운터 행에서 블록 단위로 예약해 노드 메모리에서 하나씩 꺼내므로,
+ * 동시 제출이 같은 번호를 받거나 unique 제약을 위반하지 않습니다.</p>
+ *
+ * <p>예약은 자체 짧은 트랜잭션에서 커밋되므로 카운터 행 잠금이 제출 트랜잭션 동안 유지되지 않고,
+ * 제출이 롤백되어도 이미 나눠 준 번호가 다시 예약되지 않습니다. 노드 재시작이나 롤백으로 남은 순번은
+ * 건너뛰며, 여러 노드의 번호는 제출 순서와 다를 수 있습니다.</p>
+ *
+ * <p>{@link #next()}는 트랜잭션 밖에서 호출해야 합니다. 커넥션을 쥔 트랜잭션 안에서 예약하면 잠금을 기다리는
+ * 스레드들이 각자 커넥션을 하나씩 점유한 채 예약용 커넥션을 또 요청하게 되어 풀이 고갈될 수 있습니다.</p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class ApplicationNumberGenerator {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_DAILY_SEQUENCE = 99_999;
+
+    private final ApplicationNumberCounterRepository counterRepository;
+    private final TransactionTemplate reserveTransaction;
+    private final int blockSize;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private LocalDate blockDate;
+    private int nextValue;
+    private int lastValue;
+
+    @Autowired
+    public ApplicationNumberGenerator(ApplicationNumberCounterRepository counterRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${membership.application-number.block-size:10}") int blockSize) {
+        this(counterRepository, transactionManager, blockSize, Clock.systemDefaultZone());
+    }
+
+    ApplicationNumberGenerator(ApplicationNumberCounterRepository counterRepository,
+                               PlatformTransactionManager transactionManager, int blockSize, Clock clock) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException(
+                    "membership.application-number.block-size must be positive: " + blockSize);
+        }
+        this.counterRepository = counterRepository;
+        this.reserveTransaction = new TransactionTemplate(transactionManager);
+        this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 오늘 날짜의 다음 신청 번호 / Next application number for today
+     *
+     * @throws IllegalStateException 트랜잭션 안에서 호출한 경우
+     */
+    public String next() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Application numbers must be reserved outside a transaction");
+        }
+        return next(LocalDate.now(clock));
+    }
+
+    /**
+     * 지정 일자의 다음 신청 번호 / Next application number for the given day
+     */
+    String next(LocalDate issueDate) {
+        int sequence;
+        // DB 왕복 중 가상 스레드가 캐리어를 점유하지 않도록 synchronized 대신 ReentrantLock 사용
+        lock.lock();
+        try {
+            if (!issueDate.equals(blockDate) || nextValue > lastValue) {
+                // 날짜가 바뀌면 전날 블록의 잔여 순번은 버림
+                reserve(issueDate);
+            }
+            sequence = nextValue++;
+        } finally {
+            lock.unlock();
+        }
+
+        if (sequence > MAX_DAILY_SEQUENCE) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "일일 신청 번호가 모두 소진되었습니다. date=" + issueDate);
+        }
+        return "APP-" + issueDate.format(DATE_FORMAT) + "-" + String.format("%05d", sequence);
+    }
+
+    private void reserve(LocalDate issueDate) {
+        Integer last = reserveTransaction.execute(status -> counterRepository.reserve(issueDate, blockSize));
+        blockDate = issueDate;
+        lastValue = last;
+        nextValue = last - blockSize + 1;
+        log.debug("신청 번호 블록 예약: date={}, range={}..{}", issueDate, nextValue, lastValue);
+    }
+}
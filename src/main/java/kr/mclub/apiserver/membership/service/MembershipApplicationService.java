@@ -1,13 +1,15 @@
 package kr.mclub.apiserver.membership.service;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import kr.mclub.apiserver.membership.api.dto.MembershipApplicationRequest;
@@ -19,6 +21,8 @@ import kr.mclub.apiserver.membership.event.MembershipApplicationSubmittedEvent;
 import kr.mclub.apiserver.membership.repository.MembershipApplicationRepository;
 import kr.mclub.apiserver.shared.exception.BusinessException;
 import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.shared.util.CursorPageResponse;
+import kr.mclub.apiserver.shared.util.PageCursor;
 
 /**
  * 정회원 신청 Service / Membership Application Service
@@ -30,25 +34,45 @@ import kr.mclub.apiserver.shared.exception.ErrorCode;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MembershipApplicationService {
 
     private final MembershipApplicationRepository applicationRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationNumberGenerator applicationNumberGenerator;
+    private final TransactionTemplate submitTransaction;
+
+    public MembershipApplicationService(MembershipApplicationRepository applicationRepository,
+                                        ApplicationEventPublisher eventPublisher,
+                                        ApplicationNumberGenerator applicationNumberGenerator,
+                                        PlatformTransactionManager transactionManager) {
+        this.applicationRepository = applicationRepository;
+        this.eventPublisher = eventPublisher;
+        this.applicationNumberGenerator = applicationNumberGenerator;
+        this.submitTransaction = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 정회원 신청서 제출 / Submit membership application
      *
+     * <p>신청 번호는 제출 트랜잭션이 커넥션을 잡기 전에 예약합니다. 대기중인 신청서가 있어 제출이 거절되면
+     * 예약한 번호는 건너뜁니다.</p>
+     *
      * @param userId 사용자 ID
      * @param request 신청 요청 DTO
      * @return 생성된 신청서 응답 DTO
      * @throws BusinessException 이미 대기중인 신청서가 있는 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MembershipApplicationResponse submitApplication(Long userId, MembershipApplicationRequest request) {
         log.info("정회원 신청 제출 시작: userId={}, realName={}", userId, request.realName());
 
+        String applicationNumber = applicationNumberGenerator.next();
+        return submitTransaction.execute(status -> saveApplication(userId, request, applicationNumber));
+    }
+
+    private MembershipApplicationResponse saveApplication(Long userId, MembershipApplicationRequest request,
+                                                          String applicationNumber) {
         // 기존 대기중인 신청서 확인 / Check for existing pending application
         applicationRepository.findByUserIdAndStatus(userId, ApplicationStatus.DOCUMENT_PENDING)
                 .ifPresent(existing -> {
@@ -59,7 +83,7 @@ public class MembershipApplicationService {
         // 신청서 생성 / Create application
         MembershipApplication application = MembershipApplication.builder()
                 .userId(userId)
-                .applicationNumber(generateApplicationNumber())
+                .applicationNumber(applicationNumber)
                 .applicantName(request.realName())
                 .applicantPhone(request.phoneNumber())
                 .carNumber(request.carNumber())
@@ -120,6 +144,31 @@ public class MembershipApplicationService {
                 .toList();
     }
 
+    /**
+     * 상태별 신청서 페이지 조회 (커서) / Get a page of applications by status
+     *
+     * @param status 신청 상태
+     * @param cursor 직전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 신청서 페이지 (최신순)
+     */
+    public CursorPageResponse<MembershipApplicationResponse> getApplicationsByStatus(
+            ApplicationStatus status, String cursor, int size) {
+        List<MembershipApplication> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = applicationRepository.findPageByStatus(status, Limit.of(size + 1));
+        } else {
+            PageCursor position = PageCursor.decode(cursor, 2);
+            rows = applicationRepository.findPageByStatusAfter(
+                    status, position.getDateTime(0), position.getLong(1), Limit.of(size + 1));
+        }
+
+        return CursorPageResponse.of(rows,
+                size,
+                application -> PageCursor.encode(application.getCreatedAt(), application.getId()),
+                MembershipApplicationResponse::from);
+    }
+
     /**
      * 신청서 승인 / Approve application
      *
@@ -191,26 +240,4 @@ public class MembershipApplicationService {
 
         return MembershipApplicationResponse.from(application);
     }
-
-    /**
-     * 신청 번호 생성 / Generate application number
-     *
-     * 형식: APP-YYYYMMDD-XXXXX (예: APP-20251230-00001)
-     *
-     * @return 생성된 신청 번호
-     */
-    private String generateApplicationNumber() {
-        LocalDateTime now = LocalDateTime.now();
-        String datePrefix = String.format("APP-%04d%02d%02d",
-                now.getYear(), now.getMonthValue(), now.getDayOfMonth());
-
-        // 오늘 날짜의 마지막 신청 번호 조회
-        String lastNumber = applicationRepository.findLatestApplicationNumberByDatePrefix(datePrefix)
-                .orElse(datePrefix + "-00000");
-
-        // 순번 증가
-        int sequence = Integer.parseInt(lastNumber.substring(lastNumber.length() - 5)) + 1;
-
-        return String.format("%s-%05d", datePrefix, sequence);
-    }
 }
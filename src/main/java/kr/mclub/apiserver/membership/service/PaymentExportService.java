@@ -0,0 +1,71 @@
+package kr.mclub.apiserver.membership.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import lombok.RequiredArgsConstructor;
+
+import kr.mclub.apiserver.membership.domain.PaymentStatus;
+import kr.mclub.apiserver.membership.repository.PaymentExportRepository;
+import kr.mclub.apiserver.shared.util.ExportFormat;
+import kr.mclub.apiserver.shared.util.ExportStreamer;
+
+/**
+ * 결제 내보내기 Service / Payment export service
+ *
+ * <p>재무 정산용 결제 기록 전체를 CSV 또는 NDJSON으로 응답에 바로 씁니다. {@code PaymentRecord} 엔티티나
+ * 응답 DTO 목록을 만들지 않고 읽기 전용 트랜잭션의 커서에서 한 행씩 옮기므로 힙 사용량은 행 수와 무관합니다.</p>
+ *
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentExportService {
+
+    static final List<String> COLUMNS = List.of(
+            "id", "user_id", "member_number", "real_name", "application_id", "payment_type", "target_year",
+            "amount", "depositor_name", "deposit_date", "status", "auto_confirmed", "confirmed_by", "confirmed_at",
+            "bank_transaction_id", "cancelled_at", "cancellation_reason", "refunded_at", "refund_amount",
+            "created_at");
+
+    private final PaymentExportRepository paymentExportRepository;
+    private final ExportStreamer exportStreamer;
+
+    /**
+     * 결제 기록 내보내기 / Reserve an export slot and return the body that writes payment records
+     *
+     * @param status 결제 상태 (null이면 전체)
+     * @param targetYear 대상 년도 (null이면 전체)
+     * @return 응답 본문 (스트림은 flush만 하고 닫지 않음)
+     * @throws kr.mclub.apiserver.shared.exception.BusinessException 동시 내보내기 한도 초과 (SERVICE_BUSY)
+     */
+    public StreamingResponseBody export(ExportFormat format, PaymentStatus status, Integer targetYear) {
+        return exportStreamer.stream("결제", format, COLUMNS,
+                handler -> paymentExportRepository.forEachPayment(status, targetYear, handler),
+                rs -> new Object[] {
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getObject("member_number", Integer.class),
+                        rs.getString("real_name"),
+                        rs.getObject("application_id", Long.class),
+                        rs.getString("payment_type"),
+                        rs.getInt("target_year"),
+                        rs.getBigDecimal("amount"),
+                        rs.getString("depositor_name"),
+                        rs.getObject("deposit_date", LocalDate.class),
+                        rs.getString("status"),
+                        rs.getBoolean("auto_confirmed"),
+                        rs.getObject("confirmed_by", Long.class),
+                        rs.getObject("confirmed_at", LocalDateTime.class),
+                        rs.getString("bank_transaction_id"),
+                        rs.getObject("cancelled_at", LocalDateTime.class),
+                        rs.getString("cancellation_reason"),
+                        rs.getObject("refunded_at", LocalDateTime.class),
+                        rs.getBigDecimal("refund_amount"),
+                        rs.getObject("created_at", LocalDateTime.class)});
+    }
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +22,8 @@ import kr.mclub.apiserver.membership.repository.MembershipApplicationRepository;
 import kr.mclub.apiserver.membership.repository.PaymentRecordRepository;
 import kr.mclub.apiserver.shared.exception.BusinessException;
 import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.shared.util.CursorPageResponse;
+import kr.mclub.apiserver.shared.util.PageCursor;
 
 /**
  * 결제 Service / Payment Service
@@ -267,6 +270,27 @@ public class PaymentService {
                 .toList();
     }
 
+    /**
+     * 사용자의 결제 기록 페이지 조회 (커서) / Get a page of payment records by user ID
+     *
+     * @param userId 사용자 ID
+     * @param cursor 직전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 결제 기록 페이지 (최신순)
+     */
+    public CursorPageResponse<PaymentRecordResponse> getPaymentsByUserId(Long userId, String cursor, int size) {
+        List<PaymentRecord> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = paymentRepository.findPageByUserId(userId, Limit.of(size + 1));
+        } else {
+            PageCursor position = PageCursor.decode(cursor, 2);
+            rows = paymentRepository.findPageByUserIdAfter(
+                    userId, position.getDateTime(0), position.getLong(1), Limit.of(size + 1));
+        }
+
+        return CursorPageResponse.of(rows, size, PaymentService::cursorOf, PaymentRecordResponse::from);
+    }
+
     /**
      * 신청서의 결제 기록 조회 / Get payment records by application ID
      *
@@ -305,6 +329,27 @@ public class PaymentService {
                 .toList();
     }
 
+    /**
+     * 상태별 결제 목록 페이지 조회 (커서) / Get a page of payments by status
+     *
+     * @param status 결제 상태
+     * @param cursor 직전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 결제 기록 페이지 (최신순)
+     */
+    public CursorPageResponse<PaymentRecordResponse> getPaymentsByStatus(PaymentStatus status, String cursor, int size) {
+        List<PaymentRecord> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = paymentRepository.findPageByStatus(status, Limit.of(size + 1));
+        } else {
+            PageCursor position = PageCursor.decode(cursor, 2);
+            rows = paymentRepository.findPageByStatusAfter(
+                    status, position.getDateTime(0), position.getLong(1), Limit.of(size + 1));
+        }
+
+        return CursorPageResponse.of(rows, size, PaymentService::cursorOf, PaymentRecordResponse::from);
+    }
+
     /**
      * 대기 중인 결제 목록 조회 / Get pending payments
      *
@@ -326,4 +371,11 @@ public class PaymentService {
                 userId, PaymentType.ANNUAL_FEE, year, PaymentStatus.CONFIRMED
         ).isPresent();
     }
+
+    /**
+     * 페이지 커서: (createdAt, id)
+     */
+    private static String cursorOf(PaymentRecord payment) {
+        return PageCursor.encode(payment.getCreatedAt(), payment.getId());
+    }
 }
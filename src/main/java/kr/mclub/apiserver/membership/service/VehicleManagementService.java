@@ -2,6 +2,7 @@ package kr.mclub.apiserver.membership.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +14,7 @@ import kr.mclub.apiserver.shared.exception.BusinessException;
 import kr.mclub.apiserver.shared.exception.ErrorCode;
 import kr.mclub.apiserver.user.domain.MemberVehicle;
 import kr.mclub.apiserver.user.domain.VehicleOwnershipType;
+import kr.mclub.apiserver.user.event.MemberVehicleChangedEvent;
 import kr.mclub.apiserver.user.repository.MemberVehicleRepository;
 
 /**
@@ -31,6 +33,7 @@ public class VehicleManagementService {
 
     private final MemberVehicleRepository vehicleRepository;
     private final MembershipPeriodRepository periodRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 차량 등록 / Register vehicle
@@ -78,6 +81,7 @@ public class VehicleManagementService {
         }
 
         MemberVehicle savedVehicle = vehicleRepository.save(vehicle);
+        eventPublisher.publishEvent(new MemberVehicleChangedEvent(userId, savedVehicle.getId()));
         log.info("차량 등록 완료: vehicleId={}", savedVehicle.getId());
 
         return savedVehicle;
@@ -101,6 +105,7 @@ public class VehicleManagementService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.VEHICLE_NOT_FOUND));
 
         vehicle.updateInfo(carNumber, carModel);
+        eventPublisher.publishEvent(new MemberVehicleChangedEvent(vehicle.getUserId(), vehicleId));
 
         log.info("차량 정보 업데이트 완료: vehicleId={}", vehicleId);
         return vehicle;
@@ -132,6 +137,7 @@ public class VehicleManagementService {
 
         // 새로운 주 차량 설정
         vehicle.setAsPrimary();
+        eventPublisher.publishEvent(new MemberVehicleChangedEvent(userId, vehicleId));
 
         log.info("주 차량 설정 완료: vehicleId={}", vehicleId);
         return vehicle;
@@ -157,6 +163,7 @@ public class VehicleManagementService {
         }
 
         vehicleRepository.delete(vehicle);
+        eventPublisher.publishEvent(new MemberVehicleChangedEvent(userId, vehicleId));
         log.info("차량 삭제 완료: vehicleId={}", vehicleId);
     }
 
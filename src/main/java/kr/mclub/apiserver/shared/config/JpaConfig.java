@@ -1,5 +1,6 @@
 package kr.mclub.apiserver.shared.config;
 
+import kr.mclub.apiserver.shared.security.JwtAuthentication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -21,17 +22,13 @@ public class JpaConfig {
     public AuditorAware<Long> auditorProvider() {
         return () -> {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || !authentication.isAuthenticated()) {
-                return Optional.empty();
-            }
 
-            Object principal = authentication.getPrincipal();
-            if (principal instanceof Long userId) {
-                return Optional.of(userId);
+            // JWT 인증 객체에서 사용자 ID 추출
+            // Extract user ID from JWT authentication
+            if (authentication instanceof JwtAuthentication jwtAuthentication && jwtAuthentication.isAuthenticated()) {
+                return Optional.of(jwtAuthentication.getUserId());
             }
 
-            // JWT 토큰에서 사용자 ID 추출 시 사용
-            // Used when extracting user ID from JWT token
             return Optional.empty();
         };
     }
@@ -0,0 +1,83 @@
+package kr.mclub.apiserver.shared.config;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * JWT 서명 키 Properties
+ * JWT asymmetric signing key ring configuration
+ *
+ * <p>첫 번째로 개인키가 설정된 항목이 서명 키가 되고, 나머지 항목은 검증 전용(공개키)입니다.
+ * 키 교체 시 새 키를 맨 앞에 추가하고, 이전 키는 발급된 토큰이 모두 만료될 때까지 공개키만 남겨둡니다.</p>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+
+    /**
+     * 서명 알고리즘 (ES256 또는 EdDSA)
+     * Signature algorithm: ES256 or EdDSA (Ed25519)
+     */
+    private String algorithm = "ES256";
+
+    /**
+     * JWKS 응답 캐시 시간 (초)
+     * Cache-Control max-age of the JWKS endpoint
+     */
+    private long jwksMaxAgeSeconds = 300;
+
+    /**
+     * 키 목록 (앞쪽이 최신)
+     * Keys, newest first
+     */
+    private List<KeyConfig> keys = new ArrayList<>();
+
+    /**
+     * 비대칭 서명 도입 이전의 HMAC 토큰 검증 (기본 비활성화)
+     * Opt-in verification of kid-less HS256 tokens issued before the key ring
+     */
+    private LegacyHmac legacyHmac = new LegacyHmac();
+
+    @Data
+    public static class KeyConfig {
+        /**
+         * Key ID (비어 있으면 RFC 7638 thumbprint 사용)
+         */
+        private String kid;
+
+        /**
+         * Base64 PKCS#8 DER 개인키 (검증 전용 키는 비워둠)
+         */
+        private String privateKey;
+
+        /**
+         * Base64 X.509 DER 공개키
+         */
+        private String publicKey;
+    }
+
+    @Data
+    public static class LegacyHmac {
+        /**
+         * 허용 여부 (켜려면 secret과 accept-until이 모두 필요)
+         */
+        private boolean enabled = false;
+
+        /**
+         * Base64 HMAC 키 (환경 변수로만 설정, 저장소에 커밋하지 않음)
+         */
+        private String secret;
+
+        /**
+         * 이 시각 이후에는 HMAC 토큰을 거부 (ISO-8601, 예: 2026-11-01T00:00:00Z)
+         */
+        private Instant acceptUntil;
+    }
+}
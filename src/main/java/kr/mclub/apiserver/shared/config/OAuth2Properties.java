@@ -1,5 +1,7 @@
 package kr.mclub.apiserver.shared.config;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -22,6 +24,72 @@ public class OAuth2Properties {
      */
     private Map<String, ProviderConfig> provider;
 
+    /**
+     * 공용 HTTP 클라이언트 설정
+     * Shared HTTP client settings for all providers
+     */
+    private Http http = new Http();
+
+    /**
+     * Provider별 서킷 브레이커/벌크헤드 설정
+     * Per-provider circuit breaker and bulkhead settings
+     */
+    private Resilience resilience = new Resilience();
+
+    @Data
+    public static class Http {
+        /**
+         * 연결 타임아웃 (공용 클라이언트 전체에 적용)
+         * Connect timeout of the shared client
+         */
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        /**
+         * 기본 응답 타임아웃 (Provider별 readTimeout 미설정 시)
+         * Default response timeout when a provider does not override it
+         */
+        private Duration readTimeout = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Resilience {
+        /**
+         * Provider별 최대 동시 호출 수 (초과 시 즉시 거절)
+         * Max concurrent calls per provider
+         */
+        private int maxConcurrentCalls = 20;
+
+        /**
+         * 실패율 계산 구간 (최근 호출 수)
+         * Number of recent calls in the sliding window
+         */
+        private int slidingWindowSize = 20;
+
+        /**
+         * 실패율 계산에 필요한 최소 호출 수
+         * Minimum calls before the failure rate is evaluated
+         */
+        private int minimumCalls = 10;
+
+        /**
+         * 서킷을 여는 실패율 (%)
+         * Failure rate that opens the circuit
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * OPEN 유지 시간 (이후 HALF_OPEN)
+         * How long the circuit stays open before probing
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        /**
+         * HALF_OPEN에서 허용하는 시험 호출 수
+         * Trial calls permitted while half-open
+         */
+        private int halfOpenProbes = 3;
+    }
+
     @Data
     public static class ProviderConfig {
         /**
@@ -58,5 +126,23 @@ public class OAuth2Properties {
          * OAuth2 scope
          */
         private String scope;
+
+        /**
+         * id_token 서명 키 URL (설정 시 id_token을 로컬 검증)
+         * JWKS URL used to verify id_tokens locally
+         */
+        private String jwksUri;
+
+        /**
+         * 허용하는 id_token issuer 목록
+         * Accepted id_token issuers
+         */
+        private List<String> issuers;
+
+        /**
+         * 응답 타임아웃 (미설정 시 http.read-timeout)
+         * Response timeout for this provider
+         */
+        private Duration readTimeout;
     }
 }
@@ -19,6 +19,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C003", "서버 내부 오류가 발생했습니다."),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "C004", "허용되지 않는 HTTP 메서드입니다."),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C005", "잘못된 타입의 값입니다."),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "C006", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // Auth Errors (인증 에러)
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "A001", "인증이 필요합니다."),
@@ -37,6 +38,9 @@ public enum ErrorCode {
     OAUTH_CONFIG_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "A014", "OAuth 설정을 찾을 수 없습니다."),
     OAUTH_PROVIDER_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "A015", "지원하지 않는 OAuth 제공자입니다."),
     NOT_IMPLEMENTED(HttpStatus.NOT_IMPLEMENTED, "A016", "아직 구현되지 않은 기능입니다."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "A017", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    OAUTH_PROVIDER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "A018", "OAuth 제공자에 일시적으로 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    OAUTH_EMAIL_NOT_VERIFIED(HttpStatus.CONFLICT, "A019", "인증되지 않은 이메일로는 기존 계정에 연결할 수 없습니다. 기존 방식으로 로그인한 뒤 계정을 연결해주세요."),
 
     // User Errors (사용자 에러)
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "사용자를 찾을 수 없습니다."),
@@ -44,6 +48,8 @@ public enum ErrorCode {
     DUPLICATE_PHONE(HttpStatus.CONFLICT, "U003", "이미 사용 중인 전화번호입니다."),
     INVALID_USER_STATUS(HttpStatus.BAD_REQUEST, "U004", "유효하지 않은 사용자 상태입니다."),
     USER_ALREADY_WITHDRAWN(HttpStatus.BAD_REQUEST, "U005", "이미 탈퇴한 사용자입니다."),
+    LEGACY_IMPORT_IN_PROGRESS(HttpStatus.CONFLICT, "U006", "같은 명단 파일을 이미 가져오는 중입니다."),
+    INVALID_LEGACY_IMPORT_FILE(HttpStatus.BAD_REQUEST, "U007", "가져올 수 없는 명단 파일입니다."),
 
     // Grade Errors (등급 에러)
     GRADE_NOT_FOUND(HttpStatus.NOT_FOUND, "G001", "등급을 찾을 수 없습니다."),
@@ -8,7 +8,7 @@
  *   <li>Domain - 공통 도메인 객체 (BaseEntity, DomainEvent)</li>
  *   <li>Exception - 공통 예외 처리</li>
  *   <li>Security - 보안 설정 및 인증/인가</li>
- *   <li>Util - 공통 유틸리티 (ApiResponse, PageResponse)</li>
+ *   <li>Util - 공통 유틸리티 (ApiResponse, PageResponse, CursorPageResponse)</li>
  *   <li>Config - 공통 설정 (JPA, WebMvc)</li>
  * </ul>
  *
@@ -32,14 +32,8 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED);
-        }
-
-        Object principal = authentication.getPrincipal();
-
-        if (principal instanceof Long userId) {
-            return userId;
+        if (authentication instanceof JwtAuthentication jwtAuthentication && jwtAuthentication.isAuthenticated()) {
+            return jwtAuthentication.getUserId();
         }
 
         throw new BusinessException(ErrorCode.UNAUTHORIZED);
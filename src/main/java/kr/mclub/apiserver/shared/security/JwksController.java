@@ -0,0 +1,38 @@
+package kr.mclub.apiserver.shared.security;
+
+import kr.mclub.apiserver.shared.config.JwtSigningProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * JWKS 엔드포인트
+ * Publishes the JWT verification keys (RFC 7517)
+ *
+ * <p>표준 형식을 따르므로 ApiResponse로 감싸지 않습니다. 응답은 기동 시 한 번 만들어지며
+ * Cache-Control/ETag로 클라이언트 캐시를 허용합니다.</p>
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyRing jwtKeyRing;
+    private final JwtSigningProperties signingProperties;
+
+    /**
+     * GET /.well-known/jwks.json
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(signingProperties.getJwksMaxAgeSeconds()))
+                        .cachePublic())
+                .eTag(jwtKeyRing.getJwksETag())
+                .body(jwtKeyRing.getJwks());
+    }
+}
@@ -0,0 +1,138 @@
+package kr.mclub.apiserver.shared.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JWT 인증 객체
+ * Compact authentication carrying the user ID and grade from a verified access token
+ *
+ * <p>권한 목록은 등급 코드별로 한 번만 생성해 공유하므로, 요청마다 {@code "ROLE_" + gradeCode} 문자열,
+ * {@link SimpleGrantedAuthority}, 리스트를 새로 만들지 않습니다.</p>
+ */
+public final class JwtAuthentication implements Authentication {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    /**
+     * 등급 코드별 권한 목록 (불변, 공유)
+     * Interned authority lists per grade code
+     */
+    private static final ConcurrentMap<String, List<GrantedAuthority>> AUTHORITIES_BY_GRADE =
+            new ConcurrentHashMap<>();
+
+    private final Long userId;
+    private final String gradeCode;
+    private final List<GrantedAuthority> authorities;
+    private volatile boolean authenticated = true;
+
+    public JwtAuthentication(Long userId, String gradeCode) {
+        this.userId = Objects.requireNonNull(userId, "userId");
+        this.gradeCode = gradeCode;
+        this.authorities = authoritiesFor(gradeCode);
+    }
+
+    /**
+     * 검증된 토큰에서 생성
+     * Create from a verified access token
+     */
+    public static JwtAuthentication from(VerifiedToken verified) {
+        return new JwtAuthentication(verified.userId(), verified.gradeCode());
+    }
+
+    /**
+     * 등급 코드의 공유 권한 목록 조회
+     * Get the shared authority list for a grade code
+     */
+    static List<GrantedAuthority> authoritiesFor(String gradeCode) {
+        if (gradeCode == null) {
+            return List.of();
+        }
+        return AUTHORITIES_BY_GRADE.computeIfAbsent(gradeCode,
+                code -> List.of(new SimpleGrantedAuthority(ROLE_PREFIX + code)));
+    }
+
+    /**
+     * 사용자 ID
+     * Authenticated user ID
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * 등급 코드
+     * Grade code from the access token
+     */
+    public String getGradeCode() {
+        return gradeCode;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Long getPrincipal() {
+        return userId;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (isAuthenticated) {
+            throw new IllegalArgumentException("JwtAuthentication can only be created authenticated");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public String getName() {
+        return userId.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JwtAuthentication that)) {
+            return false;
+        }
+        return userId.equals(that.userId)
+                && Objects.equals(gradeCode, that.gradeCode)
+                && authenticated == that.authenticated;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, gradeCode);
+    }
+
+    @Override
+    public String toString() {
+        return "JwtAuthentication[userId=" + userId + ", grade=" + gradeCode + "]";
+    }
+}
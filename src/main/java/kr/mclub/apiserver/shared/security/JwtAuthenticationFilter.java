@@ -6,15 +6,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 /**
  * JWT 인증 필터
@@ -29,6 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenEpochRegistry tokenEpochRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -37,34 +35,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            // Access Token인지 확인
-            String tokenType = jwtTokenProvider.getTokenType(token);
-            if (!"access".equals(tokenType)) {
-                log.warn("Not an access token");
-                filterChain.doFilter(request, response);
-                return;
-            }
-
-            // 토큰에서 사용자 정보 추출
-            Long userId = jwtTokenProvider.getUserId(token);
-            String gradeCode = jwtTokenProvider.getGradeCode(token);
+        if (StringUtils.hasText(token)) {
+            // 서명/만료 검증은 요청당 한 번만 수행
+            VerifiedToken verified = jwtTokenProvider.verify(token).orElse(null);
 
-            // Spring Security 인증 객체 생성
-            // 권한은 등급 코드를 ROLE_ 접두사와 함께 사용
-            SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + gradeCode);
+            if (verified != null) {
+                // Access Token인지 확인
+                if (!verified.isAccessToken()) {
+                    log.warn("Not an access token");
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            userId,
-                            null,
-                            Collections.singletonList(authority)
-                    );
+                // 등급 변경/탈퇴 이후 발급 이전 토큰이면 거부 (재발급 유도)
+                if (!tokenEpochRegistry.isCurrent(verified.userId(), verified.epoch())) {
+                    log.debug("Stale token epoch for user: {}", verified.userId());
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
-            // SecurityContext에 인증 정보 저장
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+                // Spring Security 인증 객체 생성
+                // 권한(ROLE_ + 등급 코드)은 등급별로 미리 만들어 둔 목록을 공유
+                SecurityContextHolder.getContext().setAuthentication(JwtAuthentication.from(verified));
 
-            log.debug("Set Authentication for user: {}, grade: {}", userId, gradeCode);
+                log.debug("Set Authentication for user: {}, grade: {}", verified.userId(), verified.gradeCode());
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,248 @@
+package kr.mclub.apiserver.shared.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import kr.mclub.apiserver.shared.config.JwtSigningProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 링
+ * kid-indexed asymmetric key ring used for signing and verifying JWTs
+ *
+ * <p>토큰 헤더의 {@code kid}로 검증 키를 O(1)로 찾으므로, 다른 노드나 서비스도 JWKS의 공개키만으로
+ * 네트워크 왕복 없이 토큰을 검증할 수 있습니다.</p>
+ *
+ * <p>{@code kid}가 없는 토큰은 비대칭 서명 도입 이전의 HMAC 토큰이며, {@code jwt.signing.legacy-hmac.enabled}로
+ * 명시적으로 켠 경우에만 {@code accept-until} 시각 전까지 허용합니다.</p>
+ *
+ * <p>서명 키가 설정되지 않으면 시작에 실패합니다. 노드별 임시 키는 다른 노드나 재시작 후에 토큰을 검증할 수 없으므로
+ * 개발 프로필({@code local}, {@code dev}, {@code test})에서만 생성합니다.</p>
+ */
+@Slf4j
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    static final String[] DEV_PROFILES = {"local", "dev", "test"};
+
+    private final SignatureAlgorithm algorithm;
+    private final String activeKeyId;
+    private final PrivateKey signingKey;
+    private final Map<String, PublicKey> verificationKeys;
+    private final SecretKey legacyHmacKey;
+    private final Instant legacyAcceptUntil;
+    private final Clock clock;
+    private final Map<String, Object> jwks;
+    private final String jwksETag;
+
+    @Autowired
+    public JwtKeyRing(JwtSigningProperties properties, Environment environment) {
+        this(properties, environment.acceptsProfiles(Profiles.of(DEV_PROFILES)), Clock.systemUTC());
+    }
+
+    JwtKeyRing(JwtSigningProperties properties, boolean allowEphemeralKey, Clock clock) {
+        this.clock = clock;
+        this.algorithm = signatureAlgorithm(properties.getAlgorithm());
+
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        String activeKid = null;
+        PrivateKey activeKey = null;
+
+        for (JwtSigningProperties.KeyConfig config : properties.getKeys()) {
+            // 환경 변수 미설정으로 비어 있는 항목은 무시
+            if (!StringUtils.hasText(config.getPublicKey()) && !StringUtils.hasText(config.getPrivateKey())) {
+                continue;
+            }
+            PublicKey publicKey = decodePublicKey(config.getPublicKey());
+            String kid = StringUtils.hasText(config.getKid()) ? config.getKid() : thumbprint(publicKey);
+            keys.put(kid, publicKey);
+
+            if (activeKey == null && StringUtils.hasText(config.getPrivateKey())) {
+                activeKey = decodePrivateKey(config.getPrivateKey());
+                activeKid = kid;
+            }
+        }
+
+        if (activeKey == null) {
+            if (!keys.isEmpty()) {
+                throw new IllegalStateException("jwt.signing.keys has no private key to sign with");
+            }
+            if (!allowEphemeralKey) {
+                throw new IllegalStateException("No JWT signing key configured (jwt.signing.keys); "
+                        + "ephemeral keys are only generated with one of the profiles " + String.join(", ", DEV_PROFILES));
+            }
+            // 키 미설정 (로컬 개발): 노드별 임시 키 생성
+            KeyPair generated = generateKeyPair();
+            activeKey = generated.getPrivate();
+            activeKid = thumbprint(generated.getPublic());
+            keys.put(activeKid, generated.getPublic());
+            log.warn("No JWT signing key configured, generated an ephemeral {} key: kid={}",
+                    algorithm.getId(), activeKid);
+        }
+
+        this.activeKeyId = activeKid;
+        this.signingKey = activeKey;
+        this.verificationKeys = Map.copyOf(keys);
+        JwtSigningProperties.LegacyHmac legacy = properties.getLegacyHmac();
+        if (legacy.isEnabled()) {
+            if (!StringUtils.hasText(legacy.getSecret()) || legacy.getAcceptUntil() == null) {
+                throw new IllegalStateException(
+                        "jwt.signing.legacy-hmac requires both secret and accept-until when enabled");
+            }
+            this.legacyHmacKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(legacy.getSecret()));
+            this.legacyAcceptUntil = legacy.getAcceptUntil();
+            log.warn("Legacy HMAC JWTs without kid are accepted until {}", legacyAcceptUntil);
+        } else {
+            this.legacyHmacKey = null;
+            this.legacyAcceptUntil = Instant.MIN;
+        }
+        this.jwks = buildJwks(keys);
+        this.jwksETag = "\"" + Integer.toHexString(jwks.hashCode()) + "\"";
+
+        log.info("JWT key ring loaded: algorithm={}, activeKid={}, keys={}",
+                algorithm.getId(), activeKeyId, verificationKeys.size());
+    }
+
+    /**
+     * 검증 키 조회 (JwtParser keyLocator)
+     * Resolve the verification key from the JWS header
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (legacyHmacKey != null && "HS256".equals(header.getAlgorithm())
+                    && clock.instant().isBefore(legacyAcceptUntil)) {
+                return legacyHmacKey;
+            }
+            throw new InvalidKeyException("JWT has no key id");
+        }
+
+        PublicKey key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new InvalidKeyException("Unknown JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * 서명 알고리즘
+     * Signature algorithm of the active key
+     */
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * 현재 서명 키 ID
+     * Key id written to the header of newly issued tokens
+     */
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    /**
+     * 현재 서명 키
+     * Private key used for signing
+     */
+    public PrivateKey getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * 공개키 목록 (JWKS, RFC 7517)
+     * Public JWK set of every verification key; built once at startup
+     */
+    public Map<String, Object> getJwks() {
+        return jwks;
+    }
+
+    /**
+     * JWKS ETag
+     */
+    public String getJwksETag() {
+        return jwksETag;
+    }
+
+    private Map<String, Object> buildJwks(Map<String, PublicKey> keys) {
+        List<Map<String, Object>> jwkList = new ArrayList<>(keys.size());
+        keys.forEach((kid, publicKey) -> {
+            PublicJwk<?> jwk = Jwks.builder()
+                    .key(publicKey)
+                    .keyId(kid)
+                    .algorithm(algorithm.getId())
+                    .publicKeyUse("sig")
+                    .build();
+            jwkList.add(Map.copyOf(jwk));
+        });
+        return Map.of("keys", List.copyOf(jwkList));
+    }
+
+    private KeyPair generateKeyPair() {
+        return algorithm == Jwts.SIG.EdDSA
+                ? Jwks.CRV.Ed25519.keyPair().build()
+                : Jwts.SIG.ES256.keyPair().build();
+    }
+
+    private PublicKey decodePublicKey(String base64) {
+        if (!StringUtils.hasText(base64)) {
+            throw new IllegalStateException("jwt.signing.keys[].public-key is required");
+        }
+        try {
+            return keyFactory().generatePublic(new X509EncodedKeySpec(Decoders.BASE64.decode(base64)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT public key", e);
+        }
+    }
+
+    private PrivateKey decodePrivateKey(String base64) {
+        try {
+            return keyFactory().generatePrivate(new PKCS8EncodedKeySpec(Decoders.BASE64.decode(base64)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT private key", e);
+        }
+    }
+
+    private KeyFactory keyFactory() throws GeneralSecurityException {
+        return KeyFactory.getInstance(algorithm == Jwts.SIG.EdDSA ? "Ed25519" : "EC");
+    }
+
+    private static String thumbprint(PublicKey publicKey) {
+        return Jwks.builder().key(publicKey).idFromThumbprint().build().getId();
+    }
+
+    private static SignatureAlgorithm signatureAlgorithm(String name) {
+        return switch (name) {
+            case "ES256" -> Jwts.SIG.ES256;
+            case "EdDSA" -> Jwts.SIG.EdDSA;
+            default -> throw new IllegalStateException("Unsupported jwt.signing.algorithm: " + name);
+        };
+    }
+}
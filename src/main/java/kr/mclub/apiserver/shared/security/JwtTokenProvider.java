@@ -1,27 +1,31 @@
 package kr.mclub.apiserver.shared.security;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성 및 검증
  * JWT token generation and validation
+ *
+ * <p>토큰은 {@link JwtKeyRing}의 현재 키로 서명하고 헤더에 {@code kid}를 기록합니다.</p>
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final JwtKeyRing jwtKeyRing;
 
     @Value("${jwt.access-token-validity-ms:900000}") // 기본 15분
     private long accessTokenValidityMs;
@@ -29,12 +33,17 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity-ms:604800000}") // 기본 7일
     private long refreshTokenValidityMs;
 
-    private SecretKey key;
+    /**
+     * 재사용 파서 (불변, thread-safe)
+     * Reusable parser - immutable and thread-safe, built once at startup
+     */
+    private JwtParser parser;
 
     @PostConstruct
     protected void init() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser()
+                .keyLocator(jwtKeyRing)
+                .build();
     }
 
     /**
@@ -45,32 +54,40 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + accessTokenValidityMs);
 
-        return Jwts.builder()
+        return signedBuilder()
                 .subject(userId.toString())
                 .claim("email", email)
                 .claim("grade", gradeCode)
-                .claim("type", "access")
+                .claim("type", VerifiedToken.TYPE_ACCESS)
+                .claim("epoch", tokenEpochRegistry.current(userId))
                 .issuedAt(now)
                 .expiration(expiry)
-                .signWith(key)
                 .compact();
     }
 
     /**
-     * Refresh Token 생성
-     * Generate refresh token
+     * Refresh Token 생성 (토큰 패밀리 소속)
+     * Generate refresh token belonging to a rotation family
+     *
+     * @param userId 사용자 ID
+     * @param familyId 토큰 패밀리 ID (로그인 1회당 1개)
+     * @param tokenId 토큰 고유 ID (jti)
+     * @return 발급된 Refresh Token
      */
-    public String createRefreshToken(Long userId) {
+    public IssuedRefreshToken createRefreshToken(Long userId, String familyId, String tokenId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + refreshTokenValidityMs);
 
-        return Jwts.builder()
+        String token = signedBuilder()
+                .id(tokenId)
                 .subject(userId.toString())
-                .claim("type", "refresh")
+                .claim("type", VerifiedToken.TYPE_REFRESH)
+                .claim("fid", familyId)
                 .issuedAt(now)
                 .expiration(expiry)
-                .signWith(key)
                 .compact();
+
+        return new IssuedRefreshToken(token, tokenId, familyId, expiry.toInstant());
     }
 
     /**
@@ -110,13 +127,28 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰 유효성 검증
-     * Validate token
+     * 토큰 검증 (서명/만료를 한 번만 확인)
+     * Verify token once and return its principal
+     *
+     * <p>필터처럼 여러 클레임이 필요한 경로에서는 개별 getter 대신 이 메서드를 사용합니다.
+     * 이미 검증된 Access Token은 {@link VerifiedTokenCache}에서 바로 반환합니다.</p>
+     *
+     * @param token JWT 문자열
+     * @return 검증된 토큰 정보 (유효하지 않으면 empty)
      */
-    public boolean validateToken(String token) {
+    public Optional<VerifiedToken> verify(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         try {
-            parseClaims(token);
-            return true;
+            VerifiedToken verified = VerifiedToken.from(parseClaims(token));
+            // Refresh Token은 일회성이므로 캐시하지 않음
+            if (verified.isAccessToken()) {
+                verifiedTokenCache.put(token, verified);
+            }
+            return Optional.of(verified);
         } catch (SecurityException | MalformedJwtException e) {
             log.warn("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -126,7 +158,15 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.warn("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * 토큰 유효성 검증
+     * Validate token
+     */
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 
     /**
@@ -143,26 +183,29 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰 파싱
-     * Parse token claims
+     * Refresh Token 유효 기간 (ms)
+     * Refresh token validity in milliseconds
      */
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public long getRefreshTokenValidityMs() {
+        return refreshTokenValidityMs;
+    }
+
+    /**
+     * 현재 키로 서명하는 빌더 (헤더에 kid 포함)
+     * Builder signed with the active key ring entry
+     */
+    private JwtBuilder signedBuilder() {
+        return Jwts.builder()
+                .header().keyId(jwtKeyRing.getActiveKeyId()).and()
+                .signWith(jwtKeyRing.getSigningKey(), jwtKeyRing.getAlgorithm());
     }
 
     /**
-     * 토큰 갱신 (새 Access Token 발급)
-     * Refresh token (issue new Access Token)
+     * 토큰 파싱
+     * Parse token claims
      */
-    public TokenPair refreshTokens(String refreshToken, String email, String gradeCode) {
-        Long userId = getUserId(refreshToken);
-        String newAccessToken = createAccessToken(userId, email, gradeCode);
-        String newRefreshToken = createRefreshToken(userId);
-        return new TokenPair(newAccessToken, newRefreshToken);
+    private Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -170,4 +213,10 @@ public class JwtTokenProvider {
      * Token pair record
      */
     public record TokenPair(String accessToken, String refreshToken) {}
+
+    /**
+     * 발급된 Refresh Token
+     * Issued refresh token with its rotation identifiers
+     */
+    public record IssuedRefreshToken(String value, String tokenId, String familyId, Instant expiresAt) {}
 }
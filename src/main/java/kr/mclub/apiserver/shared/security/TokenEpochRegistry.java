@@ -0,0 +1,142 @@
+package kr.mclub.apiserver.shared.security;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 토큰 에포크 레지스트리
+ * In-memory userId → token epoch map checked on every authenticated request
+ *
+ * <p>등급 변경이나 탈퇴 시 사용자의 에포크를 올리면, 이전 에포크로 발급된 Access Token은
+ * DB 조회 없이 O(1)로 거부됩니다. 에포크가 한 번도 바뀌지 않은 사용자는 맵에 없으며 0으로 취급합니다.</p>
+ *
+ * <p>내부는 원시 배열 기반 오픈 어드레싱 해시 테이블의 불변 스냅샷입니다. 읽기는 락 없이 수행하고,
+ * 드문 쓰기는 복사 후 교체(copy-on-write)합니다. 에포크는 증가만 하며 감소하는 갱신은 무시합니다.</p>
+ */
+@Component
+public class TokenEpochRegistry {
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 현재 에포크 조회
+     * Current epoch of a user (0 if never bumped)
+     */
+    public int current(long userId) {
+        return snapshot.get(userId);
+    }
+
+    /**
+     * 토큰 에포크가 현재 에포크 이상인지 확인
+     * Check whether a token issued at the given epoch is still current
+     */
+    public boolean isCurrent(long userId, int tokenEpoch) {
+        return tokenEpoch >= snapshot.get(userId);
+    }
+
+    /**
+     * 에포크 갱신 (증가만 반영)
+     * Advance a user's epoch; lower values are ignored
+     */
+    public synchronized void advance(long userId, int epoch) {
+        if (epoch > snapshot.get(userId)) {
+            snapshot = snapshot.with(new long[]{userId}, new int[]{epoch}, 1);
+        }
+    }
+
+    /**
+     * 에포크 일괄 갱신 (기동 시 적재, 일괄 등급 변경 등)
+     * Advance many epochs with a single copy
+     */
+    public synchronized void advanceAll(long[] userIds, int[] epochs, int count) {
+        if (count > 0) {
+            snapshot = snapshot.with(userIds, epochs, count);
+        }
+    }
+
+    /**
+     * 에포크가 기록된 사용자 수
+     * Number of users with a non-zero epoch
+     */
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * 불변 오픈 어드레싱 테이블 (키 0 = 빈 슬롯)
+     * Immutable linear-probing table; user ids are positive so 0 marks an empty slot
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new long[2], new int[2], 0);
+
+        private final long[] keys;
+        private final int[] values;
+        private final int mask;
+        private final int size;
+
+        private Snapshot(long[] keys, int[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.mask = keys.length - 1;
+            this.size = size;
+        }
+
+        int get(long key) {
+            int i = slot(key, mask);
+            long k;
+            while ((k = keys[i]) != 0) {
+                if (k == key) {
+                    return values[i];
+                }
+                i = (i + 1) & mask;
+            }
+            return 0;
+        }
+
+        Snapshot with(long[] addKeys, int[] addValues, int count) {
+            int capacity = keys.length;
+            while ((size + count) * 2 > capacity) {
+                capacity <<= 1;
+            }
+
+            long[] newKeys = new long[capacity];
+            int[] newValues = new int[capacity];
+            int newMask = capacity - 1;
+            int newSize = 0;
+
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    newSize += insert(newKeys, newValues, newMask, keys[i], values[i]);
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                if (addKeys[i] > 0) {
+                    newSize += insert(newKeys, newValues, newMask, addKeys[i], addValues[i]);
+                }
+            }
+            return new Snapshot(newKeys, newValues, newSize);
+        }
+
+        /**
+         * @return 새 키면 1, 기존 키면 0
+         */
+        private static int insert(long[] keys, int[] values, int mask, long key, int value) {
+            int i = slot(key, mask);
+            while (keys[i] != 0) {
+                if (keys[i] == key) {
+                    values[i] = Math.max(values[i], value);
+                    return 0;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            return 1;
+        }
+
+        private static int slot(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package kr.mclub.apiserver.shared.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 정보 (불변)
+ * Immutable principal extracted from a JWT whose signature and expiry were verified once
+ *
+ * @param userId 사용자 ID (sub)
+ * @param email 이메일 (access 토큰만)
+ * @param gradeCode 등급 코드 (access 토큰만)
+ * @param tokenType 토큰 유형 (access / refresh)
+ * @param tokenId 토큰 고유 ID (jti, refresh 토큰만)
+ * @param familyId 토큰 패밀리 ID (refresh 토큰만)
+ * @param epoch 발급 시점의 사용자 토큰 에포크 (access 토큰만, 없으면 0)
+ * @param expiresAt 만료 시각 (exp)
+ */
+public record VerifiedToken(
+        Long userId,
+        String email,
+        String gradeCode,
+        String tokenType,
+        String tokenId,
+        String familyId,
+        int epoch,
+        Instant expiresAt
+) {
+
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
+    /**
+     * 검증된 Claims에서 변환
+     * Convert from verified claims
+     */
+    static VerifiedToken from(Claims claims) {
+        Integer epoch = claims.get("epoch", Integer.class);
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("grade", String.class),
+                claims.get("type", String.class),
+                claims.getId(),
+                claims.get("fid", String.class),
+                epoch != null ? epoch : 0,
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    /**
+     * Access Token 여부
+     * Check if this is an access token
+     */
+    public boolean isAccessToken() {
+        return TYPE_ACCESS.equals(tokenType);
+    }
+
+    /**
+     * Refresh Token 여부
+     * Check if this is a refresh token
+     */
+    public boolean isRefreshToken() {
+        return TYPE_REFRESH.equals(tokenType);
+    }
+}
@@ -0,0 +1,198 @@
+package kr.mclub.apiserver.shared.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증된 JWT 캐시 (샤딩, 크기 제한)
+ * Sharded, size-bounded cache of verified access tokens
+ *
+ * <p>같은 Access Token이 만료 전까지 반복 사용되므로, 한 번 검증한 결과를 토큰 자체의 {@code exp}까지
+ * 보관하여 서명 검증과 Base64/JSON 디코딩을 건너뜁니다.</p>
+ *
+ * <p>키는 JWS 서명 세그먼트(헤더+페이로드에 대한 서명 다이제스트)이며, 적중 시 전체 토큰 문자열을
+ * 비교하므로 서명만 재사용한 위조 토큰은 적중하지 않습니다. 각 샤드는 접근 순서 LRU로 동작합니다.
+ * Refresh Token은 일회성이므로 저장하지 않습니다.</p>
+ *
+ * <p>Actuator metrics: {@code jwt.cache.requests{result=hit|miss}}, {@code jwt.cache.evictions},
+ * {@code jwt.cache.size}</p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Shard[] shards;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Clock clock;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.cache.shards:16}") int shardCount,
+                              MeterRegistry meterRegistry) {
+        this(maxSize, shardCount, meterRegistry, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxSize, int shardCount, MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        int count = Math.max(1, shardCount);
+        int perShard = maxSize <= 0 ? 0 : Math.max(1, maxSize / count);
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(perShard);
+        }
+
+        FunctionCounter.builder("jwt.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Verified JWT cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Verified JWT cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.cache.evictions", evictions, LongAdder::sum)
+                .description("Entries evicted by size bound")
+                .register(meterRegistry);
+        Gauge.builder("jwt.cache.size", this, VerifiedTokenCache::size)
+                .description("Cached verified JWT count")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 (만료된 항목은 제거 후 miss 처리)
+     * Get a cached verification result, or null on miss / expiry
+     */
+    public VerifiedToken get(String token) {
+        String digest = digestOf(token);
+        if (digest == null) {
+            misses.increment();
+            return null;
+        }
+
+        VerifiedToken verified = shardFor(digest).get(digest, token, clock.millis());
+        if (verified == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return verified;
+    }
+
+    /**
+     * 검증 결과 저장 (토큰의 exp까지 유효, Access Token만)
+     * Store a verification result until the token's own expiry; other token types are ignored
+     */
+    public void put(String token, VerifiedToken verified) {
+        if (!verified.isAccessToken()) {
+            return;
+        }
+        String digest = digestOf(token);
+        if (digest != null) {
+            shardFor(digest).put(digest, new Entry(token, verified, verified.expiresAt().toEpochMilli()));
+        }
+    }
+
+    /**
+     * 전체 항목 수
+     * Total number of cached entries
+     */
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    /**
+     * 전체 비우기 (키 교체 등)
+     * Clear all shards, e.g. after a signing key change
+     */
+    public void clear() {
+        for (Shard shard : shards) {
+            shard.clear();
+        }
+    }
+
+    private Shard shardFor(String digest) {
+        int h = digest.hashCode();
+        h ^= (h >>> 16);
+        return shards[Math.floorMod(h, shards.length)];
+    }
+
+    /**
+     * JWS 서명 세그먼트 추출
+     * Signature segment of a compact JWS, or null if malformed
+     */
+    private static String digestOf(String token) {
+        if (token == null) {
+            return null;
+        }
+        int dot = token.lastIndexOf('.');
+        if (dot < 0 || dot == token.length() - 1) {
+            return null;
+        }
+        return token.substring(dot + 1);
+    }
+
+    private record Entry(String token, VerifiedToken verified, long expiresAtMillis) {}
+
+    /**
+     * 접근 순서 LRU 샤드
+     * Access-ordered LRU shard guarded by its own monitor
+     */
+    private final class Shard {
+
+        private final int capacity;
+        private final LinkedHashMap<String, Entry> entries;
+
+        private Shard(int capacity) {
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    if (size() > Shard.this.capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized VerifiedToken get(String digest, String token, long now) {
+            Entry entry = entries.get(digest);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtMillis() <= now) {
+                entries.remove(digest);
+                return null;
+            }
+            return entry.token().equals(token) ? entry.verified() : null;
+        }
+
+        synchronized void put(String digest, Entry entry) {
+            if (capacity > 0) {
+                entries.put(digest, entry);
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package kr.mclub.apiserver.shared.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(seek) 페이지네이션 응답 형식
+ * Cursor pagination response wrapper - no totals, so no COUNT query and no OFFSET scan
+ *
+ * <p>무한 스크롤처럼 전체 개수가 필요 없는 목록에 사용합니다. 저장소는 {@code size + 1}건을 조회하고,
+ * 초과분이 있으면 다음 페이지가 있는 것으로 판단합니다.</p>
+ *
+ * @param <T> 목록 데이터 타입
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private CursorInfo page;
+
+    /**
+     * size + 1건 조회 결과에서 변환
+     * Convert from rows fetched with one extra row
+     *
+     * @param rows 조회 결과 (최대 size + 1건)
+     * @param size 페이지 크기
+     * @param cursorOf 행의 정렬 키를 커서로 변환 ({@link PageCursor#encode(Object...)})
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        return of(rows, size, cursorOf, Function.identity());
+    }
+
+    /**
+     * 변환 함수를 적용한 변환
+     * Convert from rows fetched with one extra row, with mapper function
+     */
+    public static <T, R> CursorPageResponse<R> of(List<T> rows, int size, Function<T, String> cursorOf,
+                                                  Function<T, R> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<T> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+
+        return new CursorPageResponse<>(
+                page.stream().map(mapper).toList(),
+                new CursorInfo(size, page.size(), hasNext, nextCursor)
+        );
+    }
+
+    /**
+     * 내용 변환 (커서 정보 유지)
+     * Map content while keeping the cursor
+     */
+    public <R> CursorPageResponse<R> map(Function<T, R> mapper) {
+        return new CursorPageResponse<>(content.stream().map(mapper).toList(), page);
+    }
+
+    /**
+     * 커서 정보
+     * Cursor information
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class CursorInfo {
+        private int size;           // 요청한 페이지 크기
+        private int count;          // 이번 페이지 요소 수
+        private boolean hasNext;    // 다음 페이지 존재 여부
+        private String nextCursor;  // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    }
+}
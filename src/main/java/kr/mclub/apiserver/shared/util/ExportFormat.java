@@ -0,0 +1,78 @@
+package kr.mclub.apiserver.shared.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 내보내기 형식
+ * Export file format (always UTF-8)
+ */
+public enum ExportFormat {
+
+    /**
+     * CSV (헤더 포함, 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 붙임)
+     */
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+
+    /**
+     * 한 줄에 JSON 객체 하나
+     */
+    NDJSON(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8), "ndjson");
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 다운로드 응답 (파일명에 오늘 날짜를 붙임, 예: {@code members-20261017.csv})
+     * Attachment response whose body is written after the handler returns, on an MVC async thread
+     */
+    public ResponseEntity<StreamingResponseBody> attachment(String baseName, StreamingResponseBody body) {
+        String fileName = baseName + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + extension;
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    /**
+     * 출력 스트림에 Writer 열기 (CSV는 BOM과 헤더까지 씀)
+     * Open a buffered record writer on the response stream; the caller flushes it when done and does not close it
+     */
+    public RecordWriter open(OutputStream out, List<String> columns) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        return switch (this) {
+            case CSV -> {
+                writer.write('\uFEFF');
+                CsvWriter csv = new CsvWriter(writer);
+                csv.write(columns.toArray());
+                yield csv;
+            }
+            case NDJSON -> new NdjsonWriter(writer, columns);
+        };
+    }
+}
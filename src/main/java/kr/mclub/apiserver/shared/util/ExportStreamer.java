@@ -0,0 +1,139 @@
+package kr.mclub.apiserver.shared.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+/**
+ * 스트리밍 내보내기 실행기
+ * Streams a JDBC cursor into a CSV/NDJSON response body
+ *
+ * <p>내보내기는 클라이언트가 응답을 받는 동안 풀의 커넥션과 읽기 전용 트랜잭션을 계속 점유합니다.
+ * 그래서 동시에 실행할 수 있는 내보내기 수를 제한하고(초과 시 대기 없이 {@code SERVICE_BUSY}), 트랜잭션에는
+ * 제한 시간을 둡니다. 제한 시간은 커서 쿼리의 statement timeout으로 적용되고, 행을 옮기는 동안에도
+ * 확인해 느린 클라이언트가 커넥션을 무기한 잡지 못하게 합니다.</p>
+ */
+@Slf4j
+@Component
+public class ExportStreamer {
+
+    private final TransactionTemplate exportTransaction;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long timeoutMs;
+    private final Clock clock;
+
+    @Autowired
+    public ExportStreamer(PlatformTransactionManager transactionManager,
+                          @Value("${export.max-concurrent:2}") int maxConcurrent,
+                          @Value("${export.timeout:10m}") Duration timeout) {
+        this(transactionManager, maxConcurrent, timeout, Clock.systemUTC());
+    }
+
+    ExportStreamer(PlatformTransactionManager transactionManager, int maxConcurrent, Duration timeout, Clock clock) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("export.max-concurrent must be positive: " + maxConcurrent);
+        }
+        this.exportTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction.setReadOnly(true);
+        this.exportTransaction.setTimeout((int) Math.max(1, timeout.toSeconds()));
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxConcurrent = maxConcurrent;
+        this.timeoutMs = timeout.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * 내보내기 슬롯을 바로 확보하고 응답 본문 반환
+     * Reserve an export slot now and return the body that streams the cursor
+     *
+     * <p>슬롯은 응답이 시작되기 전(핸들러 스레드)에 확보하므로 한도 초과는 일반 오류 응답(503)으로 전달됩니다.
+     * 슬롯은 본문 쓰기가 끝나거나 실패하면 반납됩니다. 출력 스트림은 flush만 하고 닫지 않습니다.</p>
+     *
+     * @param name 로그용 내보내기 이름
+     * @param columns 열 이름 (CSV 헤더, NDJSON 키)
+     * @param cursor 트랜잭션 안에서 행을 넘겨주는 커서
+     * @param row 현재 행의 열 값 ({@code columns} 순서)
+     * @throws BusinessException 동시 내보내기 한도를 넘은 경우 (SERVICE_BUSY)
+     */
+    public StreamingResponseBody stream(String name, ExportFormat format, List<String> columns,
+                                        Cursor cursor, RowValues row) {
+        if (!permits.tryAcquire()) {
+            throw new BusinessException(ErrorCode.SERVICE_BUSY,
+                    "동시에 실행할 수 있는 내보내기는 " + maxConcurrent + "개입니다. 잠시 후 다시 시도해주세요.");
+        }
+        return out -> {
+            try {
+                write(name, format, columns, cursor, row, out);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private void write(String name, ExportFormat format, List<String> columns, Cursor cursor, RowValues row,
+                       OutputStream out) throws IOException {
+        RecordWriter writer = format.open(out, columns);
+        long deadline = clock.millis() + timeoutMs;
+        long[] count = {0};
+        try {
+            exportTransaction.executeWithoutResult(status -> cursor.forEach(rs -> {
+                if (clock.millis() > deadline) {
+                    throw new QueryTimeoutException(name + " 내보내기 제한 시간 초과: " + count[0] + "행 이후 중단");
+                }
+                try {
+                    writer.write(row.values(rs));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            }));
+        } catch (UncheckedIOException e) {
+            log.info("{} 내보내기 중단: {}행 이후 쓰기 실패", name, count[0]);
+            throw e.getCause();
+        }
+        writer.flush();
+
+        log.info("{} 내보내기 완료: format={}, rows={}", name, format, count[0]);
+    }
+
+    /**
+     * 내보낼 행 커서 (내보내기 트랜잭션 안에서 호출됨)
+     * Cursor that pushes rows to the handler; called inside the export transaction
+     */
+    @FunctionalInterface
+    public interface Cursor {
+
+        void forEach(RowCallbackHandler handler);
+    }
+
+    /**
+     * 현재 행을 열 값 배열로 변환
+     * Column values of the current row, in column order
+     */
+    @FunctionalInterface
+    public interface RowValues {
+
+        Object[] values(ResultSet rs) throws SQLException;
+    }
+}
@@ -0,0 +1,80 @@
+package kr.mclub.apiserver.shared.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 스트리밍 NDJSON 라이터
+ * Writes each row as one flat JSON object per line ({@code application/x-ndjson})
+ *
+ * <p>ObjectMapper로 행마다 Map을 만들지 않고 컬럼 이름을 미리 이스케이프해 두었다가 값만 직접 씁니다.</p>
+ */
+public final class NdjsonWriter implements RecordWriter {
+
+    private final Writer writer;
+    private final String[] keys;
+
+    public NdjsonWriter(Writer writer, List<String> columns) {
+        this.writer = writer;
+        this.keys = new String[columns.size()];
+        for (int i = 0; i < keys.length; i++) {
+            StringBuilder key = new StringBuilder(i == 0 ? "{" : ",");
+            appendString(key, columns.get(i));
+            keys[i] = key.append(':').toString();
+        }
+    }
+
+    @Override
+    public void write(Object... values) throws IOException {
+        if (values.length != keys.length) {
+            throw new IllegalArgumentException("Expected " + keys.length + " values but got " + values.length);
+        }
+        StringBuilder line = new StringBuilder(64 * keys.length);
+        for (int i = 0; i < values.length; i++) {
+            line.append(keys[i]);
+            appendValue(line, values[i]);
+        }
+        writer.append(line.append("}\n"));
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static void appendValue(StringBuilder out, Object value) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof BigDecimal decimal) {
+            out.append(decimal.toPlainString());
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else {
+            appendString(out, value.toString());
+        }
+    }
+
+    private static void appendString(StringBuilder out, String text) {
+        out.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,99 @@
+package kr.mclub.apiserver.shared.util;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * 커서 페이지네이션 위치 (opaque 문자열)
+ * Seek position of the last row on a page, encoded as an opaque URL-safe string
+ *
+ * <p>정렬 키 값들을 순서대로 담습니다 (예: createdAt, id). 클라이언트는 값을 해석하지 않고
+ * 다음 요청에 그대로 전달해야 합니다. float 값은 비트 그대로 저장하여 비교 시 오차가 없습니다.</p>
+ */
+public final class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String[] values;
+
+    private PageCursor(String[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 정렬 키 값으로 커서 생성
+     * Encode sort key values (String, Long, Integer, Float, LocalDateTime)
+     */
+    public static String encode(Object... keys) {
+        StringJoiner joiner = new StringJoiner(SEPARATOR);
+        for (Object key : keys) {
+            joiner.add(key instanceof Float f ? Integer.toHexString(Float.floatToIntBits(f)) : String.valueOf(key));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석
+     * Decode a cursor previously produced by {@link #encode(Object...)}
+     *
+     * @throws BusinessException 형식이 잘못된 경우 (INVALID_INPUT)
+     */
+    public static PageCursor decode(String cursor, int expectedKeys) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split("\\" + SEPARATOR, -1);
+            if (values.length != expectedKeys) {
+                throw new IllegalArgumentException("Unexpected key count: " + values.length);
+            }
+            return new PageCursor(values);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    public int getInt(int index) {
+        try {
+            return Integer.parseInt(values[index]);
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    public long getLong(int index) {
+        try {
+            return Long.parseLong(values[index]);
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    public float getFloat(int index) {
+        try {
+            return Float.intBitsToFloat(Integer.parseUnsignedInt(values[index], 16));
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        try {
+            return LocalDateTime.parse(values[index]);
+        } catch (RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    public String getString(int index) {
+        return values[index];
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 페이지 커서입니다.");
+    }
+}
@@ -0,0 +1,20 @@
+package kr.mclub.apiserver.shared.util;
+
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * 행 단위 내보내기 Writer
+ * Writes one export row at a time; values are positional and match the columns given to {@link ExportFormat#open}
+ *
+ * <p>값은 {@code String}, {@code Number}, {@code Boolean}, {@code java.time} 날짜/시각(ISO-8601), {@code null}을
+ * 지원합니다. 행을 모아 두지 않으므로 메모리 사용량은 행 수와 무관합니다.</p>
+ */
+public interface RecordWriter extends Flushable {
+
+    /**
+     * 한 행 쓰기
+     * Write one row
+     */
+    void write(Object... values) throws IOException;
+}
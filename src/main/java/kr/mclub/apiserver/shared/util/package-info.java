@@ -1,7 +1,7 @@
 /**
  * Shared Util - 공통 유틸리티
  *
- * <p>API 응답 포맷, 페이징 처리 등 공통 유틸리티 클래스를 제공합니다.</p>
+ * <p>API 응답 포맷, 페이징 처리, CSV 읽기/CSV·NDJSON 내보내기 등 공통 유틸리티 클래스를 제공합니다.</p>
  *
  * @since 1.0
  */
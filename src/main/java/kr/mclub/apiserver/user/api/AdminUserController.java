@@ -0,0 +1,200 @@
+package kr.mclub.apiserver.user.api;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import lombok.RequiredArgsConstructor;
+
+import kr.mclub.apiserver.shared.security.CurrentUser;
+import kr.mclub.apiserver.shared.util.ApiResponse;
+import kr.mclub.apiserver.shared.util.CursorPageResponse;
+import kr.mclub.apiserver.shared.util.ExportFormat;
+import kr.mclub.apiserver.user.api.dto.BulkGradeChangeRequest;
+import kr.mclub.apiserver.user.api.dto.BulkGradeChangeResponse;
+import kr.mclub.apiserver.user.api.dto.LegacyImportRunResponse;
+import kr.mclub.apiserver.user.api.dto.LegacyLinkCandidateResponse;
+import kr.mclub.apiserver.user.api.dto.LegacyLinkConfirmationResponse;
+import kr.mclub.apiserver.user.api.dto.LegacyLinkDecisionRequest;
+import kr.mclub.apiserver.user.api.dto.MemberSearchResponse;
+import kr.mclub.apiserver.user.api.dto.MemberSuggestionResponse;
+import kr.mclub.apiserver.user.service.LegacyMemberImportService;
+import kr.mclub.apiserver.user.service.LegacyMemberLinkService;
+import kr.mclub.apiserver.user.service.MemberAutocompleteIndex;
+import kr.mclub.apiserver.user.service.UserExportService;
+import kr.mclub.apiserver.user.service.UserService;
+
+/**
+ * 관리자 회원 관리 API 컨트롤러
+ * Admin member management API controller
+ */
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private final UserService userService;
+    private final MemberAutocompleteIndex memberAutocompleteIndex;
+    private final LegacyMemberImportService legacyMemberImportService;
+    private final LegacyMemberLinkService legacyMemberLinkService;
+    private final UserExportService userExportService;
+
+    /**
+     * 회원 검색 (이름/이메일 유사도 순, 커서 페이지네이션)
+     * Search members by name or email
+     *
+     * GET /api/v1/admin/users/search?keyword=홍길&size=20&cursor=...
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('DIRECTOR')")
+    public ApiResponse<CursorPageResponse<MemberSearchResponse>> searchMembers(
+            @RequestParam @NotBlank String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+
+        return ApiResponse.success(userService.searchMembers(keyword, cursor, size).map(MemberSearchResponse::from));
+    }
+
+    /**
+     * 회원 자동완성 (초성, 이름, 정회원 번호, 전화번호 끝 4자리 앞부분 일치)
+     * Autocomplete members from the in-memory index
+     *
+     * GET /api/v1/admin/users/autocomplete?q=ㅎㄱㄷ&limit=10
+     */
+    @GetMapping("/autocomplete")
+    @PreAuthorize("hasRole('DIRECTOR')")
+    public ApiResponse<List<MemberSuggestionResponse>> autocomplete(
+            @RequestParam @NotBlank String q,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+
+        List<MemberSuggestionResponse> response = memberAutocompleteIndex.suggest(q, limit).stream()
+                .map(MemberSuggestionResponse::from)
+                .toList();
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * 등급 일괄 변경 (회장만 가능, 학기 초 임원/운영진 재지정 등)
+     * Move many users to one grade in a single update
+     *
+     * POST /api/v1/admin/users/grade-changes
+     */
+    @PostMapping("/grade-changes")
+    @PreAuthorize("hasRole('PRESIDENT')")
+    public ApiResponse<BulkGradeChangeResponse> changeGrades(
+            @CurrentUser Long adminId,
+            @Valid @RequestBody BulkGradeChangeRequest request) {
+
+        return ApiResponse.success(BulkGradeChangeResponse.from(
+                userService.changeGrades(request.userIds(), request.gradeId(), adminId)));
+    }
+
+    /**
+     * 회원 명단 내보내기 (CSV/NDJSON 스트리밍, 행 수와 무관하게 일정한 메모리 사용)
+     * Stream the full member list as a file download
+     *
+     * GET /api/v1/admin/users/export?format=CSV|NDJSON&includeWithdrawn=false
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('DIRECTOR')")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean includeWithdrawn) {
+
+        return format.attachment("members", userExportService.export(format, includeWithdrawn));
+    }
+
+    /**
+     * 기존 회원 명단 CSV 가져오기 (같은 파일을 다시 올리면 실패 지점부터 이어서 처리)
+     * Import the legacy roster CSV, resuming a failed run of the same file
+     *
+     * POST /api/v1/admin/users/legacy-imports (multipart: file, charset=UTF-8|MS949)
+     */
+    @PostMapping("/legacy-imports")
+    @PreAuthorize("hasRole('DIRECTOR')")
+    public ApiResponse<LegacyImportRunResponse> importLegacyMembers(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "UTF-8") Charset charset) {
+
+        return ApiResponse.success(LegacyImportRunResponse.from(
+                legacyMemberImportService.importCsv(
+                        Objects.requireNonNullElse(file.getOriginalFilename(), "legacy-members.csv"), file, charset)));
+    }
+
+    /**
+     * 기존 회원 명단 가져오기 진행 상황
+     * Get progress of a legacy roster import
+     *
+     * GET /api/v1/admin/users/legacy-imports/{runId}
+     */
+    @GetMapping("/legacy-imports/{runId}")
+    @PreAuthorize("hasRole('DIRECTOR')")
+    public ApiResponse<LegacyImportRunResponse> getLegacyImport(@PathVariable Long runId) {
+        return ApiResponse.success(LegacyImportRunResponse.from(legacyMemberImportService.getRun(runId)));
+    }
+
+    /**
+     * 기존 회원 명단 연결 후보 (전화번호 일치, 관리자 확인 대기)
+     * List roster rows matched to accounts by phone number, awaiting confirmation
+     *
+     * GET /api/v1/admin/users/legacy-links?after=650&size=50
+     */
+    @GetMapping("/legacy-links")
+    @PreAuthorize("hasRole('DIRECTOR')")
+    public ApiResponse<List<LegacyLinkCandidateResponse>> getLegacyLinkCandidates(
+            @RequestParam(required = false) Integer after,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(500) int size) {
+
+        return ApiResponse.success(legacyMemberLinkService.getPendingLinks(after, size).stream()
+                .map(LegacyLinkCandidateResponse::from)
+                .toList());
+    }
+
+    /**
+     * 연결 후보 확인 (정회원 번호 부여, 정회원 등급으로만 변경)
+     * Confirm candidates; linked users become REGULAR members
+     *
+     * POST /api/v1/admin/users/legacy-links/confirmations
+     */
+    @PostMapping("/legacy-links/confirmations")
+    @PreAuthorize("hasRole('DIRECTOR')")
+    public ApiResponse<LegacyLinkConfirmationResponse> confirmLegacyLinks(
+            @CurrentUser Long adminId,
+            @Valid @RequestBody LegacyLinkDecisionRequest request) {
+
+        return ApiResponse.success(LegacyLinkConfirmationResponse.from(
+                legacyMemberLinkService.confirmLinks(request.memberNumbers(), adminId)));
+    }
+
+    /**
+     * 연결 후보 거절
+     * Reject candidates
+     *
+     * POST /api/v1/admin/users/legacy-links/rejections
+     */
+    @PostMapping("/legacy-links/rejections")
+    @PreAuthorize("hasRole('DIRECTOR')")
+    public ApiResponse<Integer> rejectLegacyLinks(
+            @CurrentUser Long adminId,
+            @Valid @RequestBody LegacyLinkDecisionRequest request) {
+
+        return ApiResponse.success(legacyMemberLinkService.rejectLinks(request.memberNumbers(), adminId));
+    }
+}
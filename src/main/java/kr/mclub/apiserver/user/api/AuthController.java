@@ -1,5 +1,8 @@
 package kr.mclub.apiserver.user.api;
 
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import org.springframework.web.bind.annotation.PathVariable;
@@ -40,24 +43,26 @@ public class AuthController {
      * OAuth login endpoint
      *
      * POST /api/v1/auth/oauth/{provider}
+     *
+     * <p>Provider 호출 동안 요청 스레드를 반환하도록 비동기로 응답합니다.</p>
      */
     @PostMapping("/oauth/{provider}")
-    public ApiResponse<OAuthLoginResponse> oauthLogin(
+    public CompletableFuture<ApiResponse<OAuthLoginResponse>> oauthLogin(
             @PathVariable String provider,
             @Valid @RequestBody OAuthLoginRequest request) {
 
-        AuthService.OAuthLoginResult result = authService.oauthLogin(
+        return authService.oauthLogin(
                 provider,
                 request.code(),
-                request.redirectUri()
-        );
-
-        return ApiResponse.success(new OAuthLoginResponse(
+                request.redirectUri(),
+                request.userName()
+        ).thenApply(result -> ApiResponse.success(new OAuthLoginResponse(
                 result.accessToken(),
                 result.refreshToken(),
                 UserProfileResponse.from(result.user()),
-                result.isNewUser()
-        ));
+                result.isNewUser(),
+                result.user().isRealNamePending()
+        )));
     }
 
     /**
@@ -117,9 +122,16 @@ public class AuthController {
      * 로그인 / Sign in
      *
      * POST /api/v1/auth/signin
+     *
+     * <p>시도 제한은 로그인 트랜잭션이 열리기 전에 확인합니다. 클라이언트 IP는 신뢰 프록시를 거친 경우
+     * X-Forwarded-For 값입니다 ({@code server.tomcat.remoteip.*}).</p>
      */
     @PostMapping("/signin")
-    public ApiResponse<SignInResponse> signIn(@Valid @RequestBody SignInRequest request) {
+    public ApiResponse<SignInResponse> signIn(
+            @Valid @RequestBody SignInRequest request,
+            HttpServletRequest httpRequest) {
+        authService.acquireSignInAttempt(request.email(), httpRequest.getRemoteAddr());
+
         AuthService.SignInResult result = authService.signIn(
                 request.email(),
                 request.password()
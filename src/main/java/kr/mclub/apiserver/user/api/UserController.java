@@ -1,11 +1,16 @@
 package kr.mclub.apiserver.user.api;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import kr.mclub.apiserver.shared.security.CurrentUser;
 import kr.mclub.apiserver.shared.util.ApiResponse;
+import kr.mclub.apiserver.shared.util.CursorPageResponse;
+import kr.mclub.apiserver.user.api.dto.MemberDirectoryResponse;
 import kr.mclub.apiserver.user.api.dto.ProfileUpdateRequest;
 import kr.mclub.apiserver.user.api.dto.UserProfileResponse;
 import kr.mclub.apiserver.user.domain.User;
+import kr.mclub.apiserver.user.service.MemberDirectoryService;
 import kr.mclub.apiserver.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final MemberDirectoryService memberDirectoryService;
 
     /**
      * 내 정보 조회
@@ -70,17 +76,31 @@ public class UserController {
 
     /**
      * 다른 사용자 프로필 조회 (정회원 번호로)
-     * Get user profile by member number
+     * Get a public member profile by member number
      *
      * GET /api/v1/users/member/{memberNumber}
      */
     @GetMapping("/member/{memberNumber}")
-    public ApiResponse<UserProfileResponse> getUserByMemberNumber(
+    public ApiResponse<MemberDirectoryResponse> getUserByMemberNumber(
             @PathVariable Integer memberNumber) {
 
-        User user = userService.getUserByMemberNumber(memberNumber);
+        // 공개 디렉터리에서 조회 (비공개/탈퇴 회원은 404, 연락처 등 개인정보 제외)
+        return ApiResponse.success(MemberDirectoryResponse.from(memberDirectoryService.getByMemberNumber(memberNumber)));
+    }
 
-        // 제한된 정보만 반환 (개인정보 보호)
-        return ApiResponse.success(UserProfileResponse.from(user));
+    /**
+     * 공개 회원 디렉터리 (정회원 번호순)
+     * List public members
+     *
+     * GET /api/v1/users/directory?gradeCode=REGULAR&size=50&cursor=...
+     */
+    @GetMapping("/directory")
+    public ApiResponse<CursorPageResponse<MemberDirectoryResponse>> getDirectory(
+            @RequestParam(required = false) String gradeCode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size) {
+
+        return ApiResponse.success(memberDirectoryService.getDirectory(gradeCode, cursor, size)
+                .map(MemberDirectoryResponse::from));
     }
 }
@@ -0,0 +1,22 @@
+package kr.mclub.apiserver.user.api.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 등급 일괄 변경 요청 DTO
+ * Bulk grade change request
+ */
+public record BulkGradeChangeRequest(
+
+        @NotEmpty(message = "대상 사용자는 필수입니다.")
+        @Size(max = 500, message = "한 번에 최대 500명까지 변경할 수 있습니다.")
+        List<@NotNull Long> userIds,
+
+        @NotNull(message = "등급 ID는 필수입니다.")
+        Long gradeId
+) {
+}
@@ -0,0 +1,36 @@
+package kr.mclub.apiserver.user.api.dto;
+
+import java.util.List;
+
+import kr.mclub.apiserver.user.service.UserService.BulkGradeChangeResult;
+import kr.mclub.apiserver.user.service.UserService.GradeChangeStatus;
+
+/**
+ * 등급 일괄 변경 응답 DTO
+ * Bulk grade change summary with one result per requested user
+ */
+public record BulkGradeChangeResponse(
+        String gradeCode,
+        int requestedCount,
+        int changedCount,
+        List<Item> results
+) {
+    public static BulkGradeChangeResponse from(BulkGradeChangeResult result) {
+        List<Item> items = result.items().stream()
+                .map(item -> new Item(item.userId(), item.status(), item.previousGradeCode()))
+                .toList();
+        return new BulkGradeChangeResponse(result.gradeCode(), items.size(), result.changedCount(), items);
+    }
+
+    /**
+     * 사용자별 결과
+     *
+     * @param status CHANGED, UNCHANGED(이미 해당 등급), WITHDRAWN, NOT_FOUND
+     * @param previousGradeCode 변경 전 등급 (변경되지 않았으면 현재 등급)
+     */
+    public record Item(
+            Long userId,
+            GradeChangeStatus status,
+            String previousGradeCode
+    ) {}
+}
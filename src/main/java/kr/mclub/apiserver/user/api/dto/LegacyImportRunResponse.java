@@ -0,0 +1,43 @@
+package kr.mclub.apiserver.user.api.dto;
+
+import java.time.LocalDateTime;
+
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository.ImportRun;
+
+/**
+ * 기존 회원 명단 가져오기 진행 상황 응답 DTO
+ * Legacy roster import run and its progress
+ *
+ * @param status PENDING, RUNNING, FAILED(같은 파일을 다시 올리면 이어서 처리), COMPLETED
+ * @param lastRecord 커밋된 마지막 데이터 레코드 번호 (헤더 제외)
+ * @param matchedCount 전화번호가 일치해 관리자 확인 대기열에 오른 연결 후보 수
+ */
+public record LegacyImportRunResponse(
+        Long runId,
+        String sourceName,
+        String status,
+        int lastRecord,
+        int importedCount,
+        int matchedCount,
+        int skippedCount,
+        String errorMessage,
+        LocalDateTime startedAt,
+        LocalDateTime updatedAt,
+        LocalDateTime finishedAt
+) {
+    public static LegacyImportRunResponse from(ImportRun run) {
+        return new LegacyImportRunResponse(
+                run.id(),
+                run.sourceName(),
+                run.status(),
+                run.lastRecord(),
+                run.importedCount(),
+                run.matchedCount(),
+                run.skippedCount(),
+                run.errorMessage(),
+                run.startedAt(),
+                run.updatedAt(),
+                run.finishedAt()
+        );
+    }
+}
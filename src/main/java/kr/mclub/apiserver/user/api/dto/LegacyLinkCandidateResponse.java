@@ -0,0 +1,40 @@
+package kr.mclub.apiserver.user.api.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository.PendingLink;
+
+/**
+ * 기존 회원 명단 연결 후보 응답 DTO
+ * Roster row and the account whose phone number matched it, awaiting admin confirmation
+ *
+ * @param rosterGradeCode 명단의 등급 (참고용, 확인하면 정회원으로만 연결됨)
+ */
+public record LegacyLinkCandidateResponse(
+        int memberNumber,
+        String rosterName,
+        String rosterPhoneNumber,
+        String rosterGradeCode,
+        LocalDate joinDate,
+        LocalDateTime matchedAt,
+        Long userId,
+        String userRealName,
+        String userEmail,
+        String userGradeCode
+) {
+    public static LegacyLinkCandidateResponse from(PendingLink link) {
+        return new LegacyLinkCandidateResponse(
+                link.memberNumber(),
+                link.name(),
+                link.phoneNumber(),
+                link.gradeCode(),
+                link.joinDate(),
+                link.matchedAt(),
+                link.userId(),
+                link.userRealName(),
+                link.userEmail(),
+                link.userGradeCode()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package kr.mclub.apiserver.user.api.dto;
+
+import java.util.List;
+
+import kr.mclub.apiserver.user.service.LegacyMemberLinkService.LinkConfirmationResult;
+
+/**
+ * 기존 회원 명단 연결 확인 응답 DTO
+ * Member numbers linked and skipped by a confirmation
+ *
+ * @param skippedMemberNumbers 후보가 없거나, 사용자가 준회원이 아니거나, 정회원 번호가 이미 쓰이는 경우
+ */
+public record LegacyLinkConfirmationResponse(
+        List<Integer> linkedMemberNumbers,
+        List<Integer> skippedMemberNumbers
+) {
+    public static LegacyLinkConfirmationResponse from(LinkConfirmationResult result) {
+        return new LegacyLinkConfirmationResponse(result.linkedMemberNumbers(), result.skippedMemberNumbers());
+    }
+}
@@ -0,0 +1,19 @@
+package kr.mclub.apiserver.user.api.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 기존 회원 명단 연결 후보 확인/거절 요청 DTO
+ * Roster member numbers whose link candidates are confirmed or rejected
+ */
+public record LegacyLinkDecisionRequest(
+
+        @NotEmpty(message = "정회원 번호는 필수입니다.")
+        @Size(max = 500, message = "한 번에 최대 500건까지 처리할 수 있습니다.")
+        List<@NotNull Integer> memberNumbers
+) {
+}
@@ -0,0 +1,33 @@
+package kr.mclub.apiserver.user.api.dto;
+
+import kr.mclub.apiserver.user.repository.MemberDirectoryRepository.DirectoryEntry;
+
+/**
+ * 공개 회원 프로필 응답 DTO (연락처 등 개인정보 제외)
+ * Public member directory entry
+ */
+public record MemberDirectoryResponse(
+        Long userId,
+        Integer memberNumber,
+        String realName,
+        String displayName,
+        String gradeCode,
+        String gradeName,
+        String gradeSuffix,
+        String primaryCarModel,
+        String profileImageUrl
+) {
+    public static MemberDirectoryResponse from(DirectoryEntry entry) {
+        return new MemberDirectoryResponse(
+                entry.userId(),
+                entry.memberNumber(),
+                entry.realName(),
+                entry.displayName(),
+                entry.gradeCode(),
+                entry.gradeName(),
+                entry.gradeSuffix(),
+                entry.primaryCarModel(),
+                entry.profileImageUrl()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package kr.mclub.apiserver.user.api.dto;
+
+import kr.mclub.apiserver.user.repository.UserSearchRepository.UserSearchRow;
+
+/**
+ * 회원 검색 결과 응답 DTO
+ * Member search result item
+ *
+ * @param score 이름/이메일 유사도 (0~1)
+ */
+public record MemberSearchResponse(
+        Long id,
+        Integer memberNumber,
+        String realName,
+        String email,
+        String gradeCode,
+        String gradeName,
+        float score
+) {
+    /**
+     * 검색 결과 행에서 변환
+     * Convert from search row
+     */
+    public static MemberSearchResponse from(UserSearchRow row) {
+        return new MemberSearchResponse(
+                row.id(),
+                row.memberNumber(),
+                row.realName(),
+                row.email(),
+                row.gradeCode(),
+                row.gradeName(),
+                row.score()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package kr.mclub.apiserver.user.api.dto;
+
+import kr.mclub.apiserver.user.service.MemberAutocompleteIndex.MemberSuggestion;
+
+/**
+ * 회원 자동완성 응답 DTO
+ * Member autocomplete suggestion
+ */
+public record MemberSuggestionResponse(
+        Long userId,
+        Integer memberNumber,
+        String realName,
+        String gradeCode
+) {
+    public static MemberSuggestionResponse from(MemberSuggestion suggestion) {
+        return new MemberSuggestionResponse(
+                suggestion.userId(),
+                suggestion.memberNumber(),
+                suggestion.realName(),
+                suggestion.gradeCode()
+        );
+    }
+}
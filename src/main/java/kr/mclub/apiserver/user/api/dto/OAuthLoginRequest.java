@@ -1,7 +1,9 @@
 package kr.mclub.apiserver.user.api.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import kr.mclub.apiserver.user.domain.OAuthProvider;
 
 /**
@@ -15,5 +17,46 @@ public record OAuthLoginRequest(
         @NotBlank(message = "인증 코드가 필요합니다.")
         String code,
 
-        String redirectUri
-) {}
+        String redirectUri,
+
+        /**
+         * Apple 최초 인가 시에만 전달되는 사용자 정보 (id_token에는 이름이 없음)
+         */
+        @Valid
+        AppleUser user
+) {
+
+    /**
+     * Apple 최초 인가 응답의 {@code user} 값
+     * Apple first-authorization user payload
+     */
+    public record AppleUser(@Valid Name name) {
+
+        public record Name(
+                @Size(max = 25, message = "이름은 25자 이하로 입력해주세요.")
+                String firstName,
+
+                @Size(max = 25, message = "성은 25자 이하로 입력해주세요.")
+                String lastName
+        ) {}
+    }
+
+    /**
+     * 클라이언트가 전달한 이름 (없으면 null, 한글 이름은 "성이름" 순서)
+     * Name supplied by the client, or null
+     */
+    public String userName() {
+        if (user == null || user.name() == null) {
+            return null;
+        }
+        String first = user.name().firstName() != null ? user.name().firstName().strip() : "";
+        String last = user.name().lastName() != null ? user.name().lastName().strip() : "";
+        String joined = last + first;
+        if (joined.isEmpty()) {
+            return null;
+        }
+        boolean hangul = joined.codePoints()
+                .allMatch(c -> Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL);
+        return hangul ? joined : (first + " " + last).strip();
+    }
+}
@@ -3,10 +3,14 @@ package kr.mclub.apiserver.user.api.dto;
 /**
  * OAuth 로그인 응답 DTO
  * OAuth login response DTO
+ *
+ * <p>{@code realNameRequired}가 true이면 Provider가 이름을 주지 않아 임시 이름으로 가입된 상태이므로
+ * 클라이언트는 실명 입력을 받아야 합니다.</p>
  */
 public record OAuthLoginResponse(
         String accessToken,
         String refreshToken,
         UserProfileResponse user,
-        boolean isNewUser
+        boolean isNewUser,
+        boolean realNameRequired
 ) {}
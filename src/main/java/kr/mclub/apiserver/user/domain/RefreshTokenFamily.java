@@ -0,0 +1,75 @@
+package kr.mclub.apiserver.user.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import kr.mclub.apiserver.shared.domain.BaseTimeEntity;
+
+/**
+ * Refresh Token 패밀리
+ * Refresh token rotation family - one per login, tracks the only currently valid jti
+ */
+@Entity
+@Table(name = "refresh_token_families")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshTokenFamily extends BaseTimeEntity implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String id;  // 패밀리 ID (UUID)
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "current_jti", nullable = false, length = 36)
+    private String currentJti;  // 현재 유효한 토큰 ID
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;  // 현재 토큰 만료 시각
+
+    @Column(name = "is_revoked", nullable = false)
+    private boolean isRevoked = false;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Column(name = "revoke_reason", length = 30)
+    private String revokeReason;  // REUSE_DETECTED, LOGOUT, WITHDRAWN 등
+
+    @Transient
+    private boolean isNew = true;  // 할당 ID 저장 시 merge(SELECT) 방지
+
+    @Builder
+    public RefreshTokenFamily(String id, Long userId, String currentJti, LocalDateTime expiresAt) {
+        this.id = id;
+        this.userId = userId;
+        this.currentJti = currentJti;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -34,6 +34,11 @@ import kr.mclub.apiserver.shared.domain.BaseTimeEntity;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
 
+    /**
+     * 소셜 가입 시 이름을 받지 못한 경우의 임시 실명 (프로필에서 입력 필요)
+     */
+    public static final String PENDING_REAL_NAME = "이름 미입력";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -92,7 +97,8 @@ public class User extends BaseTimeEntity {
     @Column(name = "withdrawal_reason", length = 500)
     private String withdrawalReason;
 
-    @Column(name = "last_login_at")
+    // LastLoginRecorder가 JDBC 배치로 갱신 (엔티티 변경 감지로 덮어쓰지 않도록 읽기 전용)
+    @Column(name = "last_login_at", insertable = false, updatable = false)
     private LocalDateTime lastLoginAt;
 
     @Column(name = "is_active", nullable = false)
@@ -217,14 +223,6 @@ public class User extends BaseTimeEntity {
         this.exemptionYear = null;
     }
 
-    /**
-     * 마지막 로그인 시간 업데이트
-     * Update last login time
-     */
-    public void updateLastLoginAt() {
-        this.lastLoginAt = LocalDateTime.now();
-    }
-
     /**
      * 회원 탈퇴
      * Withdraw membership
@@ -277,6 +275,14 @@ public class User extends BaseTimeEntity {
         this.passwordChangedAt = LocalDateTime.now();
     }
 
+    /**
+     * 비밀번호 재해싱 (같은 비밀번호, 강화된 해시 파라미터)
+     * Replace the stored hash without treating it as a password change
+     */
+    public void rehashPassword(String encryptedPassword) {
+        this.password = encryptedPassword;
+    }
+
     /**
      * 비밀번호 설정 여부 확인
      * Check if user has password set
@@ -293,6 +299,14 @@ public class User extends BaseTimeEntity {
         this.profileImageUrl = imageUrl;
     }
 
+    /**
+     * 실명 미입력 여부 (소셜 가입 시 Provider가 이름을 주지 않은 경우)
+     * Whether the real name is still the sign-up placeholder
+     */
+    public boolean isRealNamePending() {
+        return PENDING_REAL_NAME.equals(realName);
+    }
+
     /**
      * 실명 변경
      * Change real name
@@ -0,0 +1,20 @@
+package kr.mclub.apiserver.user.event;
+
+import kr.mclub.apiserver.shared.domain.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 차량 변경 이벤트
+ * Event published when a member's vehicles are registered, updated, re-prioritized or deleted
+ */
+public record MemberVehicleChangedEvent(
+        Long userId,
+        Long vehicleId,
+        LocalDateTime occurredAt
+) implements DomainEvent {
+
+    public MemberVehicleChangedEvent(Long userId, Long vehicleId) {
+        this(userId, vehicleId, LocalDateTime.now());
+    }
+}
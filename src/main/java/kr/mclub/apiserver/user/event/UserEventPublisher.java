@@ -7,6 +7,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 사용자 도메인 이벤트 발행자
  * User domain event publisher
@@ -52,6 +54,19 @@ public class UserEventPublisher {
                 user.getId(), oldGrade.getCode(), user.getGrade().getCode());
     }
 
+    /**
+     * 사용자 등급 일괄 변경 이벤트 발행 (사용자 수와 관계없이 1건)
+     * Publish one bulk grade changed event for all changed users
+     */
+    public void publishGradesBulkChanged(List<UserGradesBulkChangedEvent.Change> changes, UserGrade newGrade,
+                                         Long changedByAdminId) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new UserGradesBulkChangedEvent(changes, newGrade.getCode(), changedByAdminId));
+        log.info("Published UserGradesBulkChangedEvent: users={}, -> {}", changes.size(), newGrade.getCode());
+    }
+
     /**
      * 사용자 탈퇴 이벤트 발행
      * Publish user withdrawn event
@@ -69,4 +84,22 @@ public class UserEventPublisher {
         log.info("Published UserWithdrawnEvent: userId={}, memberNumber={}",
                 user.getId(), user.getMemberNumber());
     }
+
+    /**
+     * 사용자 프로필 변경 이벤트 발행
+     * Publish user profile updated event
+     */
+    public void publishProfileUpdated(User user) {
+        eventPublisher.publishEvent(new UserProfileUpdatedEvent(user.getId()));
+        log.debug("Published UserProfileUpdatedEvent: userId={}", user.getId());
+    }
+
+    /**
+     * 등급 정의 변경 이벤트 발행
+     * Publish grade definition updated event
+     */
+    public void publishGradeUpdated(UserGrade grade) {
+        eventPublisher.publishEvent(new UserGradeUpdatedEvent(grade.getId(), grade.getCode()));
+        log.info("Published UserGradeUpdatedEvent: gradeId={}, code={}", grade.getId(), grade.getCode());
+    }
 }
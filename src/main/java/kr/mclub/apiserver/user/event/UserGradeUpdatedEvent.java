@@ -0,0 +1,20 @@
+package kr.mclub.apiserver.user.event;
+
+import kr.mclub.apiserver.shared.domain.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 등급 정의 변경 이벤트
+ * Event published when a grade definition is created, updated or deactivated
+ */
+public record UserGradeUpdatedEvent(
+        Long gradeId,
+        String gradeCode,
+        LocalDateTime occurredAt
+) implements DomainEvent {
+
+    public UserGradeUpdatedEvent(Long gradeId, String gradeCode) {
+        this(gradeId, gradeCode, LocalDateTime.now());
+    }
+}
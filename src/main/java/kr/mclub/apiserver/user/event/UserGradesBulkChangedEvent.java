@@ -0,0 +1,42 @@
+package kr.mclub.apiserver.user.event;
+
+import kr.mclub.apiserver.shared.domain.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 등급 일괄 변경 이벤트
+ * Event published once when many users are moved to a grade in a single bulk update
+ *
+ * <p>사용자별 내용은 {@link UserGradeChangedEvent}와 같습니다. 구독자는 대상 사용자 전체를 한 번에 처리합니다.</p>
+ */
+public record UserGradesBulkChangedEvent(
+        List<Change> changes,
+        String newGradeCode,
+        Long changedByAdminId,
+        LocalDateTime occurredAt
+) implements DomainEvent {
+
+    public UserGradesBulkChangedEvent(List<Change> changes, String newGradeCode, Long changedByAdminId) {
+        this(List.copyOf(changes), newGradeCode, changedByAdminId, LocalDateTime.now());
+    }
+
+    /**
+     * 등급이 바뀐 사용자 ID 목록
+     * Ids of every changed user
+     */
+    public List<Long> userIds() {
+        return changes.stream().map(Change::userId).toList();
+    }
+
+    /**
+     * 사용자별 변경 내용
+     * One user's grade change
+     */
+    public record Change(
+            Long userId,
+            String email,
+            String oldGradeCode
+    ) {}
+}
@@ -0,0 +1,19 @@
+package kr.mclub.apiserver.user.event;
+
+import kr.mclub.apiserver.shared.domain.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 프로필 변경 이벤트
+ * Event published when a user's profile fields (name, email, phone, image, visibility, member number) change
+ */
+public record UserProfileUpdatedEvent(
+        Long userId,
+        LocalDateTime occurredAt
+) implements DomainEvent {
+
+    public UserProfileUpdatedEvent(Long userId) {
+        this(userId, LocalDateTime.now());
+    }
+}
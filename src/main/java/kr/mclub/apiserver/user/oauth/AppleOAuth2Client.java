@@ -3,16 +3,12 @@ package kr.mclub.apiserver.user.oauth;
 import java.time.LocalDateTime;
 import java.util.Map;
 
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,7 +27,8 @@ import kr.mclub.apiserver.user.domain.OAuthProvider;
 public class AppleOAuth2Client implements OAuth2Client {
 
     private final OAuth2Properties oAuth2Properties;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OAuth2HttpClients httpClients;
+    private final IdTokenVerifier idTokenVerifier;
 
     @Override
     public OAuthProvider getProvider() {
@@ -51,20 +48,13 @@ public class AppleOAuth2Client implements OAuth2Client {
         params.add("redirect_uri", redirectUri != null ? redirectUri : config.getRedirectUri());
         params.add("grant_type", "authorization_code");
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    config.getTokenUri(),
-                    HttpMethod.POST,
-                    request,
-                    Map.class
-            );
-
-            Map<String, Object> body = response.getBody();
+            Map<String, Object> body = httpClients.forProvider("apple").post()
+                    .uri(config.getTokenUri())
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .body(params)
+                    .retrieve()
+                    .body(OAuth2HttpClients.JSON_OBJECT);
             if (body == null) {
                 throw new BusinessException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED, "Apple token response is empty");
             }
@@ -85,12 +75,13 @@ public class AppleOAuth2Client implements OAuth2Client {
                     expiresIn != null ? expiresIn.longValue() : 3600L,
                     expiresAt,
                     tokenType,
-                    null
+                    null,
+                    idToken
             );
 
         } catch (Exception e) {
             log.error("Apple token exchange failed", e);
-            throw new BusinessException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED, "Apple 토큰 교환 실패: " + e.getMessage());
+            throw new BusinessException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED, "Apple 토큰 교환 실패: " + e.getMessage(), e);
         }
     }
 
@@ -106,6 +97,24 @@ public class AppleOAuth2Client implements OAuth2Client {
         );
     }
 
+    /**
+     * id_token 로컬 검증으로 사용자 정보 확인 (Apple은 사용자 정보 엔드포인트가 없음)
+     * Resolve user info from the locally verified id_token
+     */
+    @Override
+    public OAuth2UserInfo resolveUserInfo(OAuth2TokenResponse tokenResponse) {
+        OAuth2Properties.ProviderConfig config = getConfig();
+        if (!idTokenVerifier.canVerify(config, tokenResponse.idToken())) {
+            return getUserInfo(tokenResponse.accessToken());
+        }
+
+        Claims claims = idTokenVerifier.verify("apple", config, tokenResponse.idToken());
+
+        // Apple id_token에는 이름이 없음 (최초 인가 시 클라이언트에 전달되는 user 값으로 보완)
+        return new OAuth2UserInfo(claims.getSubject(), claims.get("email", String.class),
+                IdTokenVerifier.isEmailVerified(claims), null, null);
+    }
+
     private OAuth2Properties.ProviderConfig getConfig() {
         OAuth2Properties.ProviderConfig config = oAuth2Properties.getProvider().get("apple");
         if (config == null) {
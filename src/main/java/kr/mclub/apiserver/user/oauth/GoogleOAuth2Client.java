@@ -3,16 +3,12 @@ package kr.mclub.apiserver.user.oauth;
 import java.time.LocalDateTime;
 import java.util.Map;
 
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,7 +27,8 @@ import kr.mclub.apiserver.user.domain.OAuthProvider;
 public class GoogleOAuth2Client implements OAuth2Client {
 
     private final OAuth2Properties oAuth2Properties;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OAuth2HttpClients httpClients;
+    private final IdTokenVerifier idTokenVerifier;
 
     @Override
     public OAuthProvider getProvider() {
@@ -49,20 +46,13 @@ public class GoogleOAuth2Client implements OAuth2Client {
         params.add("redirect_uri", redirectUri != null ? redirectUri : config.getRedirectUri());
         params.add("grant_type", "authorization_code");
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    config.getTokenUri(),
-                    HttpMethod.POST,
-                    request,
-                    Map.class
-            );
-
-            Map<String, Object> body = response.getBody();
+            Map<String, Object> body = httpClients.forProvider("google").post()
+                    .uri(config.getTokenUri())
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .body(params)
+                    .retrieve()
+                    .body(OAuth2HttpClients.JSON_OBJECT);
             if (body == null) {
                 throw new BusinessException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED, "Google token response is empty");
             }
@@ -72,6 +62,7 @@ public class GoogleOAuth2Client implements OAuth2Client {
             Integer expiresIn = (Integer) body.get("expires_in");
             String tokenType = (String) body.get("token_type");
             String scope = (String) body.get("scope");
+            String idToken = (String) body.get("id_token");
 
             LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(expiresIn != null ? expiresIn : 3600);
 
@@ -83,12 +74,13 @@ public class GoogleOAuth2Client implements OAuth2Client {
                     expiresIn != null ? expiresIn.longValue() : 3600L,
                     expiresAt,
                     tokenType,
-                    scope
+                    scope,
+                    idToken
             );
 
         } catch (Exception e) {
             log.error("Google token exchange failed", e);
-            throw new BusinessException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED, "Google 토큰 교환 실패: " + e.getMessage());
+            throw new BusinessException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED, "Google 토큰 교환 실패: " + e.getMessage(), e);
         }
     }
 
@@ -96,39 +88,63 @@ public class GoogleOAuth2Client implements OAuth2Client {
     public OAuth2UserInfo getUserInfo(String accessToken) {
         OAuth2Properties.ProviderConfig config = getConfig();
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-
-        HttpEntity<Void> request = new HttpEntity<>(headers);
-
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    config.getUserInfoUri(),
-                    HttpMethod.GET,
-                    request,
-                    Map.class
-            );
-
-            Map<String, Object> body = response.getBody();
+            Map<String, Object> body = httpClients.forProvider("google").get()
+                    .uri(config.getUserInfoUri())
+                    .headers(headers -> headers.setBearerAuth(accessToken))
+                    .retrieve()
+                    .body(OAuth2HttpClients.JSON_OBJECT);
             if (body == null) {
                 throw new BusinessException(ErrorCode.OAUTH_USER_INFO_FAILED, "Google user info response is empty");
             }
 
             String providerId = (String) body.get("sub");  // Google uses 'sub' as user ID
             String email = (String) body.get("email");
+            // OIDC userinfo는 email_verified, v2 userinfo는 verified_email
+            boolean emailVerified = IdTokenVerifier.isTrue(body.get("email_verified"))
+                    || IdTokenVerifier.isTrue(body.get("verified_email"));
             String name = (String) body.get("name");
             String profileImageUrl = (String) body.get("picture");
 
             log.info("Google user info fetched: email={}", email);
 
-            return new OAuth2UserInfo(providerId, email, name, profileImageUrl);
+            return new OAuth2UserInfo(providerId, email, emailVerified, name, profileImageUrl);
 
         } catch (Exception e) {
             log.error("Google user info fetch failed", e);
-            throw new BusinessException(ErrorCode.OAUTH_USER_INFO_FAILED, "Google 사용자 정보 조회 실패: " + e.getMessage());
+            throw new BusinessException(ErrorCode.OAUTH_USER_INFO_FAILED, "Google 사용자 정보 조회 실패: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * id_token 로컬 검증으로 사용자 정보 확인 (사용자 정보 API 호출 생략)
+     * Resolve user info from the locally verified id_token; falls back to the user info endpoint
+     */
+    @Override
+    public OAuth2UserInfo resolveUserInfo(OAuth2TokenResponse tokenResponse) {
+        OAuth2Properties.ProviderConfig config = getConfig();
+        if (!idTokenVerifier.canVerify(config, tokenResponse.idToken())) {
+            return getUserInfo(tokenResponse.accessToken());
+        }
+
+        Claims claims = idTokenVerifier.verify("google", config, tokenResponse.idToken());
+        String name = claims.get("name", String.class);
+        if (name == null) {
+            // profile scope 없이 발급된 id_token - 이름은 사용자 정보 API에서만 확인 가능
+            return getUserInfo(tokenResponse.accessToken());
+        }
+
+        log.info("Google id_token verified locally: email={}", claims.get("email", String.class));
+
+        return new OAuth2UserInfo(
+                claims.getSubject(),
+                claims.get("email", String.class),
+                IdTokenVerifier.isEmailVerified(claims),
+                name,
+                claims.get("picture", String.class)
+        );
+    }
+
     private OAuth2Properties.ProviderConfig getConfig() {
         OAuth2Properties.ProviderConfig config = oAuth2Properties.getProvider().get("google");
         if (config == null) {
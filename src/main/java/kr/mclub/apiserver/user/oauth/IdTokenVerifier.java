@@ -0,0 +1,110 @@
+package kr.mclub.apiserver.user.oauth;
+
+import java.security.Key;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.InvalidKeyException;
+import lombok.RequiredArgsConstructor;
+
+import kr.mclub.apiserver.shared.config.OAuth2Properties;
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+/**
+ * OpenID Connect id_token 로컬 검증
+ * Verifies provider id_tokens locally against cached provider JWKS
+ *
+ * <p>서명(JWKS), 만료, audience(client_id), issuer를 확인합니다. 검증에 성공하면 사용자 정보 엔드포인트를
+ * 호출하지 않아도 되므로 소셜 로그인마다 네트워크 왕복이 하나 줄어듭니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class IdTokenVerifier {
+
+    private final ProviderJwksCache jwksCache;
+
+    /**
+     * Provider별 재사용 파서 (불변, thread-safe)
+     */
+    private final Map<String, JwtParser> parsers = new ConcurrentHashMap<>();
+
+    /**
+     * id_token 검증
+     * Verify an id_token and return its claims
+     *
+     * @param provider Provider 설정 키 (google, apple)
+     * @param config Provider 설정 (jwksUri, issuers, clientId)
+     * @param idToken 토큰 응답의 id_token
+     * @return 검증된 클레임
+     * @throws BusinessException 서명/만료/audience/issuer 검증 실패 시 (OAUTH_AUTHENTICATION_FAILED),
+     *                           JWKS를 가져올 수 없는 경우 (OAUTH_PROVIDER_UNAVAILABLE)
+     */
+    public Claims verify(String provider, OAuth2Properties.ProviderConfig config, String idToken) {
+        JwtParser parser = parsers.computeIfAbsent(provider, key -> buildParser(provider, config));
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(idToken).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.OAUTH_AUTHENTICATION_FAILED,
+                    provider + " id_token 검증 실패: " + e.getMessage());
+        }
+
+        List<String> issuers = config.getIssuers();
+        if (issuers != null && !issuers.isEmpty() && !issuers.contains(claims.getIssuer())) {
+            throw new BusinessException(ErrorCode.OAUTH_AUTHENTICATION_FAILED,
+                    provider + " id_token issuer 불일치: " + claims.getIssuer());
+        }
+        return claims;
+    }
+
+    private JwtParser buildParser(String provider, OAuth2Properties.ProviderConfig config) {
+        return Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        if (!StringUtils.hasText(header.getKeyId())) {
+                            throw new InvalidKeyException("id_token header has no key id");
+                        }
+                        Key key = jwksCache.getKey(provider, config.getJwksUri(), header.getKeyId());
+                        if (key == null) {
+                            throw new InvalidKeyException("Unknown id_token key id: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .requireAudience(config.getClientId())
+                .build();
+    }
+
+    /**
+     * 이메일 인증 여부 클레임 확인 (Apple은 문자열 "true"로 보내기도 함)
+     * Whether the verified claims assert {@code email_verified=true}
+     */
+    public static boolean isEmailVerified(Claims claims) {
+        return isTrue(claims.get("email_verified"));
+    }
+
+    static boolean isTrue(Object value) {
+        return Boolean.TRUE.equals(value) || "true".equals(value);
+    }
+
+    /**
+     * 로컬 검증 가능 여부 (id_token과 JWKS URI가 모두 있을 때)
+     * Whether the token response can be verified locally
+     */
+    public boolean canVerify(OAuth2Properties.ProviderConfig config, String idToken) {
+        return StringUtils.hasText(idToken) && StringUtils.hasText(config.getJwksUri());
+    }
+}
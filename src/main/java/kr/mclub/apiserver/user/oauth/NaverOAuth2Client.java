@@ -3,15 +3,10 @@ package kr.mclub.apiserver.user.oauth;
 import java.time.LocalDateTime;
 import java.util.Map;
 
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,7 +26,7 @@ import kr.mclub.apiserver.user.domain.OAuthProvider;
 public class NaverOAuth2Client implements OAuth2Client {
 
     private final OAuth2Properties oAuth2Properties;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OAuth2HttpClients httpClients;
 
     @Override
     public OAuthProvider getProvider() {
@@ -49,20 +44,13 @@ public class NaverOAuth2Client implements OAuth2Client {
         params.add("redirect_uri", redirectUri != null ? redirectUri : config.getRedirectUri());
         params.add("grant_type", "authorization_code");
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    config.getTokenUri(),
-                    HttpMethod.POST,
-                    request,
-                    Map.class
-            );
-
-            Map<String, Object> body = response.getBody();
+            Map<String, Object> body = httpClients.forProvider("naver").post()
+                    .uri(config.getTokenUri())
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .body(params)
+                    .retrieve()
+                    .body(OAuth2HttpClients.JSON_OBJECT);
             if (body == null) {
                 throw new BusinessException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED, "Naver token response is empty");
             }
@@ -82,12 +70,13 @@ public class NaverOAuth2Client implements OAuth2Client {
                     expiresIn != null ? expiresIn.longValue() : 3600L,
                     expiresAt,
                     tokenType,
+                    null,
                     null
             );
 
         } catch (Exception e) {
             log.error("Naver token exchange failed", e);
-            throw new BusinessException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED, "Naver 토큰 교환 실패: " + e.getMessage());
+            throw new BusinessException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED, "Naver 토큰 교환 실패: " + e.getMessage(), e);
         }
     }
 
@@ -95,20 +84,12 @@ public class NaverOAuth2Client implements OAuth2Client {
     public OAuth2UserInfo getUserInfo(String accessToken) {
         OAuth2Properties.ProviderConfig config = getConfig();
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-
-        HttpEntity<Void> request = new HttpEntity<>(headers);
-
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    config.getUserInfoUri(),
-                    HttpMethod.GET,
-                    request,
-                    Map.class
-            );
-
-            Map<String, Object> body = response.getBody();
+            Map<String, Object> body = httpClients.forProvider("naver").get()
+                    .uri(config.getUserInfoUri())
+                    .headers(headers -> headers.setBearerAuth(accessToken))
+                    .retrieve()
+                    .body(OAuth2HttpClients.JSON_OBJECT);
             if (body == null) {
                 throw new BusinessException(ErrorCode.OAUTH_USER_INFO_FAILED, "Naver user info response is empty");
             }
@@ -126,11 +107,12 @@ public class NaverOAuth2Client implements OAuth2Client {
 
             log.info("Naver user info fetched: email={}", email);
 
-            return new OAuth2UserInfo(providerId, email, name, profileImageUrl);
+            // Naver는 이메일 인증 여부를 제공하지 않으므로 미인증으로 취급
+            return new OAuth2UserInfo(providerId, email, false, name, profileImageUrl);
 
         } catch (Exception e) {
             log.error("Naver user info fetch failed", e);
-            throw new BusinessException(ErrorCode.OAUTH_USER_INFO_FAILED, "Naver 사용자 정보 조회 실패: " + e.getMessage());
+            throw new BusinessException(ErrorCode.OAUTH_USER_INFO_FAILED, "Naver 사용자 정보 조회 실패: " + e.getMessage(), e);
         }
     }
 
@@ -35,6 +35,19 @@ public interface OAuth2Client {
      */
     OAuth2UserInfo getUserInfo(String accessToken);
 
+    /**
+     * 토큰 응답으로 사용자 정보 확인
+     * Resolve user info for a token response
+     *
+     * <p>id_token을 로컬 검증할 수 있는 Provider는 이를 재정의하여 사용자 정보 엔드포인트 호출을 생략합니다.</p>
+     *
+     * @param tokenResponse 토큰 교환 응답
+     * @return OAuth user info
+     */
+    default OAuth2UserInfo resolveUserInfo(OAuth2TokenResponse tokenResponse) {
+        return getUserInfo(tokenResponse.accessToken());
+    }
+
     /**
      * OAuth2 토큰 응답
      * OAuth2 token response
@@ -45,16 +58,21 @@ public interface OAuth2Client {
             Long expiresIn,
             LocalDateTime expiresAt,
             String tokenType,
-            String scope
+            String scope,
+            String idToken
     ) {}
 
     /**
      * OAuth2 사용자 정보
      * OAuth2 user info
+     *
+     * <p>{@code emailVerified}는 Provider가 이메일 소유를 확인했다고 명시한 경우에만 true입니다.
+     * 이메일 기준 기존 계정 연결은 이 값이 true일 때만 허용됩니다.</p>
      */
     record OAuth2UserInfo(
             String providerId,
             String email,
+            boolean emailVerified,
             String name,
             String profileImageUrl
     ) {}
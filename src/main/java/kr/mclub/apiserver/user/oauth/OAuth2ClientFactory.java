@@ -1,14 +1,14 @@
 package kr.mclub.apiserver.user.oauth;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 
+import kr.mclub.apiserver.shared.config.OAuth2Properties;
 import kr.mclub.apiserver.shared.exception.BusinessException;
 import kr.mclub.apiserver.shared.exception.ErrorCode;
 import kr.mclub.apiserver.user.domain.OAuthProvider;
@@ -16,12 +16,24 @@ import kr.mclub.apiserver.user.domain.OAuthProvider;
 /**
  * OAuth2 클라이언트 팩토리
  * OAuth2 client factory to get appropriate client by provider
+ *
+ * <p>각 클라이언트는 Provider별 서킷 브레이커/벌크헤드({@link ResilientOAuth2Client})로 감싸서 반환합니다.
+ * 한 Provider의 장애가 다른 Provider 로그인이나 요청 스레드 전체로 번지지 않도록 합니다.</p>
  */
 @Component
-@RequiredArgsConstructor
 public class OAuth2ClientFactory {
 
-    private final List<OAuth2Client> oAuth2Clients;
+    private final Map<OAuthProvider, OAuth2Client> clients = new EnumMap<>(OAuthProvider.class);
+
+    public OAuth2ClientFactory(List<OAuth2Client> oAuth2Clients,
+                               OAuth2Properties oAuth2Properties,
+                               MeterRegistry meterRegistry) {
+        for (OAuth2Client client : oAuth2Clients) {
+            ProviderCircuitBreaker circuitBreaker = new ProviderCircuitBreaker(
+                    client.getProvider(), oAuth2Properties.getResilience(), meterRegistry);
+            clients.put(client.getProvider(), new ResilientOAuth2Client(client, circuitBreaker));
+        }
+    }
 
     /**
      * Provider에 맞는 OAuth2 클라이언트 반환
@@ -31,10 +43,7 @@ public class OAuth2ClientFactory {
      * @return OAuth2 client implementation
      */
     public OAuth2Client getClient(OAuthProvider provider) {
-        Map<OAuthProvider, OAuth2Client> clientMap = oAuth2Clients.stream()
-                .collect(Collectors.toMap(OAuth2Client::getProvider, Function.identity()));
-
-        OAuth2Client client = clientMap.get(provider);
+        OAuth2Client client = clients.get(provider);
         if (client == null) {
             throw new BusinessException(
                     ErrorCode.OAUTH_PROVIDER_NOT_SUPPORTED,
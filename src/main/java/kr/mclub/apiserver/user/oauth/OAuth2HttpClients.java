@@ -0,0 +1,121 @@
+package kr.mclub.apiserver.user.oauth;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+import kr.mclub.apiserver.shared.config.OAuth2Properties;
+
+/**
+ * OAuth2 공용 HTTP 클라이언트
+ * Shared, pooled HTTP client used by every {@link OAuth2Client}
+ *
+ * <p>JDK {@link HttpClient} 하나를 모든 Provider가 공유하므로 커넥션 풀과 keep-alive, HTTP/2 다중화가
+ * 재사용됩니다. Provider별 {@link RestClient}는 이 클라이언트 위에 응답 타임아웃만 다르게 설정합니다.</p>
+ *
+ * <p>Actuator metrics: {@code oauth.client.requests{provider,method,outcome}} (percentile histogram)</p>
+ */
+@Component
+public class OAuth2HttpClients {
+
+    /**
+     * JSON 객체 응답 타입
+     * Response type for JSON object bodies
+     */
+    static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT = new ParameterizedTypeReference<>() {};
+
+    private final OAuth2Properties oAuth2Properties;
+    private final RestClient.Builder restClientBuilder;
+    private final MeterRegistry meterRegistry;
+    private final HttpClient httpClient;
+    private final Map<String, RestClient> clients = new ConcurrentHashMap<>();
+
+    public OAuth2HttpClients(OAuth2Properties oAuth2Properties,
+                             ObjectProvider<RestClient.Builder> restClientBuilder,
+                             MeterRegistry meterRegistry) {
+        this.oAuth2Properties = oAuth2Properties;
+        // 자동 구성된 빌더가 있으면 메시지 컨버터/관측 설정을 그대로 사용
+        this.restClientBuilder = restClientBuilder.getIfAvailable(RestClient::builder);
+        this.meterRegistry = meterRegistry;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(oAuth2Properties.getHttp().getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * Provider별 RestClient (최초 요청 시 생성 후 재사용)
+     * RestClient bound to a provider's timeout and metrics
+     *
+     * @param provider Provider 설정 키 (google, naver, apple)
+     */
+    public RestClient forProvider(String provider) {
+        return clients.computeIfAbsent(provider, this::createClient);
+    }
+
+    @PreDestroy
+    void close() {
+        httpClient.close();
+    }
+
+    private RestClient createClient(String provider) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout(provider));
+
+        return restClientBuilder.clone()
+                .requestFactory(requestFactory)
+                .requestInterceptor((request, body, execution) -> {
+                    long start = System.nanoTime();
+                    String outcome = "IO_ERROR";
+                    try {
+                        ClientHttpResponse response = execution.execute(request, body);
+                        outcome = outcome(response.getStatusCode().value());
+                        return response;
+                    } finally {
+                        Timer.builder("oauth.client.requests")
+                                .description("OAuth provider HTTP call latency")
+                                .tag("provider", provider)
+                                .tag("method", request.getMethod().name())
+                                .tag("outcome", outcome)
+                                .publishPercentileHistogram()
+                                .register(meterRegistry)
+                                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                })
+                .build();
+    }
+
+    private Duration readTimeout(String provider) {
+        OAuth2Properties.ProviderConfig config = oAuth2Properties.getProvider() != null
+                ? oAuth2Properties.getProvider().get(provider)
+                : null;
+        if (config != null && config.getReadTimeout() != null) {
+            return config.getReadTimeout();
+        }
+        return oAuth2Properties.getHttp().getReadTimeout();
+    }
+
+    private static String outcome(int status) {
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (status >= 400) {
+            return "CLIENT_ERROR";
+        }
+        return "SUCCESS";
+    }
+}
@@ -0,0 +1,192 @@
+package kr.mclub.apiserver.user.oauth;
+
+import java.time.Clock;
+import java.util.concurrent.Semaphore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.shared.config.OAuth2Properties;
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.user.domain.OAuthProvider;
+
+/**
+ * Provider별 서킷 브레이커 + 벌크헤드
+ * Per-provider circuit breaker with a concurrency bulkhead
+ *
+ * <p>최근 호출 구간의 실패율이 임계값을 넘으면 OPEN되어 일정 시간 동안 호출 없이 즉시 거절합니다.
+ * 이후 HALF_OPEN에서 정해진 수의 시험 호출이 모두 성공하면 CLOSED로 복귀하고, 하나라도 실패하면 다시
+ * OPEN됩니다. 동시 호출 수는 세마포어로 제한하며 대기하지 않고 바로 거절합니다.</p>
+ *
+ * <p>Actuator metrics: {@code oauth.circuit.state{provider}} (0=CLOSED, 1=OPEN, 2=HALF_OPEN),
+ * {@code oauth.bulkhead.available{provider}}, {@code oauth.circuit.rejected{provider,reason}}</p>
+ */
+@Slf4j
+class ProviderCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final OAuthProvider provider;
+    private final Semaphore bulkhead;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationMs;
+    private final int halfOpenProbes;
+    private final Clock clock;
+
+    private final Counter rejectedOpen;
+    private final Counter rejectedBulkhead;
+
+    // 최근 호출 결과 링 버퍼 (true = 실패), 모든 상태 필드는 this로 보호
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int probesRemaining;
+    private int probeSuccesses;
+
+    ProviderCircuitBreaker(OAuthProvider provider, OAuth2Properties.Resilience settings, MeterRegistry meterRegistry) {
+        this(provider, settings, meterRegistry, Clock.systemUTC());
+    }
+
+    ProviderCircuitBreaker(OAuthProvider provider, OAuth2Properties.Resilience settings, MeterRegistry meterRegistry,
+                           Clock clock) {
+        this.provider = provider;
+        this.clock = clock;
+        this.bulkhead = new Semaphore(Math.max(1, settings.getMaxConcurrentCalls()));
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.minimumCalls = Math.max(1, settings.getMinimumCalls());
+        this.openDurationMs = settings.getOpenDuration().toMillis();
+        this.halfOpenProbes = Math.max(1, settings.getHalfOpenProbes());
+        this.window = new boolean[Math.max(this.minimumCalls, settings.getSlidingWindowSize())];
+
+        String tag = provider.name().toLowerCase();
+        Gauge.builder("oauth.circuit.state", this, breaker -> breaker.state.ordinal())
+                .description("OAuth provider circuit state (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .tag("provider", tag)
+                .register(meterRegistry);
+        Gauge.builder("oauth.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("Free concurrent call slots for the OAuth provider")
+                .tag("provider", tag)
+                .register(meterRegistry);
+        this.rejectedOpen = Counter.builder("oauth.circuit.rejected")
+                .tag("provider", tag)
+                .tag("reason", "open")
+                .register(meterRegistry);
+        this.rejectedBulkhead = Counter.builder("oauth.circuit.rejected")
+                .tag("provider", tag)
+                .tag("reason", "bulkhead")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허가 획득 (대기 없음)
+     * Acquire a call permit or fail fast
+     *
+     * @throws BusinessException 서킷이 열려 있거나 동시 호출 한도를 넘은 경우 (OAUTH_TOKEN_EXCHANGE_FAILED)
+     */
+    void acquire() {
+        if (!bulkhead.tryAcquire()) {
+            rejectedBulkhead.increment();
+            throw new BusinessException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED,
+                    provider + " 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        synchronized (this) {
+            if (state == State.OPEN && clock.millis() - openedAt >= openDurationMs) {
+                transitionTo(State.HALF_OPEN);
+                probesRemaining = halfOpenProbes;
+                probeSuccesses = 0;
+            }
+            if (state == State.OPEN || (state == State.HALF_OPEN && probesRemaining == 0)) {
+                bulkhead.release();
+                rejectedOpen.increment();
+                throw new BusinessException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED,
+                        provider + " 로그인이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요.");
+            }
+            if (state == State.HALF_OPEN) {
+                probesRemaining--;
+            }
+        }
+    }
+
+    /**
+     * 호출 성공 (또는 Provider 장애가 아닌 실패) 기록
+     * Record a call that reached a healthy provider
+     */
+    void onSuccess() {
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                if (++probeSuccesses >= halfOpenProbes) {
+                    resetWindow();
+                    transitionTo(State.CLOSED);
+                }
+            } else {
+                record(false);
+            }
+        }
+        bulkhead.release();
+    }
+
+    /**
+     * Provider 장애 기록 (연결 실패, 타임아웃, 5xx)
+     * Record a provider failure
+     */
+    void onFailure() {
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                open();
+            } else if (state == State.CLOSED) {
+                record(true);
+                if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+                    open();
+                }
+            }
+        }
+        bulkhead.release();
+    }
+
+    State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        openedAt = clock.millis();
+        resetWindow();
+        transitionTo(State.OPEN);
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private void transitionTo(State next) {
+        if (state != next) {
+            log.warn("OAuth circuit {} -> {}: provider={}", state, next, provider);
+            state = next;
+        }
+    }
+}
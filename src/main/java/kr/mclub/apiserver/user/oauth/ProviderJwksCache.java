@@ -0,0 +1,208 @@
+package kr.mclub.apiserver.user.oauth;
+
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+/**
+ * OAuth Provider JWKS 캐시
+ * Cache of provider signing keys used for local id_token verification
+ *
+ * <p>키는 응답의 {@code Cache-Control: max-age}(없으면 기본 TTL) 동안 보관합니다. TTL의 일정 비율이 지나면
+ * 요청 스레드를 막지 않고 백그라운드에서 미리 갱신(refresh-ahead)하며, 캐시에 없는 {@code kid}가 오면
+ * Provider의 키 교체로 보고 즉시 다시 가져옵니다. 위조 kid로 인한 과도한 재요청을 막기 위해
+ * 강제 재조회는 최소 간격을 둡니다.</p>
+ *
+ * <p>캐시된 키가 하나도 없는 상태에서 JWKS를 가져오지 못하면 {@code OAUTH_PROVIDER_UNAVAILABLE}로 실패합니다.
+ * 원인 예외를 보존하므로 서킷 브레이커는 이를 Provider 장애로 집계합니다.</p>
+ */
+@Slf4j
+@Component
+public class ProviderJwksCache {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final OAuth2HttpClients httpClients;
+    private final Duration defaultTtl;
+    private final double refreshAheadRatio;
+    private final Duration minRefetchInterval;
+    private final Clock clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Autowired
+    public ProviderJwksCache(OAuth2HttpClients httpClients,
+                             @Value("${oauth2.jwks.default-ttl:PT1H}") Duration defaultTtl,
+                             @Value("${oauth2.jwks.refresh-ahead-ratio:0.8}") double refreshAheadRatio,
+                             @Value("${oauth2.jwks.min-refetch-interval:PT30S}") Duration minRefetchInterval) {
+        this(httpClients, defaultTtl, refreshAheadRatio, minRefetchInterval, Clock.systemUTC());
+    }
+
+    ProviderJwksCache(OAuth2HttpClients httpClients, Duration defaultTtl, double refreshAheadRatio,
+                      Duration minRefetchInterval, Clock clock) {
+        this.httpClients = httpClients;
+        this.defaultTtl = defaultTtl;
+        this.refreshAheadRatio = refreshAheadRatio;
+        this.minRefetchInterval = minRefetchInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * kid로 검증 키 조회
+     * Resolve a provider signing key by kid
+     *
+     * @param provider Provider 설정 키 (HTTP 클라이언트 선택용)
+     * @param jwksUri JWKS URI
+     * @param kid id_token 헤더의 kid
+     * @return 검증 키 (kid가 없거나 JWKS에 없으면 null)
+     * @throws BusinessException 캐시된 키 없이 JWKS 조회에 실패한 경우 (OAUTH_PROVIDER_UNAVAILABLE)
+     */
+    public Key getKey(String provider, String jwksUri, String kid) {
+        if (kid == null) {
+            return null;
+        }
+
+        long now = clock.millis();
+        Entry entry = entries.get(jwksUri);
+
+        if (entry == null || now >= entry.expiresAt) {
+            entry = refresh(provider, jwksUri, entry);
+        } else if (now >= entry.refreshAt && entry.refreshing.compareAndSet(false, true)) {
+            // 만료 전 백그라운드 갱신 (현재 키는 계속 사용)
+            Entry current = entry;
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(provider, jwksUri, current);
+                } catch (RuntimeException e) {
+                    log.warn("JWKS refresh-ahead failed: uri={}, error={}", jwksUri, e.getMessage());
+                } finally {
+                    current.refreshing.set(false);
+                }
+            });
+        }
+
+        Key key = entry.keys.get(kid);
+        if (key == null && now - entry.fetchedAt >= minRefetchInterval.toMillis()) {
+            // 처음 보는 kid: Provider 키 교체 가능성 - 즉시 재조회
+            entry = refresh(provider, jwksUri, entry);
+            key = entry.keys.get(kid);
+        }
+        return key;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * JWKS 조회 (같은 URI에 대한 동시 조회는 한 번만 수행, 실패 시 기존 키 유지)
+     */
+    private Entry refresh(String provider, String jwksUri, Entry stale) {
+        synchronized (lockFor(jwksUri)) {
+            Entry latest = entries.get(jwksUri);
+            if (latest != null && latest != stale) {
+                return latest;
+            }
+
+            ResponseEntity<String> response;
+            try {
+                response = httpClients.forProvider(provider).get()
+                        .uri(jwksUri)
+                        .retrieve()
+                        .toEntity(String.class);
+            } catch (RuntimeException e) {
+                return fetchFailed(provider, jwksUri, stale, e);
+            }
+
+            Map<String, Key> keys = new HashMap<>();
+            try {
+                JwkSet jwkSet = Jwks.setParser().build().parse(response.getBody());
+                for (Jwk<?> jwk : jwkSet.getKeys()) {
+                    if (jwk.getId() != null) {
+                        keys.put(jwk.getId(), jwk.toKey());
+                    }
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                return fetchFailed(provider, jwksUri, stale, e);
+            }
+
+            long now = clock.millis();
+            long ttl = ttlOf(response.getHeaders()).toMillis();
+            Entry fresh = new Entry(Map.copyOf(keys), now, now + (long) (ttl * refreshAheadRatio), now + ttl);
+            entries.put(jwksUri, fresh);
+
+            log.info("Provider JWKS loaded: uri={}, keys={}, ttl={}s", jwksUri, keys.size(), ttl / 1000);
+            return fresh;
+        }
+    }
+
+    /**
+     * 조회 실패 처리 (Provider 장애 시 기존 키로 계속 검증, 기존 키가 없으면 OAUTH_PROVIDER_UNAVAILABLE)
+     */
+    private Entry fetchFailed(String provider, String jwksUri, Entry stale, RuntimeException e) {
+        if (stale == null) {
+            throw new BusinessException(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE,
+                    provider + " JWKS 조회 실패: " + e.getMessage(), e);
+        }
+        log.warn("JWKS fetch failed, keeping cached keys: uri={}, error={}", jwksUri, e.getMessage());
+        return stale;
+    }
+
+    private Duration ttlOf(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) {
+                return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return defaultTtl;
+    }
+
+    private Object lockFor(String jwksUri) {
+        return locks.computeIfAbsent(jwksUri, uri -> new Object());
+    }
+
+    private static final class Entry {
+
+        private final Map<String, Key> keys;
+        private final long fetchedAt;
+        private final long refreshAt;
+        private final long expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(Map<String, Key> keys, long fetchedAt, long refreshAt, long expiresAt) {
+            this.keys = keys;
+            this.fetchedAt = fetchedAt;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package kr.mclub.apiserver.user.oauth;
+
+import java.util.function.Supplier;
+
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.user.domain.OAuthProvider;
+
+/**
+ * 서킷 브레이커/벌크헤드를 적용한 OAuth2 클라이언트
+ * OAuth2Client decorator guarded by a {@link ProviderCircuitBreaker}
+ *
+ * <p>연결 실패, 타임아웃, 5xx 응답만 Provider 장애로 집계합니다. 잘못된 authorization code 같은 4xx 응답은
+ * Provider가 정상 응답한 것이므로 서킷에 영향을 주지 않습니다.</p>
+ */
+class ResilientOAuth2Client implements OAuth2Client {
+
+    private final OAuth2Client delegate;
+    private final ProviderCircuitBreaker circuitBreaker;
+
+    ResilientOAuth2Client(OAuth2Client delegate, ProviderCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public OAuthProvider getProvider() {
+        return delegate.getProvider();
+    }
+
+    @Override
+    public OAuth2TokenResponse exchangeCodeForToken(String code, String redirectUri) {
+        return call(() -> delegate.exchangeCodeForToken(code, redirectUri), ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED);
+    }
+
+    @Override
+    public OAuth2UserInfo getUserInfo(String accessToken) {
+        return call(() -> delegate.getUserInfo(accessToken), ErrorCode.OAUTH_USER_INFO_FAILED);
+    }
+
+    @Override
+    public OAuth2UserInfo resolveUserInfo(OAuth2TokenResponse tokenResponse) {
+        return call(() -> delegate.resolveUserInfo(tokenResponse), ErrorCode.OAUTH_USER_INFO_FAILED);
+    }
+
+    private <T> T call(Supplier<T> supplier, ErrorCode failureCode) {
+        circuitBreaker.acquire();
+
+        T result;
+        try {
+            result = supplier.get();
+        } catch (RuntimeException e) {
+            if (isProviderFailure(e)) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            if (e instanceof BusinessException) {
+                throw e;
+            }
+            throw new BusinessException(failureCode, getProvider() + " 호출 실패: " + e.getMessage(), e);
+        }
+
+        circuitBreaker.onSuccess();
+        return result;
+    }
+
+    private static boolean isProviderFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ResourceAccessException || cause instanceof HttpServerErrorException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -11,13 +11,19 @@
  *   <li>사용자 프로필 관리</li>
  *   <li>등급 관리 (동적 등급 시스템)</li>
  *   <li>차량 관리</li>
+ *   <li>기존 네이버 카페 회원 명단 가져오기 (CSV, 전화번호 일치 후보는 관리자 확인 후 연결)</li>
+ *   <li>회원 명단 내보내기 (CSV/NDJSON 스트리밍)</li>
  * </ul>
  *
  * <h2>Published Events</h2>
  * <ul>
  *   <li>{@code UserRegisteredEvent} - 사용자 등록 시</li>
  *   <li>{@code UserGradeChangedEvent} - 등급 변경 시</li>
+ *   <li>{@code UserGradesBulkChangedEvent} - 등급 일괄 변경 시 (대상 전체를 한 이벤트로)</li>
  *   <li>{@code UserWithdrawnEvent} - 회원 탈퇴 시</li>
+ *   <li>{@code UserProfileUpdatedEvent} - 프로필(이름, 연락처, 공개 여부, 정회원 번호) 변경 시</li>
+ *   <li>{@code UserGradeUpdatedEvent} - 등급 정의 생성/수정/삭제 시</li>
+ *   <li>{@code MemberVehicleChangedEvent} - 회원 차량 등록/수정/대표 변경/삭제 시 (membership 모듈에서 발행)</li>
  * </ul>
  *
  * @since 1.0
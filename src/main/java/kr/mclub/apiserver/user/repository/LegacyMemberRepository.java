@@ -0,0 +1,371 @@
+package kr.mclub.apiserver.user.repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기존 회원 명단 Repository
+ * Bulk writes for the legacy roster import: {@code legacy_members} rows and {@code legacy_import_runs} checkpoints
+ *
+ * <p>명단 행은 JDBC 배치 한 번으로 upsert하고(정회원 번호 기준), 전화번호가 일치한 사용자는 연결 후보로만 기록합니다.
+ * 실제 연결(정회원 번호 부여, 정회원 등급 변경)은 관리자가 후보를 확인할 때 집합 UPDATE 한 번으로 처리하며,
+ * 엔티티를 거치지 않으므로 호출자가 등급 변경 이벤트를 발행해야 합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class LegacyMemberRepository {
+
+    // 이미 연결된 행은 후보를 두지 않고, 관리자가 검토 중인 기존 후보는 유지
+    private static final String UPSERT_MEMBER = """
+            INSERT INTO legacy_members (member_number, name, phone_number, email, car_model, car_number,
+                                        grade_code, join_date, notes, candidate_user_id, candidate_matched_at)
+            VALUES (:memberNumber, :name, :phoneNumber, :email, :carModel, :carNumber,
+                    :gradeCode, :joinDate, :notes, :candidateUserId,
+                    CASE WHEN :candidateUserId IS NULL THEN NULL ELSE CURRENT_TIMESTAMP END)
+            ON CONFLICT (member_number) DO UPDATE SET
+                name = EXCLUDED.name, phone_number = EXCLUDED.phone_number, email = EXCLUDED.email,
+                car_model = EXCLUDED.car_model, car_number = EXCLUDED.car_number,
+                grade_code = EXCLUDED.grade_code, join_date = EXCLUDED.join_date, notes = EXCLUDED.notes,
+                candidate_user_id = CASE WHEN legacy_members.is_linked THEN NULL
+                    ELSE COALESCE(legacy_members.candidate_user_id, EXCLUDED.candidate_user_id) END,
+                candidate_matched_at = CASE WHEN legacy_members.is_linked THEN NULL
+                    ELSE COALESCE(legacy_members.candidate_matched_at, EXCLUDED.candidate_matched_at) END,
+                updated_at = CURRENT_TIMESTAMP
+            """;
+
+    // 확인된 후보 중 정회원 번호가 없는 준회원만 정회원(REGULAR)으로 연결 (명단의 등급은 쓰지 않음).
+    // FROM 절의 이전 행으로 변경 전 등급을 RETURNING하고, 연결된 사용자만 명단 행에 연결 완료로 기록
+    private static final String CONFIRM_LINKS = """
+            WITH target AS (
+                SELECT l.member_number, l.candidate_user_id AS user_id
+                FROM legacy_members l
+                WHERE l.member_number IN (:memberNumbers)
+                  AND l.candidate_user_id IS NOT NULL
+                  AND l.is_linked = FALSE
+                  AND NOT EXISTS (SELECT 1 FROM users o WHERE o.member_number = l.member_number)
+            ), promoted AS (
+                UPDATE users u
+                SET member_number = t.member_number,
+                    grade_id = (SELECT id FROM user_grades WHERE code = 'REGULAR'),
+                    associate_status = NULL,
+                    updated_at = CURRENT_TIMESTAMP
+                FROM target t, users prev
+                JOIN user_grades g ON g.id = prev.grade_id
+                WHERE u.id = t.user_id
+                  AND prev.id = u.id
+                  AND g.code = 'ASSOCIATE'
+                  AND u.member_number IS NULL
+                  AND u.is_withdrawn = FALSE
+                RETURNING u.id, u.email, u.member_number, g.code AS old_grade_code
+            ), linked AS (
+                UPDATE legacy_members l
+                SET is_linked = TRUE, linked_user_id = p.id, linked_at = CURRENT_TIMESTAMP,
+                    candidate_user_id = NULL, candidate_matched_at = NULL, updated_at = CURRENT_TIMESTAMP
+                FROM promoted p
+                WHERE l.member_number = p.member_number
+            )
+            SELECT id, email, member_number, old_grade_code FROM promoted
+            """;
+
+    private static final String SELECT_PENDING_LINKS = """
+            SELECT l.member_number, l.name, l.phone_number, l.grade_code, l.join_date, l.candidate_matched_at,
+                   u.id AS user_id, u.real_name, u.email, g.code AS user_grade_code
+            FROM legacy_members l
+            JOIN users u ON u.id = l.candidate_user_id
+            JOIN user_grades g ON g.id = u.grade_id
+            WHERE l.candidate_user_id IS NOT NULL
+              AND l.is_linked = FALSE
+              AND l.member_number > :afterMemberNumber
+            ORDER BY l.member_number
+            LIMIT :limit
+            """;
+
+    private static final String SELECT_RUN = """
+            SELECT id, source_name, status, last_record, imported_count, matched_count, skipped_count,
+                   error_message, started_at, updated_at, finished_at
+            FROM legacy_import_runs
+            """;
+
+    private static final RowMapper<ImportRun> RUN_MAPPER = (rs, rowNum) -> new ImportRun(
+            rs.getLong("id"),
+            rs.getString("source_name"),
+            rs.getString("status"),
+            rs.getInt("last_record"),
+            rs.getInt("imported_count"),
+            rs.getInt("matched_count"),
+            rs.getInt("skipped_count"),
+            rs.getString("error_message"),
+            rs.getObject("started_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class),
+            rs.getObject("finished_at", LocalDateTime.class)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 활성 사용자 전화번호 전체 순회 (행 단위 스트리밍)
+     * Stream (userId, phoneNumber) for every non-withdrawn user with a phone number
+     */
+    public void forEachUserPhone(BiConsumer<Long, String> consumer) {
+        jdbcTemplate.query(
+                "SELECT id, phone_number FROM users WHERE phone_number IS NOT NULL AND is_withdrawn = FALSE",
+                rs -> consumer.accept(rs.getLong("id"), rs.getString("phone_number")));
+    }
+
+    /**
+     * 이미 연결되었거나 연결 후보인 사용자 → 정회원 번호
+     * Existing links and queued candidates, so a resumed or repeated import does not match one user to two rows
+     */
+    public void forEachLink(BiConsumer<Long, Integer> consumer) {
+        jdbcTemplate.query("""
+                SELECT linked_user_id AS user_id, member_number FROM legacy_members WHERE linked_user_id IS NOT NULL
+                UNION ALL
+                SELECT candidate_user_id, member_number FROM legacy_members WHERE candidate_user_id IS NOT NULL
+                """, rs -> consumer.accept(rs.getLong("user_id"), rs.getInt("member_number")));
+    }
+
+    /**
+     * 명단 행 일괄 upsert (JDBC 배치 1회)
+     * Upsert roster rows in one JDBC batch; member numbers must be unique within the batch
+     */
+    public void upsertMembers(List<LegacyMemberRow> rows) {
+        SqlParameterSource[] batch = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("memberNumber", row.memberNumber())
+                        .addValue("name", row.name())
+                        .addValue("phoneNumber", row.phoneNumber())
+                        .addValue("email", row.email())
+                        .addValue("carModel", row.carModel())
+                        .addValue("carNumber", row.carNumber())
+                        .addValue("gradeCode", row.gradeCode())
+                        .addValue("joinDate", row.joinDate() == null ? null : Date.valueOf(row.joinDate()), Types.DATE)
+                        .addValue("notes", row.notes())
+                        .addValue("candidateUserId", row.candidateUserId(), Types.BIGINT))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT_MEMBER, batch);
+    }
+
+    /**
+     * 관리자 확인 대기 중인 연결 후보 (정회원 번호 순)
+     * Queued phone matches awaiting admin confirmation
+     *
+     * @param afterMemberNumber 직전 페이지의 마지막 정회원 번호 (첫 페이지는 0)
+     */
+    public List<PendingLink> findPendingLinks(int afterMemberNumber, int limit) {
+        return jdbcTemplate.query(SELECT_PENDING_LINKS, new MapSqlParameterSource()
+                .addValue("afterMemberNumber", afterMemberNumber)
+                .addValue("limit", limit), (rs, rowNum) -> new PendingLink(
+                rs.getInt("member_number"),
+                rs.getString("name"),
+                rs.getString("phone_number"),
+                rs.getString("grade_code"),
+                rs.getObject("join_date", LocalDate.class),
+                rs.getObject("candidate_matched_at", LocalDateTime.class),
+                rs.getLong("user_id"),
+                rs.getString("real_name"),
+                rs.getString("email"),
+                rs.getString("user_grade_code")
+        ));
+    }
+
+    /**
+     * 연결 후보 확인: 후보 준회원에게 명단의 정회원 번호를 주고 정회원(REGULAR)으로 변경 (집합 UPDATE 1회)
+     * Link confirmed candidates, granting only REGULAR regardless of the roster's grade
+     *
+     * @return 실제로 연결된 사용자와 이전 등급 (준회원이 아니거나 정회원 번호가 이미 있으면 제외)
+     */
+    public List<ConfirmedLink> confirmLinks(Collection<Integer> memberNumbers) {
+        if (memberNumbers.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(CONFIRM_LINKS, new MapSqlParameterSource("memberNumbers", memberNumbers),
+                (rs, rowNum) -> new ConfirmedLink(
+                        rs.getInt("member_number"),
+                        rs.getLong("id"),
+                        rs.getString("email"),
+                        rs.getString("old_grade_code")
+                ));
+    }
+
+    /**
+     * 연결 후보 거절 (후보만 지우고 명단 행은 유지)
+     * Drop queued candidates without linking
+     *
+     * @return 거절된 후보 수
+     */
+    public int rejectLinks(Collection<Integer> memberNumbers) {
+        if (memberNumbers.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("""
+                UPDATE legacy_members
+                SET candidate_user_id = NULL, candidate_matched_at = NULL, updated_at = CURRENT_TIMESTAMP
+                WHERE member_number IN (:memberNumbers) AND candidate_user_id IS NOT NULL
+                """, new MapSqlParameterSource("memberNumbers", memberNumbers));
+    }
+
+    /**
+     * 정회원 번호 시퀀스를 기존 명단 이후로 정렬 (연결 전 번호도 다시 발급되지 않도록)
+     * Move member_number_seq past every user and roster number
+     */
+    public void alignMemberNumberSequence() {
+        jdbcTemplate.queryForObject("""
+                SELECT setval('member_number_seq', GREATEST(
+                    (SELECT last_value FROM member_number_seq),
+                    COALESCE((SELECT MAX(member_number) FROM users), 0),
+                    COALESCE((SELECT MAX(member_number) FROM legacy_members), 0)))
+                """, new MapSqlParameterSource(), Long.class);
+    }
+
+    /**
+     * 파일 해시로 실행 기록 조회, 없으면 생성
+     * Find the run for a file, creating it on first upload
+     */
+    public ImportRun findOrCreateRun(String sourceName, String sourceSha256) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("sourceName", sourceName)
+                .addValue("sourceSha256", sourceSha256);
+        jdbcTemplate.update("""
+                INSERT INTO legacy_import_runs (source_name, source_sha256, status)
+                VALUES (:sourceName, :sourceSha256, 'PENDING')
+                ON CONFLICT (source_sha256) DO NOTHING
+                """, params);
+        return jdbcTemplate.queryForObject(SELECT_RUN + " WHERE source_sha256 = :sourceSha256", params, RUN_MAPPER);
+    }
+
+    /**
+     * 실행 선점 (완료되지 않았고, 진행 중이면 체크포인트가 오래된 경우만)
+     * Claim a run for this node
+     *
+     * @param staleBefore 이 시각 이전에 마지막으로 갱신된 RUNNING은 중단된 실행으로 간주
+     * @return 선점 성공 여부
+     */
+    public boolean claimRun(Long runId, LocalDateTime staleBefore) {
+        return jdbcTemplate.update("""
+                UPDATE legacy_import_runs
+                SET status = 'RUNNING', error_message = NULL, updated_at = CURRENT_TIMESTAMP
+                WHERE id = :runId
+                  AND (status IN ('PENDING', 'FAILED') OR (status = 'RUNNING' AND updated_at < :staleBefore))
+                """, new MapSqlParameterSource("runId", runId).addValue("staleBefore", staleBefore)) == 1;
+    }
+
+    /**
+     * 체크포인트 (배치와 같은 트랜잭션에서 호출)
+     * Record progress up to and including {@code lastRecord}
+     */
+    public void checkpoint(Long runId, int lastRecord, int imported, int matched, int skipped) {
+        jdbcTemplate.update("""
+                UPDATE legacy_import_runs
+                SET last_record = :lastRecord, imported_count = :imported, matched_count = :matched,
+                    skipped_count = :skipped, updated_at = CURRENT_TIMESTAMP
+                WHERE id = :runId
+                """, new MapSqlParameterSource("runId", runId)
+                .addValue("lastRecord", lastRecord)
+                .addValue("imported", imported)
+                .addValue("matched", matched)
+                .addValue("skipped", skipped));
+    }
+
+    public void completeRun(Long runId) {
+        jdbcTemplate.update("""
+                UPDATE legacy_import_runs
+                SET status = 'COMPLETED', updated_at = CURRENT_TIMESTAMP, finished_at = CURRENT_TIMESTAMP
+                WHERE id = :runId
+                """, new MapSqlParameterSource("runId", runId));
+    }
+
+    public void failRun(Long runId, String errorMessage) {
+        jdbcTemplate.update("""
+                UPDATE legacy_import_runs
+                SET status = 'FAILED', error_message = :errorMessage, updated_at = CURRENT_TIMESTAMP
+                WHERE id = :runId
+                """, new MapSqlParameterSource("runId", runId).addValue("errorMessage", errorMessage));
+    }
+
+    public Optional<ImportRun> findRun(Long runId) {
+        List<ImportRun> rows = jdbcTemplate.query(SELECT_RUN + " WHERE id = :runId",
+                new MapSqlParameterSource("runId", runId), RUN_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 명단 행 (전화번호는 정규화된 숫자)
+     * Roster row to upsert
+     *
+     * @param gradeCode 명단의 등급 코드 (참고용, 운영진/임원 등급은 null)
+     * @param candidateUserId 전화번호로 매칭된 연결 후보 사용자 ID (없으면 null, 관리자 확인 전에는 연결하지 않음)
+     */
+    public record LegacyMemberRow(
+            int memberNumber,
+            String name,
+            String phoneNumber,
+            String email,
+            String carModel,
+            String carNumber,
+            String gradeCode,
+            LocalDate joinDate,
+            String notes,
+            Long candidateUserId
+    ) {}
+
+    /**
+     * 연결 후보
+     * Queued candidate with the roster row and the matched account
+     */
+    public record PendingLink(
+            int memberNumber,
+            String name,
+            String phoneNumber,
+            String gradeCode,
+            LocalDate joinDate,
+            LocalDateTime matchedAt,
+            Long userId,
+            String userRealName,
+            String userEmail,
+            String userGradeCode
+    ) {}
+
+    /**
+     * 연결 완료된 사용자
+     * User linked to a roster row, with its grade before the link
+     */
+    public record ConfirmedLink(int memberNumber, Long userId, String email, String oldGradeCode) {}
+
+    /**
+     * 가져오기 실행 기록
+     * Import run with its checkpoint
+     *
+     * @param lastRecord 마지막으로 커밋된 데이터 레코드 번호 (헤더 제외, 1부터)
+     */
+    public record ImportRun(
+            Long id,
+            String sourceName,
+            String status,
+            int lastRecord,
+            int importedCount,
+            int matchedCount,
+            int skippedCount,
+            String errorMessage,
+            LocalDateTime startedAt,
+            LocalDateTime updatedAt,
+            LocalDateTime finishedAt
+    ) {
+        public boolean isCompleted() {
+            return "COMPLETED".equals(status);
+        }
+    }
+}
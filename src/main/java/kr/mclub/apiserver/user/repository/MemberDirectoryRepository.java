@@ -0,0 +1,170 @@
+package kr.mclub.apiserver.user.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공개 회원 디렉터리 Repository (읽기 모델)
+ * Denormalized public member directory derived from users, grades and primary vehicles
+ *
+ * <p>행 계산은 DB 안에서 {@code INSERT ... SELECT}로 처리하므로 엔티티 로딩이나 등급 지연 로딩이 없습니다.
+ * 재계산은 대상 행을 지운 뒤 공개 대상만 다시 넣으므로, 비공개 전환/탈퇴/비활성 회원은 자연히 빠집니다. 표시 이름은 {@code User.getDisplayName()}과 같은 규칙
+ * (정회원 번호, 실명, 등급 접미사를 공백으로 연결)으로 계산합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberDirectoryRepository {
+
+    private static final String PROJECT = """
+            INSERT INTO member_directory (user_id, member_number, sort_number, real_name, display_name,
+                                          grade_id, grade_code, grade_name, grade_suffix,
+                                          primary_car_model, profile_image_url)
+            SELECT u.id, u.member_number, COALESCE(u.member_number, 2147483647), u.real_name,
+                   CONCAT_WS(' ', u.member_number::TEXT, u.real_name, g.display_suffix),
+                   g.id, g.code, g.name, g.display_suffix, v.car_model, u.profile_image_url
+            FROM users u
+            JOIN user_grades g ON g.id = u.grade_id
+            LEFT JOIN LATERAL (
+                SELECT car_model FROM member_vehicles
+                WHERE user_id = u.id AND is_primary = TRUE AND status <> 'SOLD'
+                ORDER BY registered_at DESC, id DESC
+                LIMIT 1
+            ) v ON TRUE
+            WHERE u.is_withdrawn = FALSE AND u.is_active = TRUE AND u.is_profile_public = TRUE
+            """;
+
+    // 같은 회원을 동시에 재계산하는 경우 나중 결과로 덮어씀
+    private static final String ON_CONFLICT = """
+             ON CONFLICT (user_id) DO UPDATE SET
+                member_number = EXCLUDED.member_number, sort_number = EXCLUDED.sort_number,
+                real_name = EXCLUDED.real_name, display_name = EXCLUDED.display_name,
+                grade_id = EXCLUDED.grade_id, grade_code = EXCLUDED.grade_code,
+                grade_name = EXCLUDED.grade_name, grade_suffix = EXCLUDED.grade_suffix,
+                primary_car_model = EXCLUDED.primary_car_model, profile_image_url = EXCLUDED.profile_image_url,
+                refreshed_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String SELECT_ENTRY = """
+            SELECT user_id, member_number, real_name, display_name, grade_code, grade_name, grade_suffix,
+                   primary_car_model, profile_image_url, sort_number
+            FROM member_directory
+            """;
+
+    private static final RowMapper<DirectoryEntry> ENTRY_MAPPER = (rs, rowNum) -> new DirectoryEntry(
+            rs.getLong("user_id"),
+            (Integer) rs.getObject("member_number"),
+            rs.getString("real_name"),
+            rs.getString("display_name"),
+            rs.getString("grade_code"),
+            rs.getString("grade_name"),
+            rs.getString("grade_suffix"),
+            rs.getString("primary_car_model"),
+            rs.getString("profile_image_url"),
+            rs.getInt("sort_number")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 회원의 행 재계산 (공개 대상이 아니면 삭제만 됨)
+     * Recompute one member's row
+     */
+    public void refreshUser(Long userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId);
+        jdbcTemplate.update("DELETE FROM member_directory WHERE user_id = :userId", params);
+        jdbcTemplate.update(PROJECT + " AND u.id = :userId" + ON_CONFLICT, params);
+    }
+
+    /**
+     * 여러 회원의 행 재계산
+     * Recompute rows for a set of members
+     */
+    public void refreshUsers(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("userIds", userIds);
+        jdbcTemplate.update("DELETE FROM member_directory WHERE user_id IN (:userIds)", params);
+        jdbcTemplate.update(PROJECT + " AND u.id IN (:userIds)" + ON_CONFLICT, params);
+    }
+
+    /**
+     * 등급 정의 변경 시 해당 등급 회원 전체 재계산 (표시 접미사/등급명)
+     * Recompute every member of a grade
+     */
+    public void refreshGrade(Long gradeId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("gradeId", gradeId);
+        jdbcTemplate.update("DELETE FROM member_directory WHERE grade_id = :gradeId", params);
+        jdbcTemplate.update(PROJECT + " AND g.id = :gradeId" + ON_CONFLICT, params);
+    }
+
+    /**
+     * 전체 재구성
+     * Rebuild the whole directory
+     */
+    public int rebuild() {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        jdbcTemplate.update("DELETE FROM member_directory", params);
+        return jdbcTemplate.update(PROJECT + ON_CONFLICT, params);
+    }
+
+    /**
+     * 정회원 번호로 조회
+     * Find a public member by member number
+     */
+    public Optional<DirectoryEntry> findByMemberNumber(Integer memberNumber) {
+        List<DirectoryEntry> rows = jdbcTemplate.query(SELECT_ENTRY + " WHERE member_number = :memberNumber",
+                new MapSqlParameterSource("memberNumber", memberNumber), ENTRY_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 디렉터리 페이지 조회 (정회원 번호순, 준회원은 뒤)
+     * Seek a directory page ordered by (sort_number, user_id)
+     *
+     * @param gradeCode 등급 코드 필터 (null이면 전체)
+     * @param afterSortNumber 직전 페이지 마지막 행의 정렬 키 (첫 페이지는 null)
+     * @param afterUserId 직전 페이지 마지막 행의 사용자 ID (첫 페이지는 null)
+     * @param limit 최대 조회 건수
+     */
+    public List<DirectoryEntry> findPage(String gradeCode, Integer afterSortNumber, Long afterUserId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_ENTRY).append(" WHERE TRUE");
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        if (gradeCode != null) {
+            sql.append(" AND grade_code = :gradeCode");
+            params.addValue("gradeCode", gradeCode);
+        }
+        if (afterSortNumber != null && afterUserId != null) {
+            sql.append(" AND (sort_number, user_id) > (:afterSortNumber, :afterUserId)");
+            params.addValue("afterSortNumber", afterSortNumber).addValue("afterUserId", afterUserId);
+        }
+        sql.append(" ORDER BY sort_number, user_id LIMIT :limit");
+        return jdbcTemplate.query(sql.toString(), params, ENTRY_MAPPER);
+    }
+
+    /**
+     * 디렉터리 행
+     * Directory row
+     *
+     * @param sortNumber 정렬 키 (커서용)
+     */
+    public record DirectoryEntry(
+            Long userId,
+            Integer memberNumber,
+            String realName,
+            String displayName,
+            String gradeCode,
+            String gradeName,
+            String gradeSuffix,
+            String primaryCarModel,
+            String profileImageUrl,
+            int sortNumber
+    ) {}
+}
@@ -0,0 +1,37 @@
+package kr.mclub.apiserver.user.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정회원 번호 시퀀스 Repository
+ * Reserves member numbers from {@code member_number_seq}
+ *
+ * <p>{@code nextval}은 트랜잭션과 무관하게 즉시 소비되므로 한 번 발급된 번호는 어떤 노드에도 다시 나오지 않습니다.
+ * 시작값(650)과 기존 최대 번호 이후로의 정렬은 V1/V8 마이그레이션이 보장합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberNumberSequenceRepository {
+
+    private static final String RESERVE_SQL =
+            "SELECT nextval('member_number_seq') FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 번호 블록 예약 (1회 왕복)
+     * Reserve {@code count} numbers in a single round trip
+     *
+     * @param count 예약할 번호 수
+     * @return 오름차순 번호 (다른 노드와 동시에 예약하면 연속되지 않을 수 있음)
+     */
+    public int[] reserve(int count) {
+        List<Long> values = jdbcTemplate.queryForList(RESERVE_SQL, Long.class, count);
+        return values.stream().mapToInt(Math::toIntExact).sorted().toArray();
+    }
+}
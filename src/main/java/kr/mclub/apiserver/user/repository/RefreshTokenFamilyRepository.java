@@ -0,0 +1,73 @@
+package kr.mclub.apiserver.user.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import kr.mclub.apiserver.user.domain.RefreshTokenFamily;
+
+/**
+ * Refresh Token 패밀리 Repository
+ * Refresh token family repository
+ */
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, String> {
+
+    /**
+     * 조건부 회전 (현재 jti가 일치하고 폐기되지 않은 경우에만)
+     * Rotate only if the presented jti is still current and the family is not revoked
+     *
+     * @return 갱신된 행 수 (0이면 재사용 또는 폐기된 패밀리)
+     */
+    @Modifying
+    @Query("""
+        UPDATE RefreshTokenFamily f
+        SET f.currentJti = :newJti, f.expiresAt = :expiresAt, f.updatedAt = CURRENT_TIMESTAMP
+        WHERE f.id = :familyId
+        AND f.currentJti = :currentJti
+        AND f.isRevoked = false
+        """)
+    int rotate(@Param("familyId") String familyId,
+               @Param("currentJti") String currentJti,
+               @Param("newJti") String newJti,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 패밀리 폐기
+     * Revoke a family
+     */
+    @Modifying
+    @Query("""
+        UPDATE RefreshTokenFamily f
+        SET f.isRevoked = true, f.revokedAt = CURRENT_TIMESTAMP, f.revokeReason = :reason,
+            f.updatedAt = CURRENT_TIMESTAMP
+        WHERE f.id = :familyId
+        AND f.isRevoked = false
+        """)
+    int revoke(@Param("familyId") String familyId, @Param("reason") String reason);
+
+    /**
+     * 사용자의 활성 패밀리 ID 목록
+     * Find active family IDs of a user
+     */
+    @Query("SELECT f.id FROM RefreshTokenFamily f WHERE f.userId = :userId AND f.isRevoked = false")
+    List<String> findActiveFamilyIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 만료되지 않은 폐기 패밀리 ID 목록 (기동 시 메모리 필터 적재용)
+     * Find revoked, unexpired family IDs for warming the in-memory filter
+     */
+    @Query("SELECT f.id FROM RefreshTokenFamily f WHERE f.isRevoked = true AND f.expiresAt > :now")
+    List<String> findRevokedFamilyIds(@Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 패밀리 삭제
+     * Delete expired families
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,33 @@
+package kr.mclub.apiserver.user.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import kr.mclub.apiserver.user.domain.RevokedRefreshToken;
+
+/**
+ * 폐기된 Refresh Token Repository
+ * Revoked refresh token repository
+ */
+public interface RevokedRefreshTokenRepository extends JpaRepository<RevokedRefreshToken, String> {
+
+    /**
+     * 만료되지 않은 폐기 토큰 목록 (기동 시 메모리 필터 적재용)
+     * Find unexpired revoked tokens for warming the in-memory filter
+     */
+    @Query("SELECT r FROM RevokedRefreshToken r WHERE r.expiresAt > :now")
+    List<RevokedRefreshToken> findUnexpired(@Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 폐기 토큰 삭제
+     * Delete expired revoked tokens
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedRefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
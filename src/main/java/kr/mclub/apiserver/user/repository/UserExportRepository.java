@@ -0,0 +1,56 @@
+package kr.mclub.apiserver.user.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원 내보내기 Repository
+ * Forward-only cursor over all users for streaming exports
+ *
+ * <p>PostgreSQL 드라이버는 자동 커밋이 꺼져 있을 때만 {@code fetchSize} 단위로 커서를 읽으므로
+ * 반드시 트랜잭션 안에서 호출해야 합니다. 그렇지 않으면 결과 전체를 한 번에 받아 메모리에 올립니다.</p>
+ */
+@Repository
+public class UserExportRepository {
+
+    private static final String SELECT_USERS = """
+            SELECT u.id, u.member_number, u.real_name, u.email, u.phone_number,
+                   g.code AS grade_code, g.name AS grade_name, u.associate_status,
+                   u.exemption_type, u.exemption_year, u.is_active, u.is_withdrawn, u.withdrawn_at,
+                   u.last_login_at, u.created_at
+            FROM users u
+            JOIN user_grades g ON g.id = u.grade_id
+            WHERE (? OR u.is_withdrawn = FALSE)
+            ORDER BY u.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public UserExportRepository(JdbcTemplate jdbcTemplate,
+                                @Value("${export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 회원 전체 순회 (ID 순, 행 단위 스트리밍)
+     * Stream every user row to {@code handler} without materializing the result
+     *
+     * @param includeWithdrawn 탈퇴 회원 포함 여부
+     */
+    public void forEachUser(boolean includeWithdrawn, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_USERS,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setBoolean(1, includeWithdrawn);
+            return ps;
+        }, handler);
+    }
+}
@@ -0,0 +1,91 @@
+package kr.mclub.apiserver.user.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 등급 일괄 변경 Repository
+ * Set-based grade reassignment for many users in one statement
+ *
+ * <p>{@code User.changeGrade}와 같은 규칙(회원 등급이 아니면 준회원 상태 정리)을 SQL로 적용합니다.
+ * 엔티티를 거치지 않으므로 같은 트랜잭션에서 대상 사용자를 미리 로딩해 두면 안 됩니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserGradeBulkRepository {
+
+    // FROM 절의 이전 행은 갱신 전 값이므로 RETURNING으로 이전 등급을 함께 얻음
+    private static final String CHANGE_GRADES = """
+            UPDATE users u
+            SET grade_id = :gradeId,
+                associate_status = CASE WHEN :member THEN u.associate_status ELSE NULL END,
+                updated_at = CURRENT_TIMESTAMP
+            FROM users prev
+            JOIN user_grades g ON g.id = prev.grade_id
+            WHERE prev.id = u.id
+              AND u.id IN (:userIds)
+              AND u.is_withdrawn = FALSE
+              AND u.grade_id <> :gradeId
+            RETURNING u.id, u.email, g.code AS old_grade_code
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 등급 일괄 변경 (탈퇴 회원과 이미 해당 등급인 회원은 제외)
+     * Move users to a grade in one UPDATE, skipping withdrawn users and users already in the grade
+     *
+     * @param userIds 대상 사용자 ID
+     * @param gradeId 새 등급 ID
+     * @param member 새 등급이 회원 등급인지 (아니면 준회원 상태를 비움)
+     * @return 실제로 변경된 사용자와 이전 등급
+     */
+    public List<ChangedRow> changeGrades(Collection<Long> userIds, Long gradeId, boolean member) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userIds", userIds)
+                .addValue("gradeId", gradeId)
+                .addValue("member", member);
+        return jdbcTemplate.query(CHANGE_GRADES, params, (rs, rowNum) -> new ChangedRow(
+                rs.getLong("id"),
+                rs.getString("email"),
+                rs.getString("old_grade_code")
+        ));
+    }
+
+    /**
+     * 변경되지 않은 사용자의 현재 상태 (결과 사유 판정용)
+     * Current state of users the update skipped
+     */
+    public List<SkippedRow> findSkipped(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query("""
+                SELECT u.id, u.is_withdrawn, g.code AS grade_code
+                FROM users u
+                JOIN user_grades g ON g.id = u.grade_id
+                WHERE u.id IN (:userIds)
+                """, new MapSqlParameterSource("userIds", userIds), (rs, rowNum) -> new SkippedRow(
+                rs.getLong("id"),
+                rs.getBoolean("is_withdrawn"),
+                rs.getString("grade_code")
+        ));
+    }
+
+    /**
+     * 변경된 사용자
+     * Changed user with its previous grade
+     */
+    public record ChangedRow(Long userId, String email, String oldGradeCode) {}
+
+    /**
+     * 변경되지 않은 사용자
+     * Skipped user
+     */
+    public record SkippedRow(Long userId, boolean withdrawn, String gradeCode) {}
+}
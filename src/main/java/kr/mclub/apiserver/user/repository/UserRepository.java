@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -90,25 +91,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findRegularMembersForRenewal();
 
     /**
-     * 이름으로 검색 (부분 일치)
+     * 이름으로 검색 (부분 일치, COUNT 없는 Slice)
      * Search by real name (partial match)
      */
     @Query("SELECT u FROM User u WHERE u.realName LIKE %:name% AND u.isWithdrawn = false")
-    Page<User> searchByRealName(@Param("name") String name, Pageable pageable);
+    Slice<User> searchByRealName(@Param("name") String name, Pageable pageable);
 
     /**
-     * 이름 또는 이메일로 검색
+     * 이름 또는 이메일로 검색 (COUNT 없는 Slice)
      * Search by real name or email
      */
     @Query("SELECT u FROM User u WHERE (u.realName LIKE %:keyword% OR u.email LIKE %:keyword%) AND u.isWithdrawn = false")
-    Page<User> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
-
-    /**
-     * 다음 정회원 번호 조회
-     * Get next member number
-     */
-    @Query("SELECT COALESCE(MAX(u.memberNumber), 649) + 1 FROM User u")
-    Integer getNextMemberNumber();
+    Slice<User> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     /**
      * 탈퇴하지 않은 사용자 조회 (등급 정보 포함)
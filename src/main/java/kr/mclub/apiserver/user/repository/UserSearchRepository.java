@@ -0,0 +1,102 @@
+package kr.mclub.apiserver.user.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 유사도 검색 Repository (pg_trgm)
+ * Trigram similarity search over member name and email with keyset pagination
+ *
+ * <p>후보는 트라이그램 GIN 인덱스(V6)로 좁히고, 유사도 내림차순 + ID 오름차순으로 정렬합니다.
+ * 다음 페이지는 직전 페이지 마지막 행의 (score, id) 이후부터 조회하므로 OFFSET 건너뛰기나 COUNT 쿼리가 없습니다.
+ * 연산자 {@code %}와 {@code LIKE %:param%} 파싱 충돌을 피하기 위해 JPQL 대신 JDBC로 실행합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSearchRepository {
+
+    private static final String SELECT_CANDIDATES = """
+            SELECT *
+            FROM (
+                SELECT u.id, u.member_number, u.real_name, u.email, g.code AS grade_code, g.name AS grade_name,
+                       GREATEST(similarity(u.real_name, :keyword), similarity(u.email, :keyword)) AS score
+                FROM users u
+                JOIN user_grades g ON g.id = u.grade_id
+                WHERE u.is_withdrawn = FALSE
+                  AND (u.real_name % :keyword OR u.email % :keyword
+                       OR u.real_name ILIKE :pattern OR u.email ILIKE :pattern)
+            ) candidates
+            """;
+
+    private static final String FIRST_PAGE = SELECT_CANDIDATES + """
+            ORDER BY score DESC, id ASC
+            LIMIT :limit
+            """;
+
+    private static final String NEXT_PAGE = SELECT_CANDIDATES + """
+            WHERE score < CAST(:afterScore AS REAL)
+               OR (score = CAST(:afterScore AS REAL) AND id > :afterId)
+            ORDER BY score DESC, id ASC
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<UserSearchRow> ROW_MAPPER = (rs, rowNum) -> new UserSearchRow(
+            rs.getLong("id"),
+            (Integer) rs.getObject("member_number"),
+            rs.getString("real_name"),
+            rs.getString("email"),
+            rs.getString("grade_code"),
+            rs.getString("grade_name"),
+            rs.getFloat("score")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 유사도 순 회원 검색
+     * Search members by similarity, seeking past the given position
+     *
+     * @param keyword 검색어 (이름 또는 이메일)
+     * @param afterScore 직전 페이지 마지막 행의 유사도 (첫 페이지는 null)
+     * @param afterId 직전 페이지 마지막 행의 ID (첫 페이지는 null)
+     * @param limit 최대 조회 건수
+     */
+    public List<UserSearchRow> search(String keyword, Float afterScore, Long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keyword", keyword)
+                .addValue("pattern", "%" + escapeLike(keyword) + "%")
+                .addValue("limit", limit);
+
+        if (afterScore == null || afterId == null) {
+            return jdbcTemplate.query(FIRST_PAGE, params, ROW_MAPPER);
+        }
+        params.addValue("afterScore", afterScore).addValue("afterId", afterId);
+        return jdbcTemplate.query(NEXT_PAGE, params, ROW_MAPPER);
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * 검색 결과 행
+     * Search result row
+     *
+     * @param score 이름/이메일 중 높은 트라이그램 유사도 (0~1)
+     */
+    public record UserSearchRow(
+            Long id,
+            Integer memberNumber,
+            String realName,
+            String email,
+            String gradeCode,
+            String gradeName,
+            float score
+    ) {}
+}
@@ -1,15 +1,23 @@
 package kr.mclub.apiserver.user.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import kr.mclub.apiserver.shared.exception.BusinessException;
 import kr.mclub.apiserver.shared.exception.ErrorCode;
 import kr.mclub.apiserver.shared.security.JwtTokenProvider;
+import kr.mclub.apiserver.shared.security.PasswordHasher;
+import kr.mclub.apiserver.shared.security.VerifiedToken;
 import kr.mclub.apiserver.user.domain.AssociateStatus;
 import kr.mclub.apiserver.user.domain.OAuthProvider;
 import kr.mclub.apiserver.user.domain.User;
@@ -24,22 +32,64 @@ import kr.mclub.apiserver.user.repository.UserRepository;
  *
  * <p>자체 로그인 (이메일 + 비밀번호) 인증을 처리합니다.</p>
  *
+ * <p>비밀번호 해싱/검증은 해싱 풀 대기를 포함해 수백 ms~수 초가 걸릴 수 있으므로 트랜잭션 밖에서 실행합니다.
+ * 저장된 해시는 짧은 읽기 트랜잭션에서 가져오고, 결과 반영은 해싱이 끝난 뒤 짧은 쓰기 트랜잭션에서 합니다.
+ * 그 사이 비밀번호가 바뀌었으면 검증 결과를 버리고 거절합니다.</p>
+ *
  * @since 1.0
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
     private final UserGradeService userGradeService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserEventPublisher eventPublisher;
     private final OAuth2UserService oAuth2UserService;
     private final OAuth2ClientFactory oAuth2ClientFactory;
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginThrottle loginThrottle;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    /**
+     * OAuth Provider 원격 호출용 가상 스레드 실행기
+     * Virtual-thread executor for OAuth provider round trips
+     */
+    private final ExecutorService oauthRemoteExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AuthService(UserRepository userRepository,
+                       UserGradeService userGradeService,
+                       PasswordHasher passwordHasher,
+                       JwtTokenProvider jwtTokenProvider,
+                       UserEventPublisher eventPublisher,
+                       OAuth2UserService oAuth2UserService,
+                       OAuth2ClientFactory oAuth2ClientFactory,
+                       UserService userService,
+                       RefreshTokenService refreshTokenService,
+                       LoginThrottle loginThrottle,
+                       LastLoginRecorder lastLoginRecorder,
+                       PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.userGradeService = userGradeService;
+        this.passwordHasher = passwordHasher;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.eventPublisher = eventPublisher;
+        this.oAuth2UserService = oAuth2UserService;
+        this.oAuth2ClientFactory = oAuth2ClientFactory;
+        this.userService = userService;
+        this.refreshTokenService = refreshTokenService;
+        this.loginThrottle = loginThrottle;
+        this.lastLoginRecorder = lastLoginRecorder;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 회원가입 / Sign up
@@ -50,15 +100,24 @@ public class AuthService {
      * @param phoneNumber 전화번호
      * @return 가입된 사용자 정보 및 JWT 토큰
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignUpResult signUp(String email, String password, String realName, String phoneNumber) {
-        // 이메일 중복 확인
+        // 이메일 중복 확인 (해싱 전에 거절)
         if (userRepository.existsByEmail(email)) {
             throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
         }
 
-        // 비밀번호 암호화
-        String encryptedPassword = passwordEncoder.encode(password);
+        // 비밀번호 암호화 (트랜잭션 없음)
+        String encryptedPassword = passwordHasher.encode(password);
+
+        return writeTransaction.execute(status -> registerUser(email, encryptedPassword, realName, phoneNumber));
+    }
+
+    private SignUpResult registerUser(String email, String encryptedPassword, String realName, String phoneNumber) {
+        // 해싱하는 동안 같은 이메일로 가입했을 수 있으므로 다시 확인
+        if (userRepository.existsByEmail(email)) {
+            throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+        }
 
         // 기본 등급 조회 (ASSOCIATE)
         UserGrade defaultGrade = userGradeService.getDefaultGradeForNewUser();
@@ -86,46 +145,67 @@ public class AuthService {
                 savedUser.getEmail(),
                 savedUser.getGrade().getCode()
         );
-        String refreshToken = jwtTokenProvider.createRefreshToken(savedUser.getId());
+        String refreshToken = refreshTokenService.issue(savedUser.getId());
 
         return new SignUpResult(accessToken, refreshToken, savedUser);
     }
 
+    /**
+     * 로그인 시도 차감 / Consume a sign-in attempt
+     *
+     * <p>{@link #signIn} 전에 트랜잭션 없이 호출합니다. 한도를 넘은 요청은 커넥션을 얻거나 비밀번호를
+     * 해싱하기 전에 거절됩니다.</p>
+     *
+     * @param email 이메일
+     * @param clientIp 클라이언트 IP (신뢰 프록시가 전달한 X-Forwarded-For 반영)
+     * @throws BusinessException 시도 한도를 초과한 경우 (TOO_MANY_LOGIN_ATTEMPTS)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void acquireSignInAttempt(String email, String clientIp) {
+        loginThrottle.acquire(email, clientIp);
+    }
+
     /**
      * 로그인 / Sign in
      *
+     * <p>해시 검증과 재해싱은 트랜잭션 밖에서 실행합니다.</p>
+     *
      * @param email 이메일
      * @param password 비밀번호 (평문)
      * @return JWT 토큰 및 사용자 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignInResult signIn(String email, String password) {
-        // 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
-
-        // 탈퇴한 사용자 확인
-        if (user.isWithdrawn()) {
-            throw new BusinessException(ErrorCode.USER_WITHDRAWN);
+        // 저장된 해시 조회 (짧은 읽기 트랜잭션)
+        StoredPassword stored = readTransaction.execute(status -> {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
+            checkCanSignIn(user);
+            return new StoredPassword(user.getId(), user.getPassword());
+        });
+
+        // 비밀번호 검증 (트랜잭션 없음)
+        if (!passwordHasher.matches(password, stored.hash())) {
+            throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
 
-        // 비활성 계정 확인
-        if (!user.isActive()) {
-            throw new BusinessException(ErrorCode.USER_INACTIVE);
-        }
+        // 해시 파라미터(cost)가 바뀐 경우 평문을 알고 있는 지금 재해싱
+        String rehashed = passwordHasher.needsRehash(stored.hash()) ? passwordHasher.encode(password) : null;
 
-        // 비밀번호 설정 여부 확인
-        if (!user.hasPassword()) {
-            throw new BusinessException(ErrorCode.PASSWORD_NOT_SET, "소셜 로그인 전용 계정입니다. OAuth로 로그인하세요.");
-        }
+        return writeTransaction.execute(status -> completeSignIn(email, stored, rehashed));
+    }
 
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
+    private SignInResult completeSignIn(String email, StoredPassword stored, String rehashed) {
+        User user = findWithUnchangedPassword(stored);
+        checkCanSignIn(user);
+
+        if (rehashed != null) {
+            user.rehashPassword(rehashed);
+            log.info("Password rehashed with current parameters: userId={}", user.getId());
         }
 
-        // 마지막 로그인 시간 업데이트
-        user.updateLastLoginAt();
+        // 마지막 로그인 시간 기록 (지연 반영, users 행을 갱신하지 않음)
+        lastLoginRecorder.record(user.getId());
 
         log.info("User signed in: {}", email);
 
@@ -135,11 +215,28 @@ public class AuthService {
                 user.getEmail(),
                 user.getGrade().getCode()
         );
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+        String refreshToken = refreshTokenService.issue(user.getId());
 
         return new SignInResult(accessToken, refreshToken, user);
     }
 
+    private static void checkCanSignIn(User user) {
+        // 탈퇴한 사용자 확인
+        if (user.isWithdrawn()) {
+            throw new BusinessException(ErrorCode.USER_WITHDRAWN);
+        }
+
+        // 비활성 계정 확인
+        if (!user.isActive()) {
+            throw new BusinessException(ErrorCode.USER_INACTIVE);
+        }
+
+        // 비밀번호 설정 여부 확인
+        if (!user.hasPassword()) {
+            throw new BusinessException(ErrorCode.PASSWORD_NOT_SET, "소셜 로그인 전용 계정입니다. OAuth로 로그인하세요.");
+        }
+    }
+
     /**
      * 비밀번호 변경 / Change password
      *
@@ -147,23 +244,27 @@ public class AuthService {
      * @param currentPassword 현재 비밀번호 (평문)
      * @param newPassword 새 비밀번호 (평문)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(Long userId, String currentPassword, String newPassword) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        // 현재 비밀번호 확인
-        if (!user.hasPassword()) {
-            throw new BusinessException(ErrorCode.PASSWORD_NOT_SET, "비밀번호가 설정되지 않았습니다.");
-        }
-
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+        StoredPassword stored = readTransaction.execute(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+            // 현재 비밀번호 확인
+            if (!user.hasPassword()) {
+                throw new BusinessException(ErrorCode.PASSWORD_NOT_SET, "비밀번호가 설정되지 않았습니다.");
+            }
+            return new StoredPassword(user.getId(), user.getPassword());
+        });
+
+        if (!passwordHasher.matches(currentPassword, stored.hash())) {
             throw new BusinessException(ErrorCode.INVALID_CREDENTIALS, "현재 비밀번호가 일치하지 않습니다.");
         }
 
         // 새 비밀번호 암호화 및 저장
-        String encryptedPassword = passwordEncoder.encode(newPassword);
-        user.changePassword(encryptedPassword);
+        String encryptedPassword = passwordHasher.encode(newPassword);
+        writeTransaction.executeWithoutResult(status ->
+                findWithUnchangedPassword(stored).changePassword(encryptedPassword));
 
         log.info("User password changed: userId={}", userId);
     }
@@ -174,21 +275,26 @@ public class AuthService {
      * @param userId 사용자 ID
      * @param newPassword 새 비밀번호 (평문)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void setPassword(Long userId, String newPassword) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        readTransaction.executeWithoutResult(status -> checkPasswordNotSet(findUser(userId)));
 
+        // 비밀번호 암호화 및 저장
+        String encryptedPassword = passwordHasher.encode(newPassword);
+        writeTransaction.executeWithoutResult(status -> {
+            User user = findUser(userId);
+            checkPasswordNotSet(user);
+            user.changePassword(encryptedPassword);
+        });
+
+        log.info("Password set for OAuth user: userId={}", userId);
+    }
+
+    private static void checkPasswordNotSet(User user) {
         // 이미 비밀번호가 있는 경우
         if (user.hasPassword()) {
             throw new BusinessException(ErrorCode.INVALID_INPUT, "이미 비밀번호가 설정되어 있습니다. 비밀번호 변경을 사용하세요.");
         }
-
-        // 비밀번호 암호화 및 저장
-        String encryptedPassword = passwordEncoder.encode(newPassword);
-        user.changePassword(encryptedPassword);
-
-        log.info("Password set for OAuth user: userId={}", userId);
     }
 
     /**
@@ -198,18 +304,44 @@ public class AuthService {
      * @param newPassword 새 비밀번호 (평문)
      * @param adminId 관리자 ID
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void resetPassword(Long userId, String newPassword, Long adminId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
 
         // 비밀번호 암호화 및 저장
-        String encryptedPassword = passwordEncoder.encode(newPassword);
-        user.changePassword(encryptedPassword);
+        String encryptedPassword = passwordHasher.encode(newPassword);
+        writeTransaction.executeWithoutResult(status -> findUser(userId).changePassword(encryptedPassword));
 
         log.info("Password reset by admin: userId={}, adminId={}", userId, adminId);
     }
 
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * 검증에 쓴 해시가 아직 저장되어 있는 사용자 조회 (쓰기 트랜잭션 안에서 호출)
+     * Reload the user, rejecting the attempt if the password changed while hashing
+     */
+    private User findWithUnchangedPassword(StoredPassword stored) {
+        User user = findUser(stored.userId());
+        if (!stored.hash().equals(user.getPassword())) {
+            throw new BusinessException(ErrorCode.INVALID_CREDENTIALS, "비밀번호가 변경되었습니다. 다시 시도해주세요.");
+        }
+        return user;
+    }
+
+    /**
+     * 읽기 단계에서 가져온 해시 / Hash read before verification
+     */
+    private record StoredPassword(
+            Long userId,
+            String hash
+    ) {}
+
     /**
      * 회원가입 결과 / Sign up result
      */
@@ -231,13 +363,19 @@ public class AuthService {
     /**
      * OAuth 로그인 / OAuth login
      *
+     * <p>Provider와의 토큰 교환/사용자 정보 조회는 트랜잭션 밖에서 가상 스레드로 실행하고, DB 반영은
+     * {@link OAuth2UserService#processOAuthLogin}의 짧은 트랜잭션에서만 수행합니다. 따라서 느린 Provider
+     * 응답을 기다리는 동안 커넥션 풀의 커넥션을 점유하지 않습니다.</p>
+     *
      * @param provider OAuth 제공자 (google, naver, apple)
      * @param code Authorization code
      * @param redirectUri Redirect URI
-     * @return OAuth 로그인 결과
+     * @param clientName 클라이언트가 전달한 이름 (Apple 최초 인가 시), Provider가 이름을 주지 않을 때만 사용
+     * @return OAuth 로그인 결과 (원격 호출과 저장이 끝나면 완료)
      */
-    @Transactional
-    public OAuthLoginResult oauthLogin(String provider, String code, String redirectUri) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<OAuthLoginResult> oauthLogin(String provider, String code, String redirectUri,
+                                                          String clientName) {
         // Provider 파싱
         OAuthProvider oAuthProvider;
         try {
@@ -252,21 +390,43 @@ public class AuthService {
         // OAuth2 클라이언트 가져오기
         OAuth2Client oAuth2Client = oAuth2ClientFactory.getClient(oAuthProvider);
 
+        return CompletableFuture
+                .supplyAsync(() -> fetchOAuthIdentity(oAuth2Client, code, redirectUri), oauthRemoteExecutor)
+                .thenApply(identity -> completeOAuthLogin(oAuthProvider, identity, clientName));
+    }
+
+    /**
+     * 원격 단계: 토큰 교환 및 사용자 정보 조회 (트랜잭션 없음)
+     * Remote phase - runs without a transaction or DB connection
+     */
+    private OAuthIdentity fetchOAuthIdentity(OAuth2Client oAuth2Client, String code, String redirectUri) {
         // Authorization code를 access token으로 교환
         OAuth2Client.OAuth2TokenResponse tokenResponse = oAuth2Client.exchangeCodeForToken(
                 code,
                 redirectUri
         );
 
-        // Access token으로 사용자 정보 조회
-        OAuth2Client.OAuth2UserInfo userInfo = oAuth2Client.getUserInfo(tokenResponse.accessToken());
+        // 사용자 정보 확인 (id_token 로컬 검증이 가능하면 추가 호출 없음)
+        OAuth2Client.OAuth2UserInfo userInfo = oAuth2Client.resolveUserInfo(tokenResponse);
+
+        return new OAuthIdentity(tokenResponse, userInfo);
+    }
+
+    /**
+     * 저장 단계: 신규 사용자 등록 또는 기존 사용자 로그인 (짧은 트랜잭션)
+     * Persistence phase - short transaction in OAuth2UserService
+     */
+    private OAuthLoginResult completeOAuthLogin(OAuthProvider oAuthProvider, OAuthIdentity identity,
+                                                String clientName) {
+        OAuth2Client.OAuth2TokenResponse tokenResponse = identity.token();
+        OAuth2Client.OAuth2UserInfo userInfo = identity.userInfo();
 
-        // OAuth 로그인 처리 (신규 사용자 등록 또는 기존 사용자 로그인)
         OAuth2UserService.LoginResult loginResult = oAuth2UserService.processOAuthLogin(
                 oAuthProvider,
                 userInfo.providerId(),
                 userInfo.email(),
-                userInfo.name(),
+                userInfo.emailVerified(),
+                StringUtils.hasText(userInfo.name()) ? userInfo.name() : clientName,
                 userInfo.profileImageUrl(),
                 tokenResponse.accessToken(),
                 tokenResponse.refreshToken(),
@@ -274,7 +434,7 @@ public class AuthService {
         );
 
         log.info("OAuth login successful: provider={}, email={}, isNewUser={}",
-                provider, userInfo.email(), loginResult.isNewUser());
+                oAuthProvider, userInfo.email(), loginResult.isNewUser());
 
         return new OAuthLoginResult(
                 loginResult.accessToken(),
@@ -287,33 +447,38 @@ public class AuthService {
     /**
      * 토큰 갱신 / Refresh token
      *
+     * <p>Refresh Token은 매번 회전되며, 이미 사용된 토큰이 다시 제시되면 해당 패밀리 전체를 폐기합니다.
+     * 폐기는 오류 응답과 함께 커밋되어야 하므로 BusinessException으로 롤백하지 않습니다.</p>
+     *
+     * <p>새 Access Token의 등급은 DB에서 읽으므로, 다른 노드에서 바뀐 등급도 갱신 즉시 반영됩니다.</p>
+     *
      * @param refreshToken 리프레시 토큰
      * @return 새로운 액세스 토큰 및 리프레시 토큰
      */
-    @Transactional
+    @Transactional(noRollbackFor = BusinessException.class)
     public TokenRefreshResult refreshToken(String refreshToken) {
-        // 리프레시 토큰 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
-        }
+        // 리프레시 토큰 유효성 검증 (서명/만료를 한 번에 확인)
+        VerifiedToken verified = jwtTokenProvider.verify(refreshToken)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_TOKEN));
 
         // 토큰 유형 확인
-        if (!"refresh".equals(jwtTokenProvider.getTokenType(refreshToken))) {
+        if (!verified.isRefreshToken()) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN, "리프레시 토큰이 아닙니다.");
         }
 
-        // 토큰 만료 확인
-        if (jwtTokenProvider.isExpired(refreshToken)) {
-            throw new BusinessException(ErrorCode.TOKEN_EXPIRED);
+        // 사용자 정보 조회 (다른 노드에서 바뀐 등급도 반영되도록 DB에서 직접 조회)
+        Long userId = verified.userId();
+        User user = userService.getUserById(userId);
+        if (!user.isActive()) {
+            throw new BusinessException(ErrorCode.USER_INACTIVE);
         }
 
-        // 사용자 정보 조회
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
-        User user = userService.getUserById(userId);
+        // Refresh Token 회전 (재사용 감지 포함)
+        String newRefreshToken = refreshTokenService.rotate(verified);
 
-        // 새 토큰 발급
-        JwtTokenProvider.TokenPair tokenPair = jwtTokenProvider.refreshTokens(
-                refreshToken,
+        // 새 Access Token 발급
+        String newAccessToken = jwtTokenProvider.createAccessToken(
+                userId,
                 user.getEmail(),
                 user.getGrade().getCode()
         );
@@ -321,11 +486,20 @@ public class AuthService {
         log.info("Token refreshed for user: userId={}", userId);
 
         return new TokenRefreshResult(
-                tokenPair.accessToken(),
-                tokenPair.refreshToken()
+                newAccessToken,
+                newRefreshToken
         );
     }
 
+    /**
+     * Provider에서 받은 인증 정보
+     * Identity fetched from the provider
+     */
+    private record OAuthIdentity(
+            OAuth2Client.OAuth2TokenResponse token,
+            OAuth2Client.OAuth2UserInfo userInfo
+    ) {}
+
     /**
      * OAuth 로그인 결과 / OAuth login result
      */
@@ -0,0 +1,145 @@
+package kr.mclub.apiserver.user.service;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마지막 로그인 시각 지연 기록 (write-behind)
+ * Buffers last-login timestamps in memory and flushes them as one batched UPDATE
+ *
+ * <p>로그인 트랜잭션에서 {@code users} 행을 갱신하지 않도록, 사용자별 최신 시각만 메모리에 모아 두었다가
+ * 주기적으로 JDBC 배치 UPDATE 한 번으로 반영합니다. 같은 사용자의 연속 로그인은 하나로 합쳐집니다.</p>
+ *
+ * <p>유실 구간은 최대 flush 주기(기본 5초)이며, 대기 건수가 상한에 도달하면 즉시 flush하고
+ * 애플리케이션 종료 시에도 남은 항목을 flush합니다. flush 실패 시 항목은 다음 주기에 재시도됩니다.</p>
+ */
+@Slf4j
+@Component
+public class LastLoginRecorder implements SmartLifecycle {
+
+    private static final String UPDATE_SQL = """
+        UPDATE users SET last_login_at = ?
+        WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long flushIntervalMs;
+    private final int maxPending;
+    private final Clock clock;
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    @Autowired
+    public LastLoginRecorder(JdbcTemplate jdbcTemplate,
+                             @Value("${user.last-login.flush-interval-ms:5000}") long flushIntervalMs,
+                             @Value("${user.last-login.max-pending:10000}") int maxPending) {
+        this(jdbcTemplate, flushIntervalMs, maxPending, Clock.systemDefaultZone());
+    }
+
+    LastLoginRecorder(JdbcTemplate jdbcTemplate, long flushIntervalMs, int maxPending, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxPending = maxPending;
+        this.clock = clock;
+    }
+
+    /**
+     * 로그인 시각 기록 (메모리, 즉시 반환)
+     * Record a login; persisted by the next flush
+     *
+     * @param userId 사용자 ID
+     */
+    public void record(Long userId) {
+        pending.merge(userId, LocalDateTime.now(clock), (current, latest) -> latest.isAfter(current) ? latest : current);
+
+        // 대기 건수 상한 도달 시 주기를 기다리지 않고 flush
+        if (pending.size() >= maxPending && running && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+    }
+
+    /**
+     * 대기 중인 로그인 시각을 배치 UPDATE로 반영
+     * Flush pending timestamps with a single JDBC batch
+     */
+    public synchronized void flush() {
+        flushScheduled.set(false);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            LocalDateTime loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                batch.add(Map.entry(userId, loginAt));
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, entry) -> {
+                Timestamp loginAt = Timestamp.valueOf(entry.getValue());
+                ps.setTimestamp(1, loginAt);
+                ps.setLong(2, entry.getKey());
+                ps.setTimestamp(3, loginAt);
+            });
+            log.debug("Last login timestamps flushed: count={}", batch.size());
+        } catch (RuntimeException e) {
+            // 다음 주기에 재시도 (그 사이 더 최신 로그인이 있으면 그 값을 유지)
+            batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(),
+                    (current, failed) -> current.isAfter(failed) ? current : failed));
+            log.warn("Failed to flush last login timestamps, will retry: count={}, error={}",
+                    batch.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "last-login-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(flushIntervalMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 시 남은 항목 반영 (DataSource는 Lifecycle 정지 이후에 닫힘)
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,434 @@
+package kr.mclub.apiserver.user.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.shared.util.CsvReader;
+import kr.mclub.apiserver.user.domain.UserGrade;
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository;
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository.ImportRun;
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository.LegacyMemberRow;
+
+/**
+ * 기존 회원 명단 가져오기 서비스
+ * Streaming import of the legacy Naver Cafe roster (CSV) into {@code legacy_members}
+ *
+ * <p>파일은 한 레코드씩 읽어 배치 단위(기본 500행)로 JDBC 배치 upsert하며, 배치마다 짧은 트랜잭션 하나에서
+ * 명단 행 저장, 기존 사용자 연결, 체크포인트 갱신을 함께 커밋합니다. 실패하거나 노드가 죽으면 같은 파일(SHA-256)을
+ * 다시 올렸을 때 마지막으로 커밋된 레코드 다음부터 이어서 처리하고, 완료된 파일은 다시 처리하지 않습니다.</p>
+ *
+ * <p>기존 사용자 매칭은 시작 시 사용자 전화번호를 한 번 읽어 만든 해시 인덱스(정규화된 번호 → 사용자 ID)로 하며,
+ * 같은 번호를 쓰는 사용자가 여럿이면 매칭하지 않습니다. 전화번호는 본인 확인 없이 입력되는 값이므로 매칭된 사용자는
+ * 연결 후보로만 기록하고, 정회원 번호와 등급은 관리자가 확인할 때 부여합니다 ({@link LegacyMemberLinkService}).
+ * 가져오기는 사용자 정보를 바꾸지 않습니다.</p>
+ *
+ * <p>명단의 등급은 참고용으로만 저장하며, 운영진/임원 등급은 권한으로 이어지지 않도록 저장하지 않습니다.</p>
+ *
+ * <p>CSV 헤더는 영문 컬럼명({@code member_number, name, phone_number, email, car_model, car_number, grade_code,
+ * join_date, notes}) 또는 카페 명단의 한글 컬럼명을 사용할 수 있으며, 정회원 번호/이름/전화번호는 필수입니다.</p>
+ */
+@Slf4j
+@Service
+public class LegacyMemberImportService {
+
+    private static final Map<String, String> HEADER_ALIASES = Map.ofEntries(
+            Map.entry("member_number", "member_number"),
+            Map.entry("회원번호", "member_number"),
+            Map.entry("정회원번호", "member_number"),
+            Map.entry("번호", "member_number"),
+            Map.entry("name", "name"),
+            Map.entry("이름", "name"),
+            Map.entry("성명", "name"),
+            Map.entry("phone_number", "phone_number"),
+            Map.entry("전화번호", "phone_number"),
+            Map.entry("연락처", "phone_number"),
+            Map.entry("휴대폰", "phone_number"),
+            Map.entry("email", "email"),
+            Map.entry("이메일", "email"),
+            Map.entry("car_model", "car_model"),
+            Map.entry("차종", "car_model"),
+            Map.entry("car_number", "car_number"),
+            Map.entry("차량번호", "car_number"),
+            Map.entry("grade_code", "grade_code"),
+            Map.entry("등급", "grade_code"),
+            Map.entry("join_date", "join_date"),
+            Map.entry("가입일", "join_date"),
+            Map.entry("notes", "notes"),
+            Map.entry("비고", "notes")
+    );
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("member_number", "name", "phone_number");
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ofPattern("yyyy-M-d"),
+            DateTimeFormatter.ofPattern("yyyy.M.d"),
+            DateTimeFormatter.ofPattern("yyyy/M/d"),
+            DateTimeFormatter.BASIC_ISO_DATE
+    );
+
+    // 같은 전화번호를 쓰는 사용자가 여럿인 경우
+    private static final long AMBIGUOUS = -1L;
+
+    private final LegacyMemberRepository legacyMemberRepository;
+    private final UserGradeRegistry userGradeRegistry;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final long staleAfterMs;
+
+    public LegacyMemberImportService(LegacyMemberRepository legacyMemberRepository,
+                                     UserGradeRegistry userGradeRegistry,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${user.legacy-import.batch-size:500}") int batchSize,
+                                     @Value("${user.legacy-import.stale-after-ms:300000}") long staleAfterMs) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("user.legacy-import.batch-size must be positive: " + batchSize);
+        }
+        this.legacyMemberRepository = legacyMemberRepository;
+        this.userGradeRegistry = userGradeRegistry;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.staleAfterMs = staleAfterMs;
+    }
+
+    /**
+     * 명단 CSV 가져오기 (실패한 실행은 이어서 처리)
+     * Import a roster CSV, resuming from the last checkpoint of the same file
+     *
+     * @param sourceName 업로드 파일명 (기록용)
+     * @param source CSV 파일 (두 번 읽음: 해시 계산, 가져오기)
+     * @param charset 파일 인코딩 (엑셀에서 저장한 한글 CSV는 보통 MS949)
+     * @return 최종 실행 기록 (이미 완료된 파일이면 기존 기록)
+     * @throws BusinessException 같은 파일을 다른 요청이 처리 중이거나 (LEGACY_IMPORT_IN_PROGRESS),
+     *                           파일 형식이 잘못된 경우 (INVALID_LEGACY_IMPORT_FILE)
+     */
+    public ImportRun importCsv(String sourceName, InputStreamSource source, Charset charset) {
+        ImportRun run = legacyMemberRepository.findOrCreateRun(sourceName, sha256(source));
+        if (run.isCompleted()) {
+            log.info("Legacy roster already imported: runId={}, source={}", run.id(), run.sourceName());
+            return run;
+        }
+        if (!legacyMemberRepository.claimRun(run.id(), LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs)))) {
+            throw new BusinessException(ErrorCode.LEGACY_IMPORT_IN_PROGRESS);
+        }
+        if (run.lastRecord() > 0) {
+            log.info("Resuming legacy roster import: runId={}, afterRecord={}", run.id(), run.lastRecord());
+        }
+
+        try {
+            process(run, source, charset);
+        } catch (IOException e) {
+            fail(run, e);
+            throw new BusinessException(ErrorCode.INVALID_LEGACY_IMPORT_FILE, e.getMessage(), e);
+        } catch (RuntimeException e) {
+            fail(run, e);
+            throw e;
+        }
+        return getRun(run.id());
+    }
+
+    /**
+     * 실행 기록 조회 (진행률 확인용)
+     * Get an import run and its progress
+     */
+    public ImportRun getRun(Long runId) {
+        return legacyMemberRepository.findRun(runId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+    }
+
+    private void fail(ImportRun run, Exception e) {
+        legacyMemberRepository.failRun(run.id(), abbreviate(e.getMessage()));
+        log.error("Legacy roster import failed: runId={}", run.id(), e);
+    }
+
+    private void process(ImportRun run, InputStreamSource source, Charset charset) throws IOException {
+        Map<String, Long> phoneIndex = buildPhoneIndex();
+        Map<Long, Integer> links = new HashMap<>();
+        legacyMemberRepository.forEachLink(links::put);
+
+        Progress progress = new Progress(run);
+        try (CsvReader reader = new CsvReader(new InputStreamReader(source.getInputStream(), charset))) {
+            Map<String, Integer> columns = readHeader(reader.next());
+
+            // 같은 정회원 번호가 한 배치에 두 번 나오면 나중 행 사용 (upsert 한 문장이 같은 행을 두 번 갱신할 수 없음)
+            Map<Integer, LegacyMemberRow> batch = new LinkedHashMap<>();
+            int record = 0;
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                record++;
+                if (record <= run.lastRecord()) {
+                    continue;
+                }
+
+                LegacyMemberRow row = parseRow(fields, columns, reader.recordLine());
+                if (row == null) {
+                    progress.skipped++;
+                } else {
+                    batch.put(row.memberNumber(), link(row, phoneIndex, links));
+                }
+                if (batch.size() >= batchSize) {
+                    flush(run.id(), batch, record, progress);
+                }
+            }
+
+            int lastRecord = record;
+            batchTransaction.executeWithoutResult(status -> {
+                if (!batch.isEmpty() || lastRecord > progress.lastRecord) {
+                    writeBatch(run.id(), batch, lastRecord, progress);
+                }
+                legacyMemberRepository.alignMemberNumberSequence();
+                legacyMemberRepository.completeRun(run.id());
+            });
+            log.info("Legacy roster import completed: runId={}, records={}, imported={}, matched={}, skipped={}",
+                    run.id(), lastRecord, progress.imported, progress.matched, progress.skipped);
+        }
+    }
+
+    /**
+     * 사용자 전화번호 해시 인덱스 (1회 조회)
+     */
+    private Map<String, Long> buildPhoneIndex() {
+        Map<String, Long> index = new HashMap<>();
+        legacyMemberRepository.forEachUserPhone((userId, phoneNumber) -> {
+            String normalized = normalizePhone(phoneNumber);
+            if (normalized != null) {
+                index.merge(normalized, userId, (existing, added) -> AMBIGUOUS);
+            }
+        });
+        log.info("Legacy roster phone index built: phones={}", index.size());
+        return index;
+    }
+
+    /**
+     * 전화번호로 연결 후보 매칭 (한 사용자는 명단 한 행의 후보/연결 대상만 될 수 있음)
+     */
+    private LegacyMemberRow link(LegacyMemberRow row, Map<String, Long> phoneIndex, Map<Long, Integer> links) {
+        Long userId = phoneIndex.get(row.phoneNumber());
+        if (userId == null || userId == AMBIGUOUS) {
+            return row;
+        }
+        Integer linkedNumber = links.putIfAbsent(userId, row.memberNumber());
+        if (linkedNumber != null && linkedNumber != row.memberNumber()) {
+            return row;
+        }
+        return new LegacyMemberRow(row.memberNumber(), row.name(), row.phoneNumber(), row.email(), row.carModel(),
+                row.carNumber(), row.gradeCode(), row.joinDate(), row.notes(), userId);
+    }
+
+    private void flush(Long runId, Map<Integer, LegacyMemberRow> batch, int lastRecord, Progress progress) {
+        batchTransaction.executeWithoutResult(status -> writeBatch(runId, batch, lastRecord, progress));
+        log.info("Legacy roster import progress: runId={}, records={}, imported={}, matched={}, skipped={}",
+                runId, lastRecord, progress.imported, progress.matched, progress.skipped);
+    }
+
+    /**
+     * 명단 upsert(연결 후보 포함)와 체크포인트를 한 트랜잭션에서 처리
+     */
+    private void writeBatch(Long runId, Map<Integer, LegacyMemberRow> batch, int lastRecord, Progress progress) {
+        List<LegacyMemberRow> rows = new ArrayList<>(batch.values());
+        long matched = rows.stream().filter(row -> row.candidateUserId() != null).count();
+        legacyMemberRepository.upsertMembers(rows);
+
+        // 실패 시 실행이 중단되고 재개할 때 체크포인트의 카운터부터 다시 셈
+        progress.imported += rows.size();
+        progress.matched += (int) matched;
+        progress.lastRecord = lastRecord;
+        legacyMemberRepository.checkpoint(runId, lastRecord, progress.imported, progress.matched, progress.skipped);
+        batch.clear();
+    }
+
+    /**
+     * 헤더 → 컬럼 위치
+     */
+    static Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new BusinessException(ErrorCode.INVALID_LEGACY_IMPORT_FILE, "빈 파일입니다.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = HEADER_ALIASES.get(header.get(i).strip().toLowerCase(Locale.ROOT).replace(' ', '_'));
+            if (column != null) {
+                columns.putIfAbsent(column, i);
+            }
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new BusinessException(ErrorCode.INVALID_LEGACY_IMPORT_FILE, "필수 컬럼이 없습니다: " + required);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 레코드 → 명단 행 (필수 값이 잘못되면 null)
+     */
+    LegacyMemberRow parseRow(List<String> fields, Map<String, Integer> columns, long line) {
+        String memberNumberText = field(fields, columns, "member_number", 10);
+        String name = field(fields, columns, "name", 50);
+        String phoneNumber = normalizePhone(field(fields, columns, "phone_number", 40));
+
+        Integer memberNumber = parsePositiveInt(memberNumberText);
+        if (memberNumber == null || name == null || phoneNumber == null) {
+            log.warn("Legacy roster row skipped: line={}, memberNumber={}, name present={}, phone valid={}",
+                    line, memberNumberText, name != null, phoneNumber != null);
+            return null;
+        }
+
+        // 운영진/임원 등급은 명단에서 받지 않음 (권한은 관리자가 직접 부여)
+        String gradeCode = field(fields, columns, "grade_code", 30);
+        if (gradeCode != null) {
+            gradeCode = gradeCode.toUpperCase(Locale.ROOT);
+            Optional<UserGrade> grade = userGradeRegistry.findByCode(gradeCode);
+            if (grade.isEmpty()) {
+                log.warn("Legacy roster unknown grade ignored: line={}, gradeCode={}", line, gradeCode);
+                gradeCode = null;
+            } else if (grade.get().isStaff() || grade.get().isExecutive()) {
+                log.warn("Legacy roster staff grade ignored: line={}, gradeCode={}", line, gradeCode);
+                gradeCode = null;
+            }
+        }
+
+        return new LegacyMemberRow(
+                memberNumber,
+                name,
+                phoneNumber,
+                field(fields, columns, "email", 255),
+                field(fields, columns, "car_model", 100),
+                field(fields, columns, "car_number", 20),
+                gradeCode,
+                parseDate(field(fields, columns, "join_date", 20)),
+                field(fields, columns, "notes", 500),
+                null);
+    }
+
+    /**
+     * 전화번호 정규화: 숫자만 남기고 +82 국가번호는 0으로 변환 (9~11자리가 아니면 null)
+     */
+    static String normalizePhone(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phoneNumber.length());
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char c = phoneNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        if (digits.length() >= 11 && digits.charAt(0) == '8' && digits.charAt(1) == '2') {
+            digits.replace(0, 2, digits.charAt(2) == '0' ? "" : "0");
+        }
+        return digits.length() >= 9 && digits.length() <= 11 ? digits.toString() : null;
+    }
+
+    /**
+     * 값 조회 (공백 제거, 빈 값은 null, 최대 길이 초과분은 자름)
+     */
+    private static String field(List<String> fields, Map<String, Integer> columns, String column, int maxLength) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        if (value.isEmpty()) {
+            return null;
+        }
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static Integer parsePositiveInt(String text) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            int value = Integer.parseInt(text);
+            return value > 0 ? value : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static LocalDate parseDate(String text) {
+        if (text == null) {
+            return null;
+        }
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(text, format);
+            } catch (DateTimeParseException ignored) {
+                // 다음 형식 시도
+            }
+        }
+        return null;
+    }
+
+    private static String sha256(InputStreamSource source) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(source.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_LEGACY_IMPORT_FILE, e.getMessage());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String abbreviate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    /**
+     * 실행 누적 카운터 (체크포인트에서 이어받음)
+     */
+    private static final class Progress {
+
+        private int lastRecord;
+        private int imported;
+        private int matched;
+        private int skipped;
+
+        private Progress(ImportRun run) {
+            this.lastRecord = run.lastRecord();
+            this.imported = run.importedCount();
+            this.matched = run.matchedCount();
+            this.skipped = run.skippedCount();
+        }
+    }
+}
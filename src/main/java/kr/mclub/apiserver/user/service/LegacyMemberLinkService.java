@@ -0,0 +1,98 @@
+package kr.mclub.apiserver.user.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.user.domain.UserGrade;
+import kr.mclub.apiserver.user.event.UserEventPublisher;
+import kr.mclub.apiserver.user.event.UserGradesBulkChangedEvent;
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository;
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository.ConfirmedLink;
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository.PendingLink;
+
+/**
+ * 기존 회원 명단 연결 확인 서비스
+ * Admin confirmation of roster rows matched to existing accounts by phone number
+ *
+ * <p>전화번호는 본인 확인 없이 입력되므로 가져오기는 연결 후보만 남기고, 관리자가 확인한 후보만 연결합니다.
+ * 연결된 사용자는 명단의 등급과 관계없이 정회원(REGULAR)이 되며, 등급 변경 이벤트 1건으로 토큰 epoch, 디렉터리,
+ * 자동완성이 함께 갱신됩니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LegacyMemberLinkService {
+
+    private static final String LINKED_GRADE_CODE = "REGULAR";
+
+    private final LegacyMemberRepository legacyMemberRepository;
+    private final UserGradeRegistry userGradeRegistry;
+    private final UserEventPublisher eventPublisher;
+
+    /**
+     * 확인 대기 중인 연결 후보 (정회원 번호 순)
+     * List queued candidates after the given member number
+     */
+    @Transactional(readOnly = true)
+    public List<PendingLink> getPendingLinks(Integer afterMemberNumber, int size) {
+        return legacyMemberRepository.findPendingLinks(afterMemberNumber == null ? 0 : afterMemberNumber, size);
+    }
+
+    /**
+     * 연결 후보 확인
+     * Link confirmed candidates as REGULAR members and publish one grade-change event for them
+     *
+     * @param memberNumbers 확인할 명단의 정회원 번호
+     * @param adminId 확인한 관리자 ID
+     * @return 연결된 번호와 건너뛴 번호 (후보가 없거나, 이미 정회원 번호가 있거나, 준회원이 아닌 경우)
+     */
+    @Transactional
+    public LinkConfirmationResult confirmLinks(List<Integer> memberNumbers, Long adminId) {
+        UserGrade regular = userGradeRegistry.findByCode(LINKED_GRADE_CODE)
+                .orElseThrow(() -> new BusinessException(ErrorCode.GRADE_NOT_FOUND, LINKED_GRADE_CODE));
+
+        Set<Integer> requested = new LinkedHashSet<>(memberNumbers);
+        List<ConfirmedLink> linked = legacyMemberRepository.confirmLinks(requested);
+
+        eventPublisher.publishGradesBulkChanged(linked.stream()
+                .map(link -> new UserGradesBulkChangedEvent.Change(link.userId(), link.email(), link.oldGradeCode()))
+                .toList(), regular, adminId);
+
+        Set<Integer> skipped = new LinkedHashSet<>(requested);
+        linked.forEach(link -> skipped.remove(link.memberNumber()));
+        log.info("Legacy roster links confirmed: adminId={}, linked={}, skipped={}", adminId, linked.size(),
+                skipped.size());
+        return new LinkConfirmationResult(linked.stream().map(ConfirmedLink::memberNumber).toList(),
+                List.copyOf(skipped));
+    }
+
+    /**
+     * 연결 후보 거절
+     * Drop candidates without linking
+     *
+     * @return 거절된 후보 수
+     */
+    @Transactional
+    public int rejectLinks(List<Integer> memberNumbers, Long adminId) {
+        int rejected = legacyMemberRepository.rejectLinks(new LinkedHashSet<>(memberNumbers));
+        log.info("Legacy roster links rejected: adminId={}, rejected={}", adminId, rejected);
+        return rejected;
+    }
+
+    /**
+     * 연결 확인 결과 / Link confirmation result
+     */
+    public record LinkConfirmationResult(
+            List<Integer> linkedMemberNumbers,
+            List<Integer> skippedMemberNumbers
+    ) {}
+}
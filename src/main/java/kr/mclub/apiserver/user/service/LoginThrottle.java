@@ -0,0 +1,169 @@
+package kr.mclub.apiserver.user.service;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+/**
+ * 로그인 시도 제한 (토큰 버킷)
+ * In-memory token-bucket throttle for sign-in attempts, keyed by email and client IP
+ *
+ * <p>비밀번호 해싱(BCrypt) 이전에 평가하므로, 크리덴셜 스터핑 요청은 DB 조회와 해싱 비용 없이 거절됩니다.
+ * 버킷은 락 스트라이핑된 맵에 보관되며, 각 스트라이프는 최대 항목 수를 넘으면 가장 오래 사용되지 않은
+ * 버킷부터 제거합니다.</p>
+ *
+ * <p>Actuator metrics: {@code auth.login.throttle{result=allowed|rejected_email|rejected_ip}}</p>
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private final BucketTable emailBuckets;
+    private final BucketTable ipBuckets;
+
+    private final Counter allowed;
+    private final Counter rejectedByEmail;
+    private final Counter rejectedByIp;
+    private final Clock clock;
+
+    @Autowired
+    public LoginThrottle(@Value("${security.login-throttle.email.burst:10}") int emailBurst,
+                         @Value("${security.login-throttle.email.refill-per-minute:10}") double emailRefillPerMinute,
+                         @Value("${security.login-throttle.ip.burst:50}") int ipBurst,
+                         @Value("${security.login-throttle.ip.refill-per-minute:60}") double ipRefillPerMinute,
+                         @Value("${security.login-throttle.stripes:64}") int stripes,
+                         @Value("${security.login-throttle.max-entries:100000}") int maxEntries,
+                         MeterRegistry meterRegistry) {
+        this(emailBurst, emailRefillPerMinute, ipBurst, ipRefillPerMinute, stripes, maxEntries, meterRegistry,
+                Clock.systemUTC());
+    }
+
+    LoginThrottle(int emailBurst, double emailRefillPerMinute, int ipBurst, double ipRefillPerMinute,
+                  int stripes, int maxEntries, MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        this.emailBuckets = new BucketTable(emailBurst, emailRefillPerMinute, stripes, maxEntries);
+        this.ipBuckets = new BucketTable(ipBurst, ipRefillPerMinute, stripes, maxEntries);
+
+        this.allowed = counter(meterRegistry, "allowed");
+        this.rejectedByEmail = counter(meterRegistry, "rejected_email");
+        this.rejectedByIp = counter(meterRegistry, "rejected_ip");
+    }
+
+    /**
+     * 로그인 시도 1회 차감 (초과 시 예외)
+     * Consume one attempt for the email and IP
+     *
+     * @param email 로그인 이메일
+     * @param clientIp 클라이언트 IP (없으면 이메일 기준만 적용)
+     * @throws BusinessException 시도 한도를 초과한 경우 (TOO_MANY_LOGIN_ATTEMPTS)
+     */
+    public void acquire(String email, String clientIp) {
+        long now = clock.millis();
+
+        if (clientIp != null && !ipBuckets.tryAcquire(clientIp, now)) {
+            rejectedByIp.increment();
+            throw new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        if (email != null && !emailBuckets.tryAcquire(email.toLowerCase(Locale.ROOT), now)) {
+            rejectedByEmail.increment();
+            log.warn("Sign-in throttled: email={}, ip={}", email, clientIp);
+            throw new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        allowed.increment();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.login.throttle")
+                .tag("result", result)
+                .description("Sign-in attempts evaluated by the login throttle")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 락 스트라이핑된 버킷 테이블
+     * Lock-striped map of token buckets
+     */
+    private static final class BucketTable {
+
+        private final double capacity;
+        private final double tokensPerMilli;
+        private final Stripe[] stripes;
+
+        BucketTable(int burst, double refillPerMinute, int stripeCount, int maxEntries) {
+            this.capacity = Math.max(1, burst);
+            this.tokensPerMilli = refillPerMinute / 60_000d;
+
+            int count = Integer.highestOneBit(Math.max(1, stripeCount));
+            int perStripe = Math.max(16, maxEntries / count);
+            this.stripes = new Stripe[count];
+            for (int i = 0; i < count; i++) {
+                stripes[i] = new Stripe(perStripe);
+            }
+        }
+
+        boolean tryAcquire(String key, long now) {
+            int h = key.hashCode();
+            Stripe stripe = stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+
+            synchronized (stripe) {
+                Bucket bucket = stripe.get(key);
+                if (bucket == null) {
+                    bucket = new Bucket(capacity, now);
+                    stripe.put(key, bucket);
+                } else {
+                    // 시계가 뒤로 가도 토큰을 빼지 않음
+                    long elapsed = Math.max(0, now - bucket.refilledAt);
+                    bucket.tokens = Math.min(capacity, bucket.tokens + elapsed * tokensPerMilli);
+                    bucket.refilledAt = Math.max(now, bucket.refilledAt);
+                }
+
+                if (bucket.tokens < 1) {
+                    return false;
+                }
+                bucket.tokens -= 1;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 스트라이프 (접근 순서 LRU, 크기 제한)
+     */
+    private static final class Stripe extends LinkedHashMap<String, Bucket> {
+
+        private final int maxEntries;
+
+        Stripe(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
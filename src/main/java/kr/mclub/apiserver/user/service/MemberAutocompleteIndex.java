@@ -0,0 +1,683 @@
+package kr.mclub.apiserver.user.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.user.event.UserGradeChangedEvent;
+import kr.mclub.apiserver.user.event.UserGradesBulkChangedEvent;
+import kr.mclub.apiserver.user.event.UserProfileUpdatedEvent;
+import kr.mclub.apiserver.user.event.UserRegisteredEvent;
+import kr.mclub.apiserver.user.event.UserWithdrawnEvent;
+
+/**
+ * 회원 자동완성 인덱스 (메모리)
+ * In-memory autocomplete over active members: Hangul initial consonants, names, member numbers, phone suffixes
+ *
+ * <p>"ㅎㄱㄷ"처럼 초성만 입력하거나 정회원 번호/전화번호 끝자리 앞부분을 입력하는 관리자 검색은 SQL 인덱스로
+ * 처리할 수 없어 메모리에 정렬된 키 배열을 유지합니다. 모든 키는 하나의 {@code char[]}에 이어 붙이고
+ * 오프셋/슬롯은 {@code int[]}로 보관하므로, 조회는 이진 탐색 한 번과 top-k 개의 순차 접근으로 끝납니다.</p>
+ *
+ * <p>인덱스는 불변 스냅샷이며 변경 시 새 스냅샷으로 교체합니다(조회는 락 없음). 가입/등급 변경(일괄 포함)/탈퇴/프로필 변경
+ * 이벤트는 커밋 후 해당 회원만 다시 읽어 병합하고, 이벤트 없이 바뀐 행은 주기적 전체 재구성으로 반영합니다.
+ * 일괄 변경은 회원 수와 관계없이 배열 복사와 병합을 한 번만 합니다.</p>
+ */
+@Slf4j
+@Component
+public class MemberAutocompleteIndex {
+
+    private static final String SELECT_MEMBERS = """
+        SELECT u.id, u.member_number, u.real_name, u.phone_number, g.code AS grade_code
+        FROM users u
+        JOIN user_grades g ON g.id = u.grade_id
+        WHERE u.is_withdrawn = FALSE AND u.is_active = TRUE
+        """;
+
+    // 한글 음절 초성 (음절 코드 = 0xAC00 + (초성 * 21 + 중성) * 28 + 종성)
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final RowMapper<Member> MEMBER_MAPPER = (rs, rowNum) -> new Member(
+            rs.getLong("id"),
+            (Integer) rs.getObject("member_number"),
+            rs.getString("real_name"),
+            rs.getString("phone_number"),
+            rs.getString("grade_code")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long rebuildIntervalMs;
+
+    // 쓰기(재구성/병합)만 직렬화, 조회는 volatile 스냅샷 사용
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot = Snapshot.build(List.of());
+
+    private ScheduledExecutorService scheduler;
+
+    public MemberAutocompleteIndex(JdbcTemplate jdbcTemplate,
+                                   @Value("${user.autocomplete.rebuild-interval-ms:600000}") long rebuildIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildIntervalMs = rebuildIntervalMs;
+    }
+
+    /**
+     * 자동완성 조회
+     * Top-k members whose initial consonants, name, member number or phone suffix start with the query
+     *
+     * @param query 검색어 (예: "ㅎㄱㄷ", "홍길", "65", "5678")
+     * @param limit 최대 결과 수
+     * @return 키 사전순으로 정렬된 결과 (짧은/앞선 키 우선)
+     */
+    public List<MemberSuggestion> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return snapshot.search(prefix, limit);
+    }
+
+    /**
+     * 인덱스에 포함된 회원 수
+     * Number of members currently indexed
+     */
+    public int size() {
+        return snapshot.liveCount;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        if (rebuildIntervalMs > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "member-autocomplete-rebuild");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::rebuildQuietly, rebuildIntervalMs, rebuildIntervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * DB에서 전체 재구성
+     * Rebuild the whole index from the users table
+     */
+    public void rebuild() {
+        synchronized (writeLock) {
+            List<Member> members = jdbcTemplate.query(SELECT_MEMBERS, MEMBER_MAPPER);
+            snapshot = Snapshot.build(members);
+            log.info("Member autocomplete index rebuilt: members={}, keys={}",
+                    snapshot.liveCount, snapshot.keySlots.length);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        reload(event.userId());
+    }
+
+    @TransactionalEventListener
+    public void onGradeChanged(UserGradeChangedEvent event) {
+        // 정회원 승급 시 정회원 번호가 새로 부여됨
+        reload(event.userId());
+    }
+
+    @TransactionalEventListener
+    public void onGradesBulkChanged(UserGradesBulkChangedEvent event) {
+        reload(event.userIds());
+    }
+
+    @TransactionalEventListener
+    public void onProfileUpdated(UserProfileUpdatedEvent event) {
+        // 실명, 전화번호, 정회원 번호 변경 반영
+        reload(event.userId());
+    }
+
+    @TransactionalEventListener
+    public void onUserWithdrawn(UserWithdrawnEvent event) {
+        remove(event.userId());
+    }
+
+    /**
+     * 회원 추가/갱신 (병합)
+     */
+    void upsert(Member member) {
+        apply(List.of(member), List.of());
+    }
+
+    /**
+     * 회원 제거
+     */
+    void remove(long userId) {
+        apply(List.of(), List.of(userId));
+    }
+
+    /**
+     * 여러 회원 추가/갱신/제거 (스냅샷 교체 1회)
+     */
+    void apply(List<Member> upserts, Collection<Long> removals) {
+        synchronized (writeLock) {
+            snapshot = snapshot.apply(upserts, removals);
+        }
+    }
+
+    /**
+     * 목록으로 전체 교체
+     */
+    void replaceAll(List<Member> members) {
+        synchronized (writeLock) {
+            snapshot = Snapshot.build(members);
+        }
+    }
+
+    private void reload(Long userId) {
+        try {
+            synchronized (writeLock) {
+                List<Member> rows = jdbcTemplate.query(SELECT_MEMBERS + " AND u.id = ?", MEMBER_MAPPER, userId);
+                apply(rows, List.of(userId));
+            }
+        } catch (RuntimeException e) {
+            // 다음 전체 재구성에서 반영
+            log.warn("Member autocomplete update failed: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 회원을 한 번에 다시 읽어 병합 (조회 1회, 스냅샷 교체 1회)
+     */
+    private void reload(List<Long> userIds) {
+        try {
+            synchronized (writeLock) {
+                List<Member> rows = jdbcTemplate.query(SELECT_MEMBERS + " AND u.id = ANY(?)", MEMBER_MAPPER,
+                        (Object) userIds.toArray(Long[]::new));
+                // 다시 읽히지 않은 회원(탈퇴/비활성)은 제거
+                apply(rows, userIds);
+            }
+        } catch (RuntimeException e) {
+            // 다음 전체 재구성에서 반영
+            log.warn("Member autocomplete update failed: users={}, error={}", userIds.size(), e.getMessage());
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Member autocomplete rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    // ========================================
+    // 키 생성
+    // ========================================
+
+    /**
+     * 한글 음절을 초성으로 분해 (그 외 문자는 그대로)
+     * Decompose Hangul syllables into their initial consonants
+     */
+    static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(c >= '가' && c <= '힣' ? CHOSUNG[(c - '가') / 588] : c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 검색어/키 정규화: 공백과 하이픈 제거, 소문자
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c) && c != '-') {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> keysOf(Member member) {
+        Set<String> keys = new LinkedHashSet<>();
+        String name = normalize(member.realName());
+        if (!name.isEmpty()) {
+            keys.add(name);
+            keys.add(chosung(name));
+        }
+        if (member.memberNumber() != null) {
+            keys.add(member.memberNumber().toString());
+        }
+        String digits = member.phoneNumber() == null ? "" : member.phoneNumber().replaceAll("\\D", "");
+        if (digits.length() >= 4) {
+            keys.add(digits.substring(digits.length() - 4));
+        }
+        return keys;
+    }
+
+    /**
+     * 인덱싱 대상 회원
+     */
+    record Member(long userId, Integer memberNumber, String realName, String phoneNumber, String gradeCode) {}
+
+    /**
+     * 자동완성 결과 / Autocomplete suggestion
+     */
+    public record MemberSuggestion(Long userId, Integer memberNumber, String realName, String gradeCode) {}
+
+    /**
+     * 불변 인덱스 스냅샷
+     *
+     * <p>슬롯 배열은 회원별 정보, 키 배열은 (키, 슬롯)을 키 사전순으로 정렬해 보관합니다. userId → 슬롯은
+     * 오픈 어드레싱 맵으로 찾습니다. 제거/갱신된 회원은 슬롯만 비워 두고(userId = 0) 새 슬롯을 뒤에 붙이며,
+     * 빈 슬롯이 많아지면 전체를 다시 압축합니다.</p>
+     */
+    static final class Snapshot {
+
+        private static final int NO_MEMBER_NUMBER = -1;
+
+        // 슬롯 (회원)
+        private final long[] userIds;
+        private final int[] memberNumbers;
+        private final String[] realNames;
+        private final String[] phoneNumbers;
+        private final String[] gradeCodes;
+        private final int liveCount;
+        private final SlotMap slotMap;
+
+        // 키 (정렬, keyChars[keyOffsets[i] .. keyOffsets[i + 1]) = i번째 키)
+        private final char[] keyChars;
+        private final int[] keyOffsets;
+        private final int[] keySlots;
+
+        private Snapshot(long[] userIds, int[] memberNumbers, String[] realNames, String[] phoneNumbers,
+                         String[] gradeCodes, int liveCount, char[] keyChars, int[] keyOffsets, int[] keySlots) {
+            this.userIds = userIds;
+            this.memberNumbers = memberNumbers;
+            this.realNames = realNames;
+            this.phoneNumbers = phoneNumbers;
+            this.gradeCodes = gradeCodes;
+            this.liveCount = liveCount;
+            this.slotMap = SlotMap.of(userIds, liveCount);
+            this.keyChars = keyChars;
+            this.keyOffsets = keyOffsets;
+            this.keySlots = keySlots;
+        }
+
+        static Snapshot build(List<Member> members) {
+            int n = members.size();
+            long[] userIds = new long[n];
+            int[] memberNumbers = new int[n];
+            String[] realNames = new String[n];
+            String[] phoneNumbers = new String[n];
+            String[] gradeCodes = new String[n];
+
+            List<KeyEntry> entries = new ArrayList<>(n * 4);
+            for (int slot = 0; slot < n; slot++) {
+                Member member = members.get(slot);
+                fillSlot(slot, member, userIds, memberNumbers, realNames, phoneNumbers, gradeCodes);
+                for (String key : keysOf(member)) {
+                    entries.add(new KeyEntry(key, slot));
+                }
+            }
+            entries.sort(null);
+
+            return pack(userIds, memberNumbers, realNames, phoneNumbers, gradeCodes, n, entries);
+        }
+
+        /**
+         * 회원 일괄 추가/갱신/제거 (배열 복사 1회, 키 병합 1회)
+         *
+         * <p>대상 회원의 기존 슬롯을 한 번에 비우고, 새 회원 키만 정렬한 뒤 기존 키 배열과 병합합니다.
+         * 기존 키는 문자열로 만들지 않고 오프셋/문자 비교로만 옮깁니다.</p>
+         *
+         * @param upserts 추가/갱신할 회원 (같은 회원이 여러 번 있으면 마지막 행)
+         * @param removals 제거할 회원 ID ({@code upserts}에 있는 회원은 무시)
+         */
+        Snapshot apply(Collection<Member> upserts, Collection<Long> removals) {
+            Map<Long, Member> updated = new LinkedHashMap<>();
+            for (Member member : upserts) {
+                updated.put(member.userId(), member);
+            }
+
+            int n = userIds.length;
+            boolean[] cleared = new boolean[n];
+            int clearedCount = 0;
+            for (Long userId : updated.keySet()) {
+                clearedCount += clear(userId, cleared);
+            }
+            for (Long userId : removals) {
+                if (!updated.containsKey(userId)) {
+                    clearedCount += clear(userId, cleared);
+                }
+            }
+            if (clearedCount == 0 && updated.isEmpty()) {
+                return this;
+            }
+
+            int size = n + updated.size();
+            long[] ids = Arrays.copyOf(userIds, size);
+            int[] numbers = Arrays.copyOf(memberNumbers, size);
+            String[] names = Arrays.copyOf(realNames, size);
+            String[] phones = Arrays.copyOf(phoneNumbers, size);
+            String[] grades = Arrays.copyOf(gradeCodes, size);
+            for (int slot = 0; slot < n; slot++) {
+                if (cleared[slot]) {
+                    ids[slot] = 0;
+                }
+            }
+
+            List<KeyEntry> added = new ArrayList<>(updated.size() * 4);
+            int slot = n;
+            for (Member member : updated.values()) {
+                fillSlot(slot, member, ids, numbers, names, phones, grades);
+                for (String key : keysOf(member)) {
+                    added.add(new KeyEntry(key, slot));
+                }
+                slot++;
+            }
+            added.sort(null);
+
+            Snapshot merged = merge(ids, numbers, names, phones, grades, liveCount - clearedCount + updated.size(),
+                    cleared, added);
+            return merged.needsCompaction() ? merged.compact() : merged;
+        }
+
+        /**
+         * 접두사 검색 (이진 탐색 후 top-k 순차 수집)
+         */
+        List<MemberSuggestion> search(String prefix, int limit) {
+            List<MemberSuggestion> results = new ArrayList<>(Math.min(limit, 16));
+            int[] seen = new int[limit];
+
+            for (int i = lowerBound(prefix); i < keySlots.length && results.size() < limit; i++) {
+                if (!startsWith(i, prefix)) {
+                    break;
+                }
+                int slot = keySlots[i];
+                if (contains(seen, results.size(), slot)) {
+                    continue;
+                }
+                seen[results.size()] = slot;
+                results.add(new MemberSuggestion(
+                        userIds[slot],
+                        memberNumbers[slot] == NO_MEMBER_NUMBER ? null : memberNumbers[slot],
+                        realNames[slot],
+                        gradeCodes[slot]
+                ));
+            }
+            return results;
+        }
+
+        /**
+         * @return 새로 비운 슬롯이면 1, 없거나 이미 비운 슬롯이면 0
+         */
+        private int clear(long userId, boolean[] cleared) {
+            int slot = slotMap.get(userId);
+            if (slot < 0 || cleared[slot]) {
+                return 0;
+            }
+            cleared[slot] = true;
+            return 1;
+        }
+
+        /**
+         * 비운 슬롯의 키를 건너뛰며 기존 키 배열과 정렬된 새 키를 병합
+         *
+         * <p>새 슬롯은 항상 기존 슬롯보다 뒤이므로 같은 키에서는 기존 키가 먼저입니다({@link KeyEntry} 순서와 같음).</p>
+         */
+        private Snapshot merge(long[] ids, int[] numbers, String[] names, String[] phones, String[] grades,
+                               int live, boolean[] cleared, List<KeyEntry> added) {
+            int keyCount = added.size();
+            int charCount = 0;
+            for (KeyEntry entry : added) {
+                charCount += entry.key().length();
+            }
+            for (int i = 0; i < keySlots.length; i++) {
+                if (!cleared[keySlots[i]]) {
+                    keyCount++;
+                    charCount += keyOffsets[i + 1] - keyOffsets[i];
+                }
+            }
+
+            char[] chars = new char[charCount];
+            int[] offsets = new int[keyCount + 1];
+            int[] slots = new int[keyCount];
+            int k = 0;
+            int a = 0;
+            for (int i = 0; i < keySlots.length; i++) {
+                if (cleared[keySlots[i]]) {
+                    continue;
+                }
+                while (a < added.size() && compareKey(i, added.get(a).key()) > 0) {
+                    k = append(added.get(a++), chars, offsets, slots, k);
+                }
+                int start = keyOffsets[i];
+                int length = keyOffsets[i + 1] - start;
+                System.arraycopy(keyChars, start, chars, offsets[k], length);
+                slots[k] = keySlots[i];
+                offsets[k + 1] = offsets[k] + length;
+                k++;
+            }
+            while (a < added.size()) {
+                k = append(added.get(a++), chars, offsets, slots, k);
+            }
+
+            return new Snapshot(ids, numbers, names, phones, grades, live, chars, offsets, slots);
+        }
+
+        /**
+         * 새 키를 k번째 위치에 기록 (offsets[k]는 이미 설정되어 있음)
+         *
+         * @return 다음 위치
+         */
+        private static int append(KeyEntry entry, char[] chars, int[] offsets, int[] slots, int k) {
+            String key = entry.key();
+            key.getChars(0, key.length(), chars, offsets[k]);
+            slots[k] = entry.slot();
+            offsets[k + 1] = offsets[k] + key.length();
+            return k + 1;
+        }
+
+        private boolean needsCompaction() {
+            int empty = userIds.length - liveCount;
+            return empty > 256 && empty > liveCount;
+        }
+
+        private Snapshot compact() {
+            List<Member> members = new ArrayList<>(liveCount);
+            for (int slot = 0; slot < userIds.length; slot++) {
+                if (userIds[slot] != 0) {
+                    members.add(new Member(userIds[slot],
+                            memberNumbers[slot] == NO_MEMBER_NUMBER ? null : memberNumbers[slot],
+                            realNames[slot], phoneNumbers[slot], gradeCodes[slot]));
+                }
+            }
+            return build(members);
+        }
+
+        private int lowerBound(String prefix) {
+            int lo = 0;
+            int hi = keySlots.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (compareKey(mid, prefix) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * i번째 키와 문자열 비교 ({@link String#compareTo}와 같은 순서)
+         */
+        private int compareKey(int index, String other) {
+            int start = keyOffsets[index];
+            int length = keyOffsets[index + 1] - start;
+            int common = Math.min(length, other.length());
+            for (int i = 0; i < common; i++) {
+                int diff = keyChars[start + i] - other.charAt(i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return length - other.length();
+        }
+
+        private boolean startsWith(int index, String prefix) {
+            int start = keyOffsets[index];
+            if (keyOffsets[index + 1] - start < prefix.length()) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (keyChars[start + i] != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean contains(int[] values, int length, int value) {
+            for (int i = 0; i < length; i++) {
+                if (values[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static void fillSlot(int slot, Member member, long[] userIds, int[] memberNumbers,
+                                     String[] realNames, String[] phoneNumbers, String[] gradeCodes) {
+            userIds[slot] = member.userId();
+            memberNumbers[slot] = member.memberNumber() != null ? member.memberNumber() : NO_MEMBER_NUMBER;
+            realNames[slot] = member.realName();
+            phoneNumbers[slot] = member.phoneNumber();
+            gradeCodes[slot] = member.gradeCode();
+        }
+
+        private static Snapshot pack(long[] userIds, int[] memberNumbers, String[] realNames, String[] phoneNumbers,
+                                     String[] gradeCodes, int liveCount, List<KeyEntry> sortedEntries) {
+            int totalChars = 0;
+            for (KeyEntry entry : sortedEntries) {
+                totalChars += entry.key().length();
+            }
+
+            char[] keyChars = new char[totalChars];
+            int[] keyOffsets = new int[sortedEntries.size() + 1];
+            int[] keySlots = new int[sortedEntries.size()];
+            int k = 0;
+            for (KeyEntry entry : sortedEntries) {
+                k = append(entry, keyChars, keyOffsets, keySlots, k);
+            }
+
+            return new Snapshot(userIds, memberNumbers, realNames, phoneNumbers, gradeCodes, liveCount,
+                    keyChars, keyOffsets, keySlots);
+        }
+
+        private record KeyEntry(String key, int slot) implements Comparable<KeyEntry> {
+
+            @Override
+            public int compareTo(KeyEntry other) {
+                int byKey = key.compareTo(other.key);
+                return byKey != 0 ? byKey : Integer.compare(slot, other.slot);
+            }
+        }
+    }
+
+    /**
+     * userId → 슬롯 불변 오픈 어드레싱 맵 (키 0 = 빈 칸)
+     * Immutable linear-probing map from user id to slot; user ids are positive so 0 marks an empty cell
+     */
+    private static final class SlotMap {
+
+        private final long[] keys;
+        private final int[] slots;
+        private final int mask;
+
+        private SlotMap(long[] keys, int[] slots) {
+            this.keys = keys;
+            this.slots = slots;
+            this.mask = keys.length - 1;
+        }
+
+        /**
+         * 비어 있지 않은 슬롯으로 맵 생성
+         */
+        static SlotMap of(long[] userIds, int liveCount) {
+            int capacity = 2;
+            while (capacity < liveCount * 2) {
+                capacity <<= 1;
+            }
+            long[] keys = new long[capacity];
+            int[] slots = new int[capacity];
+            int mask = capacity - 1;
+            for (int slot = 0; slot < userIds.length; slot++) {
+                long userId = userIds[slot];
+                if (userId == 0) {
+                    continue;
+                }
+                int i = index(userId, mask);
+                while (keys[i] != 0 && keys[i] != userId) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = userId;
+                slots[i] = slot;
+            }
+            return new SlotMap(keys, slots);
+        }
+
+        /**
+         * @return 슬롯, 없으면 -1
+         */
+        int get(long userId) {
+            int i = index(userId, mask);
+            long k;
+            while ((k = keys[i]) != 0) {
+                if (k == userId) {
+                    return slots[i];
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        private static int index(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
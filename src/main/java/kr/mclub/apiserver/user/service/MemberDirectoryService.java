@@ -0,0 +1,124 @@
+package kr.mclub.apiserver.user.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.shared.util.CursorPageResponse;
+import kr.mclub.apiserver.shared.util.PageCursor;
+import kr.mclub.apiserver.user.event.MemberVehicleChangedEvent;
+import kr.mclub.apiserver.user.event.UserGradeChangedEvent;
+import kr.mclub.apiserver.user.event.UserGradeUpdatedEvent;
+import kr.mclub.apiserver.user.event.UserGradesBulkChangedEvent;
+import kr.mclub.apiserver.user.event.UserProfileUpdatedEvent;
+import kr.mclub.apiserver.user.event.UserRegisteredEvent;
+import kr.mclub.apiserver.user.event.UserWithdrawnEvent;
+import kr.mclub.apiserver.user.repository.MemberDirectoryRepository;
+import kr.mclub.apiserver.user.repository.MemberDirectoryRepository.DirectoryEntry;
+
+/**
+ * 공개 회원 디렉터리 서비스
+ * Public member directory: read model queries and event-driven maintenance
+ *
+ * <p>조회는 {@code member_directory} 테이블만 읽습니다. 사용자/등급/차량 이벤트가 커밋되면 별도 트랜잭션에서
+ * 영향받은 회원 행만 다시 계산하며, 등급 정의가 바뀌면 해당 등급 회원 전체를 다시 계산합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberDirectoryService {
+
+    private final MemberDirectoryRepository directoryRepository;
+
+    /**
+     * 정회원 번호로 공개 프로필 조회
+     * Get a public directory entry by member number
+     *
+     * @throws BusinessException 없거나 비공개/탈퇴 회원인 경우
+     */
+    public DirectoryEntry getByMemberNumber(Integer memberNumber) {
+        return directoryRepository.findByMemberNumber(memberNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * 디렉터리 목록 (정회원 번호순, 준회원은 뒤)
+     * List public members, optionally filtered by grade
+     *
+     * @param gradeCode 등급 코드 (null이면 전체)
+     * @param cursor 직전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    public CursorPageResponse<DirectoryEntry> getDirectory(String gradeCode, String cursor, int size) {
+        List<DirectoryEntry> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = directoryRepository.findPage(gradeCode, null, null, size + 1);
+        } else {
+            PageCursor position = PageCursor.decode(cursor, 2);
+            rows = directoryRepository.findPage(gradeCode, position.getInt(0), position.getLong(1), size + 1);
+        }
+
+        return CursorPageResponse.of(rows, size, entry -> PageCursor.encode(entry.sortNumber(), entry.userId()));
+    }
+
+    /**
+     * 전체 재구성
+     * Rebuild the whole directory (after bulk imports or manual data fixes)
+     */
+    @Transactional
+    public int rebuild() {
+        int rows = directoryRepository.rebuild();
+        log.info("Member directory rebuilt: rows={}", rows);
+        return rows;
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        directoryRepository.refreshUser(event.userId());
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onGradeChanged(UserGradeChangedEvent event) {
+        directoryRepository.refreshUser(event.userId());
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onGradesBulkChanged(UserGradesBulkChangedEvent event) {
+        directoryRepository.refreshUsers(event.userIds());
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserWithdrawn(UserWithdrawnEvent event) {
+        directoryRepository.refreshUser(event.userId());
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onProfileUpdated(UserProfileUpdatedEvent event) {
+        directoryRepository.refreshUser(event.userId());
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onVehicleChanged(MemberVehicleChangedEvent event) {
+        directoryRepository.refreshUser(event.userId());
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onGradeUpdated(UserGradeUpdatedEvent event) {
+        directoryRepository.refreshGrade(event.gradeId());
+    }
+}
@@ -0,0 +1,101 @@
+package kr.mclub.apiserver.user.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.user.repository.MemberNumberSequenceRepository;
+
+/**
+ * 정회원 번호 발급기 (블록 예약)
+ * Hands out member numbers from a block reserved per node
+ *
+ * <p>{@code member_number_seq}에서 번호를 블록 단위로 예약해 두고 메모리에서 하나씩 꺼내 줍니다.
+ * 시퀀스가 중복을 막으므로 동시 승인이나 여러 노드에서도 같은 번호가 나오지 않으며,
+ * {@code MAX(member_number)} 스캔도 하지 않습니다.</p>
+ *
+ * <p>번호는 영구 소유이므로 한 번 부여된 번호는 재사용하지 않습니다. 단, 번호를 받은 트랜잭션이 롤백되면
+ * 아직 누구에게도 부여되지 않은 번호이므로 로컬 풀에 돌려 다음 발급에 먼저 사용합니다.
+ * 노드가 재시작되면 남은 블록만큼 번호가 비며, 여러 노드의 번호는 승인 순서와 다를 수 있습니다.</p>
+ */
+@Slf4j
+@Component
+public class MemberNumberAllocator {
+
+    private final MemberNumberSequenceRepository sequenceRepository;
+    private final int blockSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Integer> available = new ArrayDeque<>();
+
+    public MemberNumberAllocator(MemberNumberSequenceRepository sequenceRepository,
+                                 @Value("${user.member-number.block-size:20}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("user.member-number.block-size must be positive: " + blockSize);
+        }
+        this.sequenceRepository = sequenceRepository;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 다음 정회원 번호 발급
+     * Take the next member number, reserving a new block when the local pool is empty
+     *
+     * <p>트랜잭션 안에서 호출되면 롤백 시 번호를 풀에 반환합니다.</p>
+     */
+    public int next() {
+        int number;
+        // DB 왕복 중 가상 스레드가 캐리어를 점유하지 않도록 synchronized 대신 ReentrantLock 사용
+        lock.lock();
+        try {
+            if (available.isEmpty()) {
+                refill();
+            }
+            number = available.pollFirst();
+        } finally {
+            lock.unlock();
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        release(number);
+                    }
+                }
+            });
+        }
+        return number;
+    }
+
+    /**
+     * 부여되지 않은 번호를 풀 앞쪽에 반환
+     * Return an unassigned number so it is handed out next
+     */
+    void release(int number) {
+        lock.lock();
+        try {
+            available.addFirst(number);
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Released unassigned member number {}", number);
+    }
+
+    private void refill() {
+        int[] block = sequenceRepository.reserve(blockSize);
+        for (int number : block) {
+            available.addLast(number);
+        }
+        log.info("Reserved member number block: {}..{} ({} numbers)",
+                block[0], block[block.length - 1], block.length);
+    }
+}
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,14 +31,20 @@ public class OAuth2UserService {
     private final UserGradeService userGradeService;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserEventPublisher eventPublisher;
+    private final RefreshTokenService refreshTokenService;
+    private final LastLoginRecorder lastLoginRecorder;
 
     /**
      * OAuth 로그인 처리
      * Process OAuth login
+     *
+     * <p>이메일이 같은 기존 계정에 자동 연결하는 것은 Provider가 이메일 인증을 확인한 경우({@code emailVerified})로
+     * 제한합니다. 그렇지 않으면 타인의 이메일로 만든 Provider 계정으로 기존 계정을 탈취할 수 있습니다.</p>
      */
     @Transactional
     public LoginResult processOAuthLogin(OAuthProvider provider, String providerId,
-                                         String email, String name, String profileImageUrl,
+                                         String email, boolean emailVerified,
+                                         String name, String profileImageUrl,
                                          String accessToken, String refreshToken,
                                          LocalDateTime tokenExpiresAt) {
 
@@ -51,7 +58,7 @@ public class OAuth2UserService {
             account.updateTokens(accessToken, refreshToken, tokenExpiresAt);
 
             User user = account.getUser();
-            user.updateLastLoginAt();
+            lastLoginRecorder.record(user.getId());
 
             return createLoginResult(user, false);
         }
@@ -60,10 +67,15 @@ public class OAuth2UserService {
         var existingUser = userRepository.findByEmail(email);
 
         if (existingUser.isPresent()) {
+            if (!emailVerified) {
+                throw new BusinessException(ErrorCode.OAUTH_EMAIL_NOT_VERIFIED,
+                        provider + " 계정의 이메일이 인증되지 않아 기존 계정에 연결할 수 없습니다.");
+            }
+
             // 기존 사용자에게 OAuth 계정 추가
             User user = existingUser.get();
             linkOAuthAccount(user, provider, providerId, email, accessToken, refreshToken, tokenExpiresAt);
-            user.updateLastLoginAt();
+            lastLoginRecorder.record(user.getId());
 
             return createLoginResult(user, false);
         }
@@ -87,8 +99,9 @@ public class OAuth2UserService {
 
         UserGrade defaultGrade = userGradeService.getDefaultGradeForNewUser();
 
+        // 이름을 받지 못한 경우(Apple 재인가 등) 임시 이름으로 가입 후 프로필에서 입력받음
         User user = User.builder()
-                .realName(name)
+                .realName(StringUtils.hasText(name) ? name : User.PENDING_REAL_NAME)
                 .email(email)
                 .profileImageUrl(profileImageUrl)
                 .grade(defaultGrade)
@@ -201,7 +214,7 @@ public class OAuth2UserService {
                 user.getEmail(),
                 user.getGrade().getCode()
         );
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+        String refreshToken = refreshTokenService.issue(user.getId());
 
         return new LoginResult(accessToken, refreshToken, user, isNewUser);
     }
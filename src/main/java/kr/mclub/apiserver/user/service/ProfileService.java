@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import kr.mclub.apiserver.shared.exception.BusinessException;
 import kr.mclub.apiserver.shared.exception.ErrorCode;
 import kr.mclub.apiserver.user.domain.User;
+import kr.mclub.apiserver.user.event.UserEventPublisher;
 import kr.mclub.apiserver.user.repository.UserRepository;
 
 /**
@@ -23,6 +24,7 @@ import kr.mclub.apiserver.user.repository.UserRepository;
 public class ProfileService {
 
     private final UserRepository userRepository;
+    private final UserEventPublisher eventPublisher;
     // TODO: FileUploadService 추가 필요 (프로필 이미지 업로드)
 
     /**
@@ -43,6 +45,7 @@ public class ProfileService {
         String imageUrl = "https://placeholder.com/profile/" + userId;
 
         user.updateProfileImage(imageUrl);
+        eventPublisher.publishProfileUpdated(user);
         log.info("Profile image uploaded: userId={}, url={}", userId, imageUrl);
 
         return imageUrl;
@@ -62,6 +65,7 @@ public class ProfileService {
         // TODO: FileUploadService를 통해 기존 이미지 삭제
 
         user.updateProfileImage(null);
+        eventPublisher.publishProfileUpdated(user);
         log.info("Profile image deleted: userId={}", userId);
     }
 
@@ -81,6 +85,7 @@ public class ProfileService {
         // TODO: 실명 변경 신청 로직 구현
         // 현재는 바로 변경 (추후 승인 프로세스 추가 필요)
         user.updateRealName(newRealName);
+        eventPublisher.publishProfileUpdated(user);
         log.info("Real name change requested: userId={}, oldName={}, newName={}, reason={}",
                 userId, user.getRealName(), newRealName, reason);
     }
@@ -103,6 +108,7 @@ public class ProfileService {
         }
 
         user.updatePhoneNumber(newPhoneNumber);
+        eventPublisher.publishProfileUpdated(user);
         log.info("Phone number changed: userId={}, newPhoneNumber={}", userId, newPhoneNumber);
     }
 
@@ -125,6 +131,7 @@ public class ProfileService {
 
         // TODO: 이메일 인증 프로세스 추가 필요
         user.updateEmail(newEmail);
+        eventPublisher.publishProfileUpdated(user);
         log.info("Email changed: userId={}, newEmail={}", userId, newEmail);
     }
 
@@ -141,6 +148,7 @@ public class ProfileService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         user.setProfilePublic(isPublic);
+        eventPublisher.publishProfileUpdated(user);
         log.info("Profile visibility changed: userId={}, isPublic={}", userId, isPublic);
     }
 }
@@ -0,0 +1,182 @@
+package kr.mclub.apiserver.user.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.shared.security.JwtTokenProvider;
+import kr.mclub.apiserver.shared.security.VerifiedToken;
+import kr.mclub.apiserver.user.domain.RefreshTokenFamily;
+import kr.mclub.apiserver.user.domain.RevokedRefreshToken;
+import kr.mclub.apiserver.user.repository.RefreshTokenFamilyRepository;
+import kr.mclub.apiserver.user.repository.RevokedRefreshTokenRepository;
+
+/**
+ * Refresh Token 패밀리 서비스 / Refresh token family service
+ *
+ * <p>로그인마다 토큰 패밀리를 만들고, 갱신 시 jti를 회전시킵니다. 이미 회전된(폐기된) jti가 다시
+ * 제시되면 탈취로 간주하여 패밀리 전체를 폐기합니다.</p>
+ *
+ * <p>폐기 여부는 {@link RevokedRefreshTokenFilter}에서 메모리로 확인하고, 회전은 현재 jti가
+ * 일치할 때만 성공하는 조건부 UPDATE로 처리하므로 여러 노드에서도 재사용이 감지됩니다.</p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    static final String REASON_REUSE_DETECTED = "REUSE_DETECTED";
+    static final String REASON_WITHDRAWN = "WITHDRAWN";
+
+    private final RefreshTokenFamilyRepository familyRepository;
+    private final RevokedRefreshTokenRepository revokedTokenRepository;
+    private final RevokedRefreshTokenFilter revokedFilter;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 새 패밀리로 Refresh Token 발급 (로그인/가입)
+     * Issue a refresh token in a new family
+     *
+     * @param userId 사용자 ID
+     * @return Refresh Token
+     */
+    @Transactional
+    public String issue(Long userId) {
+        String familyId = UUID.randomUUID().toString();
+        JwtTokenProvider.IssuedRefreshToken issued =
+                jwtTokenProvider.createRefreshToken(userId, familyId, UUID.randomUUID().toString());
+
+        familyRepository.save(RefreshTokenFamily.builder()
+                .id(familyId)
+                .userId(userId)
+                .currentJti(issued.tokenId())
+                .expiresAt(toLocalDateTime(issued.expiresAt()))
+                .build());
+
+        return issued.value();
+    }
+
+    /**
+     * Refresh Token 회전 / Rotate refresh token
+     *
+     * <p>재사용 감지 시 패밀리 폐기는 예외와 함께 커밋되어야 하므로 BusinessException으로 롤백하지 않습니다.</p>
+     *
+     * @param refreshToken 검증된 Refresh Token
+     * @return 같은 패밀리의 새 Refresh Token
+     * @throws BusinessException 폐기되었거나 재사용된 토큰, 또는 패밀리가 없는 이전 형식 토큰인 경우
+     */
+    @Transactional(noRollbackFor = BusinessException.class)
+    public String rotate(VerifiedToken refreshToken) {
+        Long userId = refreshToken.userId();
+        String familyId = refreshToken.familyId();
+        String jti = refreshToken.tokenId();
+
+        // 패밀리 도입 이전 토큰: 회전 기록이 없어 재사용을 감지할 수 없으므로 거절 (재로그인 필요)
+        if (familyId == null || jti == null) {
+            log.info("Legacy refresh token rejected: userId={}", userId);
+            throw new BusinessException(ErrorCode.INVALID_TOKEN, "더 이상 사용할 수 없는 리프레시 토큰입니다. 다시 로그인하세요.");
+        }
+
+        // 메모리 필터로 폐기 여부 확인 (DB 조회 없음)
+        if (revokedFilter.isFamilyRevoked(familyId)) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN, "폐기된 리프레시 토큰입니다. 다시 로그인하세요.");
+        }
+        if (revokedFilter.isTokenRevoked(jti)) {
+            throw reuseDetected(userId, familyId);
+        }
+
+        // 현재 jti일 때만 회전 (다른 노드에서 이미 회전된 경우 0건)
+        JwtTokenProvider.IssuedRefreshToken next =
+                jwtTokenProvider.createRefreshToken(userId, familyId, UUID.randomUUID().toString());
+        int updated = familyRepository.rotate(familyId, jti, next.tokenId(), toLocalDateTime(next.expiresAt()));
+        if (updated == 0) {
+            throw reuseDetected(userId, familyId);
+        }
+
+        revokedTokenRepository.save(RevokedRefreshToken.builder()
+                .jti(jti)
+                .familyId(familyId)
+                .expiresAt(toLocalDateTime(refreshToken.expiresAt()))
+                .build());
+        revokedFilter.revokeToken(jti, refreshToken.expiresAt().toEpochMilli());
+
+        return next.value();
+    }
+
+    /**
+     * 패밀리 폐기
+     * Revoke a token family
+     */
+    @Transactional
+    public void revokeFamily(String familyId, String reason) {
+        familyRepository.revoke(familyId, reason);
+        revokedFilter.revokeFamily(familyId, familyRetentionDeadline());
+    }
+
+    /**
+     * 사용자의 모든 패밀리 폐기 (탈퇴 등)
+     * Revoke every active family of a user
+     */
+    @Transactional
+    public void revokeAllFamilies(Long userId, String reason) {
+        List<String> familyIds = familyRepository.findActiveFamilyIdsByUserId(userId);
+        familyIds.forEach(familyId -> revokeFamily(familyId, reason));
+
+        log.info("Refresh token families revoked: userId={}, count={}, reason={}",
+                userId, familyIds.size(), reason);
+    }
+
+    /**
+     * 기동 시 만료 데이터 정리 및 메모리 필터 적재
+     * Purge expired rows and warm the in-memory filter on startup
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpRevokedFilter() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.deleteExpired(now);
+        familyRepository.deleteExpired(now);
+
+        ZoneId zone = ZoneId.systemDefault();
+        revokedTokenRepository.findUnexpired(now).forEach(token -> revokedFilter.revokeToken(
+                token.getJti(), token.getExpiresAt().atZone(zone).toInstant().toEpochMilli()));
+
+        long deadline = familyRetentionDeadline();
+        familyRepository.findRevokedFamilyIds(now)
+                .forEach(familyId -> revokedFilter.revokeFamily(familyId, deadline));
+
+        log.info("Revoked refresh token filter loaded: tokens={}", revokedFilter.size());
+    }
+
+    private BusinessException reuseDetected(Long userId, String familyId) {
+        revokeFamily(familyId, REASON_REUSE_DETECTED);
+        log.warn("Refresh token reuse detected, family revoked: userId={}, familyId={}", userId, familyId);
+        return new BusinessException(ErrorCode.INVALID_TOKEN, "재사용된 리프레시 토큰입니다. 다시 로그인하세요.");
+    }
+
+    /**
+     * 폐기 패밀리를 메모리에 유지할 기한 (최대 Refresh Token 수명)
+     */
+    private long familyRetentionDeadline() {
+        return System.currentTimeMillis() + jwtTokenProvider.getRefreshTokenValidityMs();
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,110 @@
+package kr.mclub.apiserver.user.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import kr.mclub.apiserver.shared.util.BloomFilter;
+
+/**
+ * 폐기된 Refresh Token 메모리 필터
+ * In-memory revoked refresh token filter (Bloom filter backed by an exact set)
+ *
+ * <p>대부분의 갱신 요청은 폐기되지 않은 토큰이므로 Bloom Filter에서 바로 음성 판정되어
+ * DB 조회 없이 통과합니다. 양성 판정일 때만 정확한 집합으로 확인합니다.</p>
+ *
+ * <p>패밀리 폐기는 드물기 때문에 정확한 집합만 사용합니다.</p>
+ */
+@Component
+public class RevokedRefreshTokenFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final int expectedInsertions;
+
+    /**
+     * 폐기된 jti → 만료 시각(ms)
+     */
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * 폐기된 패밀리 ID → 만료 시각(ms)
+     */
+    private final Map<String, Long> revokedFamilies = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+    private int capacity;
+
+    public RevokedRefreshTokenFilter(
+            @Value("${jwt.refresh.revoked-filter.expected-insertions:100000}") int expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+        this.capacity = expectedInsertions;
+        this.bloomFilter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * 폐기된 토큰 여부 (O(1))
+     * Check if a token id was revoked
+     */
+    public boolean isTokenRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        return revokedTokens.containsKey(jti);
+    }
+
+    /**
+     * 폐기된 패밀리 여부 (O(1))
+     * Check if a family was revoked
+     */
+    public boolean isFamilyRevoked(String familyId) {
+        return familyId != null && revokedFamilies.containsKey(familyId);
+    }
+
+    /**
+     * 폐기 토큰 등록
+     * Register a revoked token id
+     */
+    public synchronized void revokeToken(String jti, long expiresAtMillis) {
+        revokedTokens.put(jti, expiresAtMillis);
+        bloomFilter.put(jti);
+
+        // 용량 초과 시 오탐률 유지를 위해 재생성
+        if (revokedTokens.size() > capacity) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 폐기 패밀리 등록
+     * Register a revoked family
+     */
+    public void revokeFamily(String familyId, long expiresAtMillis) {
+        revokedFamilies.put(familyId, expiresAtMillis);
+    }
+
+    /**
+     * 만료 항목 정리 후 Bloom Filter 재생성
+     * Purge expired entries and rebuild the Bloom filter (it cannot delete)
+     */
+    public synchronized void rebuild() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedFamilies.values().removeIf(expiresAt -> expiresAt <= now);
+
+        this.capacity = Math.max(expectedInsertions, revokedTokens.size() * 2);
+        BloomFilter rebuilt = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        revokedTokens.keySet().forEach(rebuilt::put);
+        this.bloomFilter = rebuilt;
+    }
+
+    /**
+     * 폐기 토큰 수
+     * Number of revoked tokens held in memory
+     */
+    public int size() {
+        return revokedTokens.size();
+    }
+}
@@ -0,0 +1,156 @@
+package kr.mclub.apiserver.user.service;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.shared.security.TokenEpochRegistry;
+import kr.mclub.apiserver.user.event.UserGradeChangedEvent;
+import kr.mclub.apiserver.user.event.UserGradesBulkChangedEvent;
+import kr.mclub.apiserver.user.event.UserWithdrawnEvent;
+
+/**
+ * 토큰 에포크 서비스 / Token epoch service
+ *
+ * <p>등급 변경과 탈퇴 시 사용자의 토큰 에포크를 올려, 이전에 발급된 Access Token을 즉시 무효화합니다.
+ * 에포크는 {@code user_token_epochs}에 저장되고 {@code pg_notify}로 다른 노드에 전파됩니다
+ * ({@link TokenEpochSynchronizer} 참고).</p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenEpochService {
+
+    static final String NOTIFY_CHANNEL = "token_epoch";
+
+    private static final String BUMP_SQL = """
+        INSERT INTO user_token_epochs (user_id, epoch, updated_at)
+        VALUES (?, 1, CURRENT_TIMESTAMP)
+        ON CONFLICT (user_id) DO UPDATE
+        SET epoch = user_token_epochs.epoch + 1, updated_at = CURRENT_TIMESTAMP
+        RETURNING epoch
+        """;
+
+    private static final String BUMP_ALL_SQL = """
+        INSERT INTO user_token_epochs (user_id, epoch, updated_at)
+        SELECT user_id, 1, CURRENT_TIMESTAMP FROM unnest(?::BIGINT[]) AS t(user_id)
+        ON CONFLICT (user_id) DO UPDATE
+        SET epoch = user_token_epochs.epoch + 1, updated_at = CURRENT_TIMESTAMP
+        RETURNING user_id, epoch
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TokenEpochRegistry tokenEpochRegistry;
+
+    /**
+     * 등급 변경 시 에포크 증가
+     * Bump epoch after a grade change commits
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onGradeChanged(UserGradeChangedEvent event) {
+        bump(event.userId());
+    }
+
+    /**
+     * 등급 일괄 변경 시 에포크 증가 (대상 전체를 한 번에)
+     * Bump epochs of every user in a bulk grade change after it commits
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onGradesBulkChanged(UserGradesBulkChangedEvent event) {
+        bumpAll(event.userIds());
+    }
+
+    /**
+     * 탈퇴 시 에포크 증가
+     * Bump epoch after a withdrawal commits
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserWithdrawn(UserWithdrawnEvent event) {
+        bump(event.userId());
+    }
+
+    /**
+     * 에포크 증가 및 전파 (NOTIFY는 커밋 시 전달)
+     * Increment the epoch, apply it locally and notify other nodes on commit
+     *
+     * @param userId 사용자 ID
+     * @return 새 에포크
+     */
+    @Transactional
+    public int bump(Long userId) {
+        Integer epoch = jdbcTemplate.queryForObject(BUMP_SQL, Integer.class, userId);
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", String.class,
+                NOTIFY_CHANNEL, userId + ":" + epoch);
+
+        tokenEpochRegistry.advance(userId, epoch);
+
+        log.info("Token epoch bumped: userId={}, epoch={}", userId, epoch);
+        return epoch;
+    }
+
+    /**
+     * 여러 사용자의 에포크 증가 및 전파 (upsert 1회, NOTIFY 1회 왕복)
+     * Increment epochs for many users in one statement and notify other nodes on commit
+     *
+     * @param userIds 사용자 ID (중복은 한 번만 증가)
+     */
+    @Transactional
+    public void bumpAll(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        // 같은 행을 한 문장에서 두 번 갱신하면 ON CONFLICT DO UPDATE가 실패하므로 중복 제거
+        Long[] distinctIds = userIds.stream().distinct().toArray(Long[]::new);
+        List<EpochRow> rows = jdbcTemplate.query(BUMP_ALL_SQL,
+                (rs, rowNum) -> new EpochRow(rs.getLong(1), rs.getInt(2)), (Object) distinctIds);
+
+        long[] bumpedIds = new long[rows.size()];
+        int[] epochs = new int[rows.size()];
+        String[] payloads = new String[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            bumpedIds[i] = rows.get(i).userId();
+            epochs[i] = rows.get(i).epoch();
+            payloads[i] = bumpedIds[i] + ":" + epochs[i];
+        }
+        jdbcTemplate.queryForList("SELECT pg_notify(?, payload) FROM unnest(?::TEXT[]) AS t(payload)",
+                String.class, NOTIFY_CHANNEL, payloads);
+
+        tokenEpochRegistry.advanceAll(bumpedIds, epochs, bumpedIds.length);
+
+        log.info("Token epochs bumped: users={}", rows.size());
+    }
+
+    /**
+     * 전체 에포크 적재 (기동/재연결 시 누락 알림 보정)
+     * Load every stored epoch into the registry
+     */
+    @Transactional(readOnly = true)
+    public void reloadAll() {
+        List<EpochRow> rows = jdbcTemplate.query("SELECT user_id, epoch FROM user_token_epochs",
+                (rs, rowNum) -> new EpochRow(rs.getLong(1), rs.getInt(2)));
+
+        long[] userIds = new long[rows.size()];
+        int[] epochs = new int[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            userIds[i] = rows.get(i).userId();
+            epochs[i] = rows.get(i).epoch();
+        }
+        tokenEpochRegistry.advanceAll(userIds, epochs, userIds.length);
+
+        log.info("Token epochs loaded: users={}", tokenEpochRegistry.size());
+    }
+
+    private record EpochRow(long userId, int epoch) {}
+}
@@ -0,0 +1,121 @@
+package kr.mclub.apiserver.user.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.shared.security.TokenEpochRegistry;
+
+/**
+ * 토큰 에포크 노드 간 동기화
+ * Propagates token epoch bumps between nodes via PostgreSQL LISTEN/NOTIFY
+ *
+ * <p>커넥션 풀을 점유하지 않도록 전용 커넥션 하나로 {@code LISTEN}합니다. (재)연결할 때마다
+ * 전체 에포크를 다시 적재하므로 연결이 끊긴 동안 놓친 알림도 반영됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenEpochSynchronizer implements SmartLifecycle {
+
+    private static final int POLL_TIMEOUT_MS = 5_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final TokenEpochService tokenEpochService;
+    private final TokenEpochRegistry tokenEpochRegistry;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform()
+                .name("token-epoch-listener")
+                .daemon(true)
+                .start(this::listenLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + TokenEpochService.NOTIFY_CHANNEL);
+                }
+                tokenEpochService.reloadAll();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            apply(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Token epoch listener disconnected, retrying: {}", e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 알림 페이로드 적용 ("userId:epoch")
+     * Apply a notification payload
+     */
+    private void apply(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator <= 0) {
+            log.warn("Malformed token epoch notification: {}", payload);
+            return;
+        }
+        try {
+            long userId = Long.parseLong(payload, 0, separator, 10);
+            int epoch = Integer.parseInt(payload, separator + 1, payload.length(), 10);
+            tokenEpochRegistry.advance(userId, epoch);
+        } catch (NumberFormatException e) {
+            log.warn("Malformed token epoch notification: {}", payload);
+        }
+    }
+}
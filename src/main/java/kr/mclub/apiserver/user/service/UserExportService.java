@@ -0,0 +1,63 @@
+package kr.mclub.apiserver.user.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import lombok.RequiredArgsConstructor;
+
+import kr.mclub.apiserver.shared.util.ExportFormat;
+import kr.mclub.apiserver.shared.util.ExportStreamer;
+import kr.mclub.apiserver.user.repository.UserExportRepository;
+
+/**
+ * 회원 명단 내보내기 서비스
+ * Streams the full member list to an output stream as CSV or NDJSON
+ *
+ * <p>읽기 전용 트랜잭션 하나에서 forward-only 커서로 {@code fetchSize}행씩 읽어 바로 응답에 쓰므로 힙 사용량은
+ * 회원 수와 무관합니다. 엔티티/DTO 목록을 만들지 않습니다. 동시 실행 수와 제한 시간은 {@link ExportStreamer}가
+ * 관리합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class UserExportService {
+
+    static final List<String> COLUMNS = List.of(
+            "id", "member_number", "real_name", "email", "phone_number", "grade_code", "grade_name",
+            "associate_status", "exemption_type", "exemption_year", "is_active", "is_withdrawn", "withdrawn_at",
+            "last_login_at", "created_at");
+
+    private final UserExportRepository userExportRepository;
+    private final ExportStreamer exportStreamer;
+
+    /**
+     * 회원 명단 내보내기
+     * Reserve an export slot and return the body that writes every user
+     *
+     * @param includeWithdrawn 탈퇴 회원 포함 여부
+     * @return 응답 본문 (스트림은 flush만 하고 닫지 않음)
+     * @throws kr.mclub.apiserver.shared.exception.BusinessException 동시 내보내기 한도 초과 (SERVICE_BUSY)
+     */
+    public StreamingResponseBody export(ExportFormat format, boolean includeWithdrawn) {
+        return exportStreamer.stream("회원", format, COLUMNS,
+                handler -> userExportRepository.forEachUser(includeWithdrawn, handler),
+                rs -> new Object[] {
+                        rs.getLong("id"),
+                        rs.getObject("member_number", Integer.class),
+                        rs.getString("real_name"),
+                        rs.getString("email"),
+                        rs.getString("phone_number"),
+                        rs.getString("grade_code"),
+                        rs.getString("grade_name"),
+                        rs.getString("associate_status"),
+                        rs.getString("exemption_type"),
+                        rs.getObject("exemption_year", Integer.class),
+                        rs.getBoolean("is_active"),
+                        rs.getBoolean("is_withdrawn"),
+                        rs.getObject("withdrawn_at", LocalDateTime.class),
+                        rs.getObject("last_login_at", LocalDateTime.class),
+                        rs.getObject("created_at", LocalDateTime.class)});
+    }
+}
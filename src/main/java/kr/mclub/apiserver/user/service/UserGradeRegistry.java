@@ -0,0 +1,219 @@
+package kr.mclub.apiserver.user.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import kr.mclub.apiserver.user.domain.UserGrade;
+import kr.mclub.apiserver.user.event.UserGradeUpdatedEvent;
+import kr.mclub.apiserver.user.repository.UserGradeRepository;
+
+/**
+ * 사용자 등급 레지스트리 (메모리)
+ * Immutable in-memory snapshot of {@code user_grades}, indexed by id, code and role name
+ *
+ * <p>등급은 십여 개뿐이고 거의 바뀌지 않으므로 전체를 한 번 읽어 불변 스냅샷으로 보관하고, 가입/인가 경로의
+ * 등급 조회는 DB에 접근하지 않습니다. 등급 생성/수정/삭제가 커밋되면 새 스냅샷을 만들어 통째로 교체하며
+ * (copy-on-write, 조회는 락 없음), 다른 노드의 변경은 주기적 재적재로 반영합니다.</p>
+ *
+ * <p>스냅샷의 {@link UserGrade}는 별도 트랜잭션에서 읽은 detached 엔티티로 모든 스레드가 공유합니다.
+ * 연관관계 참조({@code User.grade})와 읽기에만 사용하고, 변경은 {@link UserGradeRepository}로 다시 읽은
+ * 관리 엔티티에서 해야 합니다.</p>
+ */
+@Slf4j
+@Component
+public class UserGradeRegistry {
+
+    private final UserGradeRepository userGradeRepository;
+    private final TransactionTemplate loadTransaction;
+    private final long refreshIntervalMs;
+
+    // 재적재만 직렬화, 조회는 volatile 스냅샷 사용
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    private ScheduledExecutorService scheduler;
+
+    public UserGradeRegistry(UserGradeRepository userGradeRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${user.grade-registry.refresh-interval-ms:300000}") long refreshIntervalMs) {
+        this.userGradeRepository = userGradeRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    public Optional<UserGrade> findById(Long id) {
+        return Optional.ofNullable(current().byId.get(id));
+    }
+
+    public Optional<UserGrade> findByCode(String code) {
+        return Optional.ofNullable(current().byCode.get(code));
+    }
+
+    public Optional<UserGrade> findByRoleName(String roleName) {
+        return Optional.ofNullable(current().byRoleName.get(roleName));
+    }
+
+    /**
+     * 활성 등급 (표시 순서)
+     * Active grades ordered by display order
+     */
+    public List<UserGrade> activeGrades() {
+        return current().active;
+    }
+
+    /**
+     * 활성 임원 등급
+     * Active executive grades
+     */
+    public List<UserGrade> executiveGrades() {
+        return current().executive;
+    }
+
+    /**
+     * 활성 운영진 등급
+     * Active staff grades
+     */
+    public List<UserGrade> staffGrades() {
+        return current().staff;
+    }
+
+    /**
+     * 삭제 가능한 등급 (활성, 비시스템)
+     * Active, non-system grades
+     */
+    public List<UserGrade> deletableGrades() {
+        return current().deletable;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+        if (refreshIntervalMs > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "user-grade-registry-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::reloadQuietly, refreshIntervalMs, refreshIntervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onGradeUpdated(UserGradeUpdatedEvent event) {
+        reload();
+    }
+
+    /**
+     * DB에서 전체 재적재 후 스냅샷 교체
+     * Load every grade in a fresh read-only transaction and swap the snapshot
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            List<UserGrade> grades = loadTransaction.execute(status -> userGradeRepository.findAll());
+            snapshot = Snapshot.of(grades);
+            log.info("User grade registry loaded: grades={}, active={}", grades.size(), snapshot.active.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("User grade registry refresh failed; keeping previous snapshot", e);
+        }
+    }
+
+    /**
+     * 기동 이벤트 전에 호출되면 즉시 적재
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reloadLock.lock();
+            try {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 불변 스냅샷
+     */
+    private record Snapshot(
+            Map<Long, UserGrade> byId,
+            Map<String, UserGrade> byCode,
+            Map<String, UserGrade> byRoleName,
+            List<UserGrade> active,
+            List<UserGrade> executive,
+            List<UserGrade> staff,
+            List<UserGrade> deletable
+    ) {
+
+        static Snapshot of(List<UserGrade> grades) {
+            Map<Long, UserGrade> byId = new HashMap<>();
+            Map<String, UserGrade> byCode = new HashMap<>();
+            Map<String, UserGrade> byRoleName = new HashMap<>();
+            for (UserGrade grade : grades) {
+                byId.put(grade.getId(), grade);
+                byCode.put(grade.getCode(), grade);
+                byRoleName.put(grade.getRoleName(), grade);
+            }
+
+            List<UserGrade> active = grades.stream()
+                    .filter(UserGrade::isActive)
+                    .sorted(Comparator.comparing(UserGrade::getDisplayOrder))
+                    .toList();
+            return new Snapshot(
+                    Map.copyOf(byId),
+                    Map.copyOf(byCode),
+                    Map.copyOf(byRoleName),
+                    active,
+                    filter(active, UserGrade::isExecutive),
+                    filter(active, UserGrade::isStaff),
+                    filter(active, grade -> !grade.isSystemGrade()));
+        }
+
+        private static List<UserGrade> filter(List<UserGrade> grades, Predicate<UserGrade> predicate) {
+            return grades.stream().filter(predicate).toList();
+        }
+    }
+}
@@ -13,12 +13,16 @@ import kr.mclub.apiserver.shared.exception.ErrorCode;
 import kr.mclub.apiserver.user.api.dto.UserGradeCreateRequest;
 import kr.mclub.apiserver.user.api.dto.UserGradeUpdateRequest;
 import kr.mclub.apiserver.user.domain.UserGrade;
+import kr.mclub.apiserver.user.event.UserEventPublisher;
 import kr.mclub.apiserver.user.repository.UserGradeRepository;
 import kr.mclub.apiserver.user.repository.UserRepository;
 
 /**
  * 사용자 등급 서비스
  * User grade service
+ *
+ * <p>조회는 {@link UserGradeRegistry}의 메모리 스냅샷을 사용하며 DB에 접근하지 않습니다.
+ * 생성/수정/삭제는 DB에서 관리 엔티티를 읽어 변경하고, 커밋 후 레지스트리가 다시 적재됩니다.</p>
  */
 @Slf4j
 @Service
@@ -27,14 +31,16 @@ import kr.mclub.apiserver.user.repository.UserRepository;
 public class UserGradeService {
 
     private final UserGradeRepository userGradeRepository;
+    private final UserGradeRegistry userGradeRegistry;
     private final UserRepository userRepository;
+    private final UserEventPublisher eventPublisher;
 
     /**
      * 모든 활성 등급 조회
      * Get all active grades
      */
     public List<UserGrade> getAllActiveGrades() {
-        return userGradeRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
+        return userGradeRegistry.activeGrades();
     }
 
     /**
@@ -42,7 +48,7 @@ public class UserGradeService {
      * Get grade by code
      */
     public UserGrade getGradeByCode(String code) {
-        return userGradeRepository.findByCode(code)
+        return userGradeRegistry.findByCode(code)
                 .orElseThrow(() -> new BusinessException(ErrorCode.GRADE_NOT_FOUND, code));
     }
 
@@ -51,7 +57,7 @@ public class UserGradeService {
      * Get grade by ID
      */
     public UserGrade getGradeById(Long id) {
-        return userGradeRepository.findById(id)
+        return userGradeRegistry.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.GRADE_NOT_FOUND));
     }
 
@@ -60,7 +66,7 @@ public class UserGradeService {
      * Get default grade for new user (Associate)
      */
     public UserGrade getDefaultGradeForNewUser() {
-        return userGradeRepository.findByCode("ASSOCIATE")
+        return userGradeRegistry.findByCode("ASSOCIATE")
                 .orElseThrow(() -> new BusinessException(ErrorCode.GRADE_NOT_FOUND, "ASSOCIATE"));
     }
 
@@ -102,6 +108,7 @@ public class UserGradeService {
                 .build();
 
         UserGrade savedGrade = userGradeRepository.save(grade);
+        eventPublisher.publishGradeUpdated(savedGrade);
         log.info("New user grade created: code={}, name={}, createdBy={}",
                 request.code(), request.name(), creatorId);
 
@@ -119,7 +126,7 @@ public class UserGradeService {
     @Transactional
     public UserGrade updateGrade(Long gradeId, UserGradeUpdateRequest request) {
 
-        UserGrade grade = getGradeById(gradeId);
+        UserGrade grade = getManagedGrade(gradeId);
         grade.update(
                 request.name(),
                 request.permissionLevel(),
@@ -128,6 +135,7 @@ public class UserGradeService {
                 request.displaySuffix(),
                 request.displayOrder()
         );
+        eventPublisher.publishGradeUpdated(grade);
 
         log.info("User grade updated: gradeId={}, name={}", gradeId, request.name());
         return grade;
@@ -141,7 +149,7 @@ public class UserGradeService {
      */
     @Transactional
     public void deleteGrade(Long gradeId) {
-        UserGrade grade = getGradeById(gradeId);
+        UserGrade grade = getManagedGrade(gradeId);
 
         // 시스템 등급은 삭제 불가
         if (grade.isSystemGrade()) {
@@ -154,6 +162,7 @@ public class UserGradeService {
         }
 
         grade.deactivate();
+        eventPublisher.publishGradeUpdated(grade);
         log.info("User grade deleted (deactivated): gradeId={}, code={}", gradeId, grade.getCode());
     }
 
@@ -162,7 +171,7 @@ public class UserGradeService {
      * Get deletable grades
      */
     public List<UserGrade> getDeletableGrades() {
-        return userGradeRepository.findDeletableGrades();
+        return userGradeRegistry.deletableGrades();
     }
 
     /**
@@ -170,7 +179,7 @@ public class UserGradeService {
      * Get executive grades
      */
     public List<UserGrade> getExecutiveGrades() {
-        return userGradeRepository.findByIsExecutiveTrueAndIsActiveTrue();
+        return userGradeRegistry.executiveGrades();
     }
 
     /**
@@ -178,6 +187,15 @@ public class UserGradeService {
      * Get staff grades
      */
     public List<UserGrade> getStaffGrades() {
-        return userGradeRepository.findByIsStaffTrueAndIsActiveTrue();
+        return userGradeRegistry.staffGrades();
+    }
+
+    /**
+     * 변경용 관리 엔티티 조회 (레지스트리의 공유 인스턴스는 변경하지 않음)
+     * Load a managed grade for modification
+     */
+    private UserGrade getManagedGrade(Long id) {
+        return userGradeRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.GRADE_NOT_FOUND));
     }
 }
@@ -2,18 +2,32 @@ package kr.mclub.apiserver.user.service;
 
 import kr.mclub.apiserver.shared.exception.BusinessException;
 import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.shared.util.CursorPageResponse;
+import kr.mclub.apiserver.shared.util.PageCursor;
 import kr.mclub.apiserver.user.domain.ExemptionType;
 import kr.mclub.apiserver.user.domain.User;
 import kr.mclub.apiserver.user.domain.UserGrade;
 import kr.mclub.apiserver.user.event.UserEventPublisher;
+import kr.mclub.apiserver.user.event.UserGradesBulkChangedEvent;
+import kr.mclub.apiserver.user.repository.UserGradeBulkRepository;
+import kr.mclub.apiserver.user.repository.UserGradeBulkRepository.ChangedRow;
+import kr.mclub.apiserver.user.repository.UserGradeBulkRepository.SkippedRow;
 import kr.mclub.apiserver.user.repository.UserRepository;
+import kr.mclub.apiserver.user.repository.UserSearchRepository;
+import kr.mclub.apiserver.user.repository.UserSearchRepository.UserSearchRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 사용자 서비스
@@ -27,6 +41,11 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserGradeService userGradeService;
     private final UserEventPublisher eventPublisher;
+    private final RefreshTokenService refreshTokenService;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final UserSearchRepository userSearchRepository;
+    private final MemberNumberAllocator memberNumberAllocator;
+    private final UserGradeBulkRepository userGradeBulkRepository;
 
     /**
      * ID로 사용자 조회
@@ -63,6 +82,7 @@ public class UserService {
     public User updateProfile(Long userId, String phoneNumber, String profileImageUrl) {
         User user = getUserById(userId);
         user.updateProfile(phoneNumber, profileImageUrl);
+        eventPublisher.publishProfileUpdated(user);
         return user;
     }
 
@@ -84,6 +104,60 @@ public class UserService {
         return user;
     }
 
+    /**
+     * 등급 일괄 변경 (학기 초 임원/운영진 재지정 등)
+     * Move many users to one grade with a single set-based update
+     *
+     * <p>등급은 한 번만 검증하고 UPDATE 한 번으로 변경한 뒤, 변경된 사용자 전체에 대해
+     * {@link UserGradesBulkChangedEvent} 1건을 발행합니다. 탈퇴했거나 없는 사용자, 이미 해당 등급인 사용자는
+     * 건너뛰고 결과에 사유를 남깁니다.</p>
+     *
+     * @param userIds 대상 사용자 ID (중복은 한 번만 처리)
+     * @param newGradeId 새 등급 ID
+     * @param adminId 변경한 관리자 ID
+     * @return 요청 순서대로의 사용자별 결과
+     */
+    @Transactional
+    public BulkGradeChangeResult changeGrades(List<Long> userIds, Long newGradeId, Long adminId) {
+        UserGrade newGrade = userGradeService.getGradeById(newGradeId);
+        if (!newGrade.isActive()) {
+            throw new BusinessException(ErrorCode.GRADE_NOT_FOUND, "비활성화된 등급입니다: " + newGrade.getCode());
+        }
+
+        Set<Long> targets = new LinkedHashSet<>(userIds);
+        Map<Long, ChangedRow> changed = userGradeBulkRepository.changeGrades(targets, newGrade.getId(),
+                        newGrade.isMember()).stream()
+                .collect(Collectors.toMap(ChangedRow::userId, Function.identity()));
+
+        Set<Long> remaining = new LinkedHashSet<>(targets);
+        remaining.removeAll(changed.keySet());
+        Map<Long, SkippedRow> skipped = userGradeBulkRepository.findSkipped(remaining).stream()
+                .collect(Collectors.toMap(SkippedRow::userId, Function.identity()));
+
+        List<GradeChangeItem> items = targets.stream()
+                .map(userId -> toItem(userId, changed.get(userId), skipped.get(userId)))
+                .toList();
+
+        List<UserGradesBulkChangedEvent.Change> changes = changed.values().stream()
+                .map(row -> new UserGradesBulkChangedEvent.Change(row.userId(), row.email(), row.oldGradeCode()))
+                .toList();
+        eventPublisher.publishGradesBulkChanged(changes, newGrade, adminId);
+
+        return new BulkGradeChangeResult(newGrade.getCode(), changes.size(), items);
+    }
+
+    private static GradeChangeItem toItem(Long userId, ChangedRow changed, SkippedRow skipped) {
+        if (changed != null) {
+            return new GradeChangeItem(userId, GradeChangeStatus.CHANGED, changed.oldGradeCode());
+        }
+        if (skipped == null) {
+            return new GradeChangeItem(userId, GradeChangeStatus.NOT_FOUND, null);
+        }
+        return new GradeChangeItem(userId,
+                skipped.withdrawn() ? GradeChangeStatus.WITHDRAWN : GradeChangeStatus.UNCHANGED,
+                skipped.gradeCode());
+    }
+
     /**
      * 정회원 번호 부여
      * Assign member number
@@ -96,8 +170,13 @@ public class UserService {
             throw new BusinessException(ErrorCode.INVALID_USER_STATUS, "이미 정회원 번호가 있습니다.");
         }
 
-        Integer nextNumber = userRepository.getNextMemberNumber();
+        // 발급기 도입 전 직접 입력된 번호와 겹치면 건너뜀 (번호는 영구 소유)
+        int nextNumber = memberNumberAllocator.next();
+        while (userRepository.existsByMemberNumber(nextNumber)) {
+            nextNumber = memberNumberAllocator.next();
+        }
         user.assignMemberNumber(nextNumber);
+        eventPublisher.publishProfileUpdated(user);
 
         return user;
     }
@@ -138,28 +217,49 @@ public class UserService {
 
         user.withdraw(reason);
 
+        // 발급된 Refresh Token 전부 폐기
+        refreshTokenService.revokeAllFamilies(userId, RefreshTokenService.REASON_WITHDRAWN);
+
         // 이벤트 발행
         eventPublisher.publishUserWithdrawn(user);
     }
 
     /**
-     * 마지막 로그인 시간 업데이트
-     * Update last login time
+     * 마지막 로그인 시간 업데이트 (지연 반영)
+     * Record last login time; persisted asynchronously by {@link LastLoginRecorder}
      */
-    @Transactional
     public void updateLastLoginAt(Long userId) {
-        User user = getUserById(userId);
-        user.updateLastLoginAt();
+        lastLoginRecorder.record(userId);
     }
 
     /**
      * 키워드로 사용자 검색
      * Search users by keyword
      */
-    public Page<User> searchUsers(String keyword, Pageable pageable) {
+    public Slice<User> searchUsers(String keyword, Pageable pageable) {
         return userRepository.searchByKeyword(keyword, pageable);
     }
 
+    /**
+     * 유사도 순 회원 검색 (커서 페이지네이션)
+     * Search members ranked by trigram similarity, paged with an opaque seek cursor
+     *
+     * @param keyword 검색어 (이름 또는 이메일)
+     * @param cursor 직전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    public CursorPageResponse<UserSearchRow> searchMembers(String keyword, String cursor, int size) {
+        List<UserSearchRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = userSearchRepository.search(keyword.trim(), null, null, size + 1);
+        } else {
+            PageCursor position = PageCursor.decode(cursor, 2);
+            rows = userSearchRepository.search(keyword.trim(), position.getFloat(0), position.getLong(1), size + 1);
+        }
+
+        return CursorPageResponse.of(rows, size, row -> PageCursor.encode(row.score(), row.id()));
+    }
+
     /**
      * 등급별 사용자 조회
      * Get users by grade code
@@ -184,4 +284,35 @@ public class UserService {
         User user = getUserById(userId);
         return user.getDisplayName();
     }
+
+    /**
+     * 사용자별 등급 변경 결과 상태
+     * Per-user outcome of a bulk grade change
+     */
+    public enum GradeChangeStatus {
+        CHANGED,     // 변경됨
+        UNCHANGED,   // 이미 해당 등급
+        WITHDRAWN,   // 탈퇴 회원 (변경하지 않음)
+        NOT_FOUND    // 없는 사용자
+    }
+
+    /**
+     * 사용자별 결과 / Per-user result
+     *
+     * @param previousGradeCode 변경 전 등급 (변경되지 않았으면 현재 등급, 없는 사용자는 null)
+     */
+    public record GradeChangeItem(
+            Long userId,
+            GradeChangeStatus status,
+            String previousGradeCode
+    ) {}
+
+    /**
+     * 등급 일괄 변경 결과 / Bulk grade change result
+     */
+    public record BulkGradeChangeResult(
+            String gradeCode,
+            int changedCount,
+            List<GradeChangeItem> items
+    ) {}
 }
@@ -0,0 +1,51 @@
+-- V10__create_member_directory.sql
+-- 공개 회원 디렉터리 읽기 모델 생성
+-- 작성일: 2026-10-17
+
+-- 프로필을 공개한 활성 회원만 보관하는 비정규화 테이블.
+-- 표시 이름(정회원 번호 + 실명 + 등급 접미사)과 대표 차량 모델을 미리 계산해 두고,
+-- 사용자/등급/차량 이벤트가 커밋될 때 해당 회원 행을 다시 계산함
+
+-- ========================================
+-- 1. member_directory
+-- ========================================
+CREATE TABLE member_directory (
+    user_id BIGINT PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    member_number INTEGER UNIQUE,                        -- 정회원 번호 (준회원은 NULL)
+    sort_number INTEGER NOT NULL,                        -- 정렬 키: 정회원 번호, 없으면 INTEGER 최대값 (준회원은 뒤로)
+    real_name VARCHAR(50) NOT NULL,
+    display_name VARCHAR(100) NOT NULL,                  -- 예: "610 홍길동 (회장)"
+    grade_id BIGINT NOT NULL,
+    grade_code VARCHAR(30) NOT NULL,
+    grade_name VARCHAR(50) NOT NULL,
+    grade_suffix VARCHAR(20),                            -- 등급 표시 접미사
+    primary_car_model VARCHAR(100),                      -- 대표 차량 모델 (매각 차량 제외)
+    profile_image_url VARCHAR(500),
+    refreshed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Indexes
+CREATE INDEX idx_member_directory_sort ON member_directory(sort_number, user_id);
+CREATE INDEX idx_member_directory_grade_sort ON member_directory(grade_code, sort_number, user_id);
+CREATE INDEX idx_member_directory_grade_id ON member_directory(grade_id);
+
+-- Comments
+COMMENT ON TABLE member_directory IS '공개 회원 디렉터리 읽기 모델 (users/user_grades/member_vehicles에서 파생)';
+
+-- ========================================
+-- 2. 초기 적재
+-- ========================================
+INSERT INTO member_directory (user_id, member_number, sort_number, real_name, display_name,
+                              grade_id, grade_code, grade_name, grade_suffix, primary_car_model, profile_image_url)
+SELECT u.id, u.member_number, COALESCE(u.member_number, 2147483647), u.real_name,
+       CONCAT_WS(' ', u.member_number::TEXT, u.real_name, g.display_suffix),
+       g.id, g.code, g.name, g.display_suffix, v.car_model, u.profile_image_url
+FROM users u
+JOIN user_grades g ON g.id = u.grade_id
+LEFT JOIN LATERAL (
+    SELECT car_model FROM member_vehicles
+    WHERE user_id = u.id AND is_primary = TRUE AND status <> 'SOLD'
+    ORDER BY registered_at DESC, id DESC
+    LIMIT 1
+) v ON TRUE
+WHERE u.is_withdrawn = FALSE AND u.is_active = TRUE AND u.is_profile_public = TRUE;
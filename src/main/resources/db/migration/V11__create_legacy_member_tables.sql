@@ -0,0 +1,71 @@
+-- V11__create_legacy_member_tables.sql
+-- 기존 네이버 카페 정회원 명단 가져오기 테이블 생성
+-- 작성일: 2026-10-17
+
+-- legacy_members: 기존 정회원 명단 (정회원 번호 기준 upsert, 전화번호는 숫자만 저장해 매칭 키로 사용)
+-- legacy_import_runs: 파일(SHA-256) 단위 가져오기 진행 상황. 배치와 같은 트랜잭션에서 체크포인트를 갱신하므로
+--                     실패 후 같은 파일을 다시 올리면 마지막으로 커밋된 레코드 다음부터 이어서 처리함
+
+-- ========================================
+-- 1. legacy_members
+-- ========================================
+CREATE TABLE legacy_members (
+    id BIGSERIAL PRIMARY KEY,
+
+    -- 기본 정보
+    member_number INTEGER NOT NULL UNIQUE,               -- 정회원 번호
+    name VARCHAR(50) NOT NULL,                           -- 이름
+    phone_number VARCHAR(20) NOT NULL,                   -- 전화번호 (숫자만, 매칭 키)
+    email VARCHAR(255),                                  -- 이메일 (있는 경우)
+
+    -- 차량 정보 (선택)
+    car_model VARCHAR(100),                              -- 차종
+    car_number VARCHAR(20),                              -- 차량번호
+
+    -- 기타 정보
+    grade_code VARCHAR(30),                              -- 등급 코드
+    join_date DATE,                                      -- 가입일
+    notes VARCHAR(500),                                  -- 비고
+
+    -- 마이그레이션 상태
+    is_linked BOOLEAN NOT NULL DEFAULT FALSE,            -- 기존 사용자와 연결 여부
+    linked_user_id BIGINT REFERENCES users(id),          -- 연결된 users.id
+    linked_at TIMESTAMP,                                 -- 연결 시각
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Indexes
+CREATE INDEX idx_legacy_members_phone ON legacy_members(phone_number);
+CREATE INDEX idx_legacy_members_linked ON legacy_members(is_linked);
+CREATE UNIQUE INDEX uk_legacy_members_linked_user ON legacy_members(linked_user_id) WHERE linked_user_id IS NOT NULL;
+
+-- Comments
+COMMENT ON TABLE legacy_members IS '기존 정회원 마이그레이션 테이블 (임시)';
+COMMENT ON COLUMN legacy_members.phone_number IS '전화번호 (숫자만, +82 국가번호는 0으로 변환)';
+COMMENT ON COLUMN legacy_members.is_linked IS '기존 사용자와 연결 완료 여부';
+COMMENT ON COLUMN legacy_members.linked_user_id IS '연결된 사용자 ID';
+
+-- ========================================
+-- 2. legacy_import_runs
+-- ========================================
+CREATE TABLE legacy_import_runs (
+    id BIGSERIAL PRIMARY KEY,
+    source_name VARCHAR(255) NOT NULL,                   -- 업로드 파일명
+    source_sha256 CHAR(64) NOT NULL UNIQUE,              -- 파일 내용 해시 (재개 키)
+    status VARCHAR(20) NOT NULL,                         -- PENDING, RUNNING, FAILED, COMPLETED
+    last_record INTEGER NOT NULL DEFAULT 0,              -- 마지막으로 커밋된 데이터 레코드 번호 (헤더 제외, 1부터)
+    imported_count INTEGER NOT NULL DEFAULT 0,
+    matched_count INTEGER NOT NULL DEFAULT 0,
+    skipped_count INTEGER NOT NULL DEFAULT 0,
+    error_message VARCHAR(500),
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+-- Comments
+COMMENT ON TABLE legacy_import_runs IS '기존 회원 명단 가져오기 실행 기록 (체크포인트)';
+COMMENT ON COLUMN legacy_import_runs.status IS '상태: PENDING(대기), RUNNING(진행중), FAILED(실패, 재개 가능), COMPLETED(완료)';
+COMMENT ON COLUMN legacy_import_runs.updated_at IS '마지막 배치 커밋 시각 (오래된 RUNNING은 중단된 실행으로 간주)';
@@ -0,0 +1,21 @@
+-- V12__queue_legacy_member_links.sql
+-- 기존 회원 명단 자동 연결을 관리자 확인 대기열로 변경
+-- 작성일: 2026-10-17
+
+-- 전화번호는 본인 확인 없이 입력되므로 일치만으로 정회원 번호/등급을 부여하지 않음.
+-- 가져오기는 연결 후보(candidate_user_id)만 기록하고, 관리자가 확인하면 정회원(REGULAR)으로만 연결함.
+-- 명단의 운영진/임원 등급은 권한으로 쓰이지 않도록 저장하지 않음.
+
+ALTER TABLE legacy_members
+    ADD COLUMN candidate_user_id BIGINT REFERENCES users(id),   -- 전화번호가 일치한 연결 후보 (관리자 확인 대기)
+    ADD COLUMN candidate_matched_at TIMESTAMP;                  -- 후보로 등록된 시각
+
+CREATE UNIQUE INDEX uk_legacy_members_candidate_user ON legacy_members(candidate_user_id)
+    WHERE candidate_user_id IS NOT NULL;
+
+UPDATE legacy_members
+SET grade_code = NULL
+WHERE grade_code IN (SELECT code FROM user_grades WHERE is_staff OR is_executive);
+
+COMMENT ON COLUMN legacy_members.candidate_user_id IS '전화번호 일치 연결 후보 (관리자 확인 전에는 권한/정회원 번호를 부여하지 않음)';
+COMMENT ON COLUMN legacy_members.grade_code IS '명단의 등급 코드 (참고용, 운영진/임원 등급은 저장하지 않음)';
@@ -0,0 +1,48 @@
+-- V4__create_refresh_token_tables.sql
+-- Refresh Token 회전/재사용 감지 테이블 생성
+-- 작성일: 2026-10-17
+
+-- ========================================
+-- 1. refresh_token_families (Refresh Token 패밀리)
+-- ========================================
+CREATE TABLE refresh_token_families (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+
+    -- 현재 유효한 토큰
+    current_jti VARCHAR(36) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+
+    -- 폐기 정보
+    is_revoked BOOLEAN NOT NULL DEFAULT FALSE,
+    revoked_at TIMESTAMP,
+    revoke_reason VARCHAR(30),
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Indexes
+CREATE INDEX idx_refresh_token_families_user ON refresh_token_families(user_id) WHERE is_revoked = FALSE;
+CREATE INDEX idx_refresh_token_families_expires ON refresh_token_families(expires_at);
+
+-- Comments
+COMMENT ON TABLE refresh_token_families IS 'Refresh Token 패밀리 (로그인 1회당 1개, 회전 계보 추적)';
+COMMENT ON COLUMN refresh_token_families.current_jti IS '현재 유효한 Refresh Token ID (이전 jti 제시 시 재사용으로 판단)';
+COMMENT ON COLUMN refresh_token_families.revoke_reason IS '폐기 사유: REUSE_DETECTED, LOGOUT, WITHDRAWN 등';
+
+-- ========================================
+-- 2. revoked_refresh_tokens (회전으로 폐기된 토큰)
+-- ========================================
+CREATE TABLE revoked_refresh_tokens (
+    jti VARCHAR(36) PRIMARY KEY,
+    family_id VARCHAR(36) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Indexes
+CREATE INDEX idx_revoked_refresh_tokens_expires ON revoked_refresh_tokens(expires_at);
+
+-- Comments
+COMMENT ON TABLE revoked_refresh_tokens IS '회전으로 대체된 Refresh Token ID (기동 시 메모리 Bloom Filter로 적재)';
@@ -0,0 +1,16 @@
+-- V5__create_user_token_epochs_table.sql
+-- 사용자별 토큰 에포크 테이블 생성
+-- 작성일: 2026-10-17
+
+-- ========================================
+-- 1. user_token_epochs (토큰 에포크)
+-- ========================================
+CREATE TABLE user_token_epochs (
+    user_id BIGINT PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    epoch INTEGER NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Comments
+COMMENT ON TABLE user_token_epochs IS '사용자별 토큰 에포크 (등급 변경/탈퇴 시 증가, 기동 시 메모리로 적재)';
+COMMENT ON COLUMN user_token_epochs.epoch IS '현재 에포크 (이보다 낮은 에포크의 Access Token은 거부)';
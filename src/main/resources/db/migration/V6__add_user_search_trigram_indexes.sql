@@ -0,0 +1,19 @@
+-- V6__add_user_search_trigram_indexes.sql
+-- 회원 검색용 트라이그램 인덱스 생성
+-- 작성일: 2026-10-17
+
+-- ========================================
+-- 1. pg_trgm 확장
+-- ========================================
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- ========================================
+-- 2. 이름/이메일 트라이그램 GIN 인덱스 (탈퇴 회원 제외)
+-- ========================================
+-- 유사도(%) 검색과 부분 일치(LIKE/ILIKE '%키워드%') 검색 모두 이 인덱스를 사용
+CREATE INDEX idx_users_real_name_trgm ON users USING GIN (real_name gin_trgm_ops) WHERE is_withdrawn = FALSE;
+CREATE INDEX idx_users_email_trgm ON users USING GIN (email gin_trgm_ops) WHERE is_withdrawn = FALSE;
+
+-- Comments
+COMMENT ON INDEX idx_users_real_name_trgm IS '회원 이름 유사도/부분 일치 검색';
+COMMENT ON INDEX idx_users_email_trgm IS '회원 이메일 유사도/부분 일치 검색';
@@ -0,0 +1,17 @@
+-- V7__add_seek_pagination_indexes.sql
+-- 커서(seek) 페이지네이션용 복합 인덱스 생성
+-- 작성일: 2026-10-17
+
+-- 목록 정렬 키 (created_at DESC, id DESC)를 필터 컬럼 뒤에 두어
+-- 다음 페이지 조회가 OFFSET 건너뛰기 없이 인덱스 범위 스캔으로 끝나도록 함
+
+-- ========================================
+-- 1. payment_records
+-- ========================================
+CREATE INDEX idx_payment_records_status_seek ON payment_records(status, created_at DESC, id DESC);
+CREATE INDEX idx_payment_records_user_seek ON payment_records(user_id, created_at DESC, id DESC);
+
+-- ========================================
+-- 2. membership_applications
+-- ========================================
+CREATE INDEX idx_membership_applications_status_seek ON membership_applications(status, created_at DESC, id DESC);
@@ -0,0 +1,12 @@
+-- V8__align_member_number_sequence.sql
+-- 정회원 번호 시퀀스를 기존 최대 번호 이후로 정렬
+-- 작성일: 2026-10-17
+
+-- 지금까지 번호는 MAX(member_number) + 1로 발급되어 member_number_seq가 사용되지 않았음.
+-- 블록 예약 방식의 발급기로 전환하면서 시퀀스가 이미 부여된 번호(탈퇴 회원 포함, 영구 소유)를
+-- 다시 발급하지 않도록 다음 값을 기존 최대 번호 + 1 (최소 650)로 맞춤
+
+-- ========================================
+-- 1. member_number_seq
+-- ========================================
+SELECT setval('member_number_seq', GREATEST(COALESCE((SELECT MAX(member_number) FROM users), 0), 649));
@@ -0,0 +1,26 @@
+-- V9__create_application_number_counters.sql
+-- 정회원 신청 번호 일자별 카운터 테이블 생성
+-- 작성일: 2026-10-17
+
+-- 신청 번호(APP-yyyyMMdd-nnnnn)의 일자별 마지막 순번을 보관.
+-- 제출마다 LIKE + ORDER BY로 마지막 번호를 찾던 방식을 upsert-returning 카운터로 대체
+
+-- ========================================
+-- 1. application_number_counters
+-- ========================================
+CREATE TABLE application_number_counters (
+    issue_date DATE PRIMARY KEY,                         -- 신청 일자
+    last_value INTEGER NOT NULL                          -- 마지막으로 예약된 순번
+);
+
+COMMENT ON TABLE application_number_counters IS '정회원 신청 번호 일자별 카운터';
+
+-- ========================================
+-- 2. 기존 신청 번호로 카운터 초기화
+-- ========================================
+INSERT INTO application_number_counters (issue_date, last_value)
+SELECT TO_DATE(SUBSTRING(application_number FROM 5 FOR 8), 'YYYYMMDD'),
+       MAX(CAST(SUBSTRING(application_number FROM 14) AS INTEGER))
+FROM membership_applications
+WHERE application_number ~ '^APP-[0-9]{8}-[0-9]{5}$'
+GROUP BY SUBSTRING(application_number FROM 5 FOR 8);
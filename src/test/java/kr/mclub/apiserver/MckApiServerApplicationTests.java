@@ -3,8 +3,10 @@ package kr.mclub.apiserver;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
+@ActiveProfiles("test")
 class MckApiServerApplicationTests {
 
     @Test
@@ -0,0 +1,163 @@
+package kr.mclub.apiserver.membership.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kr.mclub.apiserver.membership.api.dto.MembershipApplicationRequest;
+import kr.mclub.apiserver.membership.domain.ApplicationStatus;
+import kr.mclub.apiserver.membership.domain.MembershipApplication;
+import kr.mclub.apiserver.membership.repository.ApplicationNumberCounterRepository;
+import kr.mclub.apiserver.membership.repository.MembershipApplicationRepository;
+import kr.mclub.apiserver.user.domain.VehicleOwnershipType;
+
+/**
+ * 신청 번호 생성기 검증 (일자별 카운터는 인메모리로 대체)
+ */
+class ApplicationNumberGeneratorTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 17);
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    // 자정 직전으로 고정해 실행 시각과 무관하게 같은 날짜로 발급되는지 확인
+    private static final Clock CLOCK = Clock.fixed(DAY.atTime(23, 59, 59).atZone(SEOUL).toInstant(), SEOUL);
+
+    private final Map<LocalDate, Integer> counters = new HashMap<>();
+    private ApplicationNumberCounterRepository counterRepository;
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        // upsert-returning과 같이 일자별 행 단위로 원자적 증가
+        counterRepository = mock(ApplicationNumberCounterRepository.class);
+        when(counterRepository.reserve(any(LocalDate.class), anyInt())).thenAnswer(invocation -> {
+            synchronized (counters) {
+                return counters.merge(invocation.getArgument(0), invocation.<Integer>getArgument(1), Integer::sum);
+            }
+        });
+        transactionManager = mock(PlatformTransactionManager.class);
+    }
+
+    @Test
+    void numbersEachDayFromOne() {
+        ApplicationNumberGenerator generator = generator(3);
+
+        assertThat(generator.next(DAY)).isEqualTo("APP-20261017-00001");
+        assertThat(generator.next(DAY)).isEqualTo("APP-20261017-00002");
+        assertThat(generator.next(DAY.plusDays(1))).isEqualTo("APP-20261018-00001");
+    }
+
+    @Test
+    void continuesAfterExistingCounter() {
+        // 마이그레이션으로 초기화된 기존 번호 이후부터 발급
+        counters.put(DAY, 41);
+        ApplicationNumberGenerator generator = generator(1);
+
+        assertThat(generator.next(DAY)).isEqualTo("APP-20261017-00042");
+    }
+
+    @Test
+    void concurrentSubmissionsReceiveUniqueNumbers() throws Exception {
+        // 두 노드가 같은 카운터를 공유
+        ApplicationNumberGenerator nodeA = generator(10);
+        ApplicationNumberGenerator nodeB = generator(10);
+        MembershipApplicationService serviceA = serviceWith(nodeA);
+        MembershipApplicationService serviceB = serviceWith(nodeB);
+
+        int submissions = 5_000;
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < submissions; i++) {
+                long userId = i + 1;
+                MembershipApplicationService service = i % 2 == 0 ? serviceA : serviceB;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return service.submitApplication(userId, request(userId)).applicationNumber();
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures) {
+                numbers.add(future.get());
+            }
+        }
+
+        assertThat(numbers).hasSize(submissions);
+        assertThat(numbers).allSatisfy(number -> assertThat(number).startsWith("APP-20261017-").hasSize(18));
+        // 노드별 잔여 블록 외에는 번호가 비지 않음
+        assertThat(counters.get(DAY)).isBetween(submissions, submissions + 2 * 9);
+    }
+
+    @Test
+    void reservesBeforeSubmissionTransactionOpens() {
+        MembershipApplicationRepository applicationRepository = applicationRepository();
+        MembershipApplicationService service = new MembershipApplicationService(
+                applicationRepository, mock(ApplicationEventPublisher.class), generator(10), transactionManager);
+
+        service.submitApplication(1L, request(1L));
+
+        InOrder order = inOrder(counterRepository, applicationRepository);
+        order.verify(counterRepository).reserve(DAY, 10);
+        order.verify(applicationRepository).findByUserIdAndStatus(anyLong(), any(ApplicationStatus.class));
+    }
+
+    @Test
+    void refusesToReserveInsideTransaction() {
+        ApplicationNumberGenerator generator = generator(10);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(generator::next).isInstanceOf(IllegalStateException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private ApplicationNumberGenerator generator(int blockSize) {
+        return new ApplicationNumberGenerator(counterRepository, transactionManager, blockSize, CLOCK);
+    }
+
+    private MembershipApplicationService serviceWith(ApplicationNumberGenerator generator) {
+        return new MembershipApplicationService(
+                applicationRepository(), mock(ApplicationEventPublisher.class), generator, transactionManager);
+    }
+
+    private static MembershipApplicationRepository applicationRepository() {
+        MembershipApplicationRepository applicationRepository = mock(MembershipApplicationRepository.class);
+        when(applicationRepository.save(any(MembershipApplication.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        return applicationRepository;
+    }
+
+    private static MembershipApplicationRequest request(long userId) {
+        return new MembershipApplicationRequest(
+                "신청자" + userId, "010-0000-0000", "12가3456", "VIN" + userId, "M3", VehicleOwnershipType.PERSONAL);
+    }
+}
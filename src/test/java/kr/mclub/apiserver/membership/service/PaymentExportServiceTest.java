@@ -0,0 +1,95 @@
+package kr.mclub.apiserver.membership.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import kr.mclub.apiserver.membership.domain.PaymentStatus;
+import kr.mclub.apiserver.membership.repository.PaymentExportRepository;
+import kr.mclub.apiserver.shared.util.ExportFormat;
+import kr.mclub.apiserver.shared.util.ExportStreamer;
+
+/**
+ * 결제 내보내기 형식 검증 (커서는 목 ResultSet으로 대체)
+ */
+class PaymentExportServiceTest {
+
+    private PaymentExportRepository repository;
+    private PaymentExportService service;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ResultSet confirmed = mock(ResultSet.class);
+        when(confirmed.getLong("id")).thenReturn(10L);
+        when(confirmed.getLong("user_id")).thenReturn(7L);
+        when(confirmed.getObject("member_number", Integer.class)).thenReturn(650);
+        when(confirmed.getString("real_name")).thenReturn("홍길동");
+        when(confirmed.getString("payment_type")).thenReturn("ANNUAL_FEE");
+        when(confirmed.getInt("target_year")).thenReturn(2026);
+        when(confirmed.getBigDecimal("amount")).thenReturn(new BigDecimal("200000.00"));
+        when(confirmed.getString("depositor_name")).thenReturn("+홍길동");
+        when(confirmed.getObject("deposit_date", LocalDate.class)).thenReturn(LocalDate.of(2026, 1, 5));
+        when(confirmed.getString("status")).thenReturn("CONFIRMED");
+        when(confirmed.getBoolean("auto_confirmed")).thenReturn(true);
+        when(confirmed.getObject(eq("created_at"), eq(LocalDateTime.class)))
+                .thenReturn(LocalDateTime.of(2026, 1, 5, 14, 0));
+
+        repository = mock(PaymentExportRepository.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            handler.processRow(confirmed);
+            return null;
+        }).when(repository).forEachPayment(any(), any(), any());
+
+        service = new PaymentExportService(repository,
+                new ExportStreamer(mock(PlatformTransactionManager.class), 2, Duration.ofMinutes(10)));
+    }
+
+    @Test
+    void writesCsvRowInColumnOrder() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(ExportFormat.CSV, PaymentStatus.CONFIRMED, 2026).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("\uFEFF" + String.join(",", PaymentExportService.COLUMNS));
+        // 금액은 지수 표기 없이, 수식으로 해석될 수 있는 입금자명은 무력화
+        assertThat(lines[1]).isEqualTo(
+                "10,7,650,홍길동,,ANNUAL_FEE,2026,200000.00,'+홍길동,2026-01-05,CONFIRMED,true,,,,,,,,2026-01-05T14:00");
+        verify(repository).forEachPayment(eq(PaymentStatus.CONFIRMED), eq(2026), any());
+    }
+
+    @Test
+    void writesNdjsonWithNumericAmounts() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(ExportFormat.NDJSON, null, null).writeTo(out);
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertThat(json).endsWith("\n").doesNotContain("\uFEFF");
+        assertThat(json).contains("\"id\":10,", "\"amount\":200000.00,", "\"refund_amount\":null,",
+                "\"deposit_date\":\"2026-01-05\"");
+        verify(repository).forEachPayment(isNull(), isNull(), any());
+    }
+}
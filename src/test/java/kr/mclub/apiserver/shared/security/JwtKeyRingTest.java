@@ -0,0 +1,96 @@
+package kr.mclub.apiserver.shared.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Keys;
+
+import kr.mclub.apiserver.shared.config.JwtSigningProperties;
+
+/**
+ * JWT 키 링 검증: 임시 키 허용 조건과 기존 HMAC 토큰 허용 기간
+ */
+class JwtKeyRingTest {
+
+    private static final byte[] LEGACY_KEY = "legacy-hmac-test-key-0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final Instant CUT_OFF = Instant.parse("2026-11-01T00:00:00Z");
+
+    @Test
+    void failsWithoutSigningKeyOutsideDevProfiles() {
+        assertThatThrownBy(() -> new JwtKeyRing(new JwtSigningProperties(), false, Clock.systemUTC()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No JWT signing key configured");
+    }
+
+    @Test
+    void generatesEphemeralKeyInDevProfiles() {
+        JwtKeyRing keyRing = new JwtKeyRing(new JwtSigningProperties(), true, Clock.systemUTC());
+
+        String token = Jwts.builder().subject("1")
+                .header().keyId(keyRing.getActiveKeyId()).and()
+                .signWith(keyRing.getSigningKey(), keyRing.getAlgorithm())
+                .compact();
+        assertThat(parse(keyRing, token)).isEqualTo("1");
+    }
+
+    @Test
+    void rejectsLegacyHmacTokenByDefault() {
+        JwtKeyRing keyRing = new JwtKeyRing(new JwtSigningProperties(), true, Clock.systemUTC());
+
+        assertThatThrownBy(() -> parse(keyRing, legacyToken()))
+                .isInstanceOf(InvalidKeyException.class);
+    }
+
+    @Test
+    void acceptsLegacyHmacTokenOnlyBeforeCutOff() {
+        JwtSigningProperties properties = legacyEnabled();
+
+        JwtKeyRing before = new JwtKeyRing(properties, true, at(CUT_OFF.minusSeconds(1)));
+        JwtKeyRing after = new JwtKeyRing(properties, true, at(CUT_OFF));
+
+        assertThat(parse(before, legacyToken())).isEqualTo("7");
+        assertThatThrownBy(() -> parse(after, legacyToken()))
+                .isInstanceOf(InvalidKeyException.class);
+    }
+
+    @Test
+    void requiresCutOffWhenLegacyHmacEnabled() {
+        JwtSigningProperties properties = legacyEnabled();
+        properties.getLegacyHmac().setAcceptUntil(null);
+
+        assertThatThrownBy(() -> new JwtKeyRing(properties, true, Clock.systemUTC()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static JwtSigningProperties legacyEnabled() {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.getLegacyHmac().setEnabled(true);
+        properties.getLegacyHmac().setSecret(Base64.getEncoder().encodeToString(LEGACY_KEY));
+        properties.getLegacyHmac().setAcceptUntil(CUT_OFF);
+        return properties;
+    }
+
+    private static String legacyToken() {
+        return Jwts.builder().subject("7")
+                .signWith(Keys.hmacShaKeyFor(LEGACY_KEY), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    private static String parse(JwtKeyRing keyRing, String token) {
+        return Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    private static Clock at(Instant instant) {
+        return Clock.fixed(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,151 @@
+package kr.mclub.apiserver.shared.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+/**
+ * 해싱 풀 검증: 전용 스레드 실행, 포화 시 503 거절, 재해싱 판단
+ */
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hasher.shutdown();
+    }
+
+    @Test
+    void hashesOnDedicatedPool() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        String[] hashingThread = new String[1];
+        hasher = new PasswordHasher(new DelegatingEncoder(bcrypt) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashingThread[0] = Thread.currentThread().getName();
+                return super.encode(rawPassword);
+            }
+        }, 1, 4, 3000, meterRegistry);
+
+        String hash = hasher.encode("password");
+
+        assertThat(hashingThread[0]).startsWith("password-hashing-");
+        assertThat(hasher.matches("password", hash)).isTrue();
+        assertThat(hasher.matches("other", hash)).isFalse();
+    }
+
+    @Test
+    void needsRehashOnlyForWeakerCost() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(5), 1, 4, 3000, meterRegistry);
+
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("password"))).isFalse();
+        assertThat(hasher.needsRehash(hasher.encode("password"))).isFalse();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        hasher = new PasswordHasher(blockingEncoder(started), 1, 1, 10_000, meterRegistry);
+
+        // 1건은 실행 중, 1건은 대기열에 → 풀 포화
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("queued"));
+        awaitQueued(1);
+
+        long startNanos = System.nanoTime();
+        assertServiceBusy(() -> hasher.encode("rejected"));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isLessThan(1000);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:queued");
+    }
+
+    @Test
+    void rejectsWhenWaitExceedsTimeout() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        hasher = new PasswordHasher(blockingEncoder(started), 1, 4, 100, meterRegistry);
+
+        CompletableFuture.runAsync(() -> hasher.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertServiceBusy(() -> hasher.matches("waiting", "hash:waiting"));
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch started) {
+        return new DelegatingEncoder(null) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+        };
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void assertServiceBusy(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SERVICE_BUSY);
+                    assertThat(e.getErrorCode().getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                });
+    }
+
+    private static class DelegatingEncoder implements PasswordEncoder {
+
+        private final PasswordEncoder delegate;
+
+        DelegatingEncoder(PasswordEncoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+    }
+}
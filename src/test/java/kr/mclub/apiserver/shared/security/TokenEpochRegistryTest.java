@@ -0,0 +1,78 @@
+package kr.mclub.apiserver.shared.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 토큰 에포크 레지스트리 검증: 없는 사용자, 증가만 반영, 테이블 확장과 충돌
+ */
+class TokenEpochRegistryTest {
+
+    private final TokenEpochRegistry registry = new TokenEpochRegistry();
+
+    @Test
+    void userWithoutEntryIsAtEpochZero() {
+        assertThat(registry.current(42L)).isZero();
+        assertThat(registry.isCurrent(42L, 0)).isTrue();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void advanceOnlyMovesForward() {
+        registry.advance(7L, 2);
+        registry.advance(7L, 1);
+        registry.advance(7L, 2);
+
+        assertThat(registry.current(7L)).isEqualTo(2);
+        assertThat(registry.isCurrent(7L, 1)).isFalse();
+        assertThat(registry.isCurrent(7L, 2)).isTrue();
+        assertThat(registry.isCurrent(7L, 3)).isTrue();
+        assertThat(registry.size()).isEqualTo(1);
+        // 다른 사용자에는 영향 없음
+        assertThat(registry.isCurrent(8L, 0)).isTrue();
+    }
+
+    @Test
+    void advanceAllKeepsHighestEpochAndHonoursCount() {
+        registry.advance(1L, 5);
+
+        registry.advanceAll(new long[]{1L, 2L, 2L, 3L, 0L, 4L}, new int[]{3, 1, 4, 2, 9, 7}, 5);
+
+        assertThat(registry.current(1L)).isEqualTo(5);
+        assertThat(registry.current(2L)).isEqualTo(4);
+        assertThat(registry.current(3L)).isEqualTo(2);
+        // count 밖의 항목과 0(빈 칸 표시) 키는 무시
+        assertThat(registry.current(4L)).isZero();
+        assertThat(registry.current(0L)).isZero();
+        assertThat(registry.size()).isEqualTo(3);
+    }
+
+    @Test
+    void growsOneByOneAndInBulkWithoutLosingEntries() {
+        // 하위/상위 비트만 다른 키를 섞어 탐색 충돌을 유도
+        int users = 5_000;
+        for (int i = 1; i <= users; i++) {
+            registry.advance(key(i), i % 7 + 1);
+        }
+        assertThat(registry.size()).isEqualTo(users);
+
+        long[] ids = new long[users * 2];
+        int[] epochs = new int[users * 2];
+        for (int i = 0; i < users * 2; i++) {
+            ids[i] = key(i + 1);
+            epochs[i] = 100;
+        }
+        registry.advanceAll(ids, epochs, ids.length);
+
+        assertThat(registry.size()).isEqualTo(users * 2);
+        for (int i = 1; i <= users * 2; i++) {
+            assertThat(registry.current(key(i))).as("user %d", i).isEqualTo(100);
+        }
+        assertThat(registry.current(key(users * 2 + 1))).isZero();
+    }
+
+    private static long key(int i) {
+        return i % 2 == 0 ? i : ((long) i << 32) | 1L;
+    }
+}
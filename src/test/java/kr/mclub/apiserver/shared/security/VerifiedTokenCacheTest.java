@@ -0,0 +1,167 @@
+package kr.mclub.apiserver.shared.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.mclub.apiserver.shared.config.JwtSigningProperties;
+
+/**
+ * 검증된 JWT 캐시 검증: 전체 토큰 일치, exp 만료, 샤드별 LRU, Refresh Token 제외
+ */
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void hitsOnlyWhenWholeTokenMatches() {
+        VerifiedTokenCache cache = cache(100, 4);
+        cache.put("header.payload.signature", access(1L, Duration.ofMinutes(15)));
+
+        // 같은 서명 세그먼트에 다른 페이로드를 붙인 토큰은 적중하지 않음
+        assertThat(cache.get("header.forged-payload.signature")).isNull();
+        assertThat(cache.get("header.payload.signature").userId()).isEqualTo(1L);
+
+        assertThat(requests("hit")).isEqualTo(1.0);
+        assertThat(requests("miss")).isEqualTo(1.0);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void missesMalformedTokens() {
+        VerifiedTokenCache cache = cache(100, 4);
+
+        assertThat(cache.get(null)).isNull();
+        assertThat(cache.get("no-dots")).isNull();
+        assertThat(cache.get("header.payload.")).isNull();
+        assertThat(requests("miss")).isEqualTo(3.0);
+    }
+
+    @Test
+    void expiresAtTokenExp() {
+        VerifiedTokenCache cache = cache(100, 4);
+        cache.put("h.p.s", access(1L, Duration.ofMinutes(15)));
+
+        clock.advance(Duration.ofMinutes(15).minusMillis(1));
+        assertThat(cache.get("h.p.s")).isNotNull();
+
+        clock.advance(Duration.ofMillis(1));
+        assertThat(cache.get("h.p.s")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        VerifiedTokenCache cache = cache(2, 1);
+        cache.put("h.p.a", access(1L, Duration.ofMinutes(15)));
+        cache.put("h.p.b", access(2L, Duration.ofMinutes(15)));
+        cache.get("h.p.a");
+
+        cache.put("h.p.c", access(3L, Duration.ofMinutes(15)));
+
+        assertThat(cache.get("h.p.b")).isNull();
+        assertThat(cache.get("h.p.a")).isNotNull();
+        assertThat(cache.get("h.p.c")).isNotNull();
+        assertThat(evictions()).isEqualTo(1.0);
+    }
+
+    @Test
+    void boundsEachShard() {
+        // 샤드 4개 × 2개
+        VerifiedTokenCache cache = cache(8, 4);
+        for (int i = 0; i < 100; i++) {
+            cache.put("h.p.signature-" + i, access((long) i, Duration.ofMinutes(15)));
+        }
+
+        assertThat(cache.size()).isBetween(1, 8);
+        assertThat(evictions()).isEqualTo(100.0 - cache.size());
+        assertThat(cache.get("h.p.signature-99")).isNotNull();
+    }
+
+    @Test
+    void neverStoresRefreshTokens() {
+        VerifiedTokenCache cache = cache(100, 4);
+        cache.put("h.p.refresh", new VerifiedToken(1L, null, null, VerifiedToken.TYPE_REFRESH, "jti", "fid", 0,
+                NOW.plus(Duration.ofDays(7))));
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("h.p.refresh")).isNull();
+    }
+
+    @Test
+    void providerCachesAccessTokensButNotRefreshTokens() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, 4, meterRegistry);
+        JwtTokenProvider provider = new JwtTokenProvider(cache, new TokenEpochRegistry(),
+                new JwtKeyRing(new JwtSigningProperties(), true, Clock.systemUTC()));
+        ReflectionTestUtils.setField(provider, "accessTokenValidityMs", 900_000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenValidityMs", 604_800_000L);
+        provider.init();
+
+        String refresh = provider.createRefreshToken(1L, "family", "jti").value();
+        assertThat(provider.verify(refresh)).isPresent();
+        assertThat(provider.verify(refresh)).isPresent();
+        assertThat(cache.size()).isZero();
+
+        String access = provider.createAccessToken(1L, "member@mclub.kr", "REGULAR");
+        assertThat(provider.verify(access)).isPresent();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(access).gradeCode()).isEqualTo("REGULAR");
+    }
+
+    private VerifiedTokenCache cache(int maxSize, int shards) {
+        return new VerifiedTokenCache(maxSize, shards, meterRegistry, clock);
+    }
+
+    private VerifiedToken access(Long userId, Duration validity) {
+        return new VerifiedToken(userId, "member@mclub.kr", "REGULAR", VerifiedToken.TYPE_ACCESS, null, null, 0,
+                clock.instant().plus(validity));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("jwt.cache.requests").tag("result", result).functionCounter().count();
+    }
+
+    private double evictions() {
+        return meterRegistry.get("jwt.cache.evictions").functionCounter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package kr.mclub.apiserver.shared.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * size + 1건 조회 결과로 hasNext / nextCursor를 결정하는지 검증
+ */
+class CursorPageResponseTest {
+
+    @Test
+    void extraRowMeansNextPageFromLastReturnedRow() {
+        List<Long> rows = List.of(10L, 11L, 12L, 13L);
+
+        CursorPageResponse<Long> response = CursorPageResponse.of(rows, 3, id -> PageCursor.encode(id));
+
+        // 초과분(13)은 응답에서 빠지고, 커서는 마지막으로 반환한 행(12)을 가리킴
+        assertThat(response.getContent()).containsExactly(10L, 11L, 12L);
+        assertThat(response.getPage().isHasNext()).isTrue();
+        assertThat(response.getPage().getCount()).isEqualTo(3);
+        assertThat(response.getPage().getSize()).isEqualTo(3);
+        assertThat(PageCursor.decode(response.getPage().getNextCursor(), 1).getLong(0)).isEqualTo(12L);
+    }
+
+    @Test
+    void fullPageWithoutExtraRowIsLastPage() {
+        CursorPageResponse<Long> response = CursorPageResponse.of(List.of(10L, 11L, 12L), 3,
+                id -> PageCursor.encode(id));
+
+        assertThat(response.getContent()).containsExactly(10L, 11L, 12L);
+        assertThat(response.getPage().isHasNext()).isFalse();
+        assertThat(response.getPage().getNextCursor()).isNull();
+    }
+
+    @Test
+    void emptyResultIsLastPage() {
+        CursorPageResponse<Long> response = CursorPageResponse.of(List.<Long>of(), 20, id -> PageCursor.encode(id));
+
+        assertThat(response.getContent()).isEmpty();
+        assertThat(response.getPage().getCount()).isZero();
+        assertThat(response.getPage().isHasNext()).isFalse();
+        assertThat(response.getPage().getNextCursor()).isNull();
+    }
+
+    @Test
+    void mapperAppliesOnlyToReturnedRowsWhileCursorUsesSourceRow() {
+        List<Long> rows = List.of(10L, 11L, 12L);
+
+        CursorPageResponse<String> response = CursorPageResponse.of(rows, 2, id -> PageCursor.encode(id),
+                id -> "member-" + id);
+
+        assertThat(response.getContent()).containsExactly("member-10", "member-11");
+        assertThat(PageCursor.decode(response.getPage().getNextCursor(), 1).getLong(0)).isEqualTo(11L);
+
+        CursorPageResponse<Integer> mapped = response.map(String::length);
+        assertThat(mapped.getContent()).containsExactly(9, 9);
+        assertThat(mapped.getPage()).isSameAs(response.getPage());
+    }
+}
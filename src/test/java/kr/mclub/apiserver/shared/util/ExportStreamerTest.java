@@ -0,0 +1,129 @@
+package kr.mclub.apiserver.shared.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+/**
+ * 내보내기 동시 실행 제한과 제한 시간 검증
+ */
+class ExportStreamerTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final MutableClock clock = new MutableClock();
+    private final ExportStreamer streamer = new ExportStreamer(transactionManager, 2, Duration.ofMinutes(10), clock);
+
+    @Test
+    void rejectsBeyondConcurrencyCapUntilASlotIsReleased() throws IOException {
+        StreamingResponseBody first = stream(3);
+        StreamingResponseBody second = stream(3);
+
+        assertThatThrownBy(() -> stream(3))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVICE_BUSY);
+
+        first.writeTo(new ByteArrayOutputStream());
+        assertThat(stream(3)).isNotNull();
+        second.writeTo(new ByteArrayOutputStream());
+    }
+
+    @Test
+    void releasesSlotWhenWritingFails() {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            StreamingResponseBody body = stream(1);
+            assertThatThrownBy(() -> body.writeTo(new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            })).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    void runsReadOnlyTransactionWithTimeout() throws IOException {
+        stream(1).writeTo(new ByteArrayOutputStream());
+
+        verify(transactionManager).getTransaction(argThat((TransactionDefinition definition) ->
+                definition.isReadOnly() && definition.getTimeout() == 600));
+    }
+
+    @Test
+    void stopsStreamingWhenDeadlinePasses() {
+        AtomicInteger emitted = new AtomicInteger();
+        StreamingResponseBody body = streamer.stream("테스트", ExportFormat.CSV, List.of("n"),
+                handler -> {
+                    for (int i = 0; i < 100; i++) {
+                        if (i == 5) {
+                            // 느린 클라이언트: 5행 이후 제한 시간 경과
+                            clock.advance(Duration.ofMinutes(11));
+                        }
+                        handler.processRow(mock(ResultSet.class));
+                        emitted.incrementAndGet();
+                    }
+                },
+                rs -> new Object[] {emitted.get()});
+
+        assertThatThrownBy(() -> body.writeTo(new ByteArrayOutputStream()))
+                .isInstanceOf(QueryTimeoutException.class);
+        assertThat(emitted).hasValue(5);
+    }
+
+    private StreamingResponseBody stream(int rows) {
+        return streamer.stream("테스트", ExportFormat.NDJSON, List.of("n"),
+                handler -> {
+                    for (int i = 0; i < rows; i++) {
+                        handler.processRow(mock(ResultSet.class));
+                    }
+                },
+                rs -> new Object[] {1});
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-03-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package kr.mclub.apiserver.shared.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+/**
+ * 페이지 커서 인코딩/디코딩 왕복과 잘못된 커서 거절 검증
+ */
+class PageCursorTest {
+
+    @Test
+    void roundTripsSortKeys() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 9, 30, 15, 123_456_000);
+        String cursor = PageCursor.encode(createdAt, 42L, 0.1f, "REGULAR");
+
+        // URL에 그대로 넣을 수 있는 형식
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+
+        PageCursor position = PageCursor.decode(cursor, 4);
+        assertThat(position.getDateTime(0)).isEqualTo(createdAt);
+        assertThat(position.getLong(1)).isEqualTo(42L);
+        assertThat(position.getFloat(2)).isEqualTo(0.1f);
+        assertThat(position.getString(3)).isEqualTo("REGULAR");
+    }
+
+    @Test
+    void keepsExactFloatBits() {
+        // 유사도 점수는 비트 그대로 보존되어야 seek 비교에서 같은 행을 다시 가리킴
+        for (float score : new float[]{0.33333334f, Float.MIN_VALUE, -0.0f, 1.0f - Math.ulp(1.0f)}) {
+            float decoded = PageCursor.decode(PageCursor.encode(score, 1L), 2).getFloat(0);
+
+            assertThat(Float.floatToRawIntBits(decoded)).isEqualTo(Float.floatToRawIntBits(score));
+        }
+    }
+
+    @Test
+    void rejectsCursorThatIsNotBase64() {
+        assertInvalid(() -> PageCursor.decode("not a cursor!", 2));
+    }
+
+    @Test
+    void rejectsCursorWithUnexpectedKeyCount() {
+        String cursor = PageCursor.encode(1L, 2L, 3L);
+
+        assertInvalid(() -> PageCursor.decode(cursor, 2));
+        assertInvalid(() -> PageCursor.decode(cursor, 4));
+    }
+
+    @Test
+    void rejectsValuesOfWrongType() {
+        PageCursor position = PageCursor.decode(raw("abc|zz-not-hex|yesterday"), 3);
+
+        assertInvalid(() -> position.getLong(0));
+        assertInvalid(() -> position.getFloat(1));
+        assertInvalid(() -> position.getDateTime(2));
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(Runnable decode) {
+        assertThatThrownBy(decode::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+    }
+}
@@ -0,0 +1,166 @@
+package kr.mclub.apiserver.user.oauth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.KeyPair;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+
+import kr.mclub.apiserver.shared.config.OAuth2Properties;
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+/**
+ * id_token 로컬 검증 테스트 (서명 키는 모의 JWKS 캐시에서 제공)
+ */
+class IdTokenVerifierTest {
+
+    private static final String ISSUER = "https://appleid.apple.com";
+    private static final String JWKS_URI = "https://appleid.apple.com/auth/keys";
+
+    private final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+
+    private ProviderJwksCache jwksCache;
+    private IdTokenVerifier verifier;
+    private OAuth2Properties.ProviderConfig config;
+
+    @BeforeEach
+    void setUp() {
+        jwksCache = mock(ProviderJwksCache.class);
+        when(jwksCache.getKey("apple", JWKS_URI, "k1")).thenReturn(keyPair.getPublic());
+        verifier = new IdTokenVerifier(jwksCache);
+
+        config = new OAuth2Properties.ProviderConfig();
+        config.setClientId("kr.mclub.app");
+        config.setJwksUri(JWKS_URI);
+        config.setIssuers(List.of(ISSUER));
+    }
+
+    @Test
+    void verifiesSignatureAudienceAndIssuer() {
+        Claims claims = verifier.verify("apple", config, token(builder -> builder
+                .claim("email", "member@mclub.kr")
+                .claim("email_verified", "true")));
+
+        assertThat(claims.getSubject()).isEqualTo("apple-1");
+        assertThat(claims.get("email", String.class)).isEqualTo("member@mclub.kr");
+        assertThat(IdTokenVerifier.isEmailVerified(claims)).isTrue();
+    }
+
+    @Test
+    void emailVerifiedMustBeExplicitlyTrue() {
+        assertThat(IdTokenVerifier.isEmailVerified(verifier.verify("apple", config,
+                token(builder -> builder.claim("email_verified", true))))).isTrue();
+        assertThat(IdTokenVerifier.isEmailVerified(verifier.verify("apple", config,
+                token(builder -> builder.claim("email_verified", "false"))))).isFalse();
+        assertThat(IdTokenVerifier.isEmailVerified(verifier.verify("apple", config,
+                token(UnaryOperator.identity())))).isFalse();
+    }
+
+    @Test
+    void rejectsTokenWithoutKeyIdBeforeLookingUpKeys() {
+        String idToken = Jwts.builder()
+                .subject("apple-1")
+                .issuer(ISSUER)
+                .audience().add("kr.mclub.app").and()
+                .expiration(Date.from(Instant.now().plusSeconds(300)))
+                .signWith(keyPair.getPrivate())
+                .compact();
+
+        assertAuthenticationFailed(idToken);
+        verify(jwksCache, never()).getKey(anyString(), anyString(), any());
+    }
+
+    @Test
+    void rejectsUnknownKeyId() {
+        String idToken = token(builder -> builder.header().keyId("rotated").and());
+
+        assertAuthenticationFailed(idToken);
+        verify(jwksCache).getKey("apple", JWKS_URI, "rotated");
+    }
+
+    @Test
+    void rejectsForeignSignature() {
+        KeyPair other = Jwts.SIG.RS256.keyPair().build();
+        String idToken = token(builder -> builder.signWith(other.getPrivate()));
+
+        assertAuthenticationFailed(idToken);
+    }
+
+    @Test
+    void rejectsOtherAudience() {
+        String idToken = Jwts.builder()
+                .header().keyId("k1").and()
+                .subject("apple-1")
+                .issuer(ISSUER)
+                .audience().add("other.app").and()
+                .expiration(Date.from(Instant.now().plusSeconds(300)))
+                .signWith(keyPair.getPrivate())
+                .compact();
+
+        assertAuthenticationFailed(idToken);
+    }
+
+    @Test
+    void rejectsUnexpectedIssuer() {
+        String idToken = token(builder -> builder.issuer("https://evil.example"));
+
+        assertAuthenticationFailed(idToken);
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String idToken = token(builder -> builder.expiration(Date.from(Instant.now().minusSeconds(60))));
+
+        assertAuthenticationFailed(idToken);
+    }
+
+    @Test
+    void jwksOutageSurfacesAsProviderUnavailable() {
+        when(jwksCache.getKey(eq("apple"), eq(JWKS_URI), eq("k1")))
+                .thenThrow(new BusinessException(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE, "apple JWKS 조회 실패"));
+
+        assertThatThrownBy(() -> verifier.verify("apple", config, token(UnaryOperator.identity())))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+    }
+
+    private void assertAuthenticationFailed(String idToken) {
+        assertThatThrownBy(() -> verifier.verify("apple", config, idToken))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.OAUTH_AUTHENTICATION_FAILED);
+    }
+
+    /**
+     * 유효한 id_token을 만든 뒤 customizer로 한 가지 속성만 바꿔 서명
+     */
+    private String token(UnaryOperator<JwtBuilder> customizer) {
+        JwtBuilder builder = Jwts.builder()
+                .header().keyId("k1").and()
+                .subject("apple-1")
+                .issuer(ISSUER)
+                .audience().add("kr.mclub.app").and()
+                .expiration(Date.from(Instant.now().plusSeconds(300)))
+                .signWith(keyPair.getPrivate());
+        return customizer.apply(builder).compact();
+    }
+}
@@ -0,0 +1,144 @@
+package kr.mclub.apiserver.user.oauth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.client.RestClient;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.mclub.apiserver.shared.config.OAuth2Properties;
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+/**
+ * 공용 OAuth2 HTTP 클라이언트 테스트 (로컬 스텁 Provider 서버)
+ */
+class OAuth2HttpClientsTest {
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private OAuth2HttpClients httpClients;
+    private GoogleOAuth2Client googleClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/token", exchange -> respond(exchange, 200, """
+                {"access_token":"stub-access","refresh_token":"stub-refresh","expires_in":3599,
+                 "token_type":"Bearer","scope":"email"}
+                """));
+        server.createContext("/userinfo", exchange -> {
+            boolean authorized = "Bearer stub-access".equals(exchange.getRequestHeaders().getFirst("Authorization"));
+            respond(exchange, authorized ? 200 : 401, """
+                    {"sub":"g-1","email":"stub@mclub.kr","name":"Stub","picture":null}
+                    """);
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{}");
+        });
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        if (httpClients != null) {
+            httpClients.close();
+        }
+    }
+
+    @Test
+    void exchangesCodeAndFetchesUserInfoThroughSharedClient() {
+        setUpGoogle("/userinfo");
+
+        OAuth2Client.OAuth2TokenResponse token = googleClient.exchangeCodeForToken("code", null);
+        OAuth2Client.OAuth2UserInfo userInfo = googleClient.getUserInfo(token.accessToken());
+
+        assertThat(token.accessToken()).isEqualTo("stub-access");
+        assertThat(token.expiresIn()).isEqualTo(3599L);
+        assertThat(userInfo.providerId()).isEqualTo("g-1");
+        assertThat(userInfo.email()).isEqualTo("stub@mclub.kr");
+
+        // 같은 Provider는 같은 RestClient를 재사용
+        assertThat(httpClients.forProvider("google")).isSameAs(httpClients.forProvider("google"));
+
+        Timer post = meterRegistry.get("oauth.client.requests")
+                .tags("provider", "google", "method", "POST", "outcome", "SUCCESS")
+                .timer();
+        Timer get = meterRegistry.get("oauth.client.requests")
+                .tags("provider", "google", "method", "GET", "outcome", "SUCCESS")
+                .timer();
+        assertThat(post.count()).isEqualTo(1);
+        assertThat(get.count()).isEqualTo(1);
+    }
+
+    @Test
+    void slowProviderFailsWithinReadTimeout() {
+        setUpGoogle("/slow");
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> googleClient.getUserInfo("token"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.OAUTH_USER_INFO_FAILED);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1_500));
+
+        assertThat(meterRegistry.get("oauth.client.requests")
+                .tags("provider", "google", "outcome", "IO_ERROR")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    private void setUpGoogle(String userInfoPath) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        OAuth2Properties.ProviderConfig google = new OAuth2Properties.ProviderConfig();
+        google.setClientId("client");
+        google.setClientSecret("secret");
+        google.setRedirectUri("http://localhost/callback");
+        google.setTokenUri(baseUrl + "/token");
+        google.setUserInfoUri(baseUrl + userInfoPath);
+        google.setReadTimeout(Duration.ofMillis(300));
+
+        OAuth2Properties properties = new OAuth2Properties();
+        properties.setProvider(Map.of("google", google));
+
+        httpClients = new OAuth2HttpClients(properties,
+                new StaticListableBeanFactory().getBeanProvider(RestClient.Builder.class),
+                meterRegistry);
+        googleClient = new GoogleOAuth2Client(properties, httpClients,
+                new IdTokenVerifier(new ProviderJwksCache(httpClients, Duration.ofHours(1), 0.8, Duration.ofSeconds(30))));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package kr.mclub.apiserver.user.oauth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.mclub.apiserver.shared.config.OAuth2Properties;
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.user.domain.OAuthProvider;
+import kr.mclub.apiserver.user.oauth.ProviderCircuitBreaker.State;
+
+/**
+ * 서킷 상태 전이 검증 (시계를 주입해 OPEN 유지 시간을 건너뜀)
+ */
+class ProviderCircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-17T00:00:00Z"));
+    private SimpleMeterRegistry meterRegistry;
+    private OAuth2Properties.Resilience settings;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        settings = new OAuth2Properties.Resilience();
+        settings.setMaxConcurrentCalls(5);
+        settings.setSlidingWindowSize(4);
+        settings.setMinimumCalls(4);
+        settings.setFailureRateThreshold(50);
+        settings.setOpenDuration(OPEN_DURATION);
+        settings.setHalfOpenProbes(1);
+    }
+
+    @Test
+    void opensAfterFailuresThenClosesOnSuccessfulProbeAfterCoolDown() {
+        ProviderCircuitBreaker breaker = breaker();
+
+        // 최소 호출 수에 닿기 전까지는 실패해도 CLOSED
+        fail(breaker, 3);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        fail(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(stateGauge()).isEqualTo(1.0);
+
+        // 유지 시간 동안은 호출 없이 거절
+        clock.advance(OPEN_DURATION.minusMillis(1));
+        assertRejected(breaker);
+        assertThat(meterRegistry.get("oauth.circuit.rejected").tag("reason", "open").counter().count())
+                .isEqualTo(1.0);
+
+        clock.advance(Duration.ofMillis(1));
+        breaker.acquire();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(stateGauge()).isEqualTo(2.0);
+        // 시험 호출이 진행 중이면 다른 호출은 거절
+        assertRejected(breaker);
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(stateGauge()).isZero();
+        breaker.acquire();
+        breaker.onSuccess();
+    }
+
+    @Test
+    void staysClosedWhileFailureRateIsBelowThreshold() {
+        ProviderCircuitBreaker breaker = breaker();
+
+        succeed(breaker, 3);
+        fail(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        // 구간이 밀려 4건 중 2건 실패(50%)가 되면 OPEN
+        fail(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void failedProbeReopensForAnotherFullCoolDown() {
+        ProviderCircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        clock.advance(OPEN_DURATION);
+
+        breaker.acquire();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+        clock.advance(OPEN_DURATION.minusMillis(1));
+        assertRejected(breaker);
+        clock.advance(Duration.ofMillis(1));
+        breaker.acquire();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    }
+
+    @Test
+    void closesOnlyAfterEveryProbeSucceeds() {
+        settings.setHalfOpenProbes(2);
+        ProviderCircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        clock.advance(OPEN_DURATION);
+
+        breaker.acquire();
+        breaker.acquire();
+        assertRejected(breaker);
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void bulkheadRejectsWithoutWaitingAndFreesSlotOnCompletion() {
+        settings.setMaxConcurrentCalls(1);
+        ProviderCircuitBreaker breaker = breaker();
+
+        breaker.acquire();
+        assertRejected(breaker);
+        assertThat(meterRegistry.get("oauth.circuit.rejected").tag("reason", "bulkhead").counter().count())
+                .isEqualTo(1.0);
+
+        breaker.onSuccess();
+        breaker.acquire();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    private ProviderCircuitBreaker breaker() {
+        return new ProviderCircuitBreaker(OAuthProvider.GOOGLE, settings, meterRegistry, clock);
+    }
+
+    private double stateGauge() {
+        return meterRegistry.get("oauth.circuit.state").tag("provider", "google").gauge().value();
+    }
+
+    private static void fail(ProviderCircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.acquire();
+            breaker.onFailure();
+        }
+    }
+
+    private static void succeed(ProviderCircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.acquire();
+            breaker.onSuccess();
+        }
+    }
+
+    private static void assertRejected(ProviderCircuitBreaker breaker) {
+        assertThatThrownBy(breaker::acquire)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
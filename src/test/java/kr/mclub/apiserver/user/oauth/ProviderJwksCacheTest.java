@@ -0,0 +1,220 @@
+package kr.mclub.apiserver.user.oauth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.mclub.apiserver.shared.config.OAuth2Properties;
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+/**
+ * Provider JWKS 캐시 테스트 (로컬 스텁 JWKS 서버, 조작 가능한 시계)
+ */
+class ProviderJwksCacheTest {
+
+    private final KeyPair first = Jwts.SIG.RS256.keyPair().build();
+    private final KeyPair second = Jwts.SIG.RS256.keyPair().build();
+
+    private HttpServer server;
+    private OAuth2HttpClients httpClients;
+    private MutableClock clock;
+    private ProviderJwksCache cache;
+    private String jwksUri;
+
+    private final AtomicInteger fetches = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile String cacheControl;
+    private volatile String body;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        body = jwks(jwk("k1", first));
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/keys", exchange -> {
+            fetches.incrementAndGet();
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (cacheControl != null) {
+                exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+            }
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        jwksUri = "http://127.0.0.1:" + server.getAddress().getPort() + "/keys";
+
+        OAuth2Properties properties = new OAuth2Properties();
+        properties.setProvider(Map.of());
+        httpClients = new OAuth2HttpClients(properties,
+                new StaticListableBeanFactory().getBeanProvider(RestClient.Builder.class),
+                new SimpleMeterRegistry());
+
+        clock = new MutableClock(Instant.parse("2026-03-01T00:00:00Z"));
+        cache = new ProviderJwksCache(httpClients, Duration.ofHours(1), 0.8, Duration.ofSeconds(30), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+        httpClients.close();
+        server.stop(0);
+    }
+
+    @Test
+    void servesCachedKeysUntilMaxAgeExpires() {
+        cacheControl = "public, max-age=600";
+
+        assertThat(cache.getKey("apple", jwksUri, "k1")).isEqualTo(first.getPublic());
+        clock.advance(Duration.ofSeconds(400));
+        assertThat(cache.getKey("apple", jwksUri, "k1")).isEqualTo(first.getPublic());
+        assertThat(fetches).hasValue(1);
+
+        // max-age(600초) 경과 후 다시 조회
+        clock.advance(Duration.ofSeconds(201));
+        assertThat(cache.getKey("apple", jwksUri, "k1")).isEqualTo(first.getPublic());
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void unknownKidRefetchesOnlyAfterMinimumInterval() {
+        assertThat(cache.getKey("apple", jwksUri, "k1")).isNotNull();
+
+        // Provider 키 교체
+        body = jwks(jwk("k1", first), jwk("k2", second));
+
+        // 방금 조회했으므로 재조회하지 않음 (위조 kid 폭주 방지)
+        assertThat(cache.getKey("apple", jwksUri, "k2")).isNull();
+        assertThat(fetches).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(cache.getKey("apple", jwksUri, "k2")).isEqualTo(second.getPublic());
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void missingKidReturnsNullWithoutFetching() {
+        assertThat(cache.getKey("apple", jwksUri, null)).isNull();
+        assertThat(fetches).hasValue(0);
+    }
+
+    @Test
+    void keysWithoutKidAreIgnored() {
+        body = jwks(jwk(null, first), jwk("k2", second));
+
+        assertThat(cache.getKey("apple", jwksUri, "k2")).isEqualTo(second.getPublic());
+    }
+
+    @Test
+    void outageWithoutCachedKeysIsProviderUnavailable() {
+        status = 503;
+
+        assertThatThrownBy(() -> cache.getKey("apple", jwksUri, "k1"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> {
+                    assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+                    // 원인 보존: 서킷 브레이커가 Provider 장애로 집계
+                    assertThat(e).hasRootCauseInstanceOf(HttpServerErrorException.class);
+                });
+    }
+
+    @Test
+    void malformedJwksWithoutCachedKeysIsProviderUnavailable() {
+        body = "{\"keys\":\"not-a-list\"}";
+
+        assertThatThrownBy(() -> cache.getKey("apple", jwksUri, "k1"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+    }
+
+    @Test
+    void outageKeepsServingStaleKeys() {
+        assertThat(cache.getKey("apple", jwksUri, "k1")).isNotNull();
+
+        status = 500;
+        clock.advance(Duration.ofHours(2));
+
+        assertThat(cache.getKey("apple", jwksUri, "k1")).isEqualTo(first.getPublic());
+        assertThat(fetches).hasValue(2);
+    }
+
+    private static String jwks(String... keys) {
+        return "{\"keys\":[" + String.join(",", keys) + "]}";
+    }
+
+    private static String jwk(String kid, KeyPair keyPair) {
+        RSAPublicKey key = (RSAPublicKey) keyPair.getPublic();
+        return "{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\","
+                + (kid != null ? "\"kid\":\"" + kid + "\"," : "")
+                + "\"n\":\"" + base64Url(key.getModulus()) + "\","
+                + "\"e\":\"" + base64Url(key.getPublicExponent()) + "\"}";
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package kr.mclub.apiserver.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.mclub.apiserver.shared.util.CursorPageResponse;
+import kr.mclub.apiserver.user.domain.AssociateStatus;
+import kr.mclub.apiserver.user.domain.User;
+import kr.mclub.apiserver.user.repository.MemberDirectoryRepository.DirectoryEntry;
+import kr.mclub.apiserver.user.service.MemberDirectoryService;
+
+/**
+ * 회원 디렉터리 읽기 모델 검증 (실제 PostgreSQL, 테스트마다 롤백)
+ *
+ * <p>SQL로 계산한 표시 이름이 {@link User#getDisplayName()}과 같은지, 비공개 전환/탈퇴 시 행이 빠지는지,
+ * 목록이 정회원 번호순이고 준회원이 뒤에 오는지 확인합니다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MemberDirectoryRepositoryTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private MemberDirectoryRepository directoryRepository;
+
+    @Autowired
+    private MemberDirectoryService directoryService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserGradeRepository gradeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 기존 행과 섞이지 않도록 비운 상태에서 시작 (롤백됨)
+        jdbcTemplate.update("DELETE FROM member_directory");
+    }
+
+    @Test
+    void displayNameMatchesDomainRule() {
+        // 번호 + 접미사, 번호만 (접미사 없는 등급), 접미사만 (준회원), 이름만
+        User president = user("PRESIDENT", 990_001);
+        User regular = user("REGULAR", 990_002);
+        User associate = user("ASSOCIATE", null);
+        User developer = user("DEVELOPER", null);
+
+        for (User user : new User[]{president, regular, associate, developer}) {
+            directoryRepository.refreshUser(user.getId());
+
+            DirectoryEntry entry = entry(user);
+            assertThat(entry.displayName()).isEqualTo(user.getDisplayName());
+            assertThat(entry.memberNumber()).isEqualTo(user.getMemberNumber());
+        }
+
+        assertThat(entry(regular).displayName()).isEqualTo("990002 " + regular.getRealName());
+        assertThat(entry(associate).displayName()).isEqualTo(associate.getRealName() + " (준회원)");
+        assertThat(entry(developer).displayName()).isEqualTo(developer.getRealName());
+    }
+
+    @Test
+    void refreshRemovesMemberWhoTurnsProfilePrivate() {
+        User user = user("REGULAR", 990_003);
+        directoryRepository.refreshUser(user.getId());
+        assertThat(directoryRepository.findByMemberNumber(990_003)).isPresent();
+
+        user.setProfilePublic(false);
+        userRepository.saveAndFlush(user);
+        directoryRepository.refreshUser(user.getId());
+
+        assertThat(directoryRepository.findByMemberNumber(990_003)).isEmpty();
+    }
+
+    @Test
+    void refreshRemovesWithdrawnMember() {
+        User user = user("REGULAR", 990_004);
+        directoryRepository.refreshUser(user.getId());
+        assertThat(directoryRepository.findByMemberNumber(990_004)).isPresent();
+
+        user.withdraw("테스트 탈퇴");
+        userRepository.saveAndFlush(user);
+        directoryRepository.refreshUser(user.getId());
+
+        assertThat(directoryRepository.findByMemberNumber(990_004)).isEmpty();
+        assertThat(directoryRepository.findPage(null, null, null, 10))
+                .extracting(DirectoryEntry::userId)
+                .doesNotContain(user.getId());
+    }
+
+    @Test
+    void cursorListsMembersByNumberAndAssociatesLast() {
+        User associate = user("ASSOCIATE", null);
+        User second = user("REGULAR", 990_006);
+        User developer = user("DEVELOPER", null);
+        User first = user("PRESIDENT", 990_005);
+        directoryRepository.refreshUsers(
+                List.of(associate.getId(), second.getId(), developer.getId(), first.getId()));
+
+        CursorPageResponse<DirectoryEntry> page = directoryService.getDirectory(null, null, 2);
+        assertThat(page.getContent()).extracting(DirectoryEntry::userId)
+                .containsExactly(first.getId(), second.getId());
+        assertThat(page.getPage().isHasNext()).isTrue();
+
+        // 번호 없는 회원은 정렬 키가 같으므로 사용자 ID 순
+        CursorPageResponse<DirectoryEntry> next = directoryService.getDirectory(null,
+                page.getPage().getNextCursor(), 2);
+        assertThat(next.getContent()).extracting(DirectoryEntry::userId)
+                .containsExactly(associate.getId(), developer.getId());
+        assertThat(next.getPage().isHasNext()).isFalse();
+        assertThat(next.getPage().getNextCursor()).isNull();
+
+        // 등급 필터도 같은 순서
+        assertThat(directoryService.getDirectory("ASSOCIATE", null, 10).getContent())
+                .extracting(DirectoryEntry::userId)
+                .containsExactly(associate.getId());
+    }
+
+    private User user(String gradeCode, Integer memberNumber) {
+        int n = SEQUENCE.incrementAndGet();
+        User user = User.builder()
+                .realName("디렉터리" + n)
+                .email("directory-test-" + n + "@mclub.kr")
+                .grade(gradeRepository.findByCode(gradeCode).orElseThrow())
+                .associateStatus(memberNumber == null ? AssociateStatus.PENDING : null)
+                .build();
+        if (memberNumber != null) {
+            user.assignMemberNumber(memberNumber);
+        }
+        return userRepository.saveAndFlush(user);
+    }
+
+    private DirectoryEntry entry(User user) {
+        return directoryRepository.findPage(null, null, null, 100).stream()
+                .filter(entry -> entry.userId().equals(user.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,169 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.mclub.apiserver.shared.config.OAuth2Properties;
+import kr.mclub.apiserver.shared.security.JwtTokenProvider;
+import kr.mclub.apiserver.shared.security.PasswordHasher;
+import kr.mclub.apiserver.user.domain.OAuthProvider;
+import kr.mclub.apiserver.user.event.UserEventPublisher;
+import kr.mclub.apiserver.user.oauth.OAuth2Client;
+import kr.mclub.apiserver.user.oauth.OAuth2ClientFactory;
+import kr.mclub.apiserver.user.repository.UserRepository;
+
+/**
+ * OAuth 로그인 원격 단계가 DB 커넥션을 점유하지 않는지 검증
+ */
+class AuthServiceOAuthLoginTest {
+
+    private AnnotationConfigApplicationContext context;
+    private TrackingDataSource dataSource;
+    private RecordingOAuth2Client oAuth2Client;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(TestConfig.class);
+        dataSource = context.getBean(TrackingDataSource.class);
+        oAuth2Client = context.getBean(RecordingOAuth2Client.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void trackingDataSourceSeesTransactionalConnections() {
+        // 측정 수단 확인: 트랜잭션 안에서는 커넥션이 열려 있음
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> assertThat(dataSource.openConnections()).isEqualTo(1));
+        assertThat(dataSource.openConnections()).isZero();
+    }
+
+    @Test
+    void providerRoundTripsHoldNoConnection() throws Exception {
+        AuthService authService = context.getBean(AuthService.class);
+
+        AuthService.OAuthLoginResult result = authService
+                .oauthLogin("naver", "code", "http://localhost/callback", null)
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(result.accessToken()).isEqualTo("access");
+        assertThat(oAuth2Client.calls).hasSize(2);
+        for (RemoteCall call : oAuth2Client.calls) {
+            assertThat(call.openConnections()).as(call.name()).isZero();
+            assertThat(call.transactionActive()).as(call.name()).isFalse();
+            assertThat(call.virtualThread()).as(call.name()).isTrue();
+        }
+        assertThat(dataSource.openConnections()).isZero();
+    }
+
+    record RemoteCall(String name, int openConnections, boolean transactionActive, boolean virtualThread) {}
+
+    /**
+     * 호출 시점의 커넥션/트랜잭션 상태를 기록하는 스텁 Provider
+     */
+    static class RecordingOAuth2Client implements OAuth2Client {
+
+        private final TrackingDataSource dataSource;
+        private final List<RemoteCall> calls = new CopyOnWriteArrayList<>();
+
+        RecordingOAuth2Client(TrackingDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public OAuthProvider getProvider() {
+            return OAuthProvider.NAVER;
+        }
+
+        @Override
+        public OAuth2TokenResponse exchangeCodeForToken(String code, String redirectUri) {
+            capture("exchangeCodeForToken");
+            return new OAuth2TokenResponse("provider-access", null, 3600L,
+                    LocalDateTime.now().plusHours(1), "Bearer", null, null);
+        }
+
+        @Override
+        public OAuth2UserInfo getUserInfo(String accessToken) {
+            capture("getUserInfo");
+            return new OAuth2UserInfo("n-1", "stub@mclub.kr", false, "Stub", null);
+        }
+
+        private void capture(String name) {
+            calls.add(new RemoteCall(name, dataSource.openConnections(),
+                    TransactionSynchronizationManager.isActualTransactionActive(),
+                    Thread.currentThread().isVirtual()));
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TestConfig {
+
+        @Bean
+        TrackingDataSource dataSource() {
+            return new TrackingDataSource();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        RecordingOAuth2Client recordingOAuth2Client(TrackingDataSource dataSource) {
+            return new RecordingOAuth2Client(dataSource);
+        }
+
+        @Bean
+        AuthService authService(RecordingOAuth2Client oAuth2Client, PlatformTransactionManager transactionManager) {
+            OAuth2UserService oAuth2UserService = mock(OAuth2UserService.class);
+            when(oAuth2UserService.processOAuthLogin(eq(OAuthProvider.NAVER), eq("n-1"), any(), anyBoolean(), any(),
+                    any(), any(), any(), any()))
+                    .thenReturn(new OAuth2UserService.LoginResult("access", "refresh", null, false));
+
+            return new AuthService(
+                    mock(UserRepository.class),
+                    mock(UserGradeService.class),
+                    mock(PasswordHasher.class),
+                    mock(JwtTokenProvider.class),
+                    mock(UserEventPublisher.class),
+                    oAuth2UserService,
+                    new OAuth2ClientFactory(List.of(oAuth2Client), new OAuth2Properties(),
+                            new SimpleMeterRegistry()),
+                    mock(UserService.class),
+                    mock(RefreshTokenService.class),
+                    mock(LoginThrottle.class),
+                    mock(LastLoginRecorder.class),
+                    transactionManager
+            );
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.shared.security.JwtTokenProvider;
+import kr.mclub.apiserver.shared.security.PasswordHasher;
+import kr.mclub.apiserver.user.api.AuthController;
+import kr.mclub.apiserver.user.api.dto.SignInRequest;
+import kr.mclub.apiserver.user.domain.AssociateStatus;
+import kr.mclub.apiserver.user.domain.User;
+import kr.mclub.apiserver.user.domain.UserGrade;
+import kr.mclub.apiserver.user.event.UserEventPublisher;
+import kr.mclub.apiserver.user.oauth.OAuth2ClientFactory;
+import kr.mclub.apiserver.user.repository.UserRepository;
+
+/**
+ * 비밀번호 해싱이 DB 커넥션을 점유하지 않는지 검증 (해싱 풀은 실제 PasswordHasher 사용)
+ * 로그인 시도 제한이 트랜잭션보다 먼저 평가되는지도 함께 검증
+ */
+class AuthServicePasswordTest {
+
+    private static final String EMAIL = "member@mclub.kr";
+    private static final String PASSWORD = "current-password";
+
+    private AnnotationConfigApplicationContext context;
+    private TrackingDataSource dataSource;
+    private RecordingPasswordEncoder encoder;
+    private UserRepository userRepository;
+    private LastLoginRecorder lastLoginRecorder;
+    private LoginThrottle loginThrottle;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(TestConfig.class);
+        dataSource = context.getBean(TrackingDataSource.class);
+        encoder = context.getBean(RecordingPasswordEncoder.class);
+        userRepository = context.getBean(UserRepository.class);
+        lastLoginRecorder = context.getBean(LastLoginRecorder.class);
+        loginThrottle = context.getBean(LoginThrottle.class);
+        authService = context.getBean(AuthService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void signInVerifiesAndRehashesWithoutHoldingConnection() {
+        // cost 4로 저장된 해시 → 현재 설정(cost 5)으로 재해싱 대상
+        User user = user(new BCryptPasswordEncoder(4).encode(PASSWORD));
+        List<Integer> repositoryConnections = new CopyOnWriteArrayList<>();
+        when(userRepository.findByEmail(EMAIL)).thenAnswer(invocation -> {
+            repositoryConnections.add(dataSource.openConnections());
+            return Optional.of(user);
+        });
+        when(userRepository.findById(7L)).thenAnswer(invocation -> {
+            repositoryConnections.add(dataSource.openConnections());
+            return Optional.of(user);
+        });
+
+        AuthService.SignInResult result = authService.signIn(EMAIL, PASSWORD);
+
+        assertThat(result.user()).isSameAs(user);
+        assertThat(encoder.calls).extracting(HashCall::name).containsExactly("matches", "encode");
+        assertThat(encoder.calls).extracting(HashCall::openConnections).containsOnly(0);
+        // 읽기와 쓰기는 각각 짧은 트랜잭션에서
+        assertThat(repositoryConnections).containsExactly(1, 1);
+        assertThat(dataSource.openConnections()).isZero();
+
+        assertThat(user.getPassword()).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder(5).matches(PASSWORD, user.getPassword())).isTrue();
+        assertThat(user.getPasswordChangedAt()).isNull();
+        verify(lastLoginRecorder).record(7L);
+    }
+
+    @Test
+    void signInKeepsHashWithCurrentParameters() {
+        String hash = new BCryptPasswordEncoder(5).encode(PASSWORD);
+        User user = user(hash);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        authService.signIn(EMAIL, PASSWORD);
+
+        assertThat(encoder.calls).extracting(HashCall::name).containsExactly("matches");
+        assertThat(user.getPassword()).isEqualTo(hash);
+    }
+
+    @Test
+    void wrongPasswordIsRejectedWithoutWriteTransaction() {
+        User user = user(new BCryptPasswordEncoder(5).encode(PASSWORD));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> authService.signIn(EMAIL, "wrong-password"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CREDENTIALS);
+
+        verify(userRepository, never()).findById(any());
+        verify(lastLoginRecorder, never()).record(any());
+    }
+
+    @Test
+    void signInIsRejectedWhenPasswordChangedWhileHashing() {
+        User user = user(new BCryptPasswordEncoder(4).encode(PASSWORD));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        // 검증하는 동안 다른 요청이 비밀번호를 변경
+        when(userRepository.findById(7L)).thenAnswer(invocation -> {
+            user.changePassword("$2a$05$changed-by-another-request");
+            return Optional.of(user);
+        });
+
+        assertThatThrownBy(() -> authService.signIn(EMAIL, PASSWORD))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CREDENTIALS);
+
+        assertThat(user.getPassword()).isEqualTo("$2a$05$changed-by-another-request");
+        verify(lastLoginRecorder, never()).record(any());
+    }
+
+    @Test
+    void changePasswordHashesWithoutHoldingConnection() {
+        User user = user(new BCryptPasswordEncoder(5).encode(PASSWORD));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        authService.changePassword(7L, PASSWORD, "new-password");
+
+        assertThat(encoder.calls).extracting(HashCall::name).containsExactly("matches", "encode");
+        assertThat(encoder.calls).extracting(HashCall::openConnections).containsOnly(0);
+        assertThat(new BCryptPasswordEncoder(5).matches("new-password", user.getPassword())).isTrue();
+        assertThat(user.getPasswordChangedAt()).isNotNull();
+        assertThat(dataSource.openConnections()).isZero();
+    }
+
+    @Test
+    void signUpHashesBeforeTransactionOpens() {
+        List<Integer> saveConnections = new CopyOnWriteArrayList<>();
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            saveConnections.add(dataSource.openConnections());
+            User saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 8L);
+            return saved;
+        });
+
+        AuthService.SignUpResult result = authService.signUp("new@mclub.kr", "new-password", "홍길동", "010-0000-0000");
+
+        assertThat(encoder.calls).extracting(HashCall::name).containsExactly("encode");
+        assertThat(encoder.calls).extracting(HashCall::openConnections).containsOnly(0);
+        assertThat(saveConnections).containsExactly(1);
+        assertThat(new BCryptPasswordEncoder(5).matches("new-password", result.user().getPassword())).isTrue();
+    }
+
+    @Test
+    void signInEndpointThrottlesBeforeTransactionOpens() {
+        List<Integer> throttleConnections = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            throttleConnections.add(dataSource.openConnections());
+            throw new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }).when(loginThrottle).acquire(EMAIL, "203.0.113.7");
+
+        assertThatThrownBy(() -> new AuthController(authService)
+                .signIn(new SignInRequest(EMAIL, PASSWORD), remoteAddr("203.0.113.7")))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+
+        // 거절된 시도는 DB 조회와 해싱 없이 끝남
+        assertThat(throttleConnections).containsExactly(0);
+        verify(userRepository, never()).findByEmail(any());
+        assertThat(encoder.calls).isEmpty();
+    }
+
+    @Test
+    void signInEndpointAcquiresAttemptBeforeReadingUser() {
+        User user = user(new BCryptPasswordEncoder(5).encode(PASSWORD));
+        List<Integer> throttleConnections = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            throttleConnections.add(dataSource.openConnections());
+            return null;
+        }).when(loginThrottle).acquire(EMAIL, "203.0.113.7");
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> new AuthController(authService)
+                .signIn(new SignInRequest(EMAIL, "wrong-password"), remoteAddr("203.0.113.7")))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CREDENTIALS);
+
+        InOrder order = inOrder(loginThrottle, userRepository);
+        order.verify(loginThrottle).acquire(EMAIL, "203.0.113.7");
+        order.verify(userRepository).findByEmail(EMAIL);
+        assertThat(throttleConnections).containsExactly(0);
+    }
+
+    private static MockHttpServletRequest remoteAddr(String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(address);
+        return request;
+    }
+
+    private static User user(String hash) {
+        UserGrade grade = mock(UserGrade.class);
+        when(grade.getCode()).thenReturn("REGULAR");
+        User user = User.builder()
+                .email(EMAIL)
+                .password(hash)
+                .realName("홍길동")
+                .grade(grade)
+                .associateStatus(AssociateStatus.PENDING)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 7L);
+        return user;
+    }
+
+    record HashCall(String name, int openConnections) {}
+
+    /**
+     * 해싱 시점의 열린 커넥션 수를 기록하는 BCrypt(cost 5) 인코더
+     */
+    static class RecordingPasswordEncoder implements PasswordEncoder {
+
+        private final BCryptPasswordEncoder delegate = new BCryptPasswordEncoder(5);
+        private final TrackingDataSource dataSource;
+        private final List<HashCall> calls = new CopyOnWriteArrayList<>();
+
+        RecordingPasswordEncoder(TrackingDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            calls.add(new HashCall("encode", dataSource.openConnections()));
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            calls.add(new HashCall("matches", dataSource.openConnections()));
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return delegate.upgradeEncoding(encodedPassword);
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TestConfig {
+
+        @Bean
+        TrackingDataSource dataSource() {
+            return new TrackingDataSource();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        RecordingPasswordEncoder passwordEncoder(TrackingDataSource dataSource) {
+            return new RecordingPasswordEncoder(dataSource);
+        }
+
+        @Bean
+        PasswordHasher passwordHasher(RecordingPasswordEncoder passwordEncoder) {
+            return new PasswordHasher(passwordEncoder, 1, 4, 5000, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        UserRepository userRepository() {
+            return mock(UserRepository.class);
+        }
+
+        @Bean
+        LastLoginRecorder lastLoginRecorder() {
+            return mock(LastLoginRecorder.class);
+        }
+
+        @Bean
+        LoginThrottle loginThrottle() {
+            return mock(LoginThrottle.class);
+        }
+
+        @Bean
+        AuthService authService(UserRepository userRepository, PasswordHasher passwordHasher,
+                                LoginThrottle loginThrottle, LastLoginRecorder lastLoginRecorder,
+                                PlatformTransactionManager transactionManager) {
+            UserGradeService userGradeService = mock(UserGradeService.class);
+            UserGrade associate = mock(UserGrade.class);
+            when(associate.getCode()).thenReturn("ASSOCIATE");
+            when(userGradeService.getDefaultGradeForNewUser()).thenReturn(associate);
+
+            return new AuthService(
+                    userRepository,
+                    userGradeService,
+                    passwordHasher,
+                    mock(JwtTokenProvider.class),
+                    mock(UserEventPublisher.class),
+                    mock(OAuth2UserService.class),
+                    mock(OAuth2ClientFactory.class),
+                    mock(UserService.class),
+                    mock(RefreshTokenService.class),
+                    loginThrottle,
+                    lastLoginRecorder,
+                    transactionManager
+            );
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+/**
+ * 마지막 로그인 지연 기록 검증: 사용자별 병합, 실패 후 재병합, 대기 상한 flush, 종료 시 flush
+ */
+class LastLoginRecorderTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T00:00:00Z");
+    private static final LocalDateTime T0 = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    /** batchUpdate 호출마다 전달된 (사용자 ID → 시각) */
+    private final List<Map<Long, LocalDateTime>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    batches.add(entries(invocation.getArgument(1)));
+                    return new int[0][];
+                });
+    }
+
+    @Test
+    void mergesRepeatedLoginsIntoOneRowPerUser() throws Exception {
+        LastLoginRecorder recorder = recorder(10_000);
+
+        recorder.record(1L);
+        clock.advance(Duration.ofSeconds(30));
+        recorder.record(2L);
+        recorder.record(1L);
+        // 늦게 도착한 이전 시각은 최신 값을 덮어쓰지 않음
+        clock.advance(Duration.ofSeconds(-60));
+        recorder.record(1L);
+
+        recorder.flush();
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsOnly(
+                entry(1L, T0.plusSeconds(30)),
+                entry(2L, T0.plusSeconds(30)));
+
+        // 1: 설정할 시각, 2: 사용자 ID, 3: 더 오래된 값만 덮어쓰도록 비교할 시각
+        ParameterizedPreparedStatementSetter<Map.Entry<Long, LocalDateTime>> setter = capturedSetter();
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.setValues(ps, Map.entry(1L, T0.plusSeconds(30)));
+        verify(ps).setTimestamp(1, Timestamp.valueOf(T0.plusSeconds(30)));
+        verify(ps).setLong(2, 1L);
+        verify(ps).setTimestamp(3, Timestamp.valueOf(T0.plusSeconds(30)));
+
+        // 반영된 항목은 다시 보내지 않음
+        recorder.flush();
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    void failedFlushRequeuesEntriesWithoutOverwritingNewerLogin() {
+        LastLoginRecorder recorder = recorder(10_000);
+        recorder.record(1L);
+        recorder.record(2L);
+
+        doAnswer(invocation -> {
+            batches.add(entries(invocation.getArgument(1)));
+            // 배치 실행 중 사용자 1이 다시 로그인
+            clock.advance(Duration.ofSeconds(10));
+            recorder.record(1L);
+            throw new QueryTimeoutException("statement timeout");
+        }).doAnswer(invocation -> {
+            batches.add(entries(invocation.getArgument(1)));
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+
+        recorder.flush();
+        recorder.flush();
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).containsOnly(entry(1L, T0), entry(2L, T0));
+        assertThat(batches.get(1)).containsOnly(entry(1L, T0.plusSeconds(10)), entry(2L, T0));
+
+        recorder.flush();
+        assertThat(batches).hasSize(2);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void flushesImmediatelyWhenPendingReachesBound() {
+        // 주기 flush는 사실상 비활성 (1시간)
+        LastLoginRecorder recorder = recorder(3);
+        recorder.start();
+        try {
+            recorder.record(1L);
+            recorder.record(2L);
+            recorder.record(2L);
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(),
+                    any(ParameterizedPreparedStatementSetter.class));
+
+            recorder.record(3L);
+
+            ArgumentCaptor<List> batch = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate, timeout(5_000)).batchUpdate(anyString(), batch.capture(), anyInt(),
+                    any(ParameterizedPreparedStatementSetter.class));
+            assertThat(entries(batch.getValue())).containsOnlyKeys(1L, 2L, 3L);
+        } finally {
+            recorder.stop();
+        }
+    }
+
+    @Test
+    void stopFlushesRemainingEntries() {
+        LastLoginRecorder recorder = recorder(10_000);
+        recorder.start();
+        recorder.record(1L);
+
+        recorder.stop();
+
+        assertThat(recorder.isRunning()).isFalse();
+        assertThat(batches).containsExactly(Map.of(1L, T0));
+    }
+
+    private LastLoginRecorder recorder(int maxPending) {
+        return new LastLoginRecorder(jdbcTemplate, Duration.ofHours(1).toMillis(), maxPending, clock);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ParameterizedPreparedStatementSetter<Map.Entry<Long, LocalDateTime>> capturedSetter() {
+        ArgumentCaptor<ParameterizedPreparedStatementSetter> captor =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), captor.capture());
+        return captor.getValue();
+    }
+
+    private static Map<Long, LocalDateTime> entries(List<Map.Entry<Long, LocalDateTime>> batch) {
+        Map<Long, LocalDateTime> entries = new LinkedHashMap<>();
+        batch.forEach(entry -> entries.put(entry.getKey(), entry.getValue()));
+        return entries;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
\ No newline at end of file
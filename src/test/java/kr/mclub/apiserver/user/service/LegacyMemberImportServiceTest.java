@@ -0,0 +1,190 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.shared.util.CsvReader;
+import kr.mclub.apiserver.user.domain.UserGrade;
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository;
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository.ImportRun;
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository.LegacyMemberRow;
+
+/**
+ * 기존 회원 명단 가져오기 검증 (Repository는 목으로 대체)
+ */
+class LegacyMemberImportServiceTest {
+
+    private static final String ROSTER = """
+            번호,이름,연락처,등급,가입일,비고
+            1,홍길동,010-1111-2222,REGULAR,2015.03.01,"초대 회원, 운영진"
+            2,김철수,,REGULAR,,
+            3,이영희,+82 10-3333-4444,PRESIDENT,2016-07-15,
+            4,박민수,010-5555-6666,SPONSOR,,
+            5,최지우,010 7777 8888,,,
+            """;
+
+    private LegacyMemberRepository repository;
+    private final List<List<LegacyMemberRow>> batches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(LegacyMemberRepository.class);
+        when(repository.claimRun(any(), any())).thenReturn(true);
+        when(repository.findRun(1L)).thenReturn(Optional.of(run("COMPLETED", 5, 4, 2, 1)));
+        doAnswer(invocation -> {
+            BiConsumer<Long, String> consumer = invocation.getArgument(0);
+            consumer.accept(10L, "01011112222");
+            consumer.accept(30L, "010-3333-4444");
+            // 같은 번호를 쓰는 사용자 둘: 매칭하지 않음
+            consumer.accept(50L, "010-7777-8888");
+            consumer.accept(51L, "01077778888");
+            return null;
+        }).when(repository).forEachUserPhone(any());
+        doAnswer(invocation -> batches.add(List.copyOf(invocation.<List<LegacyMemberRow>>getArgument(0))))
+                .when(repository).upsertMembers(anyList());
+    }
+
+    @Test
+    void normalizesPhoneNumbers() {
+        assertThat(LegacyMemberImportService.normalizePhone("010-1234-5678")).isEqualTo("01012345678");
+        assertThat(LegacyMemberImportService.normalizePhone("+82 10-1234-5678")).isEqualTo("01012345678");
+        assertThat(LegacyMemberImportService.normalizePhone("+82 (0)10 1234 5678")).isEqualTo("01012345678");
+        assertThat(LegacyMemberImportService.normalizePhone("02-123-4567")).isEqualTo("021234567");
+        assertThat(LegacyMemberImportService.normalizePhone("1234")).isNull();
+        assertThat(LegacyMemberImportService.normalizePhone(null)).isNull();
+    }
+
+    @Test
+    void readsQuotedFieldsAcrossLines() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(
+                "\uFEFFa,b\r\n\r\n\"x, y\",\"say \"\"hi\"\"\"\r\n\"multi\nline\",z\n"));
+
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThat(reader.next()).containsExactly("x, y", "say \"hi\"");
+        assertThat(reader.recordLine()).isEqualTo(3);
+        assertThat(reader.next()).containsExactly("multi\nline", "z");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void importsInBatchesAndQueuesUniquePhoneMatches() {
+        when(repository.findOrCreateRun(anyString(), anyString())).thenReturn(run("PENDING", 0, 0, 0, 0));
+
+        service(2).importCsv("roster.csv", csv(ROSTER), StandardCharsets.UTF_8);
+
+        // 2번(전화번호 없음)은 건너뜀, 3번의 운영진 등급과 4번의 알 수 없는 등급은 무시
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).extracting(LegacyMemberRow::memberNumber).containsExactly(1, 3);
+        assertThat(batches.get(1)).extracting(LegacyMemberRow::memberNumber).containsExactly(4, 5);
+        assertThat(batches.get(0)).extracting(LegacyMemberRow::candidateUserId).containsExactly(10L, 30L);
+        assertThat(batches.get(1)).extracting(LegacyMemberRow::candidateUserId).containsExactly(null, null);
+        assertThat(batches.get(0).get(0).gradeCode()).isEqualTo("REGULAR");
+        assertThat(batches.get(0).get(1).gradeCode()).isNull();
+        assertThat(batches.get(0).get(0).notes()).isEqualTo("초대 회원, 운영진");
+        assertThat(batches.get(0).get(0).joinDate()).isEqualTo(LocalDate.of(2015, 3, 1));
+        assertThat(batches.get(0).get(1).phoneNumber()).isEqualTo("01033334444");
+        assertThat(batches.get(1).get(0).gradeCode()).isNull();
+
+        verify(repository).checkpoint(1L, 3, 2, 2, 1);
+        verify(repository).checkpoint(1L, 5, 4, 2, 1);
+        verify(repository).alignMemberNumberSequence();
+        verify(repository).completeRun(1L);
+    }
+
+    @Test
+    void resumesAfterLastCommittedRecord() {
+        when(repository.findOrCreateRun(anyString(), anyString())).thenReturn(run("FAILED", 3, 2, 2, 1));
+
+        service(2).importCsv("roster.csv", csv(ROSTER), StandardCharsets.UTF_8);
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(LegacyMemberRow::memberNumber).containsExactly(4, 5);
+        verify(repository).checkpoint(1L, 5, 4, 2, 1);
+        verify(repository).completeRun(1L);
+    }
+
+    @Test
+    void doesNotReimportCompletedFile() {
+        when(repository.findOrCreateRun(anyString(), anyString())).thenReturn(run("COMPLETED", 5, 4, 2, 1));
+
+        ImportRun result = service(2).importCsv("roster.csv", csv(ROSTER), StandardCharsets.UTF_8);
+
+        assertThat(result.isCompleted()).isTrue();
+        verify(repository, never()).claimRun(any(), any());
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void rejectsConcurrentImportOfSameFile() {
+        when(repository.findOrCreateRun(anyString(), anyString())).thenReturn(run("RUNNING", 0, 0, 0, 0));
+        when(repository.claimRun(any(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> service(2).importCsv("roster.csv", csv(ROSTER), StandardCharsets.UTF_8))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.LEGACY_IMPORT_IN_PROGRESS);
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void failsRunWhenRequiredColumnIsMissing() {
+        when(repository.findOrCreateRun(anyString(), anyString())).thenReturn(run("PENDING", 0, 0, 0, 0));
+
+        assertThatThrownBy(() -> service(2).importCsv("roster.csv", csv("번호,이름\n1,홍길동\n"),
+                StandardCharsets.UTF_8))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_LEGACY_IMPORT_FILE);
+        verify(repository).failRun(eq(1L), anyString());
+        verify(repository, never()).completeRun(any());
+        verify(repository, never()).checkpoint(any(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    private LegacyMemberImportService service(int batchSize) {
+        UserGradeRegistry gradeRegistry = mock(UserGradeRegistry.class);
+        UserGrade president = mock(UserGrade.class);
+        when(president.isExecutive()).thenReturn(true);
+        when(president.isStaff()).thenReturn(true);
+        when(gradeRegistry.findByCode("REGULAR")).thenReturn(Optional.of(mock(UserGrade.class)));
+        when(gradeRegistry.findByCode("PRESIDENT")).thenReturn(Optional.of(president));
+        return new LegacyMemberImportService(repository, gradeRegistry, mock(PlatformTransactionManager.class),
+                batchSize, 300_000);
+    }
+
+    private static ByteArrayResource csv(String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ImportRun run(String status, int lastRecord, int imported, int matched, int skipped) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ImportRun(1L, "roster.csv", status, lastRecord, imported, matched, skipped, null, now, now,
+                null);
+    }
+}
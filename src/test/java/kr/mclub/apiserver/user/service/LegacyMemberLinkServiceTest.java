@@ -0,0 +1,64 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import kr.mclub.apiserver.user.domain.UserGrade;
+import kr.mclub.apiserver.user.event.UserEventPublisher;
+import kr.mclub.apiserver.user.event.UserGradesBulkChangedEvent;
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository;
+import kr.mclub.apiserver.user.repository.LegacyMemberRepository.ConfirmedLink;
+import kr.mclub.apiserver.user.service.LegacyMemberLinkService.LinkConfirmationResult;
+
+/**
+ * 기존 회원 명단 연결 확인 검증 (Repository는 목으로 대체)
+ */
+class LegacyMemberLinkServiceTest {
+
+    private LegacyMemberRepository repository;
+    private UserEventPublisher eventPublisher;
+    private UserGrade regular;
+    private LegacyMemberLinkService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(LegacyMemberRepository.class);
+        eventPublisher = mock(UserEventPublisher.class);
+        regular = mock(UserGrade.class);
+        UserGradeRegistry gradeRegistry = mock(UserGradeRegistry.class);
+        when(gradeRegistry.findByCode("REGULAR")).thenReturn(Optional.of(regular));
+        service = new LegacyMemberLinkService(repository, gradeRegistry, eventPublisher);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void linksAsRegularAndPublishesOneEventForLinkedUsers() {
+        when(repository.confirmLinks(anyCollection())).thenReturn(List.of(
+                new ConfirmedLink(3, 30L, "lee@example.com", "ASSOCIATE")));
+
+        LinkConfirmationResult result = service.confirmLinks(List.of(1, 3, 1), 99L);
+
+        ArgumentCaptor<Collection<Integer>> requested = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).confirmLinks(requested.capture());
+        assertThat(requested.getValue()).containsExactly(1, 3);
+        assertThat(result.linkedMemberNumbers()).containsExactly(3);
+        assertThat(result.skippedMemberNumbers()).containsExactly(1);
+
+        ArgumentCaptor<List<UserGradesBulkChangedEvent.Change>> changes = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishGradesBulkChanged(changes.capture(), eq(regular), eq(99L));
+        assertThat(changes.getValue()).containsExactly(
+                new UserGradesBulkChangedEvent.Change(30L, "lee@example.com", "ASSOCIATE"));
+    }
+}
@@ -0,0 +1,180 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+
+/**
+ * 로그인 시도 제한 검증: 이메일/IP 버킷의 독립적인 차감과 충전, 스트라이프별 LRU 제거
+ */
+class LoginThrottleTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void emailBucketRejectsAfterBurstAndRefillsOverTime() {
+        // 이메일: 3회, 분당 6회 충전 (10초에 1회)
+        LoginThrottle throttle = throttle(3, 6, 100, 60, 4, 1000);
+
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("member@mclub.kr", "203.0.113.7");
+        }
+        assertThrottled(() -> throttle.acquire("member@mclub.kr", "203.0.113.7"));
+
+        clock.advance(Duration.ofSeconds(5));
+        assertThrottled(() -> throttle.acquire("member@mclub.kr", "203.0.113.7"));
+
+        clock.advance(Duration.ofSeconds(6));
+        throttle.acquire("member@mclub.kr", "203.0.113.7");
+        assertThrottled(() -> throttle.acquire("member@mclub.kr", "203.0.113.7"));
+
+        assertThat(attempts("allowed")).isEqualTo(4.0);
+        assertThat(attempts("rejected_email")).isEqualTo(3.0);
+        assertThat(attempts("rejected_ip")).isZero();
+    }
+
+    @Test
+    void refillIsCappedAtBurst() {
+        LoginThrottle throttle = throttle(3, 6, 100, 60, 4, 1000);
+        throttle.acquire("member@mclub.kr", null);
+
+        clock.advance(Duration.ofHours(1));
+
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("member@mclub.kr", null);
+        }
+        assertThrottled(() -> throttle.acquire("member@mclub.kr", null));
+    }
+
+    @Test
+    void emailAndIpBucketsRejectIndependently() {
+        // 이메일: 2회, 분당 1회 충전 / IP: 3회, 분당 60회 충전 (1초에 1회)
+        LoginThrottle throttle = throttle(2, 1, 3, 60, 4, 1000);
+
+        throttle.acquire("a@mclub.kr", "203.0.113.7");
+        throttle.acquire("a@mclub.kr", "203.0.113.7");
+
+        // 다른 IP에서도 같은 이메일은 거절 (대소문자 무시)
+        assertThrottled(() -> throttle.acquire("A@MCLUB.KR", "198.51.100.1"));
+
+        // 같은 IP의 다른 이메일은 IP 버킷이 남아 있는 동안 허용
+        throttle.acquire("b@mclub.kr", "203.0.113.7");
+        assertThrottled(() -> throttle.acquire("c@mclub.kr", "203.0.113.7"));
+
+        // IP에서 거절된 시도는 이메일 버킷을 차감하지 않음
+        throttle.acquire("c@mclub.kr", "198.51.100.2");
+        throttle.acquire("c@mclub.kr", "198.51.100.3");
+
+        assertThat(attempts("rejected_email")).isEqualTo(1.0);
+        assertThat(attempts("rejected_ip")).isEqualTo(1.0);
+
+        // 1초 후 IP 버킷만 충전됨
+        clock.advance(Duration.ofSeconds(1));
+        throttle.acquire("d@mclub.kr", "203.0.113.7");
+        assertThrottled(() -> throttle.acquire("a@mclub.kr", "192.0.2.1"));
+
+        assertThat(attempts("allowed")).isEqualTo(6.0);
+        assertThat(attempts("rejected_email")).isEqualTo(2.0);
+    }
+
+    @Test
+    void missingClientIpChecksEmailOnly() {
+        LoginThrottle throttle = throttle(5, 1, 1, 1, 4, 1000);
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 5; i++) {
+                throttle.acquire("member@mclub.kr", null);
+            }
+        }).doesNotThrowAnyException();
+        assertThat(attempts("rejected_ip")).isZero();
+    }
+
+    @Test
+    void stripeEvictsLeastRecentlyUsedBucketAtConfiguredBound() {
+        // 스트라이프 1개, 최대 32개 항목, 충전 없음 → 제거된 버킷만 다시 허용됨
+        int bound = 32;
+        LoginThrottle throttle = throttle(1, 0, 100, 60, 1, bound);
+
+        throttle.acquire("victim@mclub.kr", null);
+        assertThrottled(() -> throttle.acquire("victim@mclub.kr", null));
+
+        for (int i = 0; i < bound - 1; i++) {
+            throttle.acquire("user" + i + "@mclub.kr", null);
+        }
+
+        // 조회로 victim이 최근 사용 항목이 되므로 다음 추가 시 user0이 제거됨
+        assertThrottled(() -> throttle.acquire("victim@mclub.kr", null));
+        throttle.acquire("user" + (bound - 1) + "@mclub.kr", null);
+
+        assertThrottled(() -> throttle.acquire("victim@mclub.kr", null));
+        throttle.acquire("user0@mclub.kr", null);
+        assertThrottled(() -> throttle.acquire("user2@mclub.kr", null));
+
+        // victim을 건드리지 않고 bound개의 새 항목을 추가하면 victim 버킷이 제거되어 다시 허용됨
+        for (int i = 0; i < bound; i++) {
+            throttle.acquire("other" + i + "@mclub.kr", null);
+        }
+        throttle.acquire("victim@mclub.kr", null);
+    }
+
+    private LoginThrottle throttle(int emailBurst, double emailRefillPerMinute, int ipBurst,
+                                   double ipRefillPerMinute, int stripes, int maxEntries) {
+        return new LoginThrottle(emailBurst, emailRefillPerMinute, ipBurst, ipRefillPerMinute, stripes, maxEntries,
+                meterRegistry, clock);
+    }
+
+    private static void assertThrottled(Runnable attempt) {
+        assertThatThrownBy(attempt::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+
+    private double attempts(String result) {
+        return meterRegistry.get("auth.login.throttle").tag("result", result).counter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import kr.mclub.apiserver.user.service.MemberAutocompleteIndex.Member;
+import kr.mclub.apiserver.user.service.MemberAutocompleteIndex.MemberSuggestion;
+
+/**
+ * 회원 자동완성 인덱스 검증 (DB 없음)
+ */
+class MemberAutocompleteIndexTest {
+
+    private MemberAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberAutocompleteIndex(mock(JdbcTemplate.class), 0);
+        index.replaceAll(List.of(
+                new Member(1L, 650, "홍길동", "010-1234-5678", "REGULAR"),
+                new Member(2L, 651, "홍길순", "010-2222-1111", "REGULAR"),
+                new Member(3L, null, "김철수", "01099995678", "ASSOCIATE"),
+                new Member(4L, 700, "John Smith", null, "REGULAR")
+        ));
+    }
+
+    @Test
+    void matchesInitialConsonants() {
+        assertThat(userIds(index.suggest("ㅎㄱㄷ", 10))).containsExactly(1L);
+        assertThat(userIds(index.suggest("ㅎㄱ", 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(userIds(index.suggest("ㄱ", 10))).containsExactly(3L);
+    }
+
+    @Test
+    void matchesNamesMemberNumbersAndPhoneSuffixes() {
+        assertThat(userIds(index.suggest("홍길", 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(userIds(index.suggest("65", 10))).containsExactly(1L, 2L);
+        assertThat(userIds(index.suggest("5678", 10))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(userIds(index.suggest("john s", 10))).containsExactly(4L);
+    }
+
+    @Test
+    void returnsEachMemberOnceUpToLimit() {
+        // 정회원 번호(567)와 전화번호 끝자리(5678) 두 키가 모두 "567"로 시작
+        index.upsert(new Member(5L, 567, "이영희", "010-3333-5678", "REGULAR"));
+
+        assertThat(userIds(index.suggest("567", 10))).containsExactly(5L, 1L, 3L);
+        assertThat(userIds(index.suggest("567", 2))).containsExactly(5L, 1L);
+    }
+
+    @Test
+    void appliesIncrementalChanges() {
+        index.upsert(new Member(6L, null, "한가람", null, "ASSOCIATE"));
+        assertThat(userIds(index.suggest("ㅎㄱ", 10))).containsExactlyInAnyOrder(1L, 2L, 6L);
+
+        // 정회원 승급: 번호 부여 후 같은 회원 갱신
+        index.upsert(new Member(6L, 652, "한가람", null, "REGULAR"));
+        assertThat(userIds(index.suggest("652", 10))).containsExactly(6L);
+        assertThat(userIds(index.suggest("ㅎㄱ", 10))).containsExactlyInAnyOrder(1L, 2L, 6L);
+        assertThat(index.size()).isEqualTo(5);
+
+        index.remove(1L);
+        assertThat(userIds(index.suggest("ㅎㄱ", 10))).containsExactlyInAnyOrder(2L, 6L);
+        assertThat(index.suggest("650", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void staysConsistentAcrossManyUpdates() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 1; i <= 2_000; i++) {
+            members.add(new Member(i, 1000 + i, "회원" + i, null, "REGULAR"));
+        }
+        index.replaceAll(members);
+
+        // 빈 슬롯이 누적되어 압축이 일어나도 결과가 유지되어야 함
+        for (int i = 1; i <= 1_500; i++) {
+            index.remove(i);
+        }
+        index.upsert(new Member(1_999, 5000, "회원1999", null, "REGULAR"));
+
+        assertThat(index.size()).isEqualTo(500);
+        assertThat(userIds(index.suggest("ㅎㅇ1999", 10))).containsExactly(1_999L);
+        assertThat(userIds(index.suggest("5000", 10))).containsExactly(1_999L);
+        assertThat(index.suggest("2999", 10)).isEmpty();
+        assertThat(userIds(index.suggest("1501", 10))).isEmpty();
+        assertThat(userIds(index.suggest("2501", 10))).containsExactly(1_501L);
+    }
+
+    @Test
+    void appliesBatchOfUpdatesAndRemovalsTogether() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 1; i <= 1_000; i++) {
+            members.add(new Member(i, 10_000 + i, "회원" + i, null, "ASSOCIATE"));
+        }
+        index.replaceAll(members);
+
+        // 500명 일괄 등급 변경 + 탈퇴 2명 + 없는 회원 1명 + 신규 1명, 같은 회원이 두 번 있으면 마지막 행
+        List<Member> upserts = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            upserts.add(new Member(i, 20_000 + i, "회원" + i, null, "REGULAR"));
+        }
+        upserts.add(new Member(2L, 29_999, "회원2", null, "REGULAR"));
+        upserts.add(new Member(1_001L, 30_000, "새회원", null, "REGULAR"));
+        index.apply(upserts, List.of(600L, 601L, 99_999L, 3L));
+
+        assertThat(index.size()).isEqualTo(999);
+        assertThat(index.suggest("10001", 10)).isEmpty();
+        assertThat(index.suggest("20001", 10)).extracting(MemberSuggestion::userId, MemberSuggestion::gradeCode)
+                .containsExactly(tuple(1L, "REGULAR"));
+        assertThat(userIds(index.suggest("29999", 10))).containsExactly(2L);
+        assertThat(index.suggest("20002", 10)).isEmpty();
+        // 제거 목록에 있어도 갱신 대상이면 유지
+        assertThat(userIds(index.suggest("20003", 10))).containsExactly(3L);
+        assertThat(index.suggest("10600", 10)).isEmpty();
+        assertThat(index.suggest("10601", 10)).isEmpty();
+        assertThat(userIds(index.suggest("10599", 10))).containsExactly(599L);
+        assertThat(userIds(index.suggest("30000", 10))).containsExactly(1_001L);
+        assertThat(userIds(index.suggest("ㅅㅎㅇ", 10))).containsExactly(1_001L);
+
+        // 갱신된 슬롯도 다시 찾아 갱신/제거할 수 있어야 함
+        index.upsert(new Member(2L, 31_000, "회원2", null, "REGULAR"));
+        index.remove(1_001L);
+        assertThat(index.suggest("29999", 10)).isEmpty();
+        assertThat(userIds(index.suggest("31000", 10))).containsExactly(2L);
+        assertThat(index.suggest("30000", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(998);
+    }
+
+    @Test
+    void keepsExistingKeysBeforeNewOnesWithSameKey() {
+        // 같은 키("5678")는 먼저 색인된 회원이 앞
+        index.apply(List.of(new Member(7L, null, "박민수", "010-4444-5678", "ASSOCIATE")), List.of());
+
+        assertThat(userIds(index.suggest("5678", 10))).containsExactly(1L, 3L, 7L);
+    }
+
+    private static List<Long> userIds(List<MemberSuggestion> suggestions) {
+        return suggestions.stream().map(MemberSuggestion::userId).toList();
+    }
+}
@@ -0,0 +1,78 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.shared.util.CursorPageResponse;
+import kr.mclub.apiserver.shared.util.PageCursor;
+import kr.mclub.apiserver.user.event.UserGradeUpdatedEvent;
+import kr.mclub.apiserver.user.event.UserProfileUpdatedEvent;
+import kr.mclub.apiserver.user.event.UserWithdrawnEvent;
+import kr.mclub.apiserver.user.repository.MemberDirectoryRepository;
+import kr.mclub.apiserver.user.repository.MemberDirectoryRepository.DirectoryEntry;
+
+/**
+ * 디렉터리 커서 전달과 이벤트별 재계산 범위 검증 (저장소는 목)
+ */
+class MemberDirectoryServiceTest {
+
+    private final MemberDirectoryRepository directoryRepository = mock(MemberDirectoryRepository.class);
+    private final MemberDirectoryService service = new MemberDirectoryService(directoryRepository);
+
+    @Test
+    void associateCursorSeeksPastMaximumSortNumber() {
+        // 준회원 정렬 키는 int 최댓값이므로 커서 왕복에서 잘리지 않아야 함
+        when(directoryRepository.findPage(isNull(), isNull(), isNull(), anyInt()))
+                .thenReturn(List.of(entry(10L, 650), entry(11L, Integer.MAX_VALUE), entry(12L, Integer.MAX_VALUE)));
+
+        CursorPageResponse<DirectoryEntry> page = service.getDirectory(null, null, 2);
+
+        verify(directoryRepository).findPage(null, null, null, 3);
+        assertThat(page.getPage().isHasNext()).isTrue();
+
+        service.getDirectory("ASSOCIATE", page.getPage().getNextCursor(), 2);
+
+        verify(directoryRepository).findPage("ASSOCIATE", Integer.MAX_VALUE, 11L, 3);
+    }
+
+    @Test
+    void rejectsCursorOutsideSortNumberRange() {
+        String tampered = PageCursor.encode((long) Integer.MAX_VALUE + 1, 11L);
+
+        assertThatThrownBy(() -> service.getDirectory(null, tampered, 20))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+        verify(directoryRepository, never()).findPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void recomputesOnlyAffectedRows() {
+        service.onUserWithdrawn(new UserWithdrawnEvent(7L, "member@mclub.kr", 650, "REGULAR", "탈퇴"));
+        service.onProfileUpdated(new UserProfileUpdatedEvent(8L));
+        service.onGradeUpdated(new UserGradeUpdatedEvent(3L, "PRESIDENT", null));
+
+        verify(directoryRepository).refreshUser(7L);
+        verify(directoryRepository).refreshUser(8L);
+        verify(directoryRepository).refreshGrade(3L);
+    }
+
+    private static DirectoryEntry entry(Long userId, int sortNumber) {
+        Integer memberNumber = sortNumber == Integer.MAX_VALUE ? null : sortNumber;
+        return new DirectoryEntry(userId, memberNumber, "홍길동", "홍길동", "REGULAR", "정회원", null, null, null,
+                sortNumber);
+    }
+}
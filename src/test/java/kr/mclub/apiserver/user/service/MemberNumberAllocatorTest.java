@@ -0,0 +1,143 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kr.mclub.apiserver.user.repository.MemberNumberSequenceRepository;
+
+/**
+ * 정회원 번호 발급기 검증 (시퀀스는 인메모리로 대체)
+ */
+class MemberNumberAllocatorTest {
+
+    private static final int BLOCK_SIZE = 20;
+
+    private final AtomicInteger sequence = new AtomicInteger(650);
+    private final AtomicInteger reservations = new AtomicInteger();
+    private MemberNumberSequenceRepository sequenceRepository;
+
+    @BeforeEach
+    void setUp() {
+        // nextval과 같이 번호 단위로 소비: 두 노드가 동시에 예약하면 블록이 서로 섞일 수 있음
+        sequenceRepository = mock(MemberNumberSequenceRepository.class);
+        when(sequenceRepository.reserve(anyInt())).thenAnswer(invocation -> {
+            reservations.incrementAndGet();
+            int count = invocation.getArgument(0);
+            int[] block = new int[count];
+            for (int i = 0; i < count; i++) {
+                block[i] = sequence.getAndIncrement();
+            }
+            return block;
+        });
+    }
+
+    @Test
+    void startsAtOffsetAndReservesInBlocks() {
+        MemberNumberAllocator allocator = new MemberNumberAllocator(sequenceRepository, BLOCK_SIZE);
+
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < BLOCK_SIZE + 1; i++) {
+            numbers.add(allocator.next());
+        }
+
+        assertThat(numbers.getFirst()).isEqualTo(650);
+        assertThat(numbers.getLast()).isEqualTo(650 + BLOCK_SIZE);
+        assertThat(numbers).isSorted().doesNotHaveDuplicates();
+        assertThat(reservations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void neverHandsOutTheSameNumberTwiceUnderContention() throws Exception {
+        // 두 노드 x 노드당 32 스레드 동시 승인
+        MemberNumberAllocator nodeA = new MemberNumberAllocator(sequenceRepository, BLOCK_SIZE);
+        MemberNumberAllocator nodeB = new MemberNumberAllocator(sequenceRepository, BLOCK_SIZE);
+        int threadsPerNode = 32;
+        int perThread = 500;
+
+        Set<Integer> issued = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < threadsPerNode * 2; t++) {
+                MemberNumberAllocator allocator = t % 2 == 0 ? nodeA : nodeB;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        if (!issued.add(allocator.next())) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        int total = threadsPerNode * 2 * perThread;
+        assertThat(duplicates.get()).isZero();
+        assertThat(issued).hasSize(total);
+        assertThat(issued.stream().mapToInt(Integer::intValue).min().orElseThrow()).isEqualTo(650);
+        // 각 노드에 남은 블록 잔여분 외에는 번호가 비지 않음
+        assertThat(sequence.get() - 650 - total).isBetween(0, 2 * (BLOCK_SIZE - 1));
+        assertThat(reservations.get()).isLessThanOrEqualTo(total / BLOCK_SIZE + 2);
+    }
+
+    @Test
+    void returnsNumberToPoolWhenTransactionRollsBack() {
+        MemberNumberAllocator allocator = new MemberNumberAllocator(sequenceRepository, BLOCK_SIZE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        int rolledBack;
+        try {
+            rolledBack = allocator.next();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(allocator.next()).isEqualTo(rolledBack);
+        assertThat(allocator.next()).isEqualTo(rolledBack + 1);
+    }
+
+    @Test
+    void keepsNumberWhenTransactionCommits() {
+        MemberNumberAllocator allocator = new MemberNumberAllocator(sequenceRepository, BLOCK_SIZE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        int committed;
+        try {
+            committed = allocator.next();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(allocator.next()).isEqualTo(committed + 1);
+    }
+}
@@ -0,0 +1,44 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.shared.security.JwtTokenProvider;
+import kr.mclub.apiserver.shared.security.VerifiedToken;
+import kr.mclub.apiserver.user.repository.RefreshTokenFamilyRepository;
+import kr.mclub.apiserver.user.repository.RevokedRefreshTokenRepository;
+
+/**
+ * Refresh Token 회전 테스트
+ */
+class RefreshTokenServiceTest {
+
+    private final RefreshTokenFamilyRepository familyRepository = mock(RefreshTokenFamilyRepository.class);
+    private final RevokedRefreshTokenRepository revokedTokenRepository = mock(RevokedRefreshTokenRepository.class);
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final RefreshTokenService service = new RefreshTokenService(
+            familyRepository, revokedTokenRepository, mock(RevokedRefreshTokenFilter.class), jwtTokenProvider);
+
+    @Test
+    void legacyTokenWithoutFamilyIsRejectedWithoutIssuingANewOne() {
+        VerifiedToken legacy = new VerifiedToken(7L, null, null, VerifiedToken.TYPE_REFRESH,
+                null, null, 0, Instant.now().plusSeconds(3600));
+
+        // 같은 토큰을 여러 번 제시해도 매번 거절 (새 패밀리가 만들어지지 않음)
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertThatThrownBy(() -> service.rotate(legacy))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.INVALID_TOKEN);
+        }
+
+        verifyNoInteractions(familyRepository, revokedTokenRepository, jwtTokenProvider);
+    }
+}
@@ -0,0 +1,99 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import kr.mclub.apiserver.shared.security.TokenEpochRegistry;
+
+/**
+ * 토큰 에포크 증가/적재 검증 (JdbcTemplate은 목, 레지스트리는 실제 객체)
+ */
+class TokenEpochServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TokenEpochRegistry registry = new TokenEpochRegistry();
+    private final TokenEpochService service = new TokenEpochService(jdbcTemplate, registry);
+
+    @Test
+    void bumpAppliesNewEpochAndNotifies() {
+        when(jdbcTemplate.queryForObject(contains("INSERT INTO user_token_epochs"), eq(Integer.class), eq(7L)))
+                .thenReturn(3);
+
+        assertThat(service.bump(7L)).isEqualTo(3);
+
+        assertThat(registry.current(7L)).isEqualTo(3);
+        assertThat(registry.isCurrent(7L, 2)).isFalse();
+        verify(jdbcTemplate).queryForObject("SELECT pg_notify(?, ?)", String.class,
+                TokenEpochService.NOTIFY_CHANNEL, "7:3");
+    }
+
+    @Test
+    void bumpAllAppliesOneEpochPerUserAndDeduplicatesIds() {
+        ArgumentCaptor<Object> ids = ArgumentCaptor.forClass(Object.class);
+        when(jdbcTemplate.query(contains("unnest(?::BIGINT[])"), ArgumentMatchers.<RowMapper<Object>>any(),
+                ids.capture()))
+                .thenAnswer(invocation -> mapRows(invocation.getArgument(1), new long[][]{{1, 1}, {2, 4}, {3, 2}}));
+
+        service.bumpAll(List.of(1L, 2L, 2L, 3L, 1L));
+
+        assertThat((Long[]) ids.getValue()).containsExactly(1L, 2L, 3L);
+        assertThat(registry.current(1L)).isEqualTo(1);
+        assertThat(registry.current(2L)).isEqualTo(4);
+        assertThat(registry.current(3L)).isEqualTo(2);
+        assertThat(registry.size()).isEqualTo(3);
+
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).queryForList(contains("pg_notify"), eq(String.class),
+                eq(TokenEpochService.NOTIFY_CHANNEL), payloads.capture());
+        assertThat((String[]) payloads.getValue()).containsExactly("1:1", "2:4", "3:2");
+    }
+
+    @Test
+    void bumpAllWithNoUsersSkipsDatabase() {
+        service.bumpAll(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void reloadAllNeverLowersEpochs() {
+        registry.advance(1L, 5);
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Object>>any()))
+                .thenAnswer(invocation -> mapRows(invocation.getArgument(1), new long[][]{{1, 2}, {9, 6}}));
+
+        service.reloadAll();
+
+        // 알림이 적재보다 먼저 반영된 경우에도 더 높은 에포크 유지
+        assertThat(registry.current(1L)).isEqualTo(5);
+        assertThat(registry.current(9L)).isEqualTo(6);
+    }
+
+    private static List<Object> mapRows(RowMapper<?> mapper, long[][] rows) throws SQLException {
+        List<Object> mapped = new ArrayList<>();
+        for (int i = 0; i < rows.length; i++) {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong(1)).thenReturn(rows[i][0]);
+            when(rs.getInt(2)).thenReturn((int) rows[i][1]);
+            mapped.add(mapper.mapRow(rs, i));
+        }
+        return mapped;
+    }
+}
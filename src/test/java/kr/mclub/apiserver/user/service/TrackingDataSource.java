@@ -0,0 +1,46 @@
+package kr.mclub.apiserver.user.service;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * 열린 커넥션 수를 세는 DataSource (실제 DB 없음)
+ */
+class TrackingDataSource extends AbstractDataSource {
+
+    private final AtomicInteger open = new AtomicInteger();
+
+    int openConnections() {
+        return open.get();
+    }
+
+    @Override
+    public Connection getConnection() {
+        open.incrementAndGet();
+        AtomicInteger closed = new AtomicInteger();
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "close" -> {
+                        if (closed.getAndIncrement() == 0) {
+                            open.decrementAndGet();
+                        }
+                        yield null;
+                    }
+                    case "isClosed" -> closed.get() > 0;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "TrackingConnection";
+                    default -> method.getReturnType() == boolean.class ? Boolean.FALSE
+                            : method.getReturnType() == int.class ? Integer.valueOf(0)
+                            : null;
+                });
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) {
+        return getConnection();
+    }
+}
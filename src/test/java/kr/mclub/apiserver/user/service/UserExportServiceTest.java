@@ -0,0 +1,135 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import kr.mclub.apiserver.shared.util.ExportFormat;
+import kr.mclub.apiserver.shared.util.ExportStreamer;
+import kr.mclub.apiserver.user.repository.UserExportRepository;
+
+/**
+ * 회원 내보내기 형식 검증 (커서는 목 ResultSet으로 대체)
+ */
+class UserExportServiceTest {
+
+    private static final int CURSOR_ROWS = 10_000;
+
+    private UserExportRepository repository;
+    private UserExportService service;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ResultSet first = row(1L, 650, "홍길동", "=cmd()", "REGULAR", "정회원");
+        ResultSet second = row(2L, null, "김, \"철수\"", "010-1111-2222", "ASSOCIATE", "준회원");
+
+        repository = mock(UserExportRepository.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(first);
+            handler.processRow(second);
+            return null;
+        }).when(repository).forEachUser(anyBoolean(), any());
+
+        service = new UserExportService(repository,
+                new ExportStreamer(mock(PlatformTransactionManager.class), 2, Duration.ofMinutes(10)));
+    }
+
+    @Test
+    void writesCsvWithBomHeaderAndQuotedFields() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(ExportFormat.CSV, false).writeTo(out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        String[] lines = csv.split("\r\n");
+        assertThat(csv).startsWith("\uFEFFid,member_number,real_name,");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[1]).startsWith("1,650,홍길동,,'=cmd(),REGULAR,정회원,");
+        assertThat(lines[1]).endsWith(",2026-03-01T09:30");
+        assertThat(lines[2]).startsWith("2,,\"김, \"\"철수\"\"\",,010-1111-2222,ASSOCIATE,준회원,");
+    }
+
+    @Test
+    void writesOneJsonObjectPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(ExportFormat.NDJSON, true).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,\"member_number\":650,\"real_name\":\"홍길동\",\"email\":null,");
+        assertThat(lines[0]).contains("\"phone_number\":\"=cmd()\"", "\"is_withdrawn\":false");
+        assertThat(lines[1]).contains("\"member_number\":null", "\"real_name\":\"김, \\\"철수\\\"\"");
+    }
+
+    @Test
+    void clientDisconnectStopsTheCursorMidway() throws SQLException {
+        // 버퍼(16KB)를 여러 번 채울 만큼 긴 커서, 클라이언트는 64KB를 받은 뒤 연결 종료
+        ResultSet member = row(1L, 650, "홍길동", "010-1111-2222", "REGULAR", "정회원");
+        AtomicInteger processed = new AtomicInteger();
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < CURSOR_ROWS; i++) {
+                handler.processRow(member);
+                processed.incrementAndGet();
+            }
+            return null;
+        }).when(repository).forEachUser(anyBoolean(), any());
+
+        OutputStream disconnecting = new OutputStream() {
+            private int written;
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                written += len;
+                if (written > 64 * 1024) {
+                    throw new IOException("Broken pipe");
+                }
+            }
+        };
+
+        assertThatThrownBy(() -> service.export(ExportFormat.NDJSON, false).writeTo(disconnecting))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+        assertThat(processed.get()).isPositive().isLessThan(CURSOR_ROWS);
+    }
+
+    private static ResultSet row(long id, Integer memberNumber, String realName, String phoneNumber,
+                                 String gradeCode, String gradeName) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(id);
+        when(rs.getObject("member_number", Integer.class)).thenReturn(memberNumber);
+        when(rs.getString("real_name")).thenReturn(realName);
+        when(rs.getString("phone_number")).thenReturn(phoneNumber);
+        when(rs.getString("grade_code")).thenReturn(gradeCode);
+        when(rs.getString("grade_name")).thenReturn(gradeName);
+        when(rs.getObject(eq("created_at"), eq(LocalDateTime.class))).thenReturn(LocalDateTime.of(2026, 3, 1, 9, 30));
+        return rs;
+    }
+}
@@ -0,0 +1,177 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import kr.mclub.apiserver.user.domain.UserGrade;
+import kr.mclub.apiserver.user.event.UserGradeUpdatedEvent;
+import kr.mclub.apiserver.user.repository.UserGradeRepository;
+
+/**
+ * 등급 레지스트리 검증: 스냅샷 인덱스/목록, 커밋 후 이벤트로 재적재, 재적재 실패 시 이전 스냅샷 유지
+ */
+class UserGradeRegistryTest {
+
+    private static final UserGrade PRESIDENT = grade(3L, "PRESIDENT", 8, true, true, false, 3);
+    private static final UserGrade REGULAR = grade(6L, "REGULAR", 5, false, false, false, 6);
+    private static final UserGrade ASSOCIATE = grade(7L, "ASSOCIATE", 3, false, false, true, 7);
+
+    private AnnotationConfigApplicationContext context;
+    private UserGradeRepository userGradeRepository;
+    private UserGradeRegistry registry;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(TestConfig.class);
+        userGradeRepository = context.getBean(UserGradeRepository.class);
+        registry = context.getBean(UserGradeRegistry.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void indexesGradesAndOrdersActiveListsByDisplayOrder() {
+        UserGrade retired = grade(9L, "RETIRED", 1, false, false, false, 9);
+        retired.deactivate();
+        when(userGradeRepository.findAll()).thenReturn(List.of(ASSOCIATE, retired, REGULAR, PRESIDENT));
+
+        registry.reload();
+
+        assertThat(registry.findById(6L)).containsSame(REGULAR);
+        assertThat(registry.findByCode("ASSOCIATE")).containsSame(ASSOCIATE);
+        assertThat(registry.findByRoleName("ROLE_PRESIDENT")).containsSame(PRESIDENT);
+        assertThat(registry.findByCode("UNKNOWN")).isEmpty();
+
+        // 비활성 등급은 ID/코드로는 찾을 수 있지만 목록에서는 빠짐
+        assertThat(registry.findByCode("RETIRED")).containsSame(retired);
+        assertThat(registry.activeGrades()).containsExactly(PRESIDENT, REGULAR, ASSOCIATE);
+        assertThat(registry.executiveGrades()).containsExactly(PRESIDENT);
+        assertThat(registry.staffGrades()).containsExactly(PRESIDENT);
+        assertThat(registry.deletableGrades()).containsExactly(PRESIDENT, REGULAR);
+    }
+
+    @Test
+    void loadsOnFirstLookupBeforeStartup() {
+        when(userGradeRepository.findAll()).thenReturn(List.of(REGULAR));
+
+        assertThat(registry.findByCode("REGULAR")).containsSame(REGULAR);
+        assertThat(registry.findById(6L)).containsSame(REGULAR);
+
+        verify(userGradeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void gradeUpdatedEventReloadsAfterCommit() {
+        UserGrade created = grade(10L, "SPONSOR", 4, false, false, false, 10);
+        when(userGradeRepository.findAll())
+                .thenReturn(List.of(REGULAR))
+                .thenReturn(List.of(REGULAR, created));
+        registry.reload();
+
+        transaction.executeWithoutResult(status -> {
+            context.publishEvent(new UserGradeUpdatedEvent(10L, "SPONSOR"));
+            // 커밋 전에는 이전 스냅샷
+            assertThat(registry.findByCode("SPONSOR")).isEmpty();
+        });
+
+        assertThat(registry.findByCode("SPONSOR")).containsSame(created);
+        assertThat(registry.activeGrades()).containsExactly(REGULAR, created);
+        verify(userGradeRepository, times(2)).findAll();
+    }
+
+    @Test
+    void rolledBackGradeChangeDoesNotReload() {
+        when(userGradeRepository.findAll()).thenReturn(List.of(REGULAR));
+        registry.reload();
+
+        transaction.executeWithoutResult(status -> {
+            context.publishEvent(new UserGradeUpdatedEvent(6L, "REGULAR"));
+            status.setRollbackOnly();
+        });
+
+        verify(userGradeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void failedReloadKeepsPreviousSnapshot() {
+        when(userGradeRepository.findAll())
+                .thenReturn(List.of(REGULAR))
+                .thenThrow(new QueryTimeoutException("statement timeout"));
+        registry.reload();
+
+        assertThatThrownBy(registry::reload).isInstanceOf(QueryTimeoutException.class);
+
+        assertThat(registry.findByCode("REGULAR")).containsSame(REGULAR);
+    }
+
+    private static UserGrade grade(Long id, String code, int permissionLevel, boolean executive,
+                                   boolean staff, boolean system, int displayOrder) {
+        UserGrade grade = UserGrade.builder()
+                .code(code)
+                .name(code)
+                .roleName("ROLE_" + code)
+                .permissionLevel(permissionLevel)
+                .isExecutive(executive)
+                .isStaff(staff)
+                .isMember(true)
+                .requiresAnnualFee(true)
+                .isSystemGrade(system)
+                .displayOrder(displayOrder)
+                .build();
+        ReflectionTestUtils.setField(grade, "id", id);
+        return grade;
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TestConfig {
+
+        @Bean
+        TrackingDataSource dataSource() {
+            return new TrackingDataSource();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        UserGradeRepository userGradeRepository() {
+            return mock(UserGradeRepository.class);
+        }
+
+        @Bean
+        UserGradeRegistry userGradeRegistry(UserGradeRepository userGradeRepository,
+                                            PlatformTransactionManager transactionManager) {
+            // 주기적 재적재 없음
+            return new UserGradeRegistry(userGradeRepository, transactionManager, 0);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,144 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.user.api.dto.UserGradeUpdateRequest;
+import kr.mclub.apiserver.user.domain.UserGrade;
+import kr.mclub.apiserver.user.event.UserEventPublisher;
+import kr.mclub.apiserver.user.repository.UserGradeRepository;
+import kr.mclub.apiserver.user.repository.UserRepository;
+
+/**
+ * 등급 조회는 레지스트리에서, 수정/삭제는 DB에서 읽은 관리 엔티티로 하는지 검증
+ */
+class UserGradeServiceTest {
+
+    private final UserGradeRepository userGradeRepository = mock(UserGradeRepository.class);
+    private final UserGradeRegistry userGradeRegistry = mock(UserGradeRegistry.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserEventPublisher eventPublisher = mock(UserEventPublisher.class);
+
+    private final UserGradeService service =
+            new UserGradeService(userGradeRepository, userGradeRegistry, userRepository, eventPublisher);
+
+    @Test
+    void lookupsReadRegistryWithoutDatabase() {
+        UserGrade regular = grade(6L, "REGULAR", false);
+        UserGrade associate = grade(7L, "ASSOCIATE", true);
+        when(userGradeRegistry.findByCode("REGULAR")).thenReturn(Optional.of(regular));
+        when(userGradeRegistry.findByCode("ASSOCIATE")).thenReturn(Optional.of(associate));
+        when(userGradeRegistry.findById(6L)).thenReturn(Optional.of(regular));
+        when(userGradeRegistry.activeGrades()).thenReturn(List.of(regular, associate));
+        when(userGradeRegistry.deletableGrades()).thenReturn(List.of(regular));
+
+        assertThat(service.getGradeByCode("REGULAR")).isSameAs(regular);
+        assertThat(service.getGradeById(6L)).isSameAs(regular);
+        assertThat(service.getDefaultGradeForNewUser()).isSameAs(associate);
+        assertThat(service.getAllActiveGrades()).containsExactly(regular, associate);
+        assertThat(service.getDeletableGrades()).containsExactly(regular);
+
+        verifyNoInteractions(userGradeRepository);
+    }
+
+    @Test
+    void missingGradeIsNotFound() {
+        when(userGradeRegistry.findByCode("UNKNOWN")).thenReturn(Optional.empty());
+        when(userGradeRegistry.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getGradeByCode("UNKNOWN"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GRADE_NOT_FOUND);
+        assertThatThrownBy(() -> service.getGradeById(99L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GRADE_NOT_FOUND);
+        verifyNoInteractions(userGradeRepository);
+    }
+
+    @Test
+    void updateChangesManagedEntityNotSharedSnapshot() {
+        UserGrade shared = grade(3L, "PRESIDENT", false);
+        UserGrade managed = grade(3L, "PRESIDENT", false);
+        when(userGradeRegistry.findById(3L)).thenReturn(Optional.of(shared));
+        when(userGradeRepository.findById(3L)).thenReturn(Optional.of(managed));
+
+        UserGrade updated = service.updateGrade(3L,
+                new UserGradeUpdateRequest("회장단", 8, true, true, "(회장단)", 3));
+
+        assertThat(updated).isSameAs(managed);
+        assertThat(managed.getName()).isEqualTo("회장단");
+        assertThat(managed.getDisplaySuffix()).isEqualTo("(회장단)");
+        // 레지스트리의 공유 인스턴스는 커밋 후 재적재로만 바뀜
+        assertThat(shared.getName()).isEqualTo("PRESIDENT");
+        assertThat(shared.getDisplaySuffix()).isNull();
+        verifyNoInteractions(userGradeRegistry);
+        verify(eventPublisher).publishGradeUpdated(managed);
+    }
+
+    @Test
+    void deleteDeactivatesManagedEntity() {
+        UserGrade managed = grade(9L, "SPONSOR", false);
+        when(userGradeRepository.findById(9L)).thenReturn(Optional.of(managed));
+        when(userRepository.existsByGradeId(9L)).thenReturn(false);
+
+        service.deleteGrade(9L);
+
+        assertThat(managed.isActive()).isFalse();
+        verifyNoInteractions(userGradeRegistry);
+        verify(eventPublisher).publishGradeUpdated(managed);
+    }
+
+    @Test
+    void deleteOfUnknownGradeIsNotFoundEvenIfRegistryHasIt() {
+        when(userGradeRegistry.findById(9L)).thenReturn(Optional.of(grade(9L, "SPONSOR", false)));
+        when(userGradeRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.deleteGrade(9L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GRADE_NOT_FOUND);
+        verify(eventPublisher, never()).publishGradeUpdated(any());
+    }
+
+    @Test
+    void systemGradeCannotBeDeleted() {
+        UserGrade associate = grade(7L, "ASSOCIATE", true);
+        when(userGradeRepository.findById(7L)).thenReturn(Optional.of(associate));
+
+        assertThatThrownBy(() -> service.deleteGrade(7L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SYSTEM_GRADE_DELETE_NOT_ALLOWED);
+        assertThat(associate.isActive()).isTrue();
+    }
+
+    private static UserGrade grade(Long id, String code, boolean system) {
+        UserGrade grade = UserGrade.builder()
+                .code(code)
+                .name(code)
+                .roleName("ROLE_" + code)
+                .permissionLevel(5)
+                .isMember(true)
+                .isSystemGrade(system)
+                .displayOrder(id.intValue())
+                .build();
+        ReflectionTestUtils.setField(grade, "id", id);
+        return grade;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package kr.mclub.apiserver.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import kr.mclub.apiserver.shared.exception.BusinessException;
+import kr.mclub.apiserver.shared.exception.ErrorCode;
+import kr.mclub.apiserver.user.domain.UserGrade;
+import kr.mclub.apiserver.user.event.UserEventPublisher;
+import kr.mclub.apiserver.user.event.UserGradesBulkChangedEvent;
+import kr.mclub.apiserver.user.repository.UserGradeBulkRepository;
+import kr.mclub.apiserver.user.repository.UserGradeBulkRepository.ChangedRow;
+import kr.mclub.apiserver.user.repository.UserGradeBulkRepository.SkippedRow;
+import kr.mclub.apiserver.user.repository.UserRepository;
+import kr.mclub.apiserver.user.repository.UserSearchRepository;
+import kr.mclub.apiserver.user.service.UserService.BulkGradeChangeResult;
+import kr.mclub.apiserver.user.service.UserService.GradeChangeItem;
+import kr.mclub.apiserver.user.service.UserService.GradeChangeStatus;
+
+/**
+ * 등급 일괄 변경 검증 (Repository는 목으로 대체, 이벤트는 실제 발행자로 확인)
+ */
+class UserServiceTest {
+
+    private static final long REGULAR_ID = 5L;
+
+    private UserGradeService userGradeService;
+    private UserGradeBulkRepository bulkRepository;
+    private ApplicationEventPublisher applicationEvents;
+    private UserGrade regular;
+    private UserService service;
+
+    @BeforeEach
+    void setUp() {
+        regular = grade("REGULAR", true);
+        userGradeService = mock(UserGradeService.class);
+        when(userGradeService.getGradeById(REGULAR_ID)).thenReturn(regular);
+
+        bulkRepository = mock(UserGradeBulkRepository.class);
+        applicationEvents = mock(ApplicationEventPublisher.class);
+
+        service = new UserService(
+                mock(UserRepository.class),
+                userGradeService,
+                new UserEventPublisher(applicationEvents),
+                mock(RefreshTokenService.class),
+                mock(LastLoginRecorder.class),
+                mock(UserSearchRepository.class),
+                mock(MemberNumberAllocator.class),
+                bulkRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reportsEachOutcomeInRequestOrderAndPublishesOneEventForChangedUsers() {
+        // 1: 변경, 2: 이미 정회원, 3: 탈퇴, 4: 없음, 6: 변경 (1과 2는 중복 요청)
+        when(bulkRepository.changeGrades(anyCollection(), eq(REGULAR_ID), eq(true))).thenReturn(List.of(
+                new ChangedRow(6L, "six@mclub.kr", "PARTNER"),
+                new ChangedRow(1L, "one@mclub.kr", "ASSOCIATE")));
+        when(bulkRepository.findSkipped(anyCollection())).thenReturn(List.of(
+                new SkippedRow(3L, true, "ASSOCIATE"),
+                new SkippedRow(2L, false, "REGULAR")));
+
+        BulkGradeChangeResult result = service.changeGrades(List.of(4L, 1L, 2L, 1L, 3L, 6L, 2L), REGULAR_ID, 99L);
+
+        assertThat(result.gradeCode()).isEqualTo("REGULAR");
+        assertThat(result.changedCount()).isEqualTo(2);
+        assertThat(result.items()).containsExactly(
+                new GradeChangeItem(4L, GradeChangeStatus.NOT_FOUND, null),
+                new GradeChangeItem(1L, GradeChangeStatus.CHANGED, "ASSOCIATE"),
+                new GradeChangeItem(2L, GradeChangeStatus.UNCHANGED, "REGULAR"),
+                new GradeChangeItem(3L, GradeChangeStatus.WITHDRAWN, "ASSOCIATE"),
+                new GradeChangeItem(6L, GradeChangeStatus.CHANGED, "PARTNER"));
+
+        // 한 번의 UPDATE에는 중복 없이, 건너뛴 사용자 조회에는 변경되지 않은 사용자만 전달
+        ArgumentCaptor<Collection<Long>> updated = ArgumentCaptor.forClass(Collection.class);
+        verify(bulkRepository).changeGrades(updated.capture(), eq(REGULAR_ID), eq(true));
+        assertThat(updated.getValue()).containsExactly(4L, 1L, 2L, 3L, 6L);
+        ArgumentCaptor<Collection<Long>> looked = ArgumentCaptor.forClass(Collection.class);
+        verify(bulkRepository).findSkipped(looked.capture());
+        assertThat(looked.getValue()).containsExactly(4L, 2L, 3L);
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(applicationEvents, times(1)).publishEvent(events.capture());
+        assertThat(events.getValue()).isInstanceOfSatisfying(UserGradesBulkChangedEvent.class, event -> {
+            assertThat(event.newGradeCode()).isEqualTo("REGULAR");
+            assertThat(event.changedByAdminId()).isEqualTo(99L);
+            assertThat(event.userIds()).containsExactlyInAnyOrder(1L, 6L);
+            assertThat(event.changes()).containsExactlyInAnyOrder(
+                    new UserGradesBulkChangedEvent.Change(1L, "one@mclub.kr", "ASSOCIATE"),
+                    new UserGradesBulkChangedEvent.Change(6L, "six@mclub.kr", "PARTNER"));
+        });
+    }
+
+    @Test
+    void publishesNothingWhenNoUserChanged() {
+        when(bulkRepository.changeGrades(anyCollection(), eq(REGULAR_ID), eq(true))).thenReturn(List.of());
+        when(bulkRepository.findSkipped(anyCollection())).thenReturn(List.of(new SkippedRow(2L, false, "REGULAR")));
+
+        BulkGradeChangeResult result = service.changeGrades(List.of(2L), REGULAR_ID, 99L);
+
+        assertThat(result.changedCount()).isZero();
+        assertThat(result.items()).extracting(GradeChangeItem::status).containsExactly(GradeChangeStatus.UNCHANGED);
+        verify(applicationEvents, never()).publishEvent(any());
+    }
+
+    @Test
+    void rejectsInactiveTargetGradeBeforeUpdating() {
+        UserGrade retired = grade("RETIRED", false);
+        when(userGradeService.getGradeById(9L)).thenReturn(retired);
+
+        assertThatThrownBy(() -> service.changeGrades(List.of(1L, 2L), 9L, 99L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GRADE_NOT_FOUND);
+
+        verify(bulkRepository, never()).changeGrades(anyCollection(), any(), anyBoolean());
+        verify(applicationEvents, never()).publishEvent(any());
+    }
+
+    private static UserGrade grade(String code, boolean active) {
+        UserGrade grade = mock(UserGrade.class);
+        when(grade.getId()).thenReturn("REGULAR".equals(code) ? REGULAR_ID : 9L);
+        when(grade.getCode()).thenReturn(code);
+        when(grade.isActive()).thenReturn(active);
+        when(grade.isMember()).thenReturn(true);
+        return grade;
+    }
+}